@@ -0,0 +1,77 @@
+package address.model.datatypes;
+
+import address.model.datatypes.person.Person;
+import address.model.datatypes.tag.Tag;
+import address.testutil.BenchmarkData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the person-level operations of an {@link AddressBook} and replacing all of its data
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AddressBookBenchmark {
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    private List<Person> persons;
+    private List<Tag> tags;
+    private AddressBook addressBook;
+    private int nextId;
+
+    @Setup
+    public void setUp() {
+        tags = BenchmarkData.createTags();
+        persons = BenchmarkData.createPersons(size, tags);
+        addressBook = new AddressBook(persons, tags);
+    }
+
+    @Benchmark
+    public Optional<Person> findPerson() {
+        return addressBook.findPerson(nextId());
+    }
+
+    @Benchmark
+    public boolean containsPerson() {
+        return addressBook.containsPerson(nextId());
+    }
+
+    @Benchmark
+    public boolean addAndRemovePerson() {
+        Person person = new Person("New", "Person", size + 1);
+        addressBook.addPerson(person);
+        return addressBook.removePerson(person);
+    }
+
+    @Benchmark
+    public AddressBook resetData() {
+        addressBook.resetData(persons, tags);
+        return addressBook;
+    }
+
+    /**
+     * @return ids spread over the whole address book
+     */
+    private int nextId() {
+        nextId = (nextId + 7919) % size;
+        return nextId + 1;
+    }
+}
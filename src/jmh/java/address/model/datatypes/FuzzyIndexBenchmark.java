@@ -0,0 +1,74 @@
+package address.model.datatypes;
+
+import address.model.datatypes.person.Person;
+import address.testutil.BenchmarkData;
+import commons.StringUtil;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.BitSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a typo tolerant search with {@link FuzzyIndex#search(String)}, against comparing the query with every word
+ * of every person, and the cost of keeping the index up to date
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FuzzyIndexBenchmark {
+    private static final String QUERY = "Lsat1234"; // 2 edits from Last1234
+
+    @Param({"1000", "10000", "200000"})
+    private int size;
+
+    private ObservableList<Person> persons;
+    private FuzzyIndex fuzzyIndex;
+
+    @Setup
+    public void setUp() {
+        persons = FXCollections.observableArrayList(BenchmarkData.createPersons(size, BenchmarkData.createTags()));
+        fuzzyIndex = new FuzzyIndex(persons, new TagIndex(persons));
+    }
+
+    @Benchmark
+    public int search() {
+        BitSet[] personsByDistance = fuzzyIndex.search(QUERY);
+        return personsByDistance[personsByDistance.length - 1].cardinality();
+    }
+
+    @Benchmark
+    public int scan() {
+        String queryWord = StringUtil.fold(QUERY);
+        int maxDistance = FuzzyIndex.getMaxDistance(queryWord);
+        int matches = 0;
+        for (Person person : persons) {
+            if (FuzzyIndex.getDistance(queryWord, maxDistance, person) <= maxDistance) matches++;
+        }
+        return matches;
+    }
+
+    /**
+     * Reindexes one person, as for every edit
+     */
+    @Benchmark
+    public int renamePerson() {
+        Person person = persons.get(0);
+        person.setLastName(person.getLastName().equals("Renamed") ? "Last0" : "Renamed");
+        return fuzzyIndex.getVersion();
+    }
+}
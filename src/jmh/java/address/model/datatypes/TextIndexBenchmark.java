@@ -0,0 +1,71 @@
+package address.model.datatypes;
+
+import address.model.datatypes.person.Person;
+import address.testutil.BenchmarkData;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a ranked free text search with {@link TextIndex#search}, against checking every person for the terms,
+ * and the cost of keeping the index up to date
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TextIndexBenchmark {
+    private static final Set<String> TERMS = TextIndex.toTerms("tag3 city7"); // a common and a rarer term
+    private static final int LIMIT = 1000;
+
+    @Param({"1000", "10000", "200000"})
+    private int size;
+
+    private ObservableList<Person> persons;
+    private TextIndex textIndex;
+
+    @Setup
+    public void setUp() {
+        persons = FXCollections.observableArrayList(BenchmarkData.createPersons(size, BenchmarkData.createTags()));
+        textIndex = new TextIndex(persons, new TagIndex(persons));
+    }
+
+    @Benchmark
+    public int search() {
+        return textIndex.search(TERMS, LIMIT).size();
+    }
+
+    @Benchmark
+    public int scan() {
+        int matches = 0;
+        for (Person person : persons) {
+            if (TextIndex.hasAllTerms(person, TERMS)) matches++;
+        }
+        return matches;
+    }
+
+    /**
+     * Reindexes one person, as for every edit
+     */
+    @Benchmark
+    public int renamePerson() {
+        Person person = persons.get(0);
+        person.setLastName(person.getLastName().equals("Renamed") ? "Last0" : "Renamed");
+        return textIndex.getVersion();
+    }
+}
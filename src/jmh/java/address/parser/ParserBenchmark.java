@@ -0,0 +1,66 @@
+package address.parser;
+
+import address.model.datatypes.person.ReadOnlyViewablePerson;
+import address.model.datatypes.person.ViewablePerson;
+import address.parser.expr.Expr;
+import address.testutil.BenchmarkData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Measures parsing a filter with {@link Parser#parse} and evaluating the resulting {@link Expr} on every person
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParserBenchmark {
+    private static final String FILTER = "name:first1 !tag:tag2 city:City1";
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    private final Parser parser = new Parser();
+    private List<ReadOnlyViewablePerson> persons;
+    private Expr expr;
+
+    @Setup
+    public void setUp() throws ParseException {
+        persons = BenchmarkData.createPersons(size, BenchmarkData.createTags()).stream()
+                .map(ViewablePerson::fromBacking)
+                .collect(Collectors.toList());
+        expr = parser.parse(FILTER);
+    }
+
+    /**
+     * Does not depend on the size
+     */
+    @Benchmark
+    public Expr parse() throws ParseException {
+        return parser.parse(FILTER);
+    }
+
+    @Benchmark
+    public int evaluate() {
+        int matches = 0;
+        for (ReadOnlyViewablePerson person : persons) {
+            if (expr.satisfies(person)) matches++;
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,70 @@
+package address.storage;
+
+import address.exceptions.DataConversionException;
+import address.model.datatypes.AddressBook;
+import address.model.datatypes.tag.Tag;
+import address.testutil.BenchmarkData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures saving and loading the local data file with {@link XmlFileStorage}, including the conversion from the
+ * model to the storage classes when saving
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class XmlFileStorageBenchmark {
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    private AddressBook addressBook;
+    private File saveFile;
+    private File loadFile;
+
+    @Setup
+    public void setUp() throws IOException, DataConversionException {
+        List<Tag> tags = BenchmarkData.createTags();
+        addressBook = new AddressBook(BenchmarkData.createPersons(size, tags), tags);
+        saveFile = Files.createTempFile("addressbook-save", ".xml").toFile();
+        loadFile = Files.createTempFile("addressbook-load", ".xml").toFile();
+        XmlFileStorage.saveDataToFile(loadFile, new StorageAddressBook(addressBook));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(saveFile.toPath());
+        Files.deleteIfExists(loadFile.toPath());
+    }
+
+    @Benchmark
+    public File save() throws DataConversionException, FileNotFoundException {
+        XmlFileStorage.saveDataToFile(saveFile, new StorageAddressBook(addressBook));
+        return saveFile;
+    }
+
+    @Benchmark
+    public StorageAddressBook load() throws DataConversionException, FileNotFoundException {
+        return XmlFileStorage.loadDataFromSaveFile(loadFile);
+    }
+}
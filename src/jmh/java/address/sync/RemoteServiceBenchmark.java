@@ -0,0 +1,81 @@
+package address.sync;
+
+import address.model.datatypes.person.Person;
+import address.sync.cloud.CloudRateLimitStatus;
+import address.sync.cloud.IRemote;
+import address.sync.cloud.RemoteResponse;
+import address.sync.cloud.model.CloudPerson;
+import address.testutil.BenchmarkData;
+import commons.JsonUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.net.HttpURLConnection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the JSON mapping done by the {@link RemoteService}: creating a response from cloud persons on the remote
+ * side, and reading the persons back from a response into the model
+ *
+ * The remote serves pages of at most 100 persons, so the mapping is measured per page rather than for the whole
+ * address book.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RemoteServiceBenchmark {
+    private static final String ADDRESS_BOOK_NAME = "benchmark";
+
+    @Param({"1", "10", "100"})
+    private int pageSize;
+
+    private List<CloudPerson> page;
+    private byte[] pageJson;
+    private HashMap<String, String> headers;
+    private CloudRateLimitStatus rateLimitStatus;
+    private RemoteService remoteService;
+
+    @Setup
+    public void setUp() throws IOException {
+        page = BenchmarkData.createCloudPersons(pageSize, BenchmarkData.createCloudTags());
+        pageJson = JsonUtil.toJsonString(page).getBytes();
+        rateLimitStatus = new CloudRateLimitStatus(Integer.MAX_VALUE, 0);
+        headers = new RemoteResponse(HttpURLConnection.HTTP_OK, page, rateLimitStatus, null).getHeaders();
+        IRemote remote = (IRemote) Proxy.newProxyInstance(IRemote.class.getClassLoader(),
+                                                          new Class<?>[] {IRemote.class},
+                                                          (proxy, method, args) -> createPageResponse());
+        remoteService = new RemoteService(remote);
+    }
+
+    @Benchmark
+    public RemoteResponse serialisePage() {
+        return new RemoteResponse(HttpURLConnection.HTTP_OK, page, rateLimitStatus, null);
+    }
+
+    @Benchmark
+    public ExtractedRemoteResponse<List<Person>> deserialisePage() throws IOException {
+        return remoteService.getPersons(ADDRESS_BOOK_NAME, 1);
+    }
+
+    private RemoteResponse createPageResponse() {
+        return new RemoteResponse(HttpURLConnection.HTTP_OK, new ByteArrayInputStream(pageJson),
+                                  new HashMap<>(headers));
+    }
+}
@@ -0,0 +1,84 @@
+package address.sync.cloud;
+
+import address.exceptions.DataConversionException;
+import address.sync.cloud.model.CloudAddressBook;
+import address.sync.cloud.model.CloudPerson;
+import address.sync.cloud.model.CloudTag;
+import address.testutil.BenchmarkData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the handling of the requests made during a sync by the {@link CloudSimulator}, which reads the whole cloud
+ * file for every request and writes it back for every change
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CloudSimulatorBenchmark {
+    private static final String ADDRESS_BOOK_NAME = "jmh-benchmark";
+    private static final int RESOURCES_PER_PAGE = 100;
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    private CloudFileHandler fileHandler;
+    private CloudSimulator cloudSimulator;
+    private CloudPerson updatedPerson;
+    private String lastSyncTime;
+    private int nextId;
+
+    @Setup
+    public void setUp() throws IOException, DataConversionException {
+        List<CloudTag> tags = BenchmarkData.createCloudTags();
+        List<CloudPerson> persons = BenchmarkData.createCloudPersons(size, tags);
+        updatedPerson = new CloudPerson(persons.get(0));
+        fileHandler = new CloudFileHandler();
+        fileHandler.initializeAddressBook(ADDRESS_BOOK_NAME);
+        fileHandler.writeCloudAddressBook(new CloudAddressBook(ADDRESS_BOOK_NAME, persons, tags));
+        // no quota timer, so that the quota is never reset or used up during the run
+        cloudSimulator = new CloudSimulator(fileHandler,
+                                            new CloudRateLimitStatus(Integer.MAX_VALUE, Long.MAX_VALUE));
+        lastSyncTime = LocalDateTime.now().toString();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException, DataConversionException {
+        fileHandler.initializeAddressBook(ADDRESS_BOOK_NAME); // replaces the large file by an empty one
+    }
+
+    @Benchmark
+    public RemoteResponse getPersons() {
+        return cloudSimulator.getPersons(ADDRESS_BOOK_NAME, 1, RESOURCES_PER_PAGE, null);
+    }
+
+    @Benchmark
+    public RemoteResponse getUpdatedPersons() {
+        return cloudSimulator.getUpdatedPersons(ADDRESS_BOOK_NAME, lastSyncTime, 1, RESOURCES_PER_PAGE, null);
+    }
+
+    @Benchmark
+    public RemoteResponse updatePerson() {
+        nextId = (nextId + 7919) % size;
+        updatedPerson.setId(nextId + 1);
+        return cloudSimulator.updatePerson(ADDRESS_BOOK_NAME, nextId + 1, updatedPerson, null);
+    }
+}
@@ -0,0 +1,86 @@
+package address.testutil;
+
+import address.model.datatypes.person.Person;
+import address.model.datatypes.tag.Tag;
+import address.sync.cloud.model.CloudPerson;
+import address.sync.cloud.model.CloudTag;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+/**
+ * Creates the data for the JMH benchmarks, the same for the same seed so that runs can be compared
+ */
+public class BenchmarkData {
+    public static final long SEED = 42;
+    public static final int TAG_COUNT = 20;
+    private static final int CITY_COUNT = 100;
+
+    public static List<Tag> createTags() {
+        List<Tag> tags = new ArrayList<>();
+        for (int i = 0; i < TAG_COUNT; i++) {
+            tags.add(new Tag("tag" + i));
+        }
+        return tags;
+    }
+
+    /**
+     * @return persons with ids 1 to count, each with up to 3 of the given tags
+     */
+    public static List<Person> createPersons(int count, List<Tag> tags) {
+        Random random = new Random(SEED);
+        List<Person> persons = new ArrayList<>(count);
+        for (int id = 1; id <= count; id++) {
+            Person person = new Person("First" + id, "Last" + random.nextInt(count), id);
+            person.setStreet(random.nextInt(1000) + " Street " + random.nextInt(count));
+            person.setCity("City" + random.nextInt(CITY_COUNT));
+            person.setPostalCode(String.valueOf(100000 + random.nextInt(900000)));
+            person.setGithubUsername("user" + id);
+            person.setBirthday(LocalDate.of(1950, 1, 1).plusDays(random.nextInt(20000)));
+            person.setTags(pickTags(random, tags));
+            persons.add(person);
+        }
+        return persons;
+    }
+
+    /**
+     * @param tags as created by {@link #createCloudTags()}
+     * @return the persons of {@link #createPersons}, as stored on the cloud
+     */
+    public static List<CloudPerson> createCloudPersons(int count, List<CloudTag> tags) {
+        Map<String, CloudTag> tagsByName = tags.stream().collect(Collectors.toMap(CloudTag::getName, tag -> tag));
+        return createPersons(count, createTags()).stream()
+                .map(person -> {
+                    CloudPerson cloudPerson = new CloudPerson(person.getFirstName(), person.getLastName(),
+                                                              person.getId());
+                    cloudPerson.setStreet(person.getStreet());
+                    cloudPerson.setCity(person.getCity());
+                    cloudPerson.setPostalCode(person.getPostalCode());
+                    cloudPerson.setGithubUsername(person.getGithubUsername());
+                    cloudPerson.setBirthday(person.getBirthday());
+                    cloudPerson.setTags(person.getTagList().stream()
+                                                .map(tag -> tagsByName.get(tag.getName()))
+                                                .collect(Collectors.toList()));
+                    return cloudPerson;
+                })
+                .collect(Collectors.toList());
+    }
+
+    public static List<CloudTag> createCloudTags() {
+        return createTags().stream().map(tag -> new CloudTag(tag.getName())).collect(Collectors.toList());
+    }
+
+    private static List<Tag> pickTags(Random random, List<Tag> tags) {
+        List<Tag> picked = new ArrayList<>();
+        int tagCount = random.nextInt(4);
+        while (picked.size() < tagCount) {
+            Tag tag = tags.get(random.nextInt(tags.size()));
+            if (!picked.contains(tag)) picked.add(tag);
+        }
+        return picked;
+    }
+}
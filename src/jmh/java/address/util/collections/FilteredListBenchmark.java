@@ -0,0 +1,65 @@
+package address.util.collections;
+
+import address.model.datatypes.person.ReadOnlyViewablePerson;
+import address.model.datatypes.person.ViewablePerson;
+import address.parser.ParseException;
+import address.parser.Parser;
+import address.parser.expr.Expr;
+import address.testutil.BenchmarkData;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Measures {@link FilteredList#setPredicate} as done when the user changes the filter, switching between two filters
+ * that each match part of the persons
+ *
+ * The default sizes stop at 10k as setPredicate takes quadratic time; larger sizes can be run with e.g.
+ * {@code gradle jmh -PjmhArgs="FilteredListBenchmark -p size=100000"}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FilteredListBenchmark {
+    @Param({"1000", "10000"})
+    private int size;
+
+    private FilteredList<ReadOnlyViewablePerson> filteredList;
+    private Expr[] filters;
+    private int nextFilter;
+
+    @Setup
+    public void setUp() throws ParseException {
+        ObservableList<ReadOnlyViewablePerson> persons = BenchmarkData.createPersons(size, BenchmarkData.createTags())
+                .stream()
+                .map(ViewablePerson::fromBacking)
+                .collect(Collectors.toCollection(FXCollections::observableArrayList));
+        filteredList = new FilteredList<>(persons);
+        Parser parser = new Parser();
+        filters = new Expr[] {parser.parse("tag:tag1"), parser.parse("!city:City1")};
+    }
+
+    @Benchmark
+    public int setPredicate() {
+        Expr filter = filters[nextFilter];
+        nextFilter = (nextFilter + 1) % filters.length;
+        filteredList.setPredicate(filter::satisfies);
+        return filteredList.size();
+    }
+}
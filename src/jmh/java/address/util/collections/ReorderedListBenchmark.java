@@ -0,0 +1,57 @@
+package address.util.collections;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link ReorderedList#moveElements} as done when the user drags persons in the list, moving a selection
+ * from the middle of the list to the front and back to the end
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReorderedListBenchmark {
+    private static final int MOVED_ELEMENTS = 10;
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    private ReorderedList<Integer> reorderedList;
+    private List<Integer> toMove;
+    private boolean isMovingToFront;
+
+    @Setup
+    public void setUp() {
+        ObservableList<Integer> source = FXCollections.observableArrayList();
+        for (int i = 0; i < size; i++) {
+            source.add(i);
+        }
+        reorderedList = new ReorderedList<>(source);
+        toMove = new ArrayList<>(source.subList(size / 2, size / 2 + MOVED_ELEMENTS));
+    }
+
+    @Benchmark
+    public Collection<Integer> moveElements() {
+        isMovingToFront = !isMovingToFront;
+        return reorderedList.moveElements(toMove, isMovingToFront ? 0 : size);
+    }
+}
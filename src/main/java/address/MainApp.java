@@ -1,5 +1,6 @@
 package address;
 
+import address.events.EventManager;
 import address.model.ModelManager;
 import address.keybindings.KeyBindingsManager;
 import address.model.UserPrefs;
@@ -10,6 +11,7 @@ import address.sync.cloud.CloudSimulator;
 import address.ui.Ui;
 import address.updater.UpdateProgressNotifier;
 import address.updater.UpdaterUpgrader;
+import commons.MetricsRegistry;
 import commons.UpdateInformationNotifier;
 import commons.Version;
 import updater.Updater;
@@ -50,6 +52,7 @@ public class MainApp extends Application {
     protected RemoteManager remoteManager;
     protected Ui ui;
     protected KeyBindingsManager keyBindingsManager;
+    protected MetricsExporter metricsExporter;
     protected Config config;
     protected UserPrefs userPrefs;
 
@@ -76,6 +79,8 @@ public class MainApp extends Application {
 
     private void initComponents(Config config, UserPrefs userPrefs) {
         LoggerManager.init(config);
+        EventManager.getInstance().initMetrics(config);
+        metricsExporter = initMetricsExporter(config);
 
         modelManager = initModelManager(config);
         storageManager = initStorageManager(modelManager, config, userPrefs);
@@ -86,6 +91,10 @@ public class MainApp extends Application {
         updater = initUpdater(VERSION);
     }
 
+    protected MetricsExporter initMetricsExporter(Config config) {
+        return new MetricsExporter(MetricsRegistry.getInstance(), config);
+    }
+
     protected Updater initUpdater(Version version) {
         return new Updater(version);
     }
@@ -125,6 +134,7 @@ public class MainApp extends Application {
         }
         storageManager.start();
         syncManager.start();
+        metricsExporter.start();
     }
 
     protected UpdateInformationNotifier getUpdateInformationNotifier(Ui ui) {
@@ -151,10 +161,12 @@ public class MainApp extends Application {
         storageManager.savePrefsToFile(userPrefs);
         syncManager.stop();
         keyBindingsManager.stop();
+        metricsExporter.stop();
         quit();
     }
 
     private void quit() {
+        LoggerManager.shutdown();
         Platform.exit();
         System.exit(0);
     }
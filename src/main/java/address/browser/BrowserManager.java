@@ -55,6 +55,8 @@ public class BrowserManager {
 
     private StringProperty selectedPersonUsername;
 
+    private ReadOnlyViewablePerson boundPerson; // whose username is bound to selectedPersonUsername
+
     private final int browserNoOfPages;
 
     private ChangeListener<String> listener = (observable,  oldValue,  newValue) -> {
@@ -137,6 +139,9 @@ public class BrowserManager {
         }
 
         selectedPersonUsername.unbind();
+        person.retainVisible(); // bound until another person is loaded
+        if (boundPerson != null) boundPerson.releaseVisible();
+        boundPerson = person;
         selectedPersonUsername.bind(person.githubUsernameProperty());
         selectedPersonUsername.addListener(listener);
     }
@@ -49,6 +49,7 @@ import java.util.function.Consumer;
 public class MainController extends UiController{
     private static final AppLogger logger = LoggerManager.getLogger(MainController.class);
     private static final String FXML_ACTIVITY_HISTORY = "/view/ActivityHistory.fxml";
+    private static final String FXML_PERFORMANCE_DASHBOARD = "/view/PerformanceDashboard.fxml";
     private static final String FXML_HELP = "/view/Help.fxml";
     private static final String FXML_STATUS_BAR_FOOTER = "/view/StatusBarFooter.fxml";
     private static final String FXML_TAG_EDIT_DIALOG = "/view/TagEditDialog.fxml";
@@ -273,7 +274,7 @@ public class MainController extends UiController{
 
         TagSelectionEditDialogController controller = loader.getController();
         controller.setTags(modelManager.getTagsAsReadOnlyObservableList(),
-                ReadOnlyPerson.getCommonTags(persons));
+                modelManager.getTagIndex().getCommonTags(persons));
         controller.setDialogStage(dialogStage);
 
         dialogStage.showAndWait();
@@ -482,6 +483,25 @@ public class MainController extends UiController{
         }
     }
 
+    /**
+     * Opens a dialog showing the live performance metrics of the application
+     */
+    public void showPerformanceDashboard() {
+        logger.debug("Loading performance dashboard.");
+        final String fxmlResourcePath = FXML_PERFORMANCE_DASHBOARD;
+        FXMLLoader loader = loadFxml(fxmlResourcePath);
+        AnchorPane page = (AnchorPane) loadLoader(loader, "Error loading performance dashboard view");
+
+        Scene scene = new Scene(page);
+        Stage dialogStage = loadDialogStage("Performance Dashboard", primaryStage, scene);
+        dialogStage.getIcons().add(getImage(ICON_INFO));
+
+        PerformanceDashboardController controller = loader.getController();
+        controller.init();
+        dialogStage.setOnHidden(event -> controller.stop());
+        dialogStage.show();
+    }
+
     /**
      * Returns the main stage.
      * @return
@@ -491,12 +511,14 @@ public class MainController extends UiController{
     }
 
     @Subscribe
+    @HandleOn(ExecutionMode.FX_THREAD)
     private void handleFileOpeningExceptionEvent(FileOpeningExceptionEvent foee) {
         showFileOperationAlertAndWait("Could not load data", "Could not load data from file", foee.file,
                                       foee.exception);
     }
 
     @Subscribe
+    @HandleOn(ExecutionMode.FX_THREAD)
     private void handleFileSavingExceptionEvent(FileSavingExceptionEvent fsee) {
         showFileOperationAlertAndWait("Could not save data", "Could not save data to file", fsee.file, fsee.exception);
     }
@@ -573,8 +595,9 @@ public class MainController extends UiController{
     }
 
     @Subscribe
+    @HandleOn(ExecutionMode.FX_THREAD)
     private void handleCommandFinishedEvent(CommandFinishedEvent evt) {
-        PlatformExecUtil.runAndWait(() -> finishedCommandResults.add(evt.result));
+        finishedCommandResults.add(evt.result);
     }
 
     protected void setDefaultSize() {
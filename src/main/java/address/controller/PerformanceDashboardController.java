@@ -0,0 +1,122 @@
+package address.controller;
+
+import address.events.EventManager;
+import address.util.concurrent.ExecutorManager;
+import address.util.concurrent.ExecutorStats;
+import commons.FxViewUtil;
+import commons.LatencyHistogram;
+import commons.MetricsRegistry;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.beans.property.ReadOnlyStringWrapper;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.fxml.FXML;
+import javafx.geometry.Orientation;
+import javafx.scene.control.SplitPane;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import javafx.scene.control.TextArea;
+import javafx.scene.layout.AnchorPane;
+import javafx.util.Duration;
+
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Shows the metrics of the {@link MetricsRegistry}, the executors and the event bus, refreshed every second while
+ * the dashboard is open
+ */
+public class PerformanceDashboardController {
+    private static final Duration REFRESH_INTERVAL = Duration.seconds(1);
+
+    @FXML
+    private AnchorPane mainPane;
+
+    private final ObservableList<MetricRow> metricRows = FXCollections.observableArrayList();
+    private final TextArea componentStatsArea = new TextArea();
+    private final Timeline refreshTimeline = new Timeline(new KeyFrame(REFRESH_INTERVAL, event -> refresh()));
+
+    /**
+     * A row of the metrics table. Counters and gauges only have a value, timers have their count and durations
+     */
+    private static class MetricRow {
+        final String name;
+        final String count;
+        final String value;
+        final String p50;
+        final String p99;
+        final String max;
+
+        MetricRow(String name, String count, String value, String p50, String p99, String max) {
+            this.name = name;
+            this.count = count;
+            this.value = value;
+            this.p50 = p50;
+            this.p99 = p99;
+            this.max = max;
+        }
+    }
+
+    public void init() {
+        TableView<MetricRow> metricsTable = new TableView<>(metricRows);
+        metricsTable.getColumns().add(createColumn("Metric", 220, row -> row.name));
+        metricsTable.getColumns().add(createColumn("Count", 70, row -> row.count));
+        metricsTable.getColumns().add(createColumn("Value / Mean (ms)", 120, row -> row.value));
+        metricsTable.getColumns().add(createColumn("p50 (ms)", 70, row -> row.p50));
+        metricsTable.getColumns().add(createColumn("p99 (ms)", 70, row -> row.p99));
+        metricsTable.getColumns().add(createColumn("Max (ms)", 70, row -> row.max));
+        componentStatsArea.setEditable(false);
+
+        SplitPane splitPane = new SplitPane(metricsTable, componentStatsArea);
+        splitPane.setOrientation(Orientation.VERTICAL);
+        FxViewUtil.applyAnchorBoundaryParameters(splitPane, 0.0, 0.0, 0.0, 0.0);
+        mainPane.getChildren().add(splitPane);
+
+        refresh();
+        refreshTimeline.setCycleCount(Timeline.INDEFINITE);
+        refreshTimeline.play();
+    }
+
+    /**
+     * Stops refreshing, should be called when the dashboard is closed
+     */
+    public void stop() {
+        refreshTimeline.stop();
+    }
+
+    private TableColumn<MetricRow, String> createColumn(String title, double width,
+                                                        Function<MetricRow, String> valueExtractor) {
+        TableColumn<MetricRow, String> column = new TableColumn<>(title);
+        column.setPrefWidth(width);
+        column.setCellValueFactory(cell -> new ReadOnlyStringWrapper(valueExtractor.apply(cell.getValue())));
+        return column;
+    }
+
+    private void refresh() {
+        MetricsRegistry metrics = MetricsRegistry.getInstance();
+        ObservableList<MetricRow> rows = FXCollections.observableArrayList();
+        metrics.getCounterValues().forEach((name, count) ->
+                rows.add(new MetricRow(name, String.valueOf(count), "", "", "", "")));
+        metrics.getGaugeValues().forEach((name, value) ->
+                rows.add(new MetricRow(name, "", formatValue(value), "", "", "")));
+        metrics.getTimerSummaries().forEach((name, summary) -> rows.add(createTimerRow(name, summary)));
+        metricRows.setAll(rows);
+
+        String executorStats = ExecutorManager.getAllStats().stream()
+                .map(ExecutorStats::toString)
+                .collect(Collectors.joining(System.lineSeparator()));
+        componentStatsArea.setText("Executors:" + System.lineSeparator() + executorStats + System.lineSeparator()
+                                   + System.lineSeparator() + EventManager.getInstance().getStats());
+    }
+
+    private MetricRow createTimerRow(String name, LatencyHistogram.Summary summary) {
+        return new MetricRow(name, String.valueOf(summary.getCount()), formatValue(summary.getMeanMillis()),
+                             formatValue(summary.getP50Millis()), formatValue(summary.getP99Millis()),
+                             formatValue(summary.getMaxMillis()));
+    }
+
+    private String formatValue(double value) {
+        return value == Math.rint(value) ? String.valueOf((long) value) : String.format("%.3f", value);
+    }
+}
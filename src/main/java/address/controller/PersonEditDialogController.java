@@ -6,6 +6,7 @@ import address.model.datatypes.person.ReadOnlyPerson;
 import address.model.datatypes.tag.Tag;
 import address.util.AppLogger;
 import commons.DateTimeUtil;
+import commons.FractionalRank;
 
 import address.util.LoggerManager;
 import javafx.application.Platform;
@@ -62,6 +63,7 @@ public class PersonEditDialogController extends EditDialogController {
     private TextField githubUserNameField;
 
     private List<Tag> finalAssignedTags;
+    private String rank = FractionalRank.UNRANKED; // not shown, kept as it is
     private Person finalPerson;
     private List<Tag> fullTagList;
 
@@ -159,6 +161,7 @@ public class PersonEditDialogController extends EditDialogController {
         birthdayField.setText(person.birthdayString());
         birthdayField.setPromptText("dd.mm.yyyy");
         githubUserNameField.setText(person.getGithubUsername());
+        rank = person.getRank();
     }
 
     public void setTags(List<Tag> tags, List<Tag> assignedTags) {
@@ -183,6 +186,7 @@ public class PersonEditDialogController extends EditDialogController {
         finalPerson.setBirthday(DateTimeUtil.parse(birthdayField.getText()));
         finalPerson.setTags(finalAssignedTags);
         finalPerson.setGithubUsername(githubUserNameField.getText());
+        finalPerson.setRank(rank);
         isOkClicked = true;
         dialogStage.close();
     }
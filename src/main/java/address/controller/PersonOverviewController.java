@@ -4,19 +4,23 @@ import address.events.*;
 import address.model.ModelManager;
 import address.model.datatypes.person.ReadOnlyViewablePerson;
 import address.model.datatypes.person.Person;
+import address.model.datatypes.person.PersonSortOrder;
 import address.model.datatypes.person.ReadOnlyPerson;
 import address.parser.ParseException;
 import address.parser.Parser;
 import address.parser.expr.Expr;
 import address.parser.expr.PredExpr;
 import address.keybindings.KeyBindingsManager;
+import address.parser.qualifier.RankingQualifier;
 import address.parser.qualifier.TrueQualifier;
 import address.ui.PersonListViewCell;
 import address.util.collections.FilteredList;
 import address.util.AppLogger;
 import address.util.LoggerManager;
 import address.util.collections.ReorderedList;
+import address.util.collections.SortedIndexList;
 import com.google.common.eventbus.Subscribe;
+import commons.MetricsRegistry;
 
 import javafx.application.Platform;
 import javafx.beans.property.BooleanProperty;
@@ -27,8 +31,10 @@ import javafx.fxml.FXML;
 import javafx.scene.control.*;
 import javafx.scene.control.Alert.AlertType;
 
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
 /**
  * Dialog to view the list of persons and their details
@@ -37,6 +43,8 @@ import java.util.Objects;
  */
 public class PersonOverviewController extends UiController{
     private static AppLogger logger = LoggerManager.getLogger(PersonOverviewController.class);
+    private static final String CUSTOM_ORDER_DESCRIPTION = "Custom order";
+    private static final String BEST_MATCH_ORDER_DESCRIPTION = "Best matches first";
 
     @FXML
     private Button newButton;
@@ -51,11 +59,15 @@ public class PersonOverviewController extends UiController{
     private ListView<ReadOnlyViewablePerson> personListView;
     @FXML
     private TextField filterField;
+    @FXML
+    private ComboBox<String> sortOrderBox;
 
     private MainController mainController;
     private ModelManager modelManager;
     private FilteredList<ReadOnlyViewablePerson> filteredPersonList;
+    private ReorderedList<ReadOnlyViewablePerson> orderedList;
     private Parser parser;
+    private Optional<RankingQualifier> rankingQualifier = Optional.empty();
 
     /**
      * When the user selected multiple item in the listview. The edit feature will be
@@ -78,16 +90,27 @@ public class PersonOverviewController extends UiController{
 
     @Subscribe
     private void handleFilterCommittedEvent(FilterCommittedEvent fce) {
-        filteredPersonList.setPredicate(fce.filterExpression::satisfies);
+        MetricsRegistry metrics = MetricsRegistry.getInstance();
+        metrics.timer("filter.apply").time(() -> filteredPersonList.setPredicate(fce.filterExpression::satisfies));
+        metrics.gauge("filter.matches").set(filteredPersonList.size());
+
+        rankingQualifier = fce.filterExpression.getRankingQualifier();
+        if (isBestMatchOrderSelected()) {
+            handleSortOrderChanged(); // ranks by the new filter
+        } else if (rankingQualifier.isPresent()) {
+            sortOrderBox.getSelectionModel().selectLast(); // the combo box then calls handleSortOrderChanged
+        }
     }
 
     public void setConnections(MainController mainController, ModelManager modelManager,
                                ObservableList<ReadOnlyViewablePerson> personList) {
         this.mainController = mainController;
         this.modelManager = modelManager;
+        parser = new Parser(modelManager.getTagIndex(), modelManager.getFuzzyIndex(), modelManager.getTextIndex());
         filteredPersonList = new FilteredList<>(personList, new PredExpr(new TrueQualifier())::satisfies);
 
-        ReorderedList<ReadOnlyViewablePerson> orderedList = new ReorderedList<>(filteredPersonList);
+        orderedList = new ReorderedList<>(filteredPersonList, ReadOnlyPerson::getRank,
+                                          modelManager::rankPersonThroughUI);
         personListView.setItems(orderedList);
         personListView.setCellFactory(listView -> new PersonListViewCell(orderedList));
         personListView.getSelectionModel().selectedItemProperty().addListener(
@@ -99,6 +122,11 @@ public class PersonOverviewController extends UiController{
             });
         personListView.getSelectionModel().setSelectionMode(SelectionMode.MULTIPLE);
         personListView.getSelectionModel().getSelectedIndices().addListener(multipleSelectListener);
+
+        sortOrderBox.getItems().add(CUSTOM_ORDER_DESCRIPTION);
+        PersonSortOrder.PRESETS.forEach(sortOrder -> sortOrderBox.getItems().add(sortOrder.toString()));
+        sortOrderBox.getItems().add(BEST_MATCH_ORDER_DESCRIPTION);
+        sortOrderBox.getSelectionModel().selectFirst();
     }
 
     /**
@@ -179,6 +207,40 @@ public class PersonOverviewController extends UiController{
         });
     }
 
+    /**
+     * Shows the persons in the custom order, which can be changed by dragging, sorted by the chosen fields, or with
+     * the best matches of the filter first. The best match order is chosen automatically for filters that rank their
+     * matches, such as fuzzy and free text searches, so that search results are shown in order of relevance.
+     * The persons are sorted once when an order is chosen, after that the sorted list is kept up to date.
+     */
+    @FXML
+    private void handleSortOrderChanged() {
+        int selectedIndex = sortOrderBox.getSelectionModel().getSelectedIndex();
+        if (selectedIndex <= 0) {
+            personListView.setItems(orderedList);
+            return;
+        }
+        if (isBestMatchOrderSelected()) {
+            MetricsRegistry.getInstance().timer("sort.apply").time(() -> personListView.setItems(
+                    new SortedIndexList<>(filteredPersonList, this::getRankingScore, Comparator.reverseOrder())));
+            return;
+        }
+        PersonSortOrder sortOrder = PersonSortOrder.PRESETS.get(selectedIndex - 1);
+        MetricsRegistry.getInstance().timer("sort.apply").time(() -> personListView.setItems(
+                new SortedIndexList<>(filteredPersonList, sortOrder::createKey, Comparator.naturalOrder())));
+    }
+
+    private boolean isBestMatchOrderSelected() {
+        return BEST_MATCH_ORDER_DESCRIPTION.equals(sortOrderBox.getSelectionModel().getSelectedItem());
+    }
+
+    /**
+     * @return the person's relevance to the current filter, the same for all persons if the filter does not rank
+     */
+    private Double getRankingScore(ReadOnlyViewablePerson person) {
+        return rankingQualifier.isPresent() ? rankingQualifier.get().getScore(person) : 0;
+    }
+
     @FXML
     private void handleFilterChanged() {
         Expr filterExpression;
@@ -70,6 +70,11 @@ public class RootLayoutController extends UiController {
         mainController.showBirthdayStatistics();
     }
 
+    @FXML
+    private void handleShowPerformanceDashboard() {
+        mainController.showPerformanceDashboard();
+    }
+
 
     @FXML
     private void handleNewTag() {
@@ -0,0 +1,34 @@
+package address.events;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Snapshot of the metrics of the {@link EventManager}, per event type and per handler
+ */
+public class EventBusStats {
+    private final List<EventTypeStats> eventTypeStats;
+    private final List<EventHandlerStats> handlerStats;
+
+    public EventBusStats(List<EventTypeStats> eventTypeStats, List<EventHandlerStats> handlerStats) {
+        this.eventTypeStats = Collections.unmodifiableList(eventTypeStats);
+        this.handlerStats = Collections.unmodifiableList(handlerStats);
+    }
+
+    public List<EventTypeStats> getEventTypeStats() {
+        return eventTypeStats;
+    }
+
+    public List<EventHandlerStats> getHandlerStats() {
+        return handlerStats;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("Event types:");
+        eventTypeStats.forEach(stats -> builder.append(System.lineSeparator()).append("  ").append(stats));
+        builder.append(System.lineSeparator()).append("Handlers:");
+        handlerStats.forEach(stats -> builder.append(System.lineSeparator()).append("  ").append(stats));
+        return builder.toString();
+    }
+}
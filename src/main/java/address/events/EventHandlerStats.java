@@ -0,0 +1,71 @@
+package address.events;
+
+import commons.LatencyHistogram;
+
+/**
+ * Snapshot of the metrics of an event handler registered with the {@link EventManager}
+ *
+ * Queue wait is the time from posting an event to the start of its handling, and run time the duration of the
+ * handling. Queue depth is the number of events dispatched to the handler but not handled yet.
+ */
+public class EventHandlerStats {
+    private final String handler;
+    private final String eventType;
+    private final ExecutionMode mode;
+    private final long queueDepth;
+    private final long slowCount;
+    private final LatencyHistogram.Summary queueWait;
+    private final LatencyHistogram.Summary runTime;
+
+    public EventHandlerStats(String handler, String eventType, ExecutionMode mode, long queueDepth, long slowCount,
+                             LatencyHistogram.Summary queueWait, LatencyHistogram.Summary runTime) {
+        this.handler = handler;
+        this.eventType = eventType;
+        this.mode = mode;
+        this.queueDepth = queueDepth;
+        this.slowCount = slowCount;
+        this.queueWait = queueWait;
+        this.runTime = runTime;
+    }
+
+    public String getHandler() {
+        return handler;
+    }
+
+    public String getEventType() {
+        return eventType;
+    }
+
+    public ExecutionMode getMode() {
+        return mode;
+    }
+
+    public long getHandledCount() {
+        return runTime.getCount();
+    }
+
+    public long getQueueDepth() {
+        return queueDepth;
+    }
+
+    /**
+     * @return number of events whose handling took longer than the slow handler threshold
+     */
+    public long getSlowCount() {
+        return slowCount;
+    }
+
+    public LatencyHistogram.Summary getQueueWait() {
+        return queueWait;
+    }
+
+    public LatencyHistogram.Summary getRunTime() {
+        return runTime;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s(%s) [%s]: handled %d, queued %d, slow %d, queue wait %s, run time %s", handler,
+                             eventType, mode, getHandledCount(), queueDepth, slowCount, queueWait, runTime);
+    }
+}
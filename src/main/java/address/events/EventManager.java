@@ -1,17 +1,54 @@
 package address.events;
 
 import address.util.AppLogger;
+import address.util.Config;
 import address.util.LoggerManager;
-import com.google.common.eventbus.EventBus;
+import address.util.concurrent.BackPressurePolicy;
+import address.util.concurrent.ExecutorManager;
+import address.util.concurrent.InstrumentedExecutor;
+import address.util.concurrent.SerialExecutor;
+import com.google.common.eventbus.Subscribe;
+import commons.LatencyHistogram;
+import commons.PlatformExecUtil;
+
+import java.lang.reflect.Method;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 
 /**
  * Manages the event dispatching of the app.
+ *
+ * Handlers are methods annotated with {@link Subscribe}, taking the event as their only parameter. They also receive
+ * events of subclasses of that parameter's type. Each handler runs according to its {@link HandleOn} annotation,
+ * inline in the posting thread by default.
+ *
+ * As with Guava's {@link com.google.common.eventbus.EventBus}, events posted from within an inline handler are
+ * dispatched after the current event has been dispatched to all its subscribers, and exceptions thrown by handlers are
+ * logged rather than propagated to the poster.
+ *
+ * Post counts and dispatch latencies are recorded per event type, and queue depths and latencies per handler. They can
+ * be read with {@link #getStats()}, and are logged periodically once {@link #initMetrics(Config)} is called. Handlers
+ * slower than the configured threshold are logged as they finish.
  */
 public class EventManager {
     private static final AppLogger logger = LoggerManager.getLogger(EventManager.class);
-    private final EventBus eventBus;
+    private static final int BACKGROUND_EXECUTOR_THREADS = 2;
+    private static final int BACKGROUND_EXECUTOR_QUEUE_CAPACITY = 10000;
+    private static final long DEFAULT_SLOW_HANDLER_THRESHOLD_MILLIS = 100;
     private static EventManager instance;
 
+    private final Map<Class<?>, Set<EventSubscriber>> subscribersByEventType = new ConcurrentHashMap<>();
+    private final Map<Class<?>, List<Class<?>>> eventTypeHierarchies = new ConcurrentHashMap<>();
+    private final Map<String, InstrumentedExecutor> backgroundExecutors = new ConcurrentHashMap<>();
+    private final ThreadLocal<Queue<QueuedEvent>> queuedEvents = ThreadLocal.withInitial(ArrayDeque::new);
+    private final ThreadLocal<Boolean> isDispatching = ThreadLocal.withInitial(() -> false);
+    private final Map<Class<?>, LatencyHistogram> dispatchLatencies = new ConcurrentHashMap<>();
+    private final AtomicLong slowHandlerThresholdNanos =
+            new AtomicLong(TimeUnit.MILLISECONDS.toNanos(DEFAULT_SLOW_HANDLER_THRESHOLD_MILLIS));
+    private Optional<ScheduledExecutorService> metricsLogger = Optional.empty();
+
     public static EventManager getInstance() {
         if (instance == null) {
             instance = new EventManager();
@@ -19,16 +56,94 @@ public class EventManager {
         return instance;
     }
 
+    /**
+     * Creates an event manager separate from the shared instance, so that several sets of components can run in the
+     * same process without receiving each other's events, e.g. the simulated clients of a load test.
+     * It should be shut down with {@link #shutdown()} when no longer used.
+     */
+    public static EventManager createSeparateInstance() {
+        return new EventManager();
+    }
+
+    /**
+     * Discards the current instance. Its background executors finish the handlers already dispatched to them.
+     */
     public static void clearSubscribers() {
+        if (instance != null) instance.shutdown();
         instance = null;
     }
 
+    /**
+     * Stops the background executors and metrics logging, after the handlers already dispatched to them finish
+     */
+    public void shutdown() {
+        backgroundExecutors.values().forEach(InstrumentedExecutor::shutdown);
+        metricsLogger.ifPresent(ExecutorService::shutdown);
+    }
+
     private EventManager() {
-        eventBus = new EventBus();
+    }
+
+    /**
+     * Sets the slow handler threshold, and starts logging the metrics periodically if an interval is configured
+     */
+    public synchronized void initMetrics(Config config) {
+        logger.info("slowEventHandlerThreshold: {}ms, eventMetricsLogInterval: {}ms",
+                    config.getSlowEventHandlerThreshold(), config.getEventMetricsLogInterval());
+        slowHandlerThresholdNanos.set(TimeUnit.MILLISECONDS.toNanos(config.getSlowEventHandlerThreshold()));
+        metricsLogger.ifPresent(ExecutorService::shutdown);
+        metricsLogger = Optional.empty();
+        if (config.getEventMetricsLogInterval() <= 0) return;
+
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "Event Metrics Logger");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(() -> logger.info("Event bus metrics:{}{}", System.lineSeparator(), getStats()),
+                                      config.getEventMetricsLogInterval(), config.getEventMetricsLogInterval(),
+                                      TimeUnit.MILLISECONDS);
+        metricsLogger = Optional.of(scheduler);
+    }
+
+    /**
+     * @return snapshot of the metrics of all event types posted so far and all registered handlers
+     */
+    public EventBusStats getStats() {
+        List<EventTypeStats> eventTypeStats = dispatchLatencies.entrySet().stream()
+                .map(entry -> new EventTypeStats(entry.getKey().getSimpleName(), entry.getValue().getCount(),
+                                                 entry.getValue().getSummary()))
+                .sorted(Comparator.comparing(EventTypeStats::getEventType))
+                .collect(Collectors.toList());
+        List<EventHandlerStats> handlerStats = subscribersByEventType.values().stream()
+                .flatMap(Set::stream)
+                .map(EventSubscriber::getStats)
+                .sorted(Comparator.comparing(EventHandlerStats::getHandler))
+                .collect(Collectors.toList());
+        return new EventBusStats(eventTypeStats, handlerStats);
     }
 
     public EventManager registerHandler(Object handler) {
-        eventBus.register(handler);
+        // handlers of the same subscriber that share an executor run serially, to preserve the order of events
+        Map<String, Executor> serialExecutors = new HashMap<>();
+        for (Method method : getSubscribeMethods(handler.getClass())) {
+            HandleOn handleOn = method.getAnnotation(HandleOn.class);
+            ExecutionMode mode = handleOn == null ? ExecutionMode.INLINE : handleOn.value();
+            Optional<Executor> executor = Optional.empty();
+            if (mode == ExecutionMode.FX_THREAD) {
+                executor = Optional.of(serialExecutors.computeIfAbsent(mode.name(),
+                        key -> new SerialExecutor(PlatformExecUtil::runLater)));
+            } else if (mode == ExecutionMode.BACKGROUND) {
+                executor = Optional.of(serialExecutors.computeIfAbsent(mode.name() + ":" + handleOn.executor(),
+                        key -> new SerialExecutor(getBackgroundExecutor(handleOn.executor()))));
+            }
+            EventSubscriber subscriber = new EventSubscriber(handler, method, mode, executor,
+                                                             slowHandlerThresholdNanos);
+            logger.debug("Registering {} for {} with mode {}", subscriber, subscriber.getEventType().getSimpleName(),
+                         mode);
+            subscribersByEventType.computeIfAbsent(subscriber.getEventType(), type -> new CopyOnWriteArraySet<>())
+                    .add(subscriber);
+        }
         return this;
     }
 
@@ -44,7 +159,26 @@ public class EventManager {
     }
 
     private <E extends BaseEvent> EventManager postEvent(E event) {
-        eventBus.post(event);
+        long postedAt = System.nanoTime();
+        Queue<QueuedEvent> queue = queuedEvents.get();
+        for (Class<?> eventType : getEventTypeHierarchy(event.getClass())) {
+            Set<EventSubscriber> subscribers = subscribersByEventType.get(eventType);
+            if (subscribers == null) continue;
+            subscribers.forEach(subscriber -> queue.add(new QueuedEvent(event, postedAt, subscriber)));
+        }
+        if (!isDispatching.get()) { // otherwise, the outer dispatch loop will dispatch these
+            isDispatching.set(true);
+            try {
+                QueuedEvent next;
+                while ((next = queue.poll()) != null) {
+                    next.subscriber.dispatch(next.event, next.postedAt);
+                }
+            } finally {
+                isDispatching.set(false);
+            }
+        }
+        dispatchLatencies.computeIfAbsent(event.getClass(), type -> new LatencyHistogram())
+                .record(System.nanoTime() - postedAt);
         return this;
     }
 
@@ -60,4 +194,60 @@ public class EventManager {
         return postEvent(event);
     }
 
+    private Executor getBackgroundExecutor(String name) {
+        return backgroundExecutors.computeIfAbsent(name, key -> ExecutorManager.newExecutor(
+                key, BACKGROUND_EXECUTOR_THREADS, BACKGROUND_EXECUTOR_QUEUE_CAPACITY, BackPressurePolicy.CALLER_RUNS));
+    }
+
+    /**
+     * @return the non-synthetic methods annotated with {@link Subscribe} declared by the class or its superclasses,
+     *         excluding those overridden by methods already found
+     */
+    private static List<Method> getSubscribeMethods(Class<?> clazz) {
+        List<Method> subscribeMethods = new ArrayList<>();
+        Set<String> seenSignatures = new HashSet<>();
+        for (Class<?> c = clazz; c != null && c != Object.class; c = c.getSuperclass()) {
+            for (Method method : c.getDeclaredMethods()) {
+                if (method.isSynthetic() || !method.isAnnotationPresent(Subscribe.class)) continue;
+                if (method.getParameterCount() != 1) {
+                    throw new IllegalArgumentException("Event handler " + method + " must have exactly 1 parameter");
+                }
+                String signature = method.getName() + Arrays.toString(method.getParameterTypes());
+                if (seenSignatures.add(signature)) subscribeMethods.add(method);
+            }
+        }
+        return subscribeMethods;
+    }
+
+    /**
+     * @return the event's class, its superclasses and the interfaces they implement
+     */
+    private List<Class<?>> getEventTypeHierarchy(Class<?> eventClass) {
+        return eventTypeHierarchies.computeIfAbsent(eventClass, key -> {
+            Set<Class<?>> types = new LinkedHashSet<>();
+            for (Class<?> c = key; c != null; c = c.getSuperclass()) {
+                types.add(c);
+                addInterfaces(c, types);
+            }
+            return new ArrayList<>(types);
+        });
+    }
+
+    private static void addInterfaces(Class<?> clazz, Set<Class<?>> types) {
+        for (Class<?> implemented : clazz.getInterfaces()) {
+            if (types.add(implemented)) addInterfaces(implemented, types);
+        }
+    }
+
+    private static class QueuedEvent {
+        final Object event;
+        final long postedAt;
+        final EventSubscriber subscriber;
+
+        QueuedEvent(Object event, long postedAt, EventSubscriber subscriber) {
+            this.event = event;
+            this.postedAt = postedAt;
+            this.subscriber = subscriber;
+        }
+    }
 }
@@ -0,0 +1,116 @@
+package address.events;
+
+import address.util.AppLogger;
+import address.util.LoggerManager;
+import commons.LatencyHistogram;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A handler method of a subscriber registered with the {@link EventManager}, with the executor it is dispatched on
+ * and its metrics
+ */
+class EventSubscriber {
+    private static final AppLogger logger = LoggerManager.getLogger(EventSubscriber.class);
+
+    private final Object target;
+    private final Method method;
+    private final ExecutionMode mode;
+    private final Optional<Executor> executor;
+    private final AtomicLong slowHandlerThresholdNanos;
+
+    private final LongAdder dispatchedCount = new LongAdder();
+    private final LongAdder slowCount = new LongAdder();
+    private final LatencyHistogram queueWait = new LatencyHistogram();
+    private final LatencyHistogram runTime = new LatencyHistogram();
+
+    /**
+     * @param executor should run tasks serially, in submission order. Empty for {@link ExecutionMode#INLINE}
+     * @param slowHandlerThresholdNanos handling that takes longer than this is logged as slow
+     */
+    EventSubscriber(Object target, Method method, ExecutionMode mode, Optional<Executor> executor,
+                    AtomicLong slowHandlerThresholdNanos) {
+        this.target = target;
+        this.method = method;
+        this.mode = mode;
+        this.executor = executor;
+        this.slowHandlerThresholdNanos = slowHandlerThresholdNanos;
+        method.setAccessible(true);
+    }
+
+    Class<?> getEventType() {
+        return method.getParameterTypes()[0];
+    }
+
+    ExecutionMode getMode() {
+        return mode;
+    }
+
+    /**
+     * @param postedAt {@link System#nanoTime()} when the event was posted
+     */
+    void dispatch(Object event, long postedAt) {
+        dispatchedCount.increment();
+        if (executor.isPresent()) {
+            executor.get().execute(() -> invoke(event, postedAt));
+        } else {
+            invoke(event, postedAt);
+        }
+    }
+
+    EventHandlerStats getStats() {
+        LatencyHistogram.Summary runTimeSummary = runTime.getSummary();
+        return new EventHandlerStats(toString(), getEventType().getSimpleName(), mode,
+                                     dispatchedCount.sum() - runTimeSummary.getCount(), slowCount.sum(),
+                                     queueWait.getSummary(), runTimeSummary);
+    }
+
+    private void invoke(Object event, long postedAt) {
+        long startedAt = System.nanoTime();
+        queueWait.record(startedAt - postedAt);
+        try {
+            method.invoke(target, event);
+        } catch (InvocationTargetException e) {
+            logger.warn("Exception thrown by {} when handling {}: {}", this, event.getClass().getSimpleName(),
+                        e.getCause());
+        } catch (IllegalAccessException e) {
+            throw new AssertionError("Handler was made accessible on registration: " + this, e);
+        } finally {
+            recordRunTime(event, System.nanoTime() - startedAt);
+        }
+    }
+
+    private void recordRunTime(Object event, long runNanos) {
+        runTime.record(runNanos);
+        if (runNanos > slowHandlerThresholdNanos.get()) {
+            slowCount.increment();
+            logger.warn("Slow event handler {} took {}ms to handle {}", this, TimeUnit.NANOSECONDS.toMillis(runNanos),
+                        event.getClass().getSimpleName());
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) return true;
+        if (!(other instanceof EventSubscriber)) return false;
+        EventSubscriber otherSubscriber = (EventSubscriber) other;
+        return target == otherSubscriber.target && method.equals(otherSubscriber.method);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * System.identityHashCode(target) + method.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        String targetName = target.getClass().getSimpleName();
+        return (targetName.isEmpty() ? target.getClass().getName() : targetName) + "#" + method.getName();
+    }
+}
@@ -0,0 +1,38 @@
+package address.events;
+
+import commons.LatencyHistogram;
+
+/**
+ * Snapshot of the metrics of an event type posted to the {@link EventManager}
+ *
+ * Dispatch latency is the time spent in {@link EventManager#post}, which includes running the inline handlers. Events
+ * posted from within inline handlers are only queued there, and are dispatched by the outermost post.
+ */
+public class EventTypeStats {
+    private final String eventType;
+    private final long postCount;
+    private final LatencyHistogram.Summary dispatchLatency;
+
+    public EventTypeStats(String eventType, long postCount, LatencyHistogram.Summary dispatchLatency) {
+        this.eventType = eventType;
+        this.postCount = postCount;
+        this.dispatchLatency = dispatchLatency;
+    }
+
+    public String getEventType() {
+        return eventType;
+    }
+
+    public long getPostCount() {
+        return postCount;
+    }
+
+    public LatencyHistogram.Summary getDispatchLatency() {
+        return dispatchLatency;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: posted %d, dispatch %s", eventType, postCount, dispatchLatency);
+    }
+}
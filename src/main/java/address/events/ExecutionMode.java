@@ -0,0 +1,21 @@
+package address.events;
+
+/**
+ * Where an event handler runs when an event is posted to the {@link EventManager}
+ *
+ * @see HandleOn
+ */
+public enum ExecutionMode {
+    /**
+     * In the posting thread, before {@link EventManager#post} returns
+     */
+    INLINE,
+    /**
+     * On the JavaFX application thread, after {@link EventManager#post} returns
+     */
+    FX_THREAD,
+    /**
+     * On a named background executor shared by the handlers that name it, after {@link EventManager#post} returns
+     */
+    BACKGROUND
+}
@@ -0,0 +1,26 @@
+package address.events;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Sets the {@link ExecutionMode} of a {@link com.google.common.eventbus.Subscribe} handler.
+ * Handlers without this annotation run {@link ExecutionMode#INLINE}.
+ *
+ * Whatever the mode, a subscriber receives events in the order they were posted: the handlers of a subscriber that
+ * share a mode (and executor) run one at a time.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface HandleOn {
+    String DEFAULT_EXECUTOR = "Event Handler";
+
+    ExecutionMode value();
+
+    /**
+     * Name of the background executor to run on, only used with {@link ExecutionMode#BACKGROUND}
+     */
+    String executor() default DEFAULT_EXECUTOR;
+}
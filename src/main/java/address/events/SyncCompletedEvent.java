@@ -1,6 +1,6 @@
 package address.events;
 
-import address.model.datatypes.person.Person;
+import address.model.datatypes.person.PersonRecord;
 import address.model.datatypes.tag.Tag;
 
 import java.util.List;
@@ -12,10 +12,10 @@ import java.util.Optional;
  * Contains the data obtained from the sync request.
  */
 public class SyncCompletedEvent extends BaseEvent {
-    List<Person> updatedPersons;
+    List<PersonRecord> updatedPersons;
     Optional<List<Tag>> latestTags;
 
-    public SyncCompletedEvent(List<Person> updatedPersons, Optional<List<Tag>> latestTags) {
+    public SyncCompletedEvent(List<PersonRecord> updatedPersons, Optional<List<Tag>> latestTags) {
         this.updatedPersons = updatedPersons;
         this.latestTags = latestTags;
     }
@@ -24,7 +24,7 @@ public class SyncCompletedEvent extends BaseEvent {
         return latestTags;
     }
 
-    public List<Person> getUpdatedPersons() {
+    public List<PersonRecord> getUpdatedPersons() {
         return updatedPersons;
     }
 
@@ -6,6 +6,7 @@ import static address.model.datatypes.person.ReadOnlyViewablePerson.ChangeInProg
 import address.events.BaseEvent;
 import address.events.CommandFinishedEvent;
 import address.events.CreatePersonOnRemoteRequestEvent;
+import address.model.SingleTargetCommandResult.CommandStatus;
 import address.model.datatypes.person.Person;
 import address.model.datatypes.person.ReadOnlyPerson;
 import address.model.datatypes.person.ViewablePerson;
@@ -101,7 +102,8 @@ public class AddPersonCommand extends ChangePersonInModelCommand {
     @Override
     protected void handleChangeToSecondsLeftInGracePeriod(int secondsLeft) {
         assert viewableToAdd != null;
-        PlatformExecUtil.runAndWait(() -> viewableToAdd.setSecondsLeftInPendingState(secondsLeft));
+        PlatformExecUtil.runLaterCoalesced(viewableToAdd.secondsLeftInPendingStateProperty(),
+                () -> viewableToAdd.setSecondsLeftInPendingState(secondsLeft));
     }
 
     @Override
@@ -149,6 +151,15 @@ public class AddPersonCommand extends ChangePersonInModelCommand {
         }
     }
 
+    @Override
+    protected void handleRejection() {
+        // no input was retrieved yet, so there is no person to name
+        eventRaiser.accept(new CommandFinishedEvent(
+                new SingleTargetCommandResult(getCommandId(), COMMAND_TYPE, CommandStatus.FAILED, TARGET_TYPE,
+                        "", "", "")
+        ));
+    }
+
     @Override
     protected void finishWithCancel() {
         if (viewableToAdd != null) {
@@ -162,6 +173,7 @@ public class AddPersonCommand extends ChangePersonInModelCommand {
             model.addPersonToBackingModelSilently(backingFromRemote); // so it wont trigger creation of another VP
             model.unassignOngoingChangeForPerson(getTargetPersonId()); // removes mapping for old id
             viewableToAdd.connectBackingObject(backingFromRemote); // changes id to that of backing person
+            model.refreshViewablePerson(viewableToAdd); // so that sorted views observe the backing person
             model.assignOngoingChangeToPerson(viewableToAdd.getId(), this); // remap this change for the new id
         });
         snapshotPersonData(viewableToAdd); // update snapshot for remote assigned id
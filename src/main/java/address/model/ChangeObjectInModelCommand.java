@@ -7,6 +7,7 @@ import javafx.beans.property.SimpleObjectProperty;
 
 import java.util.Optional;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static address.model.ChangeObjectInModelCommand.State.*;
 import static address.model.SingleTargetCommandResult.CommandStatus;
@@ -16,6 +17,10 @@ import static address.model.SingleTargetCommandResult.CommandStatus;
  * and have it optimistically reflected on the UI. Internal logic approximates a finite state machine.
  *
  * Should be run OUTSIDE THE FX THREAD because the {@link #run()} method involves blocking calls.
+ *
+ * The grace period does not occupy the running thread: {@link #run()} returns once the grace period starts, its
+ * countdown is driven by a single timer thread shared by all commands, and the remaining states are run on the
+ * continuation executor when it ends. Hence {@link #waitForCompletion()} should be used to wait for the command.
  */
 public abstract class ChangeObjectInModelCommand implements Runnable {
 
@@ -71,6 +76,8 @@ public abstract class ChangeObjectInModelCommand implements Runnable {
         }
     }
 
+    private static final ScheduledThreadPoolExecutor GRACE_PERIOD_TIMER = createGracePeriodTimer();
+
     protected final AppLogger logger = LoggerManager.getLogger(this.getClass());
 
     private final int commandId;
@@ -80,14 +87,20 @@ public abstract class ChangeObjectInModelCommand implements Runnable {
 
     private final CountDownLatch completionLatch; // blocking completion flag
     private final CountDownLatch cancelledLatch; // blocking cancellation flag
-    private CountDownLatch pauseGracePeriodLatch;
-    private CountDownLatch resumeGracePeriodLatch;
-    
+    private Executor continuationExecutor;
+
+    // Grace period countdown, guarded by gracePeriodLock
+    private final Object gracePeriodLock;
+    private boolean isGracePeriodRunning;
+    private boolean isGracePeriodPaused;
+    private int secondsLeftInGracePeriod;
+    private ScheduledFuture<?> nextGracePeriodTick;
+
     {
         completionLatch = new CountDownLatch(1); // irreversible flag
         cancelledLatch = new CountDownLatch(1); // irreversible flag
-        pauseGracePeriodLatch = new CountDownLatch(1);
-        resumeGracePeriodLatch = new CountDownLatch(1);
+        continuationExecutor = ForkJoinPool.commonPool();
+        gracePeriodLock = new Object();
         state = new SimpleObjectProperty<>(NEWLY_CREATED);
     }
 
@@ -100,6 +113,14 @@ public abstract class ChangeObjectInModelCommand implements Runnable {
         return commandId;
     }
 
+    /**
+     * Sets the executor that runs the states following the grace period. It should allow blocking, as those states
+     * wait on the remote.
+     */
+    void setContinuationExecutor(Executor continuationExecutor) {
+        this.continuationExecutor = continuationExecutor;
+    }
+
     /**
      * Blocks until this command finishes execution by reaching terminal state.
      */
@@ -184,10 +205,39 @@ public abstract class ChangeObjectInModelCommand implements Runnable {
     @Override
     public final void run() {
         before();
+        runStateMachine();
+    }
+
+    /**
+     * Finishes this command without running it, e.g. when it could not be submitted for execution.
+     * The command ends {@link State#CANCELLED}, and {@link #handleRejection()} lets the user know.
+     */
+    public final void reject() {
+        assert getState() == NEWLY_CREATED : "Attempted to reject a command that has started running";
+        setState(CANCELLED);
+        handleRejection();
+        completionLatch.countDown();
+    }
+
+    /**
+     * Runs when this command is rejected before it started, so nothing has been simulated on its behalf yet.
+     * Should inform the user, and revert anything the caller showed in anticipation of the command.
+     * @see #reject()
+     */
+    protected abstract void handleRejection();
 
-        // Runs FSM till one of terminal states is reached.
+    /**
+     * Runs FSM till one of terminal states is reached, or till a non-zero grace period starts. In the latter case,
+     * the FSM is continued by {@link #continueAfterGracePeriod(State)} when the grace period ends.
+     */
+    private void runStateMachine() {
         while (!getState().isTerminal()) {
             logger.debug("Handling state: " + getState().name());
+            if (getState() == GRACE_PERIOD && gracePeriodDurationInSeconds > 0) {
+                beforeState(GRACE_PERIOD);
+                startGracePeriod();
+                return;
+            }
             setState(handleAndTransitionState(getState()));
         }
 
@@ -235,8 +285,9 @@ public abstract class ChangeObjectInModelCommand implements Runnable {
             next = GRACE_PERIOD;
             break;
 
-        case GRACE_PERIOD:
-            next = gracePeriodCountdownAndTransition();
+        case GRACE_PERIOD: // only reached for grace periods of zero duration
+            handleChangeToSecondsLeftInGracePeriod(0);
+            next = CHECKING_REMOTE_CONFLICT;
             break;
 
         case CHECKING_REMOTE_CONFLICT:
@@ -278,51 +329,110 @@ public abstract class ChangeObjectInModelCommand implements Runnable {
     protected abstract void simulateResult();
 
     /**
-     * State transition for {@link State#GRACE_PERIOD}.
+     * Starts the countdown for {@link State#GRACE_PERIOD}.
      * This grace period phase allows the user to cancel the command with minimal cost.
      *
      * Updates {@link #handleChangeToSecondsLeftInGracePeriod(int)} whenever seconds remaining in the
-     * grace period countdown changes.
+     * grace period countdown changes. Pausing and resuming the grace period restarts the countdown, unless the
+     * command was cancelled in the meantime.
      *
      * @see #cancelCommand()
-     * @return next state
      */
-    private State gracePeriodCountdownAndTransition() {
-        // Countdown loop, checks for cancel signal
-        for (int i = gracePeriodDurationInSeconds; i > 0; i--) {
-            handleChangeToSecondsLeftInGracePeriod(i);
-            try {
-                // wait 1 second each time for interruptions
-                if (pauseGracePeriodLatch.await(1, TimeUnit.SECONDS)) {
-                    pauseGracePeriodLatch = new CountDownLatch(1); // reset for future pauses
-                    resumeGracePeriodLatch.await(); // wait to resume execution
-                    resumeGracePeriodLatch = new CountDownLatch(1); // reset for future pauses
-                    if (isCancelRequested()) {
-                        handleChangeToSecondsLeftInGracePeriod(0); // end grace period
-                        return CANCELLED;
-                    }
-                    i = gracePeriodDurationInSeconds; // unpaused but not cancelled, reset countdown
-                }
-            } catch (InterruptedException e) {
-                e.printStackTrace();
+    private void startGracePeriod() {
+        synchronized (gracePeriodLock) {
+            isGracePeriodRunning = true;
+            if (isCancelRequested()) {
+                endGracePeriod(CANCELLED);
+            } else if (!isGracePeriodPaused) {
+                restartGracePeriodCountdown();
+            }
+        }
+    }
+
+    private void restartGracePeriodCountdown() {
+        secondsLeftInGracePeriod = gracePeriodDurationInSeconds;
+        handleChangeToSecondsLeftInGracePeriod(secondsLeftInGracePeriod);
+        scheduleGracePeriodTick();
+    }
+
+    private void scheduleGracePeriodTick() {
+        nextGracePeriodTick = GRACE_PERIOD_TIMER.schedule(this::tickGracePeriod, 1, TimeUnit.SECONDS);
+    }
+
+    private void tickGracePeriod() {
+        synchronized (gracePeriodLock) {
+            if (!isGracePeriodRunning || isGracePeriodPaused) return;
+            secondsLeftInGracePeriod--;
+            if (secondsLeftInGracePeriod > 0) {
+                handleChangeToSecondsLeftInGracePeriod(secondsLeftInGracePeriod);
+                scheduleGracePeriodTick();
+            } else {
+                endGracePeriod(CHECKING_REMOTE_CONFLICT); // not cancelled
             }
         }
+    }
 
+    /**
+     * Must be called while holding {@link #gracePeriodLock}
+     */
+    private void endGracePeriod(State next) {
+        isGracePeriodRunning = false;
+        if (nextGracePeriodTick != null) nextGracePeriodTick.cancel(false);
         handleChangeToSecondsLeftInGracePeriod(0); // signify end of grace period
-        return CHECKING_REMOTE_CONFLICT; // not cancelled
+        submitContinuation(next);
+    }
+
+    private void submitContinuation(State next) {
+        try {
+            continuationExecutor.execute(() -> continueAfterGracePeriod(next));
+        } catch (RejectedExecutionException e) {
+            logger.warn("Unable to continue command {} after its grace period, retrying: {}", commandId,
+                        e.getMessage());
+            GRACE_PERIOD_TIMER.schedule(() -> submitContinuation(next), 1, TimeUnit.SECONDS);
+        }
+    }
+
+    private void continueAfterGracePeriod(State next) {
+        afterState(GRACE_PERIOD);
+        setState(next);
+        runStateMachine();
     }
 
     protected void pauseGracePeriod() {
-        pauseGracePeriodLatch.countDown();
+        synchronized (gracePeriodLock) {
+            isGracePeriodPaused = true;
+            if (nextGracePeriodTick != null) nextGracePeriodTick.cancel(false);
+        }
     }
 
     protected void resumeGracePeriod() {
-        resumeGracePeriodLatch.countDown();
+        synchronized (gracePeriodLock) {
+            if (!isGracePeriodPaused) return;
+            isGracePeriodPaused = false;
+            if (!isGracePeriodRunning) return; // handled when the grace period starts
+            if (isCancelRequested()) {
+                endGracePeriod(CANCELLED);
+            } else {
+                restartGracePeriodCountdown(); // unpaused but not cancelled, reset countdown
+            }
+        }
+    }
+
+    private static ScheduledThreadPoolExecutor createGracePeriodTimer() {
+        final AtomicInteger threadCount = new AtomicInteger(0);
+        final ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1, runnable -> {
+            final Thread thread = new Thread(runnable, "Grace Period Timer-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        timer.setRemoveOnCancelPolicy(true);
+        return timer;
     }
 
     /**
      * Hook that gets called every time number of seconds left in the grace period changes.
-     * @see #gracePeriodCountdownAndTransition()
+     * Runs on the shared grace period timer thread, so it must not block.
+     * @see #startGracePeriod()
      */
     protected abstract void handleChangeToSecondsLeftInGracePeriod(int secondsLeft);
 
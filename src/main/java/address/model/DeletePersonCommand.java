@@ -6,6 +6,7 @@ import static address.model.datatypes.person.ReadOnlyViewablePerson.ChangeInProg
 import address.events.BaseEvent;
 import address.events.CommandFinishedEvent;
 import address.events.DeletePersonOnRemoteRequestEvent;
+import address.model.SingleTargetCommandResult.CommandStatus;
 import address.model.datatypes.person.Person;
 import address.model.datatypes.person.ReadOnlyPerson;
 import address.model.datatypes.person.ViewablePerson;
@@ -66,7 +67,8 @@ public class DeletePersonCommand extends ChangePersonInModelCommand {
             }
         }
         model.assignOngoingChangeToPerson(target.getId(), this);
-        target.stopSyncingWithBackingObject();
+        // may create the visible person, which the UI thread reads
+        PlatformExecUtil.runAndWait(target::stopSyncingWithBackingObject);
     }
 
     @Override
@@ -91,7 +93,8 @@ public class DeletePersonCommand extends ChangePersonInModelCommand {
 
     @Override
     protected void handleChangeToSecondsLeftInGracePeriod(int secondsLeft) {
-        PlatformExecUtil.runAndWait(() -> target.setSecondsLeftInPendingState(secondsLeft));
+        PlatformExecUtil.runLaterCoalesced(target.secondsLeftInPendingStateProperty(),
+                () -> target.setSecondsLeftInPendingState(secondsLeft));
     }
 
     @Override
@@ -132,6 +135,15 @@ public class DeletePersonCommand extends ChangePersonInModelCommand {
         }
     }
 
+    @Override
+    protected void handleRejection() {
+        final String targetName = target.fullName();
+        eventRaiser.accept(new CommandFinishedEvent(
+                new SingleTargetCommandResult(getCommandId(), COMMAND_TYPE, CommandStatus.FAILED, TARGET_TYPE,
+                        target.idString(), targetName, targetName)
+        ));
+    }
+
     @Override
     protected void finishWithCancel() {
         // nothing needed
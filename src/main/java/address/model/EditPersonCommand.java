@@ -6,6 +6,7 @@ import static address.model.datatypes.person.ReadOnlyViewablePerson.ChangeInProg
 import address.events.BaseEvent;
 import address.events.CommandFinishedEvent;
 import address.events.UpdatePersonOnRemoteRequestEvent;
+import address.model.SingleTargetCommandResult.CommandStatus;
 import address.model.datatypes.person.Person;
 import address.model.datatypes.person.ReadOnlyPerson;
 import address.model.datatypes.person.ViewablePerson;
@@ -71,9 +72,11 @@ public class EditPersonCommand extends ChangePersonInModelCommand {
                 assert false;
             }
         }
-        PlatformExecUtil.runAndWait(() -> target.setChangeInProgress(EDITING));
+        PlatformExecUtil.runAndWait(() -> {
+            target.setChangeInProgress(EDITING);
+            target.stopSyncingWithBackingObject(); // may create the visible person, which the UI thread reads
+        });
         model.assignOngoingChangeToPerson(target.getId(), this);
-        target.stopSyncingWithBackingObject();
         personDataBeforeExecution = new Person(target);
     }
 
@@ -100,7 +103,8 @@ public class EditPersonCommand extends ChangePersonInModelCommand {
 
     @Override
     protected void handleChangeToSecondsLeftInGracePeriod(int secondsLeft) {
-        PlatformExecUtil.runAndWait(() -> target.setSecondsLeftInPendingState(secondsLeft));
+        PlatformExecUtil.runLaterCoalesced(target.secondsLeftInPendingStateProperty(),
+                () -> target.setSecondsLeftInPendingState(secondsLeft));
     }
 
     @Override
@@ -150,9 +154,21 @@ public class EditPersonCommand extends ChangePersonInModelCommand {
         }
     }
 
+    @Override
+    protected void handleRejection() {
+        // views ordered by the rank this edit would have given, e.g. after a drag, revert to the rank kept
+        PlatformExecUtil.runAndWait(() -> model.refreshViewablePerson(target));
+        final String targetName = target.fullName();
+        eventRaiser.accept(new CommandFinishedEvent(
+                new SingleTargetCommandResult(getCommandId(), COMMAND_TYPE, CommandStatus.FAILED, TARGET_TYPE,
+                        target.idString(), targetName, targetName)
+        ));
+    }
+
     @Override
     protected void finishWithCancel() {
-        // for now, already handled by #after()
+        // the visible data was reverted by #after(), but views ordered by it, e.g. by rank, only saw the simulation
+        PlatformExecUtil.runAndWait(() -> model.refreshViewablePerson(target));
     }
 
     @Override
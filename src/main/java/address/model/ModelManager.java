@@ -9,6 +9,8 @@ import address.model.datatypes.person.*;
 import address.model.datatypes.tag.Tag;
 import address.util.*;
 import address.util.collections.UnmodifiableObservableList;
+import address.util.concurrent.BackPressurePolicy;
+import address.util.concurrent.ExecutorManager;
 import com.google.common.eventbus.Subscribe;
 
 import address.util.AppLogger;
@@ -36,6 +38,7 @@ public class ModelManager extends ComponentManager implements ReadOnlyAddressBoo
 
     private final Map<Integer, ChangePersonInModelCommand> personChangesInProgress;
     private final Executor commandExecutor;
+    private final Executor commandContinuationExecutor;
     private final AtomicInteger commandCounter;
 
     private String saveFilePath;
@@ -43,7 +46,6 @@ public class ModelManager extends ComponentManager implements ReadOnlyAddressBoo
 
     {
         personChangesInProgress = new HashMap<>();
-        commandExecutor = Executors.newCachedThreadPool();
         commandCounter = new AtomicInteger(0);
     }
 
@@ -52,7 +54,14 @@ public class ModelManager extends ComponentManager implements ReadOnlyAddressBoo
      * AddressBook and its variables should not be null
      */
     public ModelManager(AddressBook src, Config config) {
-        super();
+        this(src, config, EventManager.getInstance());
+    }
+
+    /**
+     * Initializes a ModelManager with the given AddressBook, raising and handling events on the given eventManager
+     */
+    public ModelManager(AddressBook src, Config config, EventManager eventManager) {
+        super(eventManager);
         if (src == null) {
             logger.fatal("Attempted to initialize with a null AddressBook");
             assert false;
@@ -64,6 +73,14 @@ public class ModelManager extends ComponentManager implements ReadOnlyAddressBoo
 
         this.saveFilePath = config.getLocalDataFilePath();
         this.addressBookNameToUse = config.getAddressBookName();
+        // commands are submitted from the UI thread and later wait on it, so they must never run in or block it
+        commandExecutor = ExecutorManager.newExecutor("Model Command", config.getModelCommandThreads(),
+                                                      config.getModelCommandQueueCapacity(), BackPressurePolicy.REJECT);
+        // separate from commandExecutor, whose threads may be waiting for earlier commands on the same person to finish
+        commandContinuationExecutor = ExecutorManager.newExecutor("Model Command Continuation",
+                                                                  config.getModelCommandThreads(),
+                                                                  config.getModelCommandQueueCapacity(),
+                                                                  BackPressurePolicy.REJECT);
     }
 
     public ModelManager(Config config) {
@@ -127,6 +144,14 @@ public class ModelManager extends ComponentManager implements ReadOnlyAddressBoo
         return backingModel.getTagsAsReadOnlyObservableList();
     }
 
+    /**
+     * Must be called from the FX application thread; the returned snapshot can be read from any thread.
+     * @see AddressBook#snapshot()
+     */
+    public AddressBookSnapshot snapshot() {
+        return backingModel.snapshot();
+    }
+
     /**
      * @return reference to the tags list inside backing model
      */
@@ -142,6 +167,28 @@ public class ModelManager extends ComponentManager implements ReadOnlyAddressBoo
         return visibleModel;
     }
 
+    /**
+     * @return index of the persons having each tag, only to be used from the FX application thread
+     */
+    public TagIndex getTagIndex() {
+        return backingModel.getTagIndex();
+    }
+
+    /**
+     * @return index of the words in the persons' names, cities and tags, only to be used from the FX application
+     *         thread
+     */
+    public FuzzyIndex getFuzzyIndex() {
+        return backingModel.getFuzzyIndex();
+    }
+
+    /**
+     * @return index of the words in all the persons' fields and tags, only to be used from the FX application thread
+     */
+    public TextIndex getTextIndex() {
+        return backingModel.getTextIndex();
+    }
+
 //// MODEL CHANGE COMMANDS
 
     /**
@@ -219,6 +266,25 @@ public class ModelManager extends ComponentManager implements ReadOnlyAddressBoo
         });
     }
 
+    /**
+     * Request to set the rank of a person, i.e. its position in the custom order of persons. Simulates the change
+     * optimistically until remote confirmation, like other edits.
+     * @param rank a {@link commons.FractionalRank} key
+     */
+    public synchronized void rankPersonThroughUI(ReadOnlyPerson target, String rank) {
+        final Supplier<Optional<ReadOnlyPerson>> rankedPersonRetriever = () -> {
+            Person afterRank = new Person(target);
+            afterRank.setRank(rank);
+            return Optional.of(afterRank);
+        };
+        if (personHasOngoingChange(target)) {
+            getOngoingChangeForPerson(target.getId()).overrideWithEditPerson(rankedPersonRetriever);
+        } else {
+            final ViewablePerson toEdit = visibleModel.findPerson(target).get();
+            execNewEditPersonCommand(toEdit, rankedPersonRetriever);
+        }
+    }
+
     /**
      * Request to delete a person. Simulates the change optimistically until remote confirmation, and provides a grace
      * period for cancellation, editing, or deleting.
@@ -245,18 +311,35 @@ public class ModelManager extends ComponentManager implements ReadOnlyAddressBoo
 
     protected void execNewAddPersonCommand(Supplier<Optional<ReadOnlyPerson>> inputRetriever) {
         final int GRACE_PERIOD_DURATION = 3;
-        commandExecutor.execute(new AddPersonCommand(assignCommandId(), inputRetriever, GRACE_PERIOD_DURATION, this::raise, this, addressBookNameToUse));
+        execCommand(new AddPersonCommand(assignCommandId(), inputRetriever, GRACE_PERIOD_DURATION, this::raise, this,
+                addressBookNameToUse));
     }
 
     protected void execNewEditPersonCommand(ViewablePerson target, Supplier<Optional<ReadOnlyPerson>> editInputRetriever) {
         final int GRACE_PERIOD_DURATION = 3;
-        commandExecutor.execute(new EditPersonCommand(assignCommandId(), target, editInputRetriever,
+        execCommand(new EditPersonCommand(assignCommandId(), target, editInputRetriever,
                 GRACE_PERIOD_DURATION, this::raise, this, addressBookNameToUse));
     }
 
     protected void execNewDeletePersonCommand(ViewablePerson target) {
         final int GRACE_PERIOD_DURATION = 3;
-        commandExecutor.execute(new DeletePersonCommand(assignCommandId(), target, GRACE_PERIOD_DURATION, this::raise, this, addressBookNameToUse));
+        execCommand(new DeletePersonCommand(assignCommandId(), target, GRACE_PERIOD_DURATION, this::raise, this,
+                addressBookNameToUse));
+    }
+
+    /**
+     * Submits the command for execution. If too many commands are in progress, the command is rejected instead,
+     * which reports it as failed to the user.
+     */
+    private void execCommand(ChangePersonInModelCommand command) {
+        command.setContinuationExecutor(commandContinuationExecutor);
+        try {
+            commandExecutor.execute(command);
+        } catch (RejectedExecutionException e) {
+            logger.warn("Too many commands in progress, rejecting command {}: {}", command.getCommandId(),
+                        e.getMessage());
+            command.reject();
+        }
     }
 
     /**
@@ -318,6 +401,14 @@ public class ModelManager extends ComponentManager implements ReadOnlyAddressBoo
         return toAdd;
     }
 
+    /**
+     * Makes the views of the visible persons read the data of the person again, e.g. after it was connected to its
+     * backing person or a simulated change to it was reverted. Must be run on the FX application thread.
+     */
+    protected synchronized void refreshViewablePerson(ViewablePerson p) {
+        visibleModel.refreshPerson(p);
+    }
+
     /**
      * Manually add person to backing model without auto-creating a {@link ViewablePerson} for it in the visible model.
      */
@@ -391,10 +482,11 @@ public class ModelManager extends ComponentManager implements ReadOnlyAddressBoo
             syncTags(uce.getLatestTags().get());
         }
         syncPersons(uce.getUpdatedPersons());
-        raise(new LocalModelChangedEvent(this));
+        // queued after the changes above, and the snapshot is saved in the background
+        PlatformExecUtil.runLater(() -> raise(new LocalModelChangedEvent(snapshot())));
     }
 
-    private void syncPersons(Collection<Person> syncData) {
+    private void syncPersons(Collection<PersonRecord> syncData) {
         Set<Integer> deletedPersonIds = new HashSet<>();
         Map<Integer, ReadOnlyPerson> newOrUpdatedPersons = new HashMap<>();
         syncData.forEach(p -> {
@@ -411,19 +503,19 @@ public class ModelManager extends ComponentManager implements ReadOnlyAddressBoo
             // edits
             backingModel.getPersons().forEach(p -> {
                 if (newOrUpdatedPersons.containsKey(p.getId())) {
-                    p.update(newOrUpdatedPersons.remove(p.getId()));
+                    p.update(backingModel.canonicalize(newOrUpdatedPersons.remove(p.getId())));
                 }
             });
             // new
             backingModel.getPersons().addAll(newOrUpdatedPersons.values().stream()
-                    .map(Person::new).collect(Collectors.toList()));
+                    .map(p -> new Person(backingModel.canonicalize(p))).collect(Collectors.toList()));
         });
     }
 
     private void syncTags(Collection<Tag> syncData) {
         Set<Tag> latestTags = new HashSet<>(syncData);
-        backingModel.getTags().retainAll(latestTags); // delete
         PlatformExecUtil.runLater(() -> {
+            backingModel.getTags().retainAll(latestTags); // delete
             latestTags.removeAll(backingModel.getTags()); // latest tags no longer contains tags already in model
             backingModel.getTags().addAll(latestTags); // add
         });
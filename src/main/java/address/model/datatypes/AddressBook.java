@@ -1,10 +1,14 @@
 package address.model.datatypes;
 
 import address.model.datatypes.person.Person;
+import address.model.datatypes.person.PersonRecord;
 import address.model.datatypes.person.ReadOnlyPerson;
 import address.model.datatypes.tag.Tag;
 import address.util.collections.UnmodifiableObservableList;
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 
 import java.util.*;
@@ -13,15 +17,39 @@ import java.util.stream.Collectors;
 /**
  * Wraps all data at the address-book level
  * Duplicates are not allowed (by .equals comparison)
+ *
+ * Persons share one instance of each tag, city and postal code, see {@link #canonicalize(ReadOnlyPerson)}.
+ *
+ * Keeps a {@link PersonRecord} copy of each person between its changes, so that {@link #snapshot()} only copies the
+ * persons that changed since the last snapshot. The copies hold copies of the tags, as the shared tags can be renamed.
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final ObservableList<Person> persons;
     private final ObservableList<Tag> tags;
 
+    // only used by the thread changing the address book
+    private final Map<Person, PersonRecord> frozenPersons = new IdentityHashMap<>();
+    private final Map<Person, InvalidationListener> personListeners = new IdentityHashMap<>();
+    private final FieldDictionary dictionary = new FieldDictionary();
+    private final InvalidationListener tagListener = observable -> invalidateTags();
+    private final Map<Tag, Tag> frozenTagsByTag = new IdentityHashMap<>(); // copies, by the tags they were copied from
+    private List<Tag> frozenTags;
+
+    private volatile AddressBookSnapshot snapshot;
+
+    private final TagIndex tagIndex;
+    private final FuzzyIndex fuzzyIndex;
+    private final TextIndex textIndex;
+
     {
         persons = FXCollections.observableArrayList();
         tags = FXCollections.observableArrayList();
+        persons.addListener(this::handlePersonsChanged);
+        tags.addListener(this::handleTagsChanged);
+        tagIndex = new TagIndex(persons);
+        fuzzyIndex = new FuzzyIndex(persons, tagIndex);
+        textIndex = new TextIndex(persons, tagIndex);
     }
 
     public AddressBook() {}
@@ -54,6 +82,29 @@ public class AddressBook implements ReadOnlyAddressBook {
         return tags;
     }
 
+    /**
+     * @return index of the persons having each tag, only to be used from the thread changing this address book
+     */
+    public TagIndex getTagIndex() {
+        return tagIndex;
+    }
+
+    /**
+     * @return index of the words in the persons' names, cities and tags, only to be used from the thread changing
+     *         this address book
+     */
+    public FuzzyIndex getFuzzyIndex() {
+        return fuzzyIndex;
+    }
+
+    /**
+     * @return index of the words in all the persons' fields and tags, only to be used from the thread changing this
+     *         address book
+     */
+    public TextIndex getTextIndex() {
+        return textIndex;
+    }
+
     public void setPersons(List<Person> persons) {
         this.persons.setAll(persons);
     }
@@ -65,11 +116,13 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void clearData() {
         persons.clear();
         tags.clear();
+        dictionary.clear();
     }
 
     public void resetData(Collection<? extends ReadOnlyPerson> newPersons, Collection<Tag> newTags) {
-        setPersons(newPersons.stream().map(Person::new).collect(Collectors.toList()));
-        setTags(newTags);
+        dictionary.clear();
+        setTags(newTags); // first, so that these tags are the ones shared by the persons
+        setPersons(newPersons.stream().map(p -> new Person(canonicalize(p))).collect(Collectors.toList()));
     }
 
     public void resetData(ReadOnlyAddressBook newData) {
@@ -94,10 +147,27 @@ public class AddressBook implements ReadOnlyAddressBook {
         return ReadOnlyPerson.findById(persons, id);
     }
 
+    /**
+     * The person's tags are replaced by the equal tags shared in this address book
+     */
     public void addPerson(Person p){
+        p.setTags(Arrays.asList(dictionary.canonicalTags(p.getTagList())));
         persons.add(p);
     }
 
+    /**
+     * Returns a copy of the person's data with its tags, city and postal code replaced by the equal instances shared
+     * by the persons in this address book. Use it as the source when adding or updating persons in bulk.
+     * Must be called from the thread changing this address book.
+     */
+    public PersonRecord canonicalize(ReadOnlyPerson person) {
+        return new PersonRecord(person.getId(), person.getFirstName(), person.getLastName(),
+                                person.getGithubUsername(), person.getStreet(),
+                                dictionary.intern(person.getPostalCode()), dictionary.intern(person.getCity()),
+                                person.getBirthday(), person.getRank(),
+                                dictionary.canonicalTags(person.getTagList()));
+    }
+
     public boolean removePerson(ReadOnlyPerson key) {
         return ReadOnlyPerson.removeOneById(persons, key);
     }
@@ -116,6 +186,102 @@ public class AddressBook implements ReadOnlyAddressBook {
         return tags.remove(t);
     }
 
+//// snapshots
+
+    /**
+     * Returns an immutable copy of the current data, which can be handed to and read from any thread.
+     * Must be called from the thread changing this address book (the FX application thread for the app's model).
+     *
+     * Returns the previous snapshot if nothing changed since, and otherwise only copies the persons that changed.
+     */
+    public AddressBookSnapshot snapshot() {
+        AddressBookSnapshot current = snapshot;
+        if (current != null) return current;
+
+        if (frozenTags == null) {
+            freezeTags();
+        }
+        ReadOnlyPerson[] personsCopy = new ReadOnlyPerson[persons.size()];
+        for (int i = 0; i < personsCopy.length; i++) {
+            personsCopy[i] = frozenPersons.computeIfAbsent(persons.get(i), this::freeze);
+        }
+        current = new AddressBookSnapshot(personsCopy, frozenTags);
+        snapshot = current;
+        return current;
+    }
+
+    /**
+     * Copies the tags, reusing the copies of the tags that kept their names. The copies of persons having a renamed
+     * tag are dropped, to be copied again with the new name.
+     */
+    private void freezeTags() {
+        Set<Tag> staleCopies = Collections.newSetFromMap(new IdentityHashMap<>());
+        frozenTagsByTag.entrySet().removeIf(copy -> {
+            boolean isRenamed = !copy.getKey().getName().equals(copy.getValue().getName());
+            if (isRenamed) staleCopies.add(copy.getValue());
+            return isRenamed;
+        });
+        if (!staleCopies.isEmpty()) {
+            frozenPersons.values().removeIf(record -> record.getTagList().stream().anyMatch(staleCopies::contains));
+        }
+        frozenTags = tags.stream().map(this::freeze).collect(Collectors.toList());
+    }
+
+    private Tag freeze(Tag tag) {
+        return frozenTagsByTag.computeIfAbsent(tag, Tag::new);
+    }
+
+    private PersonRecord freeze(Person person) {
+        return new PersonRecord(person.getId(), person.getFirstName(), person.getLastName(),
+                                person.getGithubUsername(), person.getStreet(), person.getPostalCode(),
+                                person.getCity(), person.getBirthday(), person.getRank(),
+                                person.getTagList().stream().map(this::freeze).toArray(Tag[]::new));
+    }
+
+    private void handlePersonsChanged(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            change.getRemoved().forEach(this::stopTracking);
+            change.getAddedSubList().forEach(this::startTracking);
+        }
+        snapshot = null;
+    }
+
+    private void startTracking(Person person) {
+        InvalidationListener listener = observable -> {
+            frozenPersons.remove(person);
+            snapshot = null;
+        };
+        personListeners.put(person, listener);
+        for (Observable observable : person.extractObservables()) {
+            observable.addListener(listener);
+        }
+    }
+
+    private void stopTracking(Person person) {
+        frozenPersons.remove(person);
+        InvalidationListener listener = personListeners.remove(person);
+        if (listener == null) return;
+        for (Observable observable : person.extractObservables()) {
+            observable.removeListener(listener);
+        }
+    }
+
+    private void handleTagsChanged(ListChangeListener.Change<? extends Tag> change) {
+        while (change.next()) {
+            change.getRemoved().forEach(tag -> tag.nameProperty().removeListener(tagListener));
+            change.getAddedSubList().forEach(tag -> {
+                tag.nameProperty().addListener(tagListener);
+                dictionary.canonicalTag(tag);
+            });
+        }
+        invalidateTags();
+    }
+
+    private void invalidateTags() {
+        frozenTags = null;
+        snapshot = null;
+    }
+
 //// util methods
 
     // Deprecated (to be removed when no-dupe property is properly enforced
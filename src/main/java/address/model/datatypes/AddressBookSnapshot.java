@@ -0,0 +1,41 @@
+package address.model.datatypes;
+
+import address.model.datatypes.person.ReadOnlyPerson;
+import address.model.datatypes.tag.Tag;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable copy of an {@link AddressBook} at one point in time, safe to read from any thread
+ *
+ * Persons that did not change between two snapshots are shared by both.
+ *
+ * @see AddressBook#snapshot()
+ */
+public class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final List<ReadOnlyPerson> persons;
+    private final List<Tag> tags;
+
+    AddressBookSnapshot(ReadOnlyPerson[] persons, List<Tag> tags) {
+        this.persons = Collections.unmodifiableList(Arrays.asList(persons));
+        this.tags = Collections.unmodifiableList(tags);
+    }
+
+    @Override
+    public List<ReadOnlyPerson> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public List<Tag> getTagList() {
+        return tags;
+    }
+
+    @Override
+    public String toString() {
+        return persons.size() + " persons, " + tags.size() +  " tags";
+    }
+}
@@ -0,0 +1,73 @@
+package address.model.datatypes;
+
+import address.model.datatypes.tag.Tag;
+import javafx.beans.value.ChangeListener;
+
+import java.lang.ref.WeakReference;
+import java.util.Collection;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Dictionary of the person field values that repeat across an address book, e.g. cities, postal codes and tags,
+ * so that the persons share one instance of each value instead of holding their own copies.
+ *
+ * Values and tags are only weakly referenced, so those that no person uses any more are dropped instead of piling up
+ * as persons are edited and synced. Tags are kept by name, and follow their renames: renaming a shared tag renames it
+ * for every person having it, without changing their tag lists, so observers of the tags of persons must also observe
+ * the names of the tags. Only used by the thread changing the address book.
+ */
+class FieldDictionary {
+
+    // keys are the values themselves, or the names of the tags, which the tags reference while they have that name
+    private final Map<String, WeakReference<String>> values = new WeakHashMap<>();
+    private final Map<String, WeakReference<Tag>> tags = new WeakHashMap<>();
+    private final ChangeListener<String> tagRenameListener = (observable, oldName, newName) -> {
+        Tag renamed = get(tags, oldName);
+        if (renamed == null || renamed.nameProperty() != observable) return; // no longer the shared tag of its name
+        tags.remove(oldName);
+        if (get(tags, newName) == null) {
+            tags.put(newName, new WeakReference<>(renamed));
+        }
+    };
+
+    private static <T> T get(Map<String, WeakReference<T>> map, String key) {
+        WeakReference<T> reference = map.get(key);
+        return reference == null ? null : reference.get();
+    }
+
+    /**
+     * @return the shared instance of a value equal to the argument, which becomes the shared instance if there is none
+     */
+    String intern(String value) {
+        if (value == null) return null;
+        String shared = get(values, value);
+        if (shared != null) return shared;
+        values.put(value, new WeakReference<>(value));
+        return value;
+    }
+
+    /**
+     * @return the shared tag with the same name as the argument, which becomes the shared tag if there is none
+     */
+    Tag canonicalTag(Tag tag) {
+        Tag shared = get(tags, tag.getName());
+        if (shared != null) return shared;
+        tags.put(tag.getName(), new WeakReference<>(tag));
+        tag.nameProperty().addListener(tagRenameListener);
+        return tag;
+    }
+
+    Tag[] canonicalTags(Collection<Tag> tags) {
+        return tags.stream().map(this::canonicalTag).toArray(Tag[]::new);
+    }
+
+    void clear() {
+        values.clear();
+        tags.values().forEach(reference -> {
+            Tag tag = reference.get();
+            if (tag != null) tag.nameProperty().removeListener(tagRenameListener);
+        });
+        tags.clear();
+    }
+}
@@ -0,0 +1,208 @@
+package address.model.datatypes;
+
+import address.model.datatypes.person.ReadOnlyPerson;
+import address.model.datatypes.person.SearchField;
+import address.model.datatypes.tag.Tag;
+import commons.BkTree;
+import commons.StringUtil;
+import javafx.beans.InvalidationListener;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+import java.util.*;
+
+/**
+ * Index of the words in the names, cities and tags of persons, for typo tolerant search: finds the persons having a
+ * word within a small edit distance of a query word, see {@link #search(String)}.
+ *
+ * The distinct words of the names and cities are kept in a {@link BkTree}, with a bit set of the ordinals of the
+ * persons having each word, and updated incrementally as the persons change. The ordinals are those of the
+ * {@link TagIndex}, which also provides the persons having each tag; there are few tag names, so their words are
+ * compared with the query one by one. Words no person has any more stay in the tree until they outnumber the others,
+ * then the tree is rebuilt.
+ * Only used by the thread changing the persons (the FX application thread for the app's model).
+ */
+public class FuzzyIndex {
+    private static final SearchField[] INDEXED_FIELDS = {SearchField.FIRST_NAME, SearchField.LAST_NAME,
+                                                         SearchField.CITY};
+
+    /**
+     * An indexed person, with the words it was last indexed with
+     */
+    private class Entry {
+        final int ordinal;
+        final InvalidationListener fieldsListener;
+        Set<String> indexedWords = Collections.emptySet();
+
+        Entry(int ordinal, ReadOnlyPerson person) {
+            this.ordinal = ordinal;
+            this.fieldsListener = observable -> reindex(this, person);
+        }
+    }
+
+    private final TagIndex tagIndex;
+    private final Map<ReadOnlyPerson, Entry> entries = new IdentityHashMap<>();
+    private final Map<String, BitSet> personsByWord = new HashMap<>();
+    private BkTree words = new BkTree();
+    private int removedWordCount; // still in the tree
+    private int version;
+
+    /**
+     * Must be created after the tag index of the same persons, so that persons are in the tag index by the time they
+     * are added to this one.
+     * @param persons persons with observable fields, see {@link ReadOnlyPerson#firstNameProperty()}
+     */
+    public FuzzyIndex(ObservableList<? extends ReadOnlyPerson> persons, TagIndex tagIndex) {
+        this.tagIndex = tagIndex;
+        persons.forEach(this::add);
+        persons.addListener(this::handlePersonsChanged);
+    }
+
+    /**
+     * Changes with every change to the index or to the tag index, so that query results can be kept until it changes
+     */
+    public int getVersion() {
+        return version + tagIndex.getVersion();
+    }
+
+    /**
+     * @return the ordinal of the person in the bit sets returned by {@link #search(String)}, or -1 if the person is
+     *         not indexed
+     * @see TagIndex#getOrdinal(ReadOnlyPerson)
+     */
+    public int getOrdinal(ReadOnlyPerson person) {
+        return tagIndex.getOrdinal(person);
+    }
+
+    /**
+     * The largest edit distance at which a word still matches the query word: none for words of up to 2 letters, as
+     * most short words are within 1 edit of each other, then 1 up to 4 letters and 2 after that.
+     */
+    public static int getMaxDistance(String queryWord) {
+        return queryWord.length() <= 2 ? 0 : queryWord.length() <= 4 ? 1 : 2;
+    }
+
+    /**
+     * @param query compared with the words as a single word, ignoring case and accents
+     * @return the ordinals of the matching persons by their distance to the query: element {@code d} holds the persons
+     *         whose closest word is at distance {@code d}, up to {@link #getMaxDistance(String)}
+     */
+    public BitSet[] search(String query) {
+        String queryWord = StringUtil.fold(query);
+        int maxDistance = getMaxDistance(queryWord);
+        BitSet[] personsByDistance = new BitSet[maxDistance + 1];
+        for (int distance = 0; distance <= maxDistance; distance++) {
+            personsByDistance[distance] = new BitSet();
+        }
+        words.search(queryWord, maxDistance, (word, distance) -> {
+            BitSet persons = personsByWord.get(word);
+            if (persons != null) personsByDistance[distance].or(persons);
+        });
+
+        Map<String, Integer> distancesByTagName = new HashMap<>();
+        for (int distance = 0; distance <= maxDistance; distance++) {
+            int tagDistance = distance;
+            personsByDistance[distance].or(tagIndex.getPersonsWithTag(name -> tagDistance == distancesByTagName
+                    .computeIfAbsent(name, key -> getDistance(queryWord, StringUtil.fold(key), maxDistance))));
+        }
+
+        BitSet closer = new BitSet();
+        for (BitSet persons : personsByDistance) {
+            persons.andNot(closer);
+            closer.or(persons);
+        }
+        return personsByDistance;
+    }
+
+    /**
+     * Compares the query word with every word of the person, as for persons that are not indexed
+     * @param queryWord a query folded by {@link StringUtil#fold(String)}
+     * @return the distance of the person's closest word to the query word, or {@code maxDistance + 1} if it is larger
+     */
+    public static int getDistance(String queryWord, int maxDistance, ReadOnlyPerson person) {
+        int distance = maxDistance + 1;
+        for (SearchField field : INDEXED_FIELDS) {
+            distance = Math.min(distance, getDistance(queryWord, person.getSearchKey(field), maxDistance));
+        }
+        for (Tag tag : person.getTagList()) {
+            distance = Math.min(distance, getDistance(queryWord, tag.getSearchKey(), maxDistance));
+        }
+        return distance;
+    }
+
+    private static int getDistance(String queryWord, String text, int maxDistance) {
+        int[] distance = {maxDistance + 1};
+        StringUtil.forEachWord(text, word -> distance[0] = Math.min(distance[0],
+                                                         StringUtil.editDistance(queryWord, word, maxDistance)));
+        return distance[0];
+    }
+
+    private void handlePersonsChanged(ListChangeListener.Change<? extends ReadOnlyPerson> change) {
+        while (change.next()) {
+            change.getRemoved().forEach(this::remove);
+            change.getAddedSubList().forEach(this::add);
+        }
+    }
+
+    private void add(ReadOnlyPerson person) {
+        if (entries.containsKey(person)) return;
+        Entry entry = new Entry(tagIndex.getOrdinal(person), person);
+        entries.put(person, entry);
+        // indexed before listening, so that the person's own search key listener is notified of changes first
+        reindex(entry, person);
+        person.firstNameProperty().addListener(entry.fieldsListener);
+        person.lastNameProperty().addListener(entry.fieldsListener);
+        person.cityProperty().addListener(entry.fieldsListener);
+    }
+
+    private void remove(ReadOnlyPerson person) {
+        Entry entry = entries.remove(person);
+        if (entry == null) return;
+        person.firstNameProperty().removeListener(entry.fieldsListener);
+        person.lastNameProperty().removeListener(entry.fieldsListener);
+        person.cityProperty().removeListener(entry.fieldsListener);
+        clearWords(entry);
+        version++;
+    }
+
+    private void reindex(Entry entry, ReadOnlyPerson person) {
+        Set<String> newWords = new HashSet<>();
+        for (SearchField field : INDEXED_FIELDS) {
+            // reading the fields lets them report their next change
+            StringUtil.forEachWord(person.getSearchKey(field), newWords::add);
+        }
+        if (newWords.equals(entry.indexedWords)) return;
+        clearWords(entry);
+        entry.indexedWords = newWords;
+        newWords.forEach(word -> personsByWord.computeIfAbsent(word, this::startIndexing).set(entry.ordinal));
+        version++;
+    }
+
+    private void clearWords(Entry entry) {
+        entry.indexedWords.forEach(word -> {
+            BitSet persons = personsByWord.get(word);
+            persons.clear(entry.ordinal);
+            if (persons.isEmpty()) {
+                personsByWord.remove(word);
+                removedWordCount++;
+            }
+        });
+        entry.indexedWords = Collections.emptySet();
+        if (removedWordCount > personsByWord.size()) {
+            rebuildTree();
+        }
+    }
+
+    private BitSet startIndexing(String word) {
+        if (!words.add(word)) {
+            removedWordCount--; // back in use
+        }
+        return new BitSet();
+    }
+
+    private void rebuildTree() {
+        words = new BkTree();
+        personsByWord.keySet().forEach(words::add);
+        removedWordCount = 0;
+    }
+}
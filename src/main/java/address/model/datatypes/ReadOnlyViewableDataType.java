@@ -11,4 +11,16 @@ public interface ReadOnlyViewableDataType {
     int getSecondsLeftInPendingState();
 
     boolean isSyncingWithBackingObject();
+
+    /**
+     * Keeps the visible data object, whose properties are bound by a view, until it is released again.
+     * Only call it on the FX application thread.
+     */
+    void retainVisible();
+
+    /**
+     * Undoes one {@link #retainVisible()}, once the view no longer binds to the visible data object's properties.
+     * Only call it on the FX application thread.
+     */
+    void releaseVisible();
 }
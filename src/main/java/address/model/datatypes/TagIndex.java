@@ -0,0 +1,167 @@
+package address.model.datatypes;
+
+import address.model.datatypes.person.ReadOnlyPerson;
+import address.model.datatypes.person.ViewablePerson;
+import address.model.datatypes.tag.Tag;
+import javafx.beans.InvalidationListener;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * Index of the persons having each tag, kept as a bit set of person ordinals per tag and updated incrementally as the
+ * persons and their tags change. Tag filters and common tags then become bit set operations instead of scans over
+ * the tags of every person.
+ *
+ * Tags are indexed by instance and matched by their current name when queried, so renamed tags need no reindexing.
+ * Renames still change the version, as they change the results of queries by name.
+ * Only used by the thread changing the persons (the FX application thread for the app's model).
+ */
+public class TagIndex {
+
+    /**
+     * An indexed person, with the tags it was last indexed with
+     */
+    private class Entry {
+        final int ordinal;
+        final ListChangeListener<Tag> tagsListener;
+        List<Tag> indexedTags = Collections.emptyList();
+
+        Entry(int ordinal, ReadOnlyPerson person) {
+            this.ordinal = ordinal;
+            this.tagsListener = change -> reindex(this, person);
+        }
+    }
+
+    private final Map<ReadOnlyPerson, Entry> entries = new IdentityHashMap<>();
+    private final Map<Tag, BitSet> personsByTag = new IdentityHashMap<>();
+    private final BitSet freeOrdinals = new BitSet();
+    private int ordinalCount;
+    private int version;
+    private final InvalidationListener tagRenameListener = observable -> version++;
+
+    /**
+     * @param persons persons with observable tag lists, see {@link ReadOnlyPerson#getObservableTagList()}
+     */
+    public TagIndex(ObservableList<? extends ReadOnlyPerson> persons) {
+        persons.forEach(this::add);
+        persons.addListener(this::handlePersonsChanged);
+    }
+
+    /**
+     * Changes with every change to the index, so that query results can be kept until it changes
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * A viewable person is looked up by its backing person, as long as it shows the backing person's data.
+     * @return the ordinal of the person in the bit sets of this index, or -1 if the person is not indexed
+     */
+    public int getOrdinal(ReadOnlyPerson person) {
+        Entry entry = entries.get(person instanceof ViewablePerson
+                                         ? ((ViewablePerson) person).getBackingIfInSync().orElse(null)
+                                         : person);
+        return entry == null ? -1 : entry.ordinal;
+    }
+
+    /**
+     * @return the ordinals of the persons having at least one tag whose name matches
+     */
+    public BitSet getPersonsWithTag(Predicate<String> tagNameMatcher) {
+        BitSet result = new BitSet();
+        personsByTag.forEach((tag, persons) -> {
+            if (tagNameMatcher.test(tag.getName())) result.or(persons);
+        });
+        return result;
+    }
+
+    /**
+     * @return the tags shared by all the given persons, one tag per name; none if there are no persons
+     */
+    public List<Tag> getCommonTags(Collection<? extends ReadOnlyPerson> persons) {
+        if (persons.isEmpty()) return new ArrayList<>();
+        BitSet selected = new BitSet();
+        List<ReadOnlyPerson> notIndexed = new ArrayList<>();
+        persons.forEach(person -> {
+            int ordinal = getOrdinal(person);
+            if (ordinal < 0) {
+                notIndexed.add(person);
+            } else {
+                selected.set(ordinal);
+            }
+        });
+
+        Map<String, BitSet> personsByTagName = new HashMap<>();
+        Map<String, Tag> tagsByName = new HashMap<>();
+        personsByTag.forEach((tag, tagPersons) -> {
+            personsByTagName.computeIfAbsent(tag.getName(), name -> new BitSet()).or(tagPersons);
+            tagsByName.putIfAbsent(tag.getName(), tag);
+        });
+
+        List<Tag> commonTags = new ArrayList<>();
+        personsByTagName.forEach((name, tagPersons) -> {
+            BitSet missing = (BitSet) selected.clone();
+            missing.andNot(tagPersons);
+            Tag tag = tagsByName.get(name);
+            if (missing.isEmpty() && notIndexed.stream().allMatch(person -> person.getTagList().contains(tag))) {
+                commonTags.add(tag);
+            }
+        });
+        return commonTags;
+    }
+
+    private void handlePersonsChanged(ListChangeListener.Change<? extends ReadOnlyPerson> change) {
+        while (change.next()) {
+            change.getRemoved().forEach(this::remove);
+            change.getAddedSubList().forEach(this::add);
+        }
+    }
+
+    private void add(ReadOnlyPerson person) {
+        if (entries.containsKey(person)) return;
+        int ordinal = freeOrdinals.isEmpty() ? ordinalCount++ : freeOrdinals.nextSetBit(0);
+        freeOrdinals.clear(ordinal);
+        Entry entry = new Entry(ordinal, person);
+        entries.put(person, entry);
+        person.getObservableTagList().addListener(entry.tagsListener);
+        reindex(entry, person);
+    }
+
+    private void remove(ReadOnlyPerson person) {
+        Entry entry = entries.remove(person);
+        if (entry == null) return;
+        person.getObservableTagList().removeListener(entry.tagsListener);
+        clearTags(entry);
+        freeOrdinals.set(entry.ordinal);
+        version++;
+    }
+
+    private void reindex(Entry entry, ReadOnlyPerson person) {
+        clearTags(entry);
+        entry.indexedTags = new ArrayList<>(person.getTagList());
+        entry.indexedTags.forEach(tag -> personsByTag.computeIfAbsent(tag, this::startIndexing).set(entry.ordinal));
+        version++;
+    }
+
+    private void clearTags(Entry entry) {
+        entry.indexedTags.forEach(tag -> {
+            BitSet persons = personsByTag.get(tag);
+            if (persons == null) return;
+            persons.clear(entry.ordinal);
+            if (persons.isEmpty()) {
+                personsByTag.remove(tag);
+                tag.nameProperty().removeListener(tagRenameListener);
+            }
+        });
+        entry.indexedTags = Collections.emptyList();
+    }
+
+    private BitSet startIndexing(Tag tag) {
+        tag.nameProperty().addListener(tagRenameListener);
+        return new BitSet();
+    }
+}
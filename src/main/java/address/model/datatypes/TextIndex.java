@@ -0,0 +1,371 @@
+package address.model.datatypes;
+
+import address.model.datatypes.person.ReadOnlyPerson;
+import address.model.datatypes.tag.Tag;
+import commons.StringUtil;
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Inverted index of the words in all the text fields and tags of persons, for free text search ranked by relevance,
+ * see {@link #search(Collection, int)}.
+ *
+ * Each distinct term has a postings list of the ordinals of the persons having it, with the number of times they have
+ * it. The persons are reindexed as their fields, their tags and the names of their tags change. Each person keeps the
+ * position of its postings in every list of its terms, so that removing it from a list is a constant time swap with
+ * the last posting. The ordinals are those of the {@link TagIndex}.
+ * Only used by the thread changing the persons (the FX application thread for the app's model).
+ */
+public class TextIndex {
+    // BM25 parameters: how fast repeated terms stop counting, and how much longer persons are penalized
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private static final List<Function<ReadOnlyPerson, String>> INDEXED_FIELDS = Arrays.asList(
+            ReadOnlyPerson::getFirstName, ReadOnlyPerson::getLastName, ReadOnlyPerson::getGithubUsername,
+            ReadOnlyPerson::getStreet, ReadOnlyPerson::getPostalCode, ReadOnlyPerson::getCity,
+            ReadOnlyPerson::birthdayString);
+
+    /**
+     * The persons having a term, in no particular order
+     */
+    private static class Postings {
+        final String term;
+        int[] ordinals = new int[2];
+        int[] frequencies = new int[2];
+        int size;
+
+        Postings(String term) {
+            this.term = term;
+        }
+    }
+
+    /**
+     * An indexed person, with the postings of its terms and its position in each of them
+     */
+    private class Entry {
+        final ReadOnlyPerson person;
+        final int ordinal;
+        final InvalidationListener fieldsListener = observable -> reindex(this);
+        Postings[] postings = new Postings[0];
+        int[] positions = new int[0];
+        List<Tag> indexedTags = Collections.emptyList();
+        int length; // in terms
+
+        Entry(ReadOnlyPerson person, int ordinal) {
+            this.person = person;
+            this.ordinal = ordinal;
+        }
+    }
+
+    /**
+     * The best matches of a search, in decreasing order of score, and the set of all matches
+     */
+    public static final class Results {
+        private final int[] ordinals;
+        private final double[] scores;
+        private final BitSet matches;
+
+        private Results(int[] ordinals, double[] scores, BitSet matches) {
+            this.ordinals = ordinals;
+            this.scores = scores;
+            this.matches = matches;
+        }
+
+        /**
+         * @return whether the person of the ordinal has all the terms, even if it is not among the best matches
+         */
+        public boolean isMatch(int ordinal) {
+            return matches.get(ordinal);
+        }
+
+        /**
+         * @return the number of persons having all the terms
+         */
+        public int getMatchCount() {
+            return matches.cardinality();
+        }
+
+        public int size() {
+            return ordinals.length;
+        }
+
+        public int getOrdinal(int rank) {
+            return ordinals[rank];
+        }
+
+        public double getScore(int rank) {
+            return scores[rank];
+        }
+    }
+
+    private static final Results NO_RESULTS = new Results(new int[0], new double[0], new BitSet());
+
+    private final TagIndex tagIndex;
+    private final Map<ReadOnlyPerson, Entry> entries = new IdentityHashMap<>();
+    private Entry[] entriesByOrdinal = new Entry[16];
+    private final Map<String, Postings> postingsByTerm = new HashMap<>();
+    private final Map<Tag, InvalidationListener> tagRenameListeners = new IdentityHashMap<>();
+    private final Map<Tag, Integer> tagUseCounts = new IdentityHashMap<>();
+    private long totalLength;
+    private int version;
+
+    // search buffers by ordinal, left zeroed between searches
+    private double[] scores = new double[0];
+    private int[] matchedTermCounts = new int[0];
+
+    /**
+     * Must be created after the tag index of the same persons, so that persons are in the tag index by the time they
+     * are added to this one.
+     * @param persons persons with observable fields, see {@link ReadOnlyPerson#extractObservables()}
+     */
+    public TextIndex(ObservableList<? extends ReadOnlyPerson> persons, TagIndex tagIndex) {
+        this.tagIndex = tagIndex;
+        persons.forEach(this::add);
+        persons.addListener(this::handlePersonsChanged);
+    }
+
+    /**
+     * Changes with every change to the index, so that search results can be kept until it changes
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * @return the ordinal of the person in the search results, or -1 if the person is not indexed
+     * @see TagIndex#getOrdinal(ReadOnlyPerson)
+     */
+    public int getOrdinal(ReadOnlyPerson person) {
+        return tagIndex.getOrdinal(person);
+    }
+
+    /**
+     * @return the distinct words of the text, ignoring case and accents, as searched for
+     */
+    public static Set<String> toTerms(String text) {
+        Set<String> terms = new LinkedHashSet<>();
+        StringUtil.forEachWord(StringUtil.fold(text), terms::add);
+        return terms;
+    }
+
+    /**
+     * Checks a person against the terms without the index, as for persons that are not indexed
+     * @return whether the person has all the terms
+     */
+    public static boolean hasAllTerms(ReadOnlyPerson person, Collection<String> terms) {
+        Set<String> personTerms = new HashSet<>();
+        forEachTerm(person, personTerms::add);
+        return personTerms.containsAll(terms);
+    }
+
+    /**
+     * Finds the persons having all the terms, scored by BM25: rare terms count more than common ones, repeated terms
+     * count less and less, and terms count less in persons with more text. Only the postings of the rarest term are
+     * candidates, and the best of them are kept in a heap bounded by the limit.
+     *
+     * @param terms as returned by {@link #toTerms(String)}
+     * @param limit the most results to return in order; all matches are returned unordered in any case, see
+     *              {@link Results#isMatch(int)}
+     */
+    public Results search(Collection<String> terms, int limit) {
+        List<Postings> termPostings = new ArrayList<>();
+        for (String term : terms) {
+            Postings postings = postingsByTerm.get(term);
+            if (postings == null) return NO_RESULTS;
+            termPostings.add(postings);
+        }
+        if (termPostings.isEmpty()) return NO_RESULTS;
+        termPostings.sort(Comparator.comparingInt(postings -> postings.size));
+        if (scores.length < entriesByOrdinal.length) {
+            scores = new double[entriesByOrdinal.length];
+            matchedTermCounts = new int[entriesByOrdinal.length];
+        }
+
+        double averageLength = (double) totalLength / entries.size();
+        for (int i = 0; i < termPostings.size(); i++) {
+            Postings postings = termPostings.get(i);
+            double idf = Math.log(1 + (entries.size() - postings.size + 0.5) / (postings.size + 0.5));
+            for (int j = 0; j < postings.size; j++) {
+                int ordinal = postings.ordinals[j];
+                if (matchedTermCounts[ordinal] != i) continue; // misses an earlier term
+                int frequency = postings.frequencies[j];
+                double lengthNorm = 1 - B + B * entriesByOrdinal[ordinal].length / averageLength;
+                scores[ordinal] += idf * frequency * (K1 + 1) / (frequency + K1 * lengthNorm);
+                matchedTermCounts[ordinal]++;
+            }
+        }
+
+        // worst at the head, ties broken by ordinal for stable results
+        Comparator<Integer> byScore = (ordinal, other) -> {
+            int comparison = Double.compare(scores[ordinal], scores[other]);
+            return comparison != 0 ? comparison : Integer.compare(other, ordinal);
+        };
+        Postings candidates = termPostings.get(0);
+        PriorityQueue<Integer> best = new PriorityQueue<>(Math.min(limit, candidates.size) + 1, byScore);
+        BitSet matches = new BitSet();
+        for (int j = 0; j < candidates.size; j++) {
+            int ordinal = candidates.ordinals[j];
+            if (matchedTermCounts[ordinal] < termPostings.size()) continue;
+            matches.set(ordinal);
+            best.add(ordinal);
+            if (best.size() > limit) best.poll();
+        }
+        int[] ordinals = new int[best.size()];
+        double[] resultScores = new double[best.size()];
+        for (int rank = ordinals.length - 1; rank >= 0; rank--) {
+            ordinals[rank] = best.poll();
+            resultScores[rank] = scores[ordinals[rank]];
+        }
+
+        for (int j = 0; j < candidates.size; j++) {
+            scores[candidates.ordinals[j]] = 0;
+            matchedTermCounts[candidates.ordinals[j]] = 0;
+        }
+        return new Results(ordinals, resultScores, matches);
+    }
+
+    private static void forEachTerm(ReadOnlyPerson person, Consumer<String> termConsumer) {
+        INDEXED_FIELDS.forEach(field -> StringUtil.forEachWord(StringUtil.fold(field.apply(person)), termConsumer));
+        person.getTagList().forEach(tag -> StringUtil.forEachWord(StringUtil.fold(tag.getName()), termConsumer));
+    }
+
+    private void handlePersonsChanged(ListChangeListener.Change<? extends ReadOnlyPerson> change) {
+        while (change.next()) {
+            change.getRemoved().forEach(this::remove);
+            change.getAddedSubList().forEach(this::add);
+        }
+    }
+
+    private void add(ReadOnlyPerson person) {
+        if (entries.containsKey(person)) return;
+        Entry entry = new Entry(person, tagIndex.getOrdinal(person));
+        entries.put(person, entry);
+        if (entry.ordinal >= entriesByOrdinal.length) {
+            entriesByOrdinal = Arrays.copyOf(entriesByOrdinal, Math.max(entry.ordinal + 1,
+                                                                        entriesByOrdinal.length * 3 / 2));
+        }
+        entriesByOrdinal[entry.ordinal] = entry;
+        reindex(entry);
+        for (Observable observable : person.extractObservables()) {
+            observable.addListener(entry.fieldsListener);
+        }
+    }
+
+    private void remove(ReadOnlyPerson person) {
+        Entry entry = entries.remove(person);
+        if (entry == null) return;
+        for (Observable observable : person.extractObservables()) {
+            observable.removeListener(entry.fieldsListener);
+        }
+        clearTerms(entry);
+        releaseTags(entry.indexedTags);
+        entriesByOrdinal[entry.ordinal] = null;
+        version++;
+    }
+
+    private void reindex(Entry entry) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        forEachTerm(entry.person, term -> frequencies.merge(term, 1, Integer::sum));
+        List<Tag> newTags = new ArrayList<>(entry.person.getTagList());
+        newTags.forEach(this::retainTag);
+        releaseTags(entry.indexedTags);
+        entry.indexedTags = newTags;
+        if (hasFrequencies(entry, frequencies)) return;
+
+        clearTerms(entry);
+        entry.postings = new Postings[frequencies.size()];
+        entry.positions = new int[frequencies.size()];
+        int i = 0;
+        for (Map.Entry<String, Integer> termFrequency : frequencies.entrySet()) {
+            Postings postings = postingsByTerm.computeIfAbsent(termFrequency.getKey(), Postings::new);
+            entry.postings[i] = postings;
+            entry.positions[i] = addPosting(postings, entry.ordinal, termFrequency.getValue());
+            entry.length += termFrequency.getValue();
+            i++;
+        }
+        totalLength += entry.length;
+        version++;
+    }
+
+    private boolean hasFrequencies(Entry entry, Map<String, Integer> frequencies) {
+        if (entry.postings.length != frequencies.size()) return false;
+        for (int i = 0; i < entry.postings.length; i++) {
+            Integer frequency = frequencies.get(entry.postings[i].term);
+            if (frequency == null || frequency != entry.postings[i].frequencies[entry.positions[i]]) return false;
+        }
+        return true;
+    }
+
+    private void clearTerms(Entry entry) {
+        for (int i = 0; i < entry.postings.length; i++) {
+            removePosting(entry.postings[i], entry.positions[i]);
+        }
+        totalLength -= entry.length;
+        entry.postings = new Postings[0];
+        entry.positions = new int[0];
+        entry.length = 0;
+    }
+
+    /**
+     * @return the position of the new posting
+     */
+    private int addPosting(Postings postings, int ordinal, int frequency) {
+        if (postings.size == postings.ordinals.length) {
+            postings.ordinals = Arrays.copyOf(postings.ordinals, postings.size * 2);
+            postings.frequencies = Arrays.copyOf(postings.frequencies, postings.size * 2);
+        }
+        postings.ordinals[postings.size] = ordinal;
+        postings.frequencies[postings.size] = frequency;
+        return postings.size++;
+    }
+
+    /**
+     * Moves the last posting into the position of the removed one
+     */
+    private void removePosting(Postings postings, int position) {
+        int last = --postings.size;
+        if (position != last) {
+            Entry moved = entriesByOrdinal[postings.ordinals[last]];
+            postings.ordinals[position] = postings.ordinals[last];
+            postings.frequencies[position] = postings.frequencies[last];
+            for (int i = 0; i < moved.postings.length; i++) {
+                if (moved.postings[i] == postings) moved.positions[i] = position;
+            }
+        }
+        if (postings.size == 0) {
+            postingsByTerm.remove(postings.term);
+        }
+    }
+
+    private void retainTag(Tag tag) {
+        tagUseCounts.merge(tag, 1, Integer::sum);
+        tagRenameListeners.computeIfAbsent(tag, key -> {
+            InvalidationListener listener = observable -> reindexPersonsWithTag(tag);
+            tag.nameProperty().addListener(listener);
+            return listener;
+        });
+    }
+
+    private void releaseTags(List<Tag> tags) {
+        tags.forEach(tag -> {
+            if (tagUseCounts.merge(tag, -1, Integer::sum) > 0) return;
+            tagUseCounts.remove(tag);
+            tag.nameProperty().removeListener(tagRenameListeners.remove(tag));
+        });
+    }
+
+    private void reindexPersonsWithTag(Tag tag) {
+        BitSet persons = tagIndex.getPersonsWithTag(tag.getName()::equals);
+        persons.stream().forEach(ordinal -> {
+            Entry entry = ordinal < entriesByOrdinal.length ? entriesByOrdinal[ordinal] : null;
+            if (entry != null) reindex(entry);
+        });
+    }
+}
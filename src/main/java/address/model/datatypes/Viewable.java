@@ -1,9 +1,12 @@
 package address.model.datatypes;
 
 import javafx.beans.property.*;
+import javafx.beans.value.ChangeListener;
 import javafx.beans.value.ObservableValue;
 import javafx.beans.value.WritableValue;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Function;
 
 /**
@@ -13,19 +16,24 @@ import java.util.function.Function;
  *      - maintains visible state separately from canonical state (see {@link #visible}, {@link #backing})
  *      - commons application session-lifecycle state across all domain data objects
  *
+ * The visible object of a Viewable created from a backing object is only created when it is first needed, see
+ * {@link #getVisible()}; until then the backing object's data is the visible data. Views that bind to it retain it
+ * while they show it, and it is dropped again once no view retains it and it mirrors the backing object, see
+ * {@link #releaseVisible()}.
+ *
  * Note: these status data fields should not be directly edited by users.
  */
 public abstract class Viewable<D extends UniqueData> extends UniqueData implements ReadOnlyViewableDataType {
 
-    protected final D visible;
+    protected D visible; // null until first needed, see #getVisible()
     protected D backing;
     protected boolean isSyncingWithBackingObject;
+    private final Function<D, D> visibleObjectGenerator;
 
-    protected final IntegerProperty secondsLeftInPendingState; // 0 when not in pending state
+    private int visibleRetainCount; // views bound to the visible object, see #retainVisible()
+    private List<Runnable> visibleBindingRemovers; // undo #conditionallyBindVisibleToBacking(), null if not bound
 
-    {
-        secondsLeftInPendingState = new SimpleIntegerProperty(-1);
-    }
+    private IntegerProperty secondsLeftInPendingState; // null until first needed, -1 when not in pending state
 
     /**
      * Create a new Viewable based on a backing object.
@@ -34,11 +42,9 @@ public abstract class Viewable<D extends UniqueData> extends UniqueData implemen
      * @param visibleObjectGenerator used to generate {@link #visible} with {@code backingObject} as the argument.
      */
     protected Viewable(D backingObject, Function<D, D> visibleObjectGenerator) {
-        this(visibleObjectGenerator.apply(backingObject));
+        this.visibleObjectGenerator = visibleObjectGenerator;
         backing = backingObject;
-        conditionallyBindVisibleToBacking();
         isSyncingWithBackingObject = true;
-        forceSyncFromBacking();
     }
 
     /**
@@ -48,6 +54,7 @@ public abstract class Viewable<D extends UniqueData> extends UniqueData implemen
      */
     protected Viewable(D visibleObject) {
         visible = visibleObject;
+        visibleObjectGenerator = null;
     }
 
     /**
@@ -81,41 +88,107 @@ public abstract class Viewable<D extends UniqueData> extends UniqueData implemen
      * @param <T> ensures both arguments have same param type.
      */
     protected <T> void conditionallyBindValue(ObservableValue<T> dependency, WritableValue<T> listener) {
-        dependency.addListener((dep, oldValue, newValue) -> {
+        final ChangeListener<T> binding = (dep, oldValue, newValue) -> {
             if (this.isSyncingWithBackingObject) {
                 listener.setValue(newValue);
             }
-        });
+        };
+        dependency.addListener(binding);
+        addVisibleBindingRemover(() -> dependency.removeListener(binding));
+    }
+
+    /**
+     * Registers the removal of a listener added to the backing object by
+     * {@link #conditionallyBindVisibleToBacking()}, which is run when the visible object is dropped.
+     */
+    protected void addVisibleBindingRemover(Runnable remover) {
+        if (visibleBindingRemovers == null) {
+            visibleBindingRemovers = new ArrayList<>();
+        }
+        visibleBindingRemovers.add(remover);
     }
 
 
+    /**
+     * Creates the visible object from the backing object if it does not exist yet.
+     * Not synchronized: for viewables shown in the UI, only call it on the FX application thread.
+     */
     public D getVisible() {
+        if (visible == null) {
+            visible = visibleObjectGenerator.apply(backing);
+            conditionallyBindVisibleToBacking();
+            forceSyncFromBacking();
+        }
         return visible;
     }
 
+    /**
+     * @return the visible object if it exists, otherwise the backing object, whose data is the visible data until
+     *         the visible object is created. Does not create the visible object.
+     */
+    protected D getVisibleData() {
+        return visible != null ? visible : backing;
+    }
+
     public D getBacking() {
         return backing;
     }
 
+    @Override
+    public void retainVisible() {
+        visibleRetainCount++;
+    }
+
+    /**
+     * Drops the visible object when the last view retaining it releases it, unless it holds data of its own, see
+     * {@link #isVisibleInSync()}. It is created again by {@link #getVisible()} when next needed.
+     */
+    @Override
+    public void releaseVisible() {
+        assert visibleRetainCount > 0 : "Released a visible object that was not retained";
+        visibleRetainCount--;
+        if (visibleRetainCount > 0 || visible == null || !isVisibleInSync()) return;
+        if (visibleObjectGenerator == null) return; // created without a backing object, so it cannot be recreated
+        if (visibleBindingRemovers != null) {
+            visibleBindingRemovers.forEach(Runnable::run);
+            visibleBindingRemovers = null;
+        }
+        visible = null;
+    }
+
+    /**
+     * @return true if the visible data is the backing data, i.e. no change is being simulated on the visible object
+     */
+    protected boolean isVisibleInSync() {
+        return backing != null && isSyncingWithBackingObject;
+    }
+
 
 // APPLICATION STATE ACCESSORS
 
     @Override
     public ReadOnlyIntegerProperty secondsLeftInPendingStateProperty() {
-        return secondsLeftInPendingState;
+        return getSecondsLeftInPendingStateProperty();
     }
 
     @Override
     public int getSecondsLeftInPendingState() {
-        return secondsLeftInPendingState.get();
+        return secondsLeftInPendingState == null ? -1 : secondsLeftInPendingState.get();
     }
 
     public void setSecondsLeftInPendingState(int s) {
-        secondsLeftInPendingState.set(s);
+        getSecondsLeftInPendingStateProperty().set(s);
     }
 
     public void decrementSecondsLeftInPendingState() {
-        secondsLeftInPendingState.set(secondsLeftInPendingState.get() - 1);
+        setSecondsLeftInPendingState(getSecondsLeftInPendingState() - 1);
+    }
+
+    private IntegerProperty getSecondsLeftInPendingStateProperty() {
+        if (secondsLeftInPendingState == null) {
+            secondsLeftInPendingState = new SimpleIntegerProperty(-1);
+        }
+        return secondsLeftInPendingState;
     }
 
 // VISIBLE--BACKING binding controls
@@ -130,8 +203,10 @@ public abstract class Viewable<D extends UniqueData> extends UniqueData implemen
 
     /**
      * Changes in the backing object will be stored but not visible.
+     * Creates the visible object if needed, see {@link #getVisible()}.
      */
     public void stopSyncingWithBackingObject() {
+        getVisible(); // keeps the current backing data as the visible data
         isSyncingWithBackingObject = false;
     }
 
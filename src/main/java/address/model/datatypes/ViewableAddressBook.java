@@ -6,6 +6,7 @@ import address.model.datatypes.person.ReadOnlyViewablePerson;
 import address.model.datatypes.person.ViewablePerson;
 import address.model.datatypes.tag.Tag;
 import address.util.collections.UnmodifiableObservableList;
+import javafx.beans.Observable;
 import javafx.collections.FXCollections;
 import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
@@ -23,7 +24,7 @@ public class ViewableAddressBook implements ReadOnlyViewableAddressBook {
 
     {
         idsToIgnoreWhenCreatingViewablePersons = new HashSet<>();
-        persons = FXCollections.observableArrayList();
+        persons = FXCollections.observableArrayList(ViewableAddressBook::extractBackingObservables);
     }
 
     ViewableAddressBook(AddressBook src) {
@@ -37,6 +38,16 @@ public class ViewableAddressBook implements ReadOnlyViewableAddressBook {
         bindViewablePersonListToBackingList();
     }
 
+    /**
+     * Reports changes to the backing persons, e.g. edits and custom orders synced from the remote, as updates of the
+     * viewable persons, so that sorted views can move them. Uses the backing data because the properties of
+     * {@link ViewablePerson} would create the visible person of every person in the list. Persons added without a
+     * backing person are refreshed once connected to one, see {@link #refreshPerson(ViewablePerson)}.
+     */
+    private static Observable[] extractBackingObservables(ViewablePerson person) {
+        return person.getBacking() == null ? new Observable[0] : person.getBacking().extractObservables();
+    }
+
     @SuppressWarnings("SuspiciousMethodCalls")
     private void bindViewablePersonListToBackingList() {
         backingModel.getPersons().addListener((ListChangeListener<? super Person>) change -> {
@@ -79,6 +90,16 @@ public class ViewableAddressBook implements ReadOnlyViewableAddressBook {
         persons.add(p);
     }
 
+    /**
+     * Replaces the person by itself, so that its observables are extracted again, e.g. those of a backing person
+     * connected after it was added, and views of the list read its data again, e.g. a rank that a cancelled change
+     * had simulated. Does nothing if the person is not in the list.
+     */
+    public void refreshPerson(ViewablePerson p) {
+        int index = persons.indexOf(p);
+        if (index >= 0) persons.set(index, p);
+    }
+
     public boolean removePerson(ReadOnlyPerson key) {
         return ReadOnlyPerson.removeOneById(persons, key);
     }
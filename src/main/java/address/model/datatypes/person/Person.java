@@ -7,6 +7,9 @@ import address.util.collections.UnmodifiableObservableList;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonSetter;
 
+import commons.StringUtil;
+
+import javafx.beans.InvalidationListener;
 import javafx.beans.property.*;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -24,6 +27,9 @@ import java.util.function.BiConsumer;
  *
  * Eg. A GUI element controller that only needs access to the Person's properties should declare the received Person
  * as an ReadOnlyPerson -- since it does not need the functionality in the other superclasses/interfaces.
+ *
+ * The address book keeps its persons as this class, as they are edited in place and observed through their properties.
+ * Copies that are only read, e.g. snapshots and persons received from the remote, are {@link PersonRecord}s.
  */
 public class Person extends UniqueData implements ReadOnlyPerson {
 
@@ -38,9 +44,14 @@ public class Person extends UniqueData implements ReadOnlyPerson {
     private final StringProperty city;
 
     private final SimpleObjectProperty<LocalDate> birthday;
+    private final StringProperty rank;
     private final ObservableList<Tag> tags;
     private final SimpleBooleanProperty isDeleted;
 
+    // by SearchField ordinal, each computed when first needed; cleared when a searched field changes
+    private String[] searchKeys;
+    private InvalidationListener searchKeysInvalidator;
+
     // defaults
     {
         firstName = new SimpleStringProperty("");
@@ -52,6 +63,7 @@ public class Person extends UniqueData implements ReadOnlyPerson {
         githubUsername = new SimpleStringProperty("");
 
         birthday = new SimpleObjectProperty<>();
+        rank = new SimpleStringProperty("");
 
         tags = FXCollections.observableArrayList();
         isDeleted = new SimpleBooleanProperty(false);
@@ -101,6 +113,7 @@ public class Person extends UniqueData implements ReadOnlyPerson {
         setGithubUsername(newDataSource.getGithubUsername());
 
         setBirthday(newDataSource.getBirthday());
+        setRank(newDataSource.getRank());
         setTags(newDataSource.getTagList());
         setIsDeleted(false);// TODO: change when isDeleted is fully implemented
         return this;
@@ -125,6 +138,7 @@ public class Person extends UniqueData implements ReadOnlyPerson {
         action.accept(city, other.city);
 
         action.accept(birthday, other.birthday);
+        action.accept(rank, other.rank);
     }
 
 //// ID
@@ -251,6 +265,48 @@ public class Person extends UniqueData implements ReadOnlyPerson {
         return birthday;
     }
 
+//// SEARCH KEYS
+
+    /**
+     * Cached until one of the searched fields changes
+     */
+    @Override
+    public String getSearchKey(SearchField field) {
+        if (searchKeysInvalidator == null) {
+            searchKeysInvalidator = observable -> searchKeys = null;
+            firstName.addListener(searchKeysInvalidator);
+            lastName.addListener(searchKeysInvalidator);
+            street.addListener(searchKeysInvalidator);
+            city.addListener(searchKeysInvalidator);
+        }
+        if (searchKeys == null) {
+            searchKeys = new String[SearchField.values().length];
+        }
+        String searchKey = searchKeys[field.ordinal()];
+        if (searchKey == null) {
+            searchKey = StringUtil.fold(field.getValue(this)); // reading the field lets it report the next change
+            searchKeys[field.ordinal()] = searchKey;
+        }
+        return searchKey;
+    }
+
+//// RANK
+
+    @JsonProperty("rank")
+    @Override
+    public String getRank() {
+        return rank.get();
+    }
+
+    public void setRank(String rank) {
+        this.rank.set(rank);
+    }
+
+    @Override
+    public ReadOnlyStringProperty rankProperty() {
+        return rank;
+    }
+
 //// TAGS
 
     @Override
@@ -325,6 +381,7 @@ public class Person extends UniqueData implements ReadOnlyPerson {
         copy.setPostalCode(this.getPostalCode());
         copy.setStreet(this.getStreet());
         copy.setGithubUsername(this.getGithubUsername());
+        copy.setRank(this.getRank());
         copy.setTags(this.getTags());
         return copy;
     }
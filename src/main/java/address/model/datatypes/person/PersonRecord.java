@@ -0,0 +1,157 @@
+package address.model.datatypes.person;
+
+import address.model.datatypes.tag.Tag;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable person data in plain fields, for copies of persons that are only read, e.g. snapshots of the model that
+ * are saved in the background, and the persons received from the remote, which are only copied into the model.
+ *
+ * A {@link Person} holds a JavaFX property for each field and an observable tag list, which makes it several times
+ * larger; create one from this record only where the properties are needed, e.g. for displayed persons.
+ */
+public final class PersonRecord implements ReadOnlyPerson {
+
+    private final int id;
+    private final String firstName;
+    private final String lastName;
+    private final String githubUsername;
+    private final String street;
+    private final String postalCode;
+    private final String city;
+    private final LocalDate birthday;
+    private final String rank;
+    private final Tag[] tags;
+    private final boolean isDeleted;
+
+    /**
+     * Copies the fields of the source, sharing its strings and tags
+     */
+    public PersonRecord(ReadOnlyPerson source) {
+        id = source.getId();
+        firstName = source.getFirstName();
+        lastName = source.getLastName();
+        githubUsername = source.getGithubUsername();
+        street = source.getStreet();
+        postalCode = source.getPostalCode();
+        city = source.getCity();
+        birthday = source.getBirthday();
+        rank = source.getRank();
+        tags = source.getTagList().toArray(new Tag[0]);
+        isDeleted = false;
+    }
+
+    /**
+     * Uses the given strings and tags as they are
+     */
+    public PersonRecord(int id, String firstName, String lastName, String githubUsername, String street,
+                        String postalCode, String city, LocalDate birthday, String rank, Tag[] tags) {
+        this(id, firstName, lastName, githubUsername, street, postalCode, city, birthday, rank, tags, false);
+    }
+
+    /**
+     * @param isDeleted whether the person was deleted on the remote, for persons received from it
+     */
+    public PersonRecord(int id, String firstName, String lastName, String githubUsername, String street,
+                        String postalCode, String city, LocalDate birthday, String rank, Tag[] tags,
+                        boolean isDeleted) {
+        this.id = id;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.githubUsername = githubUsername;
+        this.street = street;
+        this.postalCode = postalCode;
+        this.city = city;
+        this.birthday = birthday;
+        this.rank = rank;
+        this.tags = tags.clone();
+        this.isDeleted = isDeleted;
+    }
+
+    @Override
+    public int getId() {
+        return id;
+    }
+
+    @Override
+    public String getFirstName() {
+        return firstName;
+    }
+
+    @Override
+    public String getLastName() {
+        return lastName;
+    }
+
+    @Override
+    public String getGithubUsername() {
+        return githubUsername;
+    }
+
+    @Override
+    public String getStreet() {
+        return street;
+    }
+
+    @Override
+    public String getPostalCode() {
+        return postalCode;
+    }
+
+    @Override
+    public String getCity() {
+        return city;
+    }
+
+    @Override
+    public LocalDate getBirthday() {
+        return birthday;
+    }
+
+    @Override
+    public String getRank() {
+        return rank;
+    }
+
+    @Override
+    public List<Tag> getTagList() {
+        return Collections.unmodifiableList(Arrays.asList(tags));
+    }
+
+    /**
+     * @return whether the person was deleted on the remote; always false for copies of persons in the model
+     */
+    public boolean isDeleted() {
+        return isDeleted;
+    }
+
+    /**
+     * Compares id, like {@link Person#equals(Object)}
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) return true;
+        if (other == null || other.getClass() != PersonRecord.class) return false;
+        return id == ((PersonRecord) other).id;
+    }
+
+    @Override
+    public int hashCode() {
+        return id;
+    }
+
+    @Override
+    public String toString() {
+        return "PersonRecord [" + idString() + "][" + fullName()
+                + "][Street:" + street
+                + "][City:" + city
+                + "][Postal code:" + postalCode
+                + "][Birthday:" + birthdayString()
+                + "][GitHub Username:" + githubUsername
+                + "][" + tagsString() + "]";
+    }
+}
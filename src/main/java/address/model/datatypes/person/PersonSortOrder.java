@@ -0,0 +1,103 @@
+package address.model.datatypes.person;
+
+import java.text.CollationKey;
+import java.text.Collator;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * An order of persons by one or more fields, each one breaking the ties of the previous ones.
+ *
+ * The order is given by sort keys computed once per person, see {@link #createKey(ReadOnlyPerson)}. Text fields are
+ * compared as {@link CollationKey}s of the default locale, which ignore case and compare accented letters as people
+ * expect, at the cost of a byte array per field per person. Persons without a birthday come last.
+ */
+public class PersonSortOrder {
+
+    public enum Field {
+        LAST_NAME("last name", person -> person.getLastName()),
+        FIRST_NAME("first name", person -> person.getFirstName()),
+        CITY("city", person -> person.getCity()),
+        BIRTHDAY("birthday", person -> person.getBirthday()),
+        ID("id", person -> person.getId());
+
+        private final String description;
+        private final Function<ReadOnlyPerson, Object> valueGetter;
+
+        Field(String description, Function<ReadOnlyPerson, Object> valueGetter) {
+            this.description = description;
+            this.valueGetter = valueGetter;
+        }
+    }
+
+    public static final List<PersonSortOrder> PRESETS = Collections.unmodifiableList(Arrays.asList(
+            new PersonSortOrder(Field.LAST_NAME, Field.FIRST_NAME, Field.CITY),
+            new PersonSortOrder(Field.CITY, Field.LAST_NAME, Field.FIRST_NAME),
+            new PersonSortOrder(Field.BIRTHDAY, Field.LAST_NAME, Field.FIRST_NAME),
+            new PersonSortOrder(Field.ID)));
+
+    private final List<Field> fields;
+    private final Collator collator;
+
+    public PersonSortOrder(Field... fields) {
+        this.fields = Collections.unmodifiableList(Arrays.asList(fields));
+        collator = Collator.getInstance();
+        collator.setStrength(Collator.SECONDARY);
+    }
+
+    public List<Field> getFields() {
+        return fields;
+    }
+
+    /**
+     * Computes the sort key of the person's current data. Keys of different sort orders are not comparable.
+     * Not thread-safe.
+     */
+    @SuppressWarnings("unchecked")
+    public Key createKey(ReadOnlyPerson person) {
+        Comparable<Object>[] values = new Comparable[fields.size()];
+        for (int i = 0; i < values.length; i++) {
+            Object value = fields.get(i).valueGetter.apply(person);
+            values[i] = (Comparable<Object>) (value instanceof String ? collator.getCollationKey((String) value)
+                                                                      : value);
+        }
+        return new Key(values);
+    }
+
+    @Override
+    public String toString() {
+        String description = fields.stream().map(field -> field.description).collect(Collectors.joining(", "));
+        return "By " + description;
+    }
+
+    /**
+     * The precomputed values of the fields of a sort order for a person, ordered field by field, with missing values
+     * last
+     */
+    public static final class Key implements Comparable<Key> {
+        private final Comparable<Object>[] values;
+
+        private Key(Comparable<Object>[] values) {
+            this.values = values;
+        }
+
+        @Override
+        public int compareTo(Key other) {
+            for (int i = 0; i < values.length; i++) {
+                int comparison = compareValues(values[i], other.values[i]);
+                if (comparison != 0) return comparison;
+            }
+            return 0;
+        }
+
+        private static int compareValues(Comparable<Object> value, Comparable<Object> otherValue) {
+            if (value == null || otherValue == null) {
+                return Boolean.compare(value == null, otherValue == null);
+            }
+            return value.compareTo(otherValue);
+        }
+    }
+}
@@ -3,6 +3,8 @@ package address.model.datatypes.person;
 import address.model.datatypes.ExtractableObservables;
 import address.model.datatypes.tag.Tag;
 import commons.DateTimeUtil;
+import commons.FractionalRank;
+import commons.StringUtil;
 import address.util.collections.UnmodifiableObservableList;
 import com.teamdev.jxbrowser.chromium.internal.URLUtil;
 import javafx.beans.Observable;
@@ -170,6 +172,19 @@ public interface ReadOnlyPerson extends ExtractableObservables {
         }
     }
 
+    /**
+     * @return the field {@link StringUtil#fold folded} for case and accent insensitive search
+     */
+    default String getSearchKey(SearchField field) {
+        return StringUtil.fold(field.getValue(this));
+    }
+
+    /**
+     * @return the key of this person in the user's custom order of persons, or {@link FractionalRank#UNRANKED}
+     * @see FractionalRank
+     */
+    String getRank();
+
     default boolean dataFieldsEqual(ReadOnlyPerson other) {
         final Set<Tag> othersTags = new HashSet<>(other.getTagList());
         return fullName().equals(other.fullName())
@@ -209,6 +224,10 @@ public interface ReadOnlyPerson extends ExtractableObservables {
         throw new UnsupportedOperationException();
     }
 
+    default ReadOnlyStringProperty rankProperty() {
+        throw new UnsupportedOperationException();
+    }
+
     /**
      * @return ObservableList unmodifiable view of this Person's tags
      */
@@ -228,6 +247,7 @@ public interface ReadOnlyPerson extends ExtractableObservables {
                 cityProperty(),
 
                 birthdayProperty(),
+                rankProperty(),
                 getObservableTagList()
         };
     }
@@ -0,0 +1,25 @@
+package address.model.datatypes.person;
+
+import java.util.function.Function;
+
+/**
+ * The text fields of a person that filters search in
+ *
+ * @see ReadOnlyPerson#getSearchKey(SearchField)
+ */
+public enum SearchField {
+    FIRST_NAME(ReadOnlyPerson::getFirstName),
+    LAST_NAME(ReadOnlyPerson::getLastName),
+    STREET(ReadOnlyPerson::getStreet),
+    CITY(ReadOnlyPerson::getCity);
+
+    private final Function<ReadOnlyPerson, String> valueGetter;
+
+    SearchField(Function<ReadOnlyPerson, String> valueGetter) {
+        this.valueGetter = valueGetter;
+    }
+
+    public String getValue(ReadOnlyPerson person) {
+        return valueGetter.apply(person);
+    }
+}
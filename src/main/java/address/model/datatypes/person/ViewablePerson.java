@@ -8,6 +8,7 @@ import address.model.datatypes.tag.Tag;
 import address.util.collections.UnmodifiableObservableList;
 import javafx.beans.property.*;
 import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
 
 import java.net.MalformedURLException;
 import java.net.URL;
@@ -29,21 +30,19 @@ import java.util.function.Function;
 public class ViewablePerson extends Viewable<Person> implements ReadOnlyViewablePerson {
 
     private static final AtomicInteger tempIdCounter = new AtomicInteger(-1);
-    private final List<Consumer<Integer>> remoteIdConfirmationHandlers;
 
     /**
      * can only be changed by {@link #connectBackingObject}
      */
     private int id;
-    private final Property<ChangeInProgress> changeInProgress;
 
-    {
-        remoteIdConfirmationHandlers = new ArrayList<>();
-        changeInProgress = new SimpleObjectProperty<>(NONE);
-    }
+    // pending change state, null until first needed as most persons never have a change in progress
+    private List<Consumer<Integer>> remoteIdConfirmationHandlers;
+    private Property<ChangeInProgress> changeInProgress;
 
     /**
-     * Factory method: creates a new ViewablePerson using the argument Person as the backing object
+     * Factory method: creates a new ViewablePerson using the argument Person as the backing object.
+     * The visible Person is only created when first needed, e.g. when the person is displayed or changed.
      * @see super#Viewable(UniqueData, Function)
      */
     public static ViewablePerson fromBacking(Person backingPerson) {
@@ -93,7 +92,7 @@ public class ViewablePerson extends Viewable<Person> implements ReadOnlyViewable
 
         // all changes here result in removal of affected list elements and (re)adding of any updated/new elements
         // at their correct positions.
-        backing.getObservableTagList().addListener((ListChangeListener<? super Tag>) change -> {
+        final ListChangeListener<Tag> tagsBinding = change -> {
             while (change.next()) {
                 int from = change.getFrom();
                 int to = change.getTo();
@@ -106,12 +105,16 @@ public class ViewablePerson extends Viewable<Person> implements ReadOnlyViewable
                             backing.getObservableTagList().subList(from, from + change.getAddedSize()));
                 }
             }
-        });
+        };
+        final ObservableList<Tag> backingTags = backing.getObservableTagList();
+        backingTags.addListener(tagsBinding);
+        addVisibleBindingRemover(() -> backingTags.removeListener(tagsBinding));
         forceSyncFromBacking();
     }
 
     @Override
     public void forceSyncFromBacking() {
+        if (visible == null) return; // not created yet, so the visible data is the backing data
         visible.update(backing);
     }
 
@@ -124,8 +127,10 @@ public class ViewablePerson extends Viewable<Person> implements ReadOnlyViewable
             throw new IllegalStateException("Cannot override backing object");
         }
         id = backingPerson.getId();
-        remoteIdConfirmationHandlers.forEach(cb -> cb.accept(id));
-        remoteIdConfirmationHandlers.clear();
+        if (remoteIdConfirmationHandlers != null) {
+            remoteIdConfirmationHandlers.forEach(cb -> cb.accept(id));
+            remoteIdConfirmationHandlers = null;
+        }
 
         backing = backingPerson;
         conditionallyBindVisibleToBacking();
@@ -137,16 +142,23 @@ public class ViewablePerson extends Viewable<Person> implements ReadOnlyViewable
 
     @Override
     public ChangeInProgress getChangeInProgress() {
-        return changeInProgress.getValue();
+        return changeInProgress == null ? NONE : changeInProgress.getValue();
     }
 
     @Override
     public ReadOnlyProperty<ChangeInProgress> changeInProgressProperty() {
-        return changeInProgress;
+        return getChangeInProgressProperty();
     }
 
     public void setChangeInProgress(ChangeInProgress currentChange) {
-        changeInProgress.setValue(currentChange);
+        getChangeInProgressProperty().setValue(currentChange);
+    }
+
+    private Property<ChangeInProgress> getChangeInProgressProperty() {
+        if (changeInProgress == null) {
+            changeInProgress = new SimpleObjectProperty<>(NONE);
+        }
+        return changeInProgress;
     }
 
     public void clearChangeInProgress() {
@@ -157,7 +169,19 @@ public class ViewablePerson extends Viewable<Person> implements ReadOnlyViewable
      * Updates the visible data, backing data remains untouched.
      */
     public void simulateUpdate(ReadOnlyPerson data) {
-        visible.update(data);
+        getVisible().update(data);
+    }
+
+    /**
+     * @return the backing person if the visible data is the backing data, i.e. no change is being simulated
+     */
+    public Optional<Person> getBackingIfInSync() {
+        return isVisibleInSync() ? Optional.of(backing) : Optional.empty();
+    }
+
+    @Override
+    protected boolean isVisibleInSync() {
+        return super.isVisibleInSync() && getChangeInProgress() == NONE;
     }
 
     @Override
@@ -165,6 +189,9 @@ public class ViewablePerson extends Viewable<Person> implements ReadOnlyViewable
         if (existsOnRemote()) {
             callback.accept(id);
         } else {
+            if (remoteIdConfirmationHandlers == null) {
+                remoteIdConfirmationHandlers = new ArrayList<>();
+            }
             remoteIdConfirmationHandlers.add(callback);
         }
     }
@@ -178,56 +205,61 @@ public class ViewablePerson extends Viewable<Person> implements ReadOnlyViewable
 
     @Override
     public ReadOnlyStringProperty firstNameProperty() {
-        return visible.firstNameProperty();
+        return getVisible().firstNameProperty();
     }
 
     @Override
     public ReadOnlyStringProperty lastNameProperty() {
-        return visible.lastNameProperty();
+        return getVisible().lastNameProperty();
     }
 
     public ReadOnlyStringProperty githubUsernameProperty() {
-        return visible.githubUsernameProperty();
+        return getVisible().githubUsernameProperty();
     }
 
     @Override
     public ReadOnlyStringProperty streetProperty() {
-        return visible.streetProperty();
+        return getVisible().streetProperty();
     }
 
     @Override
     public ReadOnlyStringProperty postalCodeProperty() {
-        return visible.postalCodeProperty();
+        return getVisible().postalCodeProperty();
     }
 
     @Override
     public ReadOnlyStringProperty cityProperty() {
-        return visible.cityProperty();
+        return getVisible().cityProperty();
     }
 
     @Override
     public ReadOnlyObjectProperty<LocalDate> birthdayProperty() {
-        return visible.birthdayProperty();
+        return getVisible().birthdayProperty();
+    }
+
+    @Override
+    public ReadOnlyStringProperty rankProperty() {
+        return getVisible().rankProperty();
     }
 
     @Override
     public String getFirstName() {
-        return visible.getFirstName();
+        return getVisibleData().getFirstName();
     }
 
     @Override
     public String getLastName() {
-        return visible.getLastName();
+        return getVisibleData().getLastName();
     }
 
     @Override
     public String fullName() {
-        return visible.fullName();
+        return getVisibleData().fullName();
     }
 
     @Override
     public String getGithubUsername() {
-        return visible.getGithubUsername();
+        return getVisibleData().getGithubUsername();
     }
 
     @Override
@@ -247,54 +279,63 @@ public class ViewablePerson extends Viewable<Person> implements ReadOnlyViewable
 
     @Override
     public Optional<String> githubProfilePicUrl() {
-        return visible.githubProfilePicUrl();
+        return getVisibleData().githubProfilePicUrl();
     }
 
     @Override
     public String getStreet() {
-        return visible.getStreet();
+        return getVisibleData().getStreet();
     }
 
     @Override
     public String getPostalCode() {
-        return visible.getPostalCode();
+        return getVisibleData().getPostalCode();
     }
 
     @Override
     public String getCity() {
-        return visible.getCity();
+        return getVisibleData().getCity();
     }
 
     @Override
     public LocalDate getBirthday() {
-        return visible.getBirthday();
+        return getVisibleData().getBirthday();
     }
 
     @Override
     public String birthdayString() {
-        return visible.birthdayString();
+        return getVisibleData().birthdayString();
+    }
+
+    @Override
+    public String getSearchKey(SearchField field) {
+        return getVisibleData().getSearchKey(field);
+    }
+
+    @Override
+    public String getRank() {
+        return getVisibleData().getRank();
     }
 
     @Override
     public List<Tag> getTagList() {
-        return visible.getTagList();
+        return getVisibleData().getTagList();
     }
 
     @Override
     public UnmodifiableObservableList<Tag> getObservableTagList() {
-        return visible.getObservableTagList();
+        return getVisible().getObservableTagList();
     }
 
     @Override
     public String tagsString() {
-        return visible.tagsString();
+        return getVisibleData().tagsString();
     }
 
 
     @Override
     public boolean hasName(String firstName, String lastName) {
-        return firstNameProperty().getValue().equals(firstName)
-                && lastNameProperty().getValue().equals(lastName);
+        return getFirstName().equals(firstName) && getLastName().equals(lastName);
     }
     /**
      * Use backing Person for comparison.
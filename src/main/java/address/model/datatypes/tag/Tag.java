@@ -5,12 +5,16 @@ import address.model.datatypes.UniqueData;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import commons.StringUtil;
+import javafx.beans.InvalidationListener;
 import javafx.beans.Observable;
 import javafx.beans.property.SimpleStringProperty;
 
 public class Tag extends UniqueData implements ExtractableObservables {
 
     @JsonIgnore private final SimpleStringProperty name;
+    @JsonIgnore private String searchKey; // computed when first needed, cleared when the name changes
+    @JsonIgnore private InvalidationListener searchKeyInvalidator;
 
     {
         name = new SimpleStringProperty("");
@@ -51,6 +55,21 @@ public class Tag extends UniqueData implements ExtractableObservables {
         return name;
     }
 
+    /**
+     * @return the name {@link StringUtil#fold folded} for case and accent insensitive search
+     */
+    @JsonIgnore
+    public String getSearchKey() {
+        if (searchKey == null) {
+            if (searchKeyInvalidator == null) {
+                searchKeyInvalidator = observable -> searchKey = null;
+                name.addListener(searchKeyInvalidator);
+            }
+            searchKey = StringUtil.fold(getName()); // reading the name lets it report the next change
+        }
+        return searchKey;
+    }
+
     @Override
     public boolean equals(Object otherGroup){
         if (otherGroup == this) return true;
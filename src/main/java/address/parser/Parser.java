@@ -1,8 +1,14 @@
 package address.parser;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import address.model.datatypes.FuzzyIndex;
+import address.model.datatypes.TagIndex;
+import address.model.datatypes.TextIndex;
 import address.parser.expr.AndExpr;
 import address.parser.expr.Expr;
 import address.parser.expr.NotExpr;
@@ -10,18 +16,58 @@ import address.parser.expr.PredExpr;
 import address.parser.qualifier.*;
 
 public class Parser {
+    private final Optional<TagIndex> tagIndex;
+    private final Optional<FuzzyIndex> fuzzyIndex;
+    private final Optional<TextIndex> textIndex;
+
+    public Parser() {
+        tagIndex = Optional.empty();
+        fuzzyIndex = Optional.empty();
+        textIndex = Optional.empty();
+    }
+
+    /**
+     * @param tagIndex index of the persons that the parsed expressions will be run on, used by tag qualifiers
+     * @param fuzzyIndex index of the same persons, used by fuzzy qualifiers
+     * @param textIndex index of the same persons, used by free text searches
+     */
+    public Parser(TagIndex tagIndex, FuzzyIndex fuzzyIndex, TextIndex textIndex) {
+        this.tagIndex = Optional.of(tagIndex);
+        this.fuzzyIndex = Optional.of(fuzzyIndex);
+        this.textIndex = Optional.of(textIndex);
+    }
+
+    /**
+     * Parses qualifiers of the form {@code qualifier:value}, negated by a leading {@code !}, and bare words. The bare
+     * words together form a single free text search, see {@link TextQualifier}.
+     */
     public Expr parse(String input) throws ParseException {
         Expr result = PredExpr.TRUE;
+        List<String> freeTextWords = new ArrayList<>();
 
-        Pattern pattern = Pattern.compile("\\s*(!*\\w+)\\s*:\\s*(\\w+)\\s*", Pattern.CASE_INSENSITIVE);
+        // each part must start where the previous one ended; words may have any letters, e.g. accented ones
+        Pattern pattern = Pattern.compile("\\G\\s*(?:(!*\\w+)\\s*:\\s*(\\w+)|(\\w+))\\s*",
+                                          Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CHARACTER_CLASS);
         Matcher matcher = pattern.matcher(input);
 
-        while (!matcher.hitEnd()) {
+        int parsedLength = 0;
+        while (parsedLength < input.length()) {
             if (!matcher.find()) throw new ParseException("Part of input invalid '" + input + "'");
+            parsedLength = matcher.end();
+            if (matcher.group(3) != null) {
+                freeTextWords.add(matcher.group(3));
+                continue;
+            }
             Expr intermediate = createPredicate(matcher.group(1), matcher.group(2));
             result = new AndExpr(intermediate, result);
         }
 
+        if (!freeTextWords.isEmpty()) {
+            String text = String.join(" ", freeTextWords);
+            TextQualifier qualifier = textIndex.isPresent() ? new TextQualifier(text, textIndex.get())
+                                                            : new TextQualifier(text);
+            result = new AndExpr(new PredExpr(qualifier), result);
+        }
         return result;
     }
 
@@ -38,7 +84,7 @@ public class Parser {
     }
 
     private Matcher getNegativeMatcher(String type) {
-        Pattern pattern = Pattern.compile("!(!*\\w+)", Pattern.CASE_INSENSITIVE);
+        Pattern pattern = Pattern.compile("!(!*\\w+)", Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CHARACTER_CLASS);
         return pattern.matcher(type);
     }
 
@@ -55,7 +101,10 @@ public class Parser {
             case "street":
                 return new StreetQualifier(content);
             case "tag":
-                return new TagQualifier(content);
+                return tagIndex.isPresent() ? new TagQualifier(content, tagIndex.get()) : new TagQualifier(content);
+            case "fuzzy":
+                return fuzzyIndex.isPresent() ? new FuzzyQualifier(content, fuzzyIndex.get())
+                                              : new FuzzyQualifier(content);
             case "id":
                 return new IdQualifier(parseInt(content));
             default:
@@ -2,6 +2,9 @@ package address.parser.expr;
 
 import address.model.datatypes.person.Person;
 import address.model.datatypes.person.ReadOnlyViewablePerson;
+import address.parser.qualifier.RankingQualifier;
+
+import java.util.Optional;
 
 public class AndExpr implements Expr {
 
@@ -17,4 +20,10 @@ public class AndExpr implements Expr {
     public boolean satisfies(ReadOnlyViewablePerson person) {
         return left.satisfies(person) && right.satisfies(person);
     }
+
+    @Override
+    public Optional<RankingQualifier> getRankingQualifier() {
+        Optional<RankingQualifier> leftQualifier = left.getRankingQualifier();
+        return leftQualifier.isPresent() ? leftQualifier : right.getRankingQualifier();
+    }
 }
@@ -1,7 +1,17 @@
 package address.parser.expr;
 
 import address.model.datatypes.person.ReadOnlyViewablePerson;
+import address.parser.qualifier.RankingQualifier;
+
+import java.util.Optional;
 
 public interface Expr {
     boolean satisfies(ReadOnlyViewablePerson person);
+
+    /**
+     * @return a qualifier that ranks the persons satisfying this expression, if there is one
+     */
+    default Optional<RankingQualifier> getRankingQualifier() {
+        return Optional.empty();
+    }
 }
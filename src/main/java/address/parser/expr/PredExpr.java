@@ -2,8 +2,11 @@ package address.parser.expr;
 
 import address.model.datatypes.person.ReadOnlyViewablePerson;
 import address.parser.qualifier.Qualifier;
+import address.parser.qualifier.RankingQualifier;
 import address.parser.qualifier.TrueQualifier;
 
+import java.util.Optional;
+
 public class PredExpr implements Expr {
     public static final PredExpr TRUE = new PredExpr(new TrueQualifier());
 
@@ -17,4 +20,9 @@ public class PredExpr implements Expr {
     public boolean satisfies(ReadOnlyViewablePerson person) {
         return qualifier.run(person);
     }
+
+    @Override
+    public Optional<RankingQualifier> getRankingQualifier() {
+        return qualifier instanceof RankingQualifier ? Optional.of((RankingQualifier) qualifier) : Optional.empty();
+    }
 }
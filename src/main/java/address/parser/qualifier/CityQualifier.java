@@ -1,17 +1,19 @@
 package address.parser.qualifier;
 
 import address.model.datatypes.person.ReadOnlyViewablePerson;
+import address.model.datatypes.person.SearchField;
 import commons.StringUtil;
+import commons.SubstringMatcher;
 
 public class CityQualifier implements Qualifier {
-    private String city;
+    private final SubstringMatcher matcher;
 
     public CityQualifier(String city) {
-        this.city = city;
+        matcher = new SubstringMatcher(StringUtil.fold(city));
     }
 
     @Override
     public boolean run(ReadOnlyViewablePerson person) {
-        return StringUtil.containsIgnoreCase(person.getCity(), city);
+        return matcher.isFoundIn(person.getSearchKey(SearchField.CITY));
     }
 }
@@ -1,17 +1,19 @@
 package address.parser.qualifier;
 
 import address.model.datatypes.person.ReadOnlyViewablePerson;
+import address.model.datatypes.person.SearchField;
 import commons.StringUtil;
+import commons.SubstringMatcher;
 
 public class FirstNameQualifier implements Qualifier {
-    private String firstName;
+    private final SubstringMatcher matcher;
 
     public FirstNameQualifier(String firstName) {
-        this.firstName = firstName;
+        matcher = new SubstringMatcher(StringUtil.fold(firstName));
     }
 
     @Override
     public boolean run(ReadOnlyViewablePerson person) {
-        return StringUtil.containsIgnoreCase(person.getFirstName(), firstName);
+        return matcher.isFoundIn(person.getSearchKey(SearchField.FIRST_NAME));
     }
 }
@@ -0,0 +1,71 @@
+package address.parser.qualifier;
+
+import address.model.datatypes.FuzzyIndex;
+import address.model.datatypes.person.ReadOnlyViewablePerson;
+import commons.StringUtil;
+
+import java.util.BitSet;
+import java.util.Optional;
+
+/**
+ * Matches the persons having a word in their names, city or tags within a small edit distance of the query, see
+ * {@link FuzzyIndex#getMaxDistance(String)}. Closer matches rank higher.
+ */
+public class FuzzyQualifier implements RankingQualifier {
+    private final String queryWord;
+    private final int maxDistance;
+    private final Optional<FuzzyIndex> fuzzyIndex;
+    private BitSet[] matchingPersons;
+    private int matchingPersonsVersion;
+
+    public FuzzyQualifier(String query) {
+        queryWord = StringUtil.fold(query);
+        maxDistance = FuzzyIndex.getMaxDistance(queryWord);
+        fuzzyIndex = Optional.empty();
+    }
+
+    /**
+     * Looks up the persons in the index, which is only searched again after it changes.
+     * Persons that are not in the index have their words compared with the query one by one.
+     */
+    public FuzzyQualifier(String query, FuzzyIndex fuzzyIndex) {
+        queryWord = StringUtil.fold(query);
+        maxDistance = FuzzyIndex.getMaxDistance(queryWord);
+        this.fuzzyIndex = Optional.of(fuzzyIndex);
+    }
+
+    @Override
+    public boolean run(ReadOnlyViewablePerson person) {
+        return getDistance(person) <= maxDistance;
+    }
+
+    /**
+     * @return the negated edit distance of the person's closest word
+     */
+    @Override
+    public double getScore(ReadOnlyViewablePerson person) {
+        return -getDistance(person);
+    }
+
+    private int getDistance(ReadOnlyViewablePerson person) {
+        if (fuzzyIndex.isPresent()) {
+            int ordinal = fuzzyIndex.get().getOrdinal(person);
+            if (ordinal >= 0) {
+                BitSet[] personsByDistance = getMatchingPersons(fuzzyIndex.get());
+                for (int distance = 0; distance < personsByDistance.length; distance++) {
+                    if (personsByDistance[distance].get(ordinal)) return distance;
+                }
+                return maxDistance + 1;
+            }
+        }
+        return FuzzyIndex.getDistance(queryWord, maxDistance, person);
+    }
+
+    private BitSet[] getMatchingPersons(FuzzyIndex index) {
+        if (matchingPersons == null || matchingPersonsVersion != index.getVersion()) {
+            matchingPersons = index.search(queryWord);
+            matchingPersonsVersion = index.getVersion();
+        }
+        return matchingPersons;
+    }
+}
@@ -1,17 +1,19 @@
 package address.parser.qualifier;
 
 import address.model.datatypes.person.ReadOnlyViewablePerson;
+import address.model.datatypes.person.SearchField;
 import commons.StringUtil;
+import commons.SubstringMatcher;
 
 public class LastNameQualifier implements Qualifier {
-    private String lastName;
+    private final SubstringMatcher matcher;
 
     public LastNameQualifier(String lastName) {
-        this.lastName = lastName;
+        matcher = new SubstringMatcher(StringUtil.fold(lastName));
     }
 
     @Override
     public boolean run(ReadOnlyViewablePerson person) {
-        return StringUtil.containsIgnoreCase(person.getLastName(), lastName);
+        return matcher.isFoundIn(person.getSearchKey(SearchField.LAST_NAME));
     }
 }
@@ -0,0 +1,14 @@
+package address.parser.qualifier;
+
+import address.model.datatypes.person.ReadOnlyViewablePerson;
+
+/**
+ * A qualifier that also ranks the persons it matches, so that the best matches can be shown first
+ */
+public interface RankingQualifier extends Qualifier {
+
+    /**
+     * @return the relevance of a person this qualifier matches, higher for better matches
+     */
+    double getScore(ReadOnlyViewablePerson person);
+}
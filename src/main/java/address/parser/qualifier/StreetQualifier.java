@@ -1,17 +1,19 @@
 package address.parser.qualifier;
 
 import address.model.datatypes.person.ReadOnlyViewablePerson;
+import address.model.datatypes.person.SearchField;
 import commons.StringUtil;
+import commons.SubstringMatcher;
 
 public class StreetQualifier implements Qualifier {
-    private final String street;
+    private final SubstringMatcher matcher;
 
     public StreetQualifier(String street) {
-        this.street = street;
+        matcher = new SubstringMatcher(StringUtil.fold(street));
     }
 
     @Override
     public boolean run(ReadOnlyViewablePerson person) {
-        return StringUtil.containsIgnoreCase(person.getStreet(), street);
+        return matcher.isFoundIn(person.getSearchKey(SearchField.STREET));
     }
 }
@@ -1,20 +1,51 @@
 package address.parser.qualifier;
 
+import address.model.datatypes.TagIndex;
 import address.model.datatypes.person.ReadOnlyViewablePerson;
+import address.model.datatypes.tag.Tag;
 import commons.StringUtil;
+import commons.SubstringMatcher;
+
+import java.util.BitSet;
+import java.util.Optional;
 
 public class TagQualifier implements Qualifier {
-    private final String tagName;
+    private final SubstringMatcher matcher;
+    private final Optional<TagIndex> tagIndex;
+    private BitSet matchingPersons;
+    private int matchingPersonsVersion;
 
     public TagQualifier(String tagName) {
-        this.tagName = tagName;
+        matcher = new SubstringMatcher(StringUtil.fold(tagName));
+        this.tagIndex = Optional.empty();
+    }
+
+    /**
+     * Looks up the persons in the index, which is only queried again after it changes.
+     * Persons that are not in the index have their tags scanned.
+     */
+    public TagQualifier(String tagName, TagIndex tagIndex) {
+        matcher = new SubstringMatcher(StringUtil.fold(tagName));
+        this.tagIndex = Optional.of(tagIndex);
     }
 
     @Override
     public boolean run(ReadOnlyViewablePerson person) {
-        return person.getTagList().stream()
-                .filter(tag -> StringUtil.containsIgnoreCase(tag.getName(), this.tagName))
-                .findAny()
-                .isPresent();
+        if (tagIndex.isPresent()) {
+            int ordinal = tagIndex.get().getOrdinal(person);
+            if (ordinal >= 0) return getMatchingPersons(tagIndex.get()).get(ordinal);
+        }
+        for (Tag tag : person.getTagList()) {
+            if (matcher.isFoundIn(tag.getSearchKey())) return true;
+        }
+        return false;
+    }
+
+    private BitSet getMatchingPersons(TagIndex index) {
+        if (matchingPersons == null || matchingPersonsVersion != index.getVersion()) {
+            matchingPersons = index.getPersonsWithTag(name -> matcher.isFoundIn(StringUtil.fold(name)));
+            matchingPersonsVersion = index.getVersion();
+        }
+        return matchingPersons;
     }
 }
@@ -0,0 +1,68 @@
+package address.parser.qualifier;
+
+import address.model.datatypes.TextIndex;
+import address.model.datatypes.person.ReadOnlyViewablePerson;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Matches the persons having all the words of a free text query among the words of their fields and tags, ignoring
+ * case and accents. With an index, the matches are ranked by {@link TextIndex#search}: only the {@link #MAX_RESULTS}
+ * most relevant matches are scored, the other matches and persons that are not in the index rank last.
+ */
+public class TextQualifier implements RankingQualifier {
+    public static final int MAX_RESULTS = 1000;
+
+    private final Set<String> terms;
+    private final Optional<TextIndex> textIndex;
+    private TextIndex.Results results;
+    private Map<Integer, Double> scoresByOrdinal; // of the best results
+    private int resultsVersion;
+
+    public TextQualifier(String text) {
+        terms = TextIndex.toTerms(text);
+        textIndex = Optional.empty();
+    }
+
+    /**
+     * Searches the index, which is only searched again after it changes
+     */
+    public TextQualifier(String text, TextIndex textIndex) {
+        terms = TextIndex.toTerms(text);
+        this.textIndex = Optional.of(textIndex);
+    }
+
+    @Override
+    public boolean run(ReadOnlyViewablePerson person) {
+        if (terms.isEmpty()) return true;
+        if (textIndex.isPresent()) {
+            int ordinal = textIndex.get().getOrdinal(person);
+            if (ordinal >= 0) return getResults(textIndex.get()).isMatch(ordinal);
+        }
+        return TextIndex.hasAllTerms(person, terms);
+    }
+
+    @Override
+    public double getScore(ReadOnlyViewablePerson person) {
+        if (!textIndex.isPresent() || terms.isEmpty()) return 0;
+        int ordinal = textIndex.get().getOrdinal(person);
+        if (ordinal < 0) return 0;
+        getResults(textIndex.get());
+        return scoresByOrdinal.getOrDefault(ordinal, 0.0);
+    }
+
+    private TextIndex.Results getResults(TextIndex index) {
+        if (results == null || resultsVersion != index.getVersion()) {
+            results = index.search(terms, MAX_RESULTS);
+            scoresByOrdinal = new HashMap<>();
+            for (int rank = 0; rank < results.size(); rank++) {
+                scoresByOrdinal.put(results.getOrdinal(rank), results.getScore(rank));
+            }
+            resultsVersion = index.getVersion();
+        }
+        return results;
+    }
+}
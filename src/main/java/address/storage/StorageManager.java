@@ -9,6 +9,7 @@ import address.util.*;
 import com.google.common.eventbus.Subscribe;
 import address.util.AppLogger;
 import commons.FileUtil;
+import commons.MetricsRegistry;
 import address.util.LoggerManager;
 
 import java.io.File;
@@ -24,6 +25,11 @@ import java.util.function.Supplier;
 public class StorageManager extends ComponentManager {
     private static final AppLogger logger = LoggerManager.getLogger(StorageManager.class);
     private static final String DEFAULT_CONFIG_FILE = "config.json";
+    private static final String STORAGE_EXECUTOR = "Storage";
+    private static final MetricsRegistry.Timer saveTimer = MetricsRegistry.getInstance().timer("storage.save");
+    private static final MetricsRegistry.Counter saveFailures =
+            MetricsRegistry.getInstance().counter("storage.save.failed");
+    private static final MetricsRegistry.Timer loadTimer = MetricsRegistry.getInstance().timer("storage.load");
     private UserPrefs userPrefs;
     private File saveFile;
     private File userPrefsFile;
@@ -122,6 +128,7 @@ public class StorageManager extends ComponentManager {
      * Raises FileSavingExceptionEvent (similar to {@link #saveDataToFile(File, ReadOnlyAddressBook)})
      */
     @Subscribe
+    @HandleOn(value = ExecutionMode.BACKGROUND, executor = STORAGE_EXECUTOR)
     public void handleLocalModelChangedEvent(LocalModelChangedEvent lmce) {
         logger.info("Local data changed, saving to primary data file");
         saveDataToFile(saveFile, lmce.data);
@@ -131,6 +138,7 @@ public class StorageManager extends ComponentManager {
      * Raises FileSavingExceptionEvent (similar to {@link #saveDataToFile(File, ReadOnlyAddressBook)})
      */
     @Subscribe
+    @HandleOn(value = ExecutionMode.BACKGROUND, executor = STORAGE_EXECUTOR)
     public void handleSaveDataRequestEvent(SaveDataRequestEvent sdre) {
         logger.info("Save data request received: {}", sdre.data);
         saveDataToFile(sdre.file, sdre.data);
@@ -153,14 +161,23 @@ public class StorageManager extends ComponentManager {
      * Saves the address book data in the file specified.
      */
     public static void saveAddressBook(File file, ReadOnlyAddressBook data) throws IOException, DataConversionException {
-        FileUtil.createIfMissing(file);
-        XmlFileStorage.saveDataToFile(file, new StorageAddressBook(data));
+        long start = System.nanoTime();
+        try {
+            FileUtil.createIfMissing(file);
+            XmlFileStorage.saveDataToFile(file, new StorageAddressBook(data));
+        } catch (IOException | DataConversionException e) {
+            saveFailures.increment();
+            throw e;
+        } finally {
+            saveTimer.recordSince(start);
+        }
     }
 
     /**
      * Raises FileSavingExceptionEvent
      */
     @Subscribe
+    @HandleOn(value = ExecutionMode.BACKGROUND, executor = STORAGE_EXECUTOR)
     public void handleSavePrefsRequestEvent(SavePrefsRequestEvent spre) {
         logger.info("Save prefs request received: {}", spre.prefs);
         savePrefsToFile(spre.prefs);
@@ -237,6 +254,11 @@ public class StorageManager extends ComponentManager {
 
     public ReadOnlyAddressBook getData() throws FileNotFoundException, DataConversionException {
         logger.debug("Attempting to read data from file: {}", saveFile);
-        return XmlFileStorage.loadDataFromSaveFile(saveFile);
+        long start = System.nanoTime();
+        try {
+            return XmlFileStorage.loadDataFromSaveFile(saveFile);
+        } finally {
+            loadTimer.recordSince(start);
+        }
     }
 }
@@ -2,6 +2,7 @@ package address.storage;
 
 import address.model.datatypes.person.ReadOnlyPerson;
 import address.model.datatypes.tag.Tag;
+import commons.FractionalRank;
 import commons.XmlUtil;
 
 import javax.xml.bind.annotation.XmlElement;
@@ -38,6 +39,8 @@ public class StoragePerson implements ReadOnlyPerson {
     @XmlJavaTypeAdapter(XmlUtil.LocalDateAdapter.class)
     private LocalDate birthday;
     @XmlElement
+    private String rank;
+    @XmlElement
     private List<Tag> tags;
 
     {
@@ -61,6 +64,7 @@ public class StoragePerson implements ReadOnlyPerson {
         postalCode = src.getPostalCode();
         city = src.getCity();
         birthday = src.getBirthday();
+        rank = src.getRank();
         tags.addAll(src.getTagList());
     }
     
@@ -103,6 +107,14 @@ public class StoragePerson implements ReadOnlyPerson {
         return birthday;
     }
 
+    /**
+     * Files saved before persons were ranked have no rank element
+     */
+    @Override
+    public String getRank() {
+        return rank == null ? FractionalRank.UNRANKED : rank;
+    }
+
     @Override
     public List<Tag> getTagList() {
         return Collections.unmodifiableList(tags);
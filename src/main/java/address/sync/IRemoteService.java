@@ -2,21 +2,24 @@ package address.sync;
 
 import address.model.datatypes.person.ReadOnlyPerson;
 import address.model.datatypes.tag.Tag;
-import address.model.datatypes.person.Person;
+import address.model.datatypes.person.PersonRecord;
 
 import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public interface IRemoteService {
     // Consumes API quota
-    ExtractedRemoteResponse<List<Person>> getPersons(String addressBookName, int pageNumber) throws IOException;
+    ExtractedRemoteResponse<List<PersonRecord>> getPersons(String addressBookName, int pageNumber) throws IOException;
 
     ExtractedRemoteResponse<List<Tag>> getTags(String addressBookName, int pageNumber, String previousETag) throws IOException;
 
-    ExtractedRemoteResponse<Person> createPerson(String addressBookName, ReadOnlyPerson person) throws IOException;
-    ExtractedRemoteResponse<Person> updatePerson(String addressBookName, int personId, ReadOnlyPerson updatedPerson) throws IOException;
+    ExtractedRemoteResponse<PersonRecord> createPerson(String addressBookName, ReadOnlyPerson person)
+            throws IOException;
+    ExtractedRemoteResponse<PersonRecord> updatePerson(String addressBookName, int personId,
+                                                       ReadOnlyPerson updatedPerson) throws IOException;
     ExtractedRemoteResponse<Void> deletePerson(String addressBookName, int personId) throws IOException;
 
     ExtractedRemoteResponse<Tag> createTag(String addressBookName, Tag tag) throws IOException;
@@ -25,10 +28,26 @@ public interface IRemoteService {
 
     ExtractedRemoteResponse<Void> createAddressBook(String addressBookName) throws IOException;
 
-    ExtractedRemoteResponse<List<Person>> getUpdatedPersonsSince(String addressBookName, int curPageNumber, LocalDateTime time, String previousETag)
+    ExtractedRemoteResponse<List<PersonRecord>> getUpdatedPersonsSince(String addressBookName, int curPageNumber,
+                                                                       LocalDateTime time, String previousETag)
             throws IOException;
 
     // Does not consume API
     ExtractedRemoteResponse<HashMap<String, String>> getLimitStatus() throws IOException;
 
+    // Non-blocking variants, only supported if isAsync()
+    boolean isAsync();
+
+    CompletableFuture<ExtractedRemoteResponse<PersonRecord>> createPersonAsync(String addressBookName,
+                                                                               ReadOnlyPerson person);
+    CompletableFuture<ExtractedRemoteResponse<PersonRecord>> updatePersonAsync(String addressBookName, int personId,
+                                                                               ReadOnlyPerson updatedPerson);
+    CompletableFuture<ExtractedRemoteResponse<Void>> deletePersonAsync(String addressBookName, int personId);
+
+    CompletableFuture<ExtractedRemoteResponse<Tag>> createTagAsync(String addressBookName, Tag tag);
+    CompletableFuture<ExtractedRemoteResponse<Tag>> editTagAsync(String addressBookName, String oldTagName, Tag newTag);
+    CompletableFuture<ExtractedRemoteResponse<Void>> deleteTagAsync(String addressBookName, String tagName);
+
+    CompletableFuture<ExtractedRemoteResponse<Void>> createAddressBookAsync(String addressBookName);
+
 }
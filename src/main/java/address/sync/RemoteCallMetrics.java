@@ -0,0 +1,72 @@
+package address.sync;
+
+import address.sync.cloud.IAsyncRemote;
+import address.sync.cloud.IRemote;
+import commons.MetricsRegistry;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Records the metrics of the requests made by the {@link RemoteService}
+ *
+ * The duration of each remote call is recorded in a timer named "remote." followed by the method name, until the
+ * response arrives for non-blocking calls. The API quota reported by the latest response is kept in the
+ * "remote.quota.*" gauges.
+ */
+class RemoteCallMetrics {
+    private static final MetricsRegistry metrics = MetricsRegistry.getInstance();
+
+    private RemoteCallMetrics() {
+    }
+
+    /**
+     * @return remote timing every call to the given remote
+     */
+    static IRemote instrument(IRemote remote) {
+        return instrument(IRemote.class, remote);
+    }
+
+    /**
+     * @return remote timing every call to the given remote, until its response arrives
+     */
+    static IAsyncRemote instrument(IAsyncRemote asyncRemote) {
+        return instrument(IAsyncRemote.class, asyncRemote);
+    }
+
+    /**
+     * Records the quota status of the response, if it has one
+     */
+    static void recordQuota(ExtractedRemoteResponse<?> response) {
+        if (response.getQuotaLimit() == 0) return; // response without rate limit headers
+        metrics.gauge("remote.quota.limit").set(response.getQuotaLimit());
+        metrics.gauge("remote.quota.remaining").set(response.getQuotaRemaining());
+        metrics.gauge("remote.quota.used").set(response.getQuotaLimit() - response.getQuotaRemaining());
+    }
+
+    private static <T> T instrument(Class<T> remoteType, T remote) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) return method.invoke(remote, args);
+
+            MetricsRegistry.Timer timer = metrics.timer("remote." + method.getName());
+            long start = System.nanoTime();
+            Object result;
+            try {
+                result = method.invoke(remote, args);
+            } catch (InvocationTargetException e) {
+                timer.recordSince(start);
+                throw e.getCause();
+            }
+            if (result instanceof CompletableFuture) {
+                ((CompletableFuture<?>) result).whenComplete((response, exception) -> timer.recordSince(start));
+            } else {
+                timer.recordSince(start);
+            }
+            return result;
+        };
+        return remoteType.cast(Proxy.newProxyInstance(remoteType.getClassLoader(), new Class<?>[] {remoteType},
+                                                      handler));
+    }
+}
@@ -1,8 +1,9 @@
 package address.sync;
 
-import address.model.datatypes.person.Person;
+import address.model.datatypes.person.PersonRecord;
 import address.model.datatypes.person.ReadOnlyPerson;
 import address.model.datatypes.tag.Tag;
+import address.sync.cloud.IAsyncRemote;
 import address.sync.cloud.IRemote;
 import address.util.AppLogger;
 import address.util.LoggerManager;
@@ -14,6 +15,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * This class is meant to abstract away the details for making requests to the remote
@@ -33,11 +35,23 @@ public class RemoteManager {
         remoteService = new RemoteService(remote);
     }
 
+    public RemoteManager(IAsyncRemote asyncRemote) {
+        updateInformation = new HashMap<>();
+        remoteService = new RemoteService(asyncRemote);
+    }
+
     public RemoteManager(RemoteService remoteService) {
         updateInformation = new HashMap<>();
         this.remoteService = remoteService;
     }
 
+    /**
+     * @return true if the non-blocking request methods are supported
+     */
+    public boolean isAsync() {
+        return remoteService.isAsync();
+    }
+
     /**
      * Attempts to get the list of updated persons since the last update, if it exists
      * Else simply attempts to get the full list of persons
@@ -46,10 +60,10 @@ public class RemoteManager {
      * @return full list of persons since the last known request if request was successful
      * @throws IOException
      */
-    public Optional<List<Person>> getUpdatedPersons(String addressBookName) throws IOException {
-        ExtractedRemoteResponse<List<Person>> response;
+    public Optional<List<PersonRecord>> getUpdatedPersons(String addressBookName) throws IOException {
+        ExtractedRemoteResponse<List<PersonRecord>> response;
 
-        List<Person> personList = new ArrayList<>();
+        List<PersonRecord> personList = new ArrayList<>();
         int curPage = 1;
         logger.info("Getting updated persons from remote.");
         do {
@@ -125,8 +139,8 @@ public class RemoteManager {
      * @return Resulting person if creation is successful
      * @throws IOException
      */
-    public Optional<Person> createPerson(String addressBookName, ReadOnlyPerson person) throws IOException {
-        ExtractedRemoteResponse<Person> response = remoteService.createPerson(addressBookName, person);
+    public Optional<PersonRecord> createPerson(String addressBookName, ReadOnlyPerson person) throws IOException {
+        ExtractedRemoteResponse<PersonRecord> response = remoteService.createPerson(addressBookName, person);
         return response.getData();
     }
 
@@ -151,8 +165,10 @@ public class RemoteManager {
      * @return Resulting person if update is successful
      * @throws IOException
      */
-    public Optional<Person> updatePerson(String addressBookName, int personId, ReadOnlyPerson updatedPerson) throws IOException {
-        ExtractedRemoteResponse<Person> response = remoteService.updatePerson(addressBookName, personId, updatedPerson);
+    public Optional<PersonRecord> updatePerson(String addressBookName, int personId, ReadOnlyPerson updatedPerson)
+            throws IOException {
+        ExtractedRemoteResponse<PersonRecord> response = remoteService.updatePerson(addressBookName, personId,
+                                                                                    updatedPerson);
         return response.getData();
     }
 
@@ -204,6 +220,90 @@ public class RemoteManager {
         return response.getResponseCode() == HttpURLConnection.HTTP_CREATED;
     }
 
+    /**
+     * Non-blocking variant of createPerson, only supported if isAsync()
+     *
+     * @param addressBookName
+     * @param person
+     * @return future of the resulting person if creation is successful
+     */
+    public CompletableFuture<Optional<PersonRecord>> createPersonAsync(String addressBookName, ReadOnlyPerson person) {
+        return remoteService.createPersonAsync(addressBookName, person).thenApply(ExtractedRemoteResponse::getData);
+    }
+
+    /**
+     * Non-blocking variant of createTag, only supported if isAsync()
+     *
+     * @param addressBookName
+     * @param tag
+     * @return future of the resulting tag if creation is successful
+     */
+    public CompletableFuture<Optional<Tag>> createTagAsync(String addressBookName, Tag tag) {
+        return remoteService.createTagAsync(addressBookName, tag).thenApply(ExtractedRemoteResponse::getData);
+    }
+
+    /**
+     * Non-blocking variant of updatePerson, only supported if isAsync()
+     *
+     * @param addressBookName
+     * @param personId id of the person to be updated
+     * @param updatedPerson updated person
+     * @return future of the resulting person if update is successful
+     */
+    public CompletableFuture<Optional<PersonRecord>> updatePersonAsync(String addressBookName, int personId,
+                                                                       ReadOnlyPerson updatedPerson) {
+        return remoteService.updatePersonAsync(addressBookName, personId, updatedPerson)
+                .thenApply(ExtractedRemoteResponse::getData);
+    }
+
+    /**
+     * Non-blocking variant of editTag, only supported if isAsync()
+     *
+     * @param addressBookName
+     * @param tagName name of the tag
+     * @param editedTag edited tag
+     * @return future of the resulting tag if edit is successful
+     */
+    public CompletableFuture<Optional<Tag>> editTagAsync(String addressBookName, String tagName, Tag editedTag) {
+        return remoteService.editTagAsync(addressBookName, tagName, editedTag)
+                .thenApply(ExtractedRemoteResponse::getData);
+    }
+
+    /**
+     * Non-blocking variant of deleteTag, only supported if isAsync()
+     *
+     * @param addressBookName
+     * @param tagName
+     * @return future of true if successful
+     */
+    public CompletableFuture<Boolean> deleteTagAsync(String addressBookName, String tagName) {
+        return remoteService.deleteTagAsync(addressBookName, tagName)
+                .thenApply(response -> response.getResponseCode() == HttpURLConnection.HTTP_NO_CONTENT);
+    }
+
+    /**
+     * Non-blocking variant of deletePerson, only supported if isAsync()
+     *
+     * @param addressBookName
+     * @param personId
+     * @return future of true if successful
+     */
+    public CompletableFuture<Boolean> deletePersonAsync(String addressBookName, int personId) {
+        return remoteService.deletePersonAsync(addressBookName, personId)
+                .thenApply(response -> response.getResponseCode() == HttpURLConnection.HTTP_NO_CONTENT);
+    }
+
+    /**
+     * Non-blocking variant of createAddressBook, only supported if isAsync()
+     *
+     * @param addressBookName
+     * @return future of true if successful
+     */
+    public CompletableFuture<Boolean> createAddressBookAsync(String addressBookName) {
+        return remoteService.createAddressBookAsync(addressBookName)
+                .thenApply(response -> response.getResponseCode() == HttpURLConnection.HTTP_CREATED);
+    }
+
     private <T> int getLastUpdatedPageCount(HashMap<String, LastUpdate<T>> updateInformation, String addressBookName) {
         if (!updateInformation.containsKey(addressBookName)) return 0;
         return updateInformation.get(addressBookName).getETagCount();
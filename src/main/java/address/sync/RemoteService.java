@@ -2,18 +2,23 @@ package address.sync;
 
 import address.model.datatypes.person.ReadOnlyPerson;
 import address.model.datatypes.tag.Tag;
-import address.model.datatypes.person.Person;
+import address.model.datatypes.person.PersonRecord;
+import address.sync.cloud.BlockingRemoteAdapter;
+import address.sync.cloud.IAsyncRemote;
 import address.sync.cloud.IRemote;
 import address.sync.cloud.RemoteResponse;
 import address.sync.cloud.model.CloudPerson;
 import address.sync.cloud.model.CloudTag;
 import address.util.AppLogger;
+import commons.FractionalRank;
 import commons.JsonUtil;
 import address.util.LoggerManager;
 
 import java.io.*;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
 
 /**
@@ -22,15 +27,40 @@ import java.util.stream.Collectors;
  *
  * Most of the responses are returned as ExtractedRemoteResponse which should include the rate limit status
  * if the respective remote response(s) contain(s) them
+ *
+ * The durations of the remote calls and the latest rate limit status are recorded in the {@link RemoteCallMetrics}
  */
 public class RemoteService implements IRemoteService {
     private static final AppLogger logger = LoggerManager.getLogger(RemoteService.class);
     private static final int RESOURCES_PER_PAGE = 100;
 
     private final IRemote remote;
+    private final Optional<IAsyncRemote> asyncRemote;
 
     public RemoteService(IRemote remote) {
-        this.remote = remote;
+        this.remote = RemoteCallMetrics.instrument(remote);
+        this.asyncRemote = Optional.empty();
+    }
+
+    /**
+     * Creates a service that can also make non-blocking requests
+     *
+     * Blocking requests to the remote are made by waiting for the non-blocking ones
+     *
+     * @param asyncRemote
+     */
+    public RemoteService(IAsyncRemote asyncRemote) {
+        IAsyncRemote instrumentedAsyncRemote = RemoteCallMetrics.instrument(asyncRemote);
+        this.remote = new BlockingRemoteAdapter(instrumentedAsyncRemote);
+        this.asyncRemote = Optional.of(instrumentedAsyncRemote);
+    }
+
+    /**
+     * @return true if the non-blocking variants of the single-request methods are supported
+     */
+    @Override
+    public boolean isAsync() {
+        return asyncRemote.isPresent();
     }
 
     /**
@@ -66,7 +96,7 @@ public class RemoteService implements IRemoteService {
      * @throws IOException if content cannot be interpreted
      */
     @Override
-    public ExtractedRemoteResponse<List<Person>> getPersons(String addressBookName, int pageNumber)
+    public ExtractedRemoteResponse<List<PersonRecord>> getPersons(String addressBookName, int pageNumber)
             throws IOException {
         RemoteResponse remoteResponse;
         remoteResponse = remote.getPersons(addressBookName, pageNumber, RESOURCES_PER_PAGE, null);
@@ -110,13 +140,24 @@ public class RemoteService implements IRemoteService {
      * @throws IOException if content cannot be interpreted
      */
     @Override
-    public ExtractedRemoteResponse<Person> createPerson(String addressBookName, ReadOnlyPerson newPerson) throws IOException {
+    public ExtractedRemoteResponse<PersonRecord> createPerson(String addressBookName, ReadOnlyPerson newPerson)
+            throws IOException {
         RemoteResponse remoteResponse = remote.createPerson(addressBookName, convertToCloudPerson(newPerson), null);
-        if (!isValid(remoteResponse)) {
-            return getResponseWithNoData(remoteResponse);
-        }
-        CloudPerson returnedPerson = getDataFromBody(remoteResponse.getBody(), CloudPerson.class);
-        return prepareExtractedResponse(remoteResponse, convertToPerson(returnedPerson));
+        return extractPersonResponse(remoteResponse);
+    }
+
+    /**
+     * Non-blocking variant of createPerson, only supported if isAsync()
+     *
+     * @param addressBookName
+     * @param newPerson
+     * @return future of the wrapped response, completed exceptionally if the content cannot be interpreted
+     */
+    @Override
+    public CompletableFuture<ExtractedRemoteResponse<PersonRecord>> createPersonAsync(String addressBookName,
+                                                                                      ReadOnlyPerson newPerson) {
+        return extractAsync(getAsyncRemote().createPerson(addressBookName, convertToCloudPerson(newPerson), null),
+                            this::extractPersonResponse);
     }
 
     /**
@@ -131,15 +172,28 @@ public class RemoteService implements IRemoteService {
      * @throws IOException if content cannot be interpreted
      */
     @Override
-    public ExtractedRemoteResponse<Person> updatePerson(String addressBookName, int personId, ReadOnlyPerson updatedPerson)
-            throws IOException {
+    public ExtractedRemoteResponse<PersonRecord> updatePerson(String addressBookName, int personId,
+                                                              ReadOnlyPerson updatedPerson) throws IOException {
         RemoteResponse remoteResponse = remote.updatePerson(addressBookName, personId,
                 convertToCloudPerson(updatedPerson), null);
-        if (!isValid(remoteResponse)) {
-            return getResponseWithNoData(remoteResponse);
-        }
-        CloudPerson returnedPerson = getDataFromBody(remoteResponse.getBody(), CloudPerson.class);
-        return prepareExtractedResponse(remoteResponse, convertToPerson(returnedPerson));
+        return extractPersonResponse(remoteResponse);
+    }
+
+    /**
+     * Non-blocking variant of updatePerson, only supported if isAsync()
+     *
+     * @param addressBookName
+     * @param personId
+     * @param updatedPerson
+     * @return future of the wrapped response, completed exceptionally if the content cannot be interpreted
+     */
+    @Override
+    public CompletableFuture<ExtractedRemoteResponse<PersonRecord>> updatePersonAsync(String addressBookName,
+                                                                                      int personId,
+                                                                                      ReadOnlyPerson updatedPerson) {
+        return extractAsync(getAsyncRemote().updatePerson(addressBookName, personId,
+                                                          convertToCloudPerson(updatedPerson), null),
+                            this::extractPersonResponse);
     }
 
     /**
@@ -159,6 +213,18 @@ public class RemoteService implements IRemoteService {
         return getResponseWithNoData(remoteResponse);
     }
 
+    /**
+     * Non-blocking variant of deletePerson, only supported if isAsync()
+     *
+     * @param addressBookName
+     * @param personId
+     * @return future of the wrapped response with no additional data
+     */
+    @Override
+    public CompletableFuture<ExtractedRemoteResponse<Void>> deletePersonAsync(String addressBookName, int personId) {
+        return getAsyncRemote().deletePerson(addressBookName, personId).thenApply(this::getResponseWithNoData);
+    }
+
     /**
      * Creates a tag on the remote, if quota is available
      *
@@ -172,11 +238,20 @@ public class RemoteService implements IRemoteService {
     @Override
     public ExtractedRemoteResponse<Tag> createTag(String addressBookName, Tag tag) throws IOException {
         RemoteResponse remoteResponse = remote.createTag(addressBookName, convertToCloudTag(tag), null);
-        if (!isValid(remoteResponse)) {
-            return getResponseWithNoData(remoteResponse);
-        }
-        CloudTag returnedTag = getDataFromBody(remoteResponse.getBody(), CloudTag.class);
-        return prepareExtractedResponse(remoteResponse, convertToTag(returnedTag));
+        return extractTagResponse(remoteResponse);
+    }
+
+    /**
+     * Non-blocking variant of createTag, only supported if isAsync()
+     *
+     * @param addressBookName
+     * @param tag
+     * @return future of the wrapped response, completed exceptionally if the content cannot be interpreted
+     */
+    @Override
+    public CompletableFuture<ExtractedRemoteResponse<Tag>> createTagAsync(String addressBookName, Tag tag) {
+        return extractAsync(getAsyncRemote().createTag(addressBookName, convertToCloudTag(tag), null),
+                            this::extractTagResponse);
     }
 
     /**
@@ -194,11 +269,22 @@ public class RemoteService implements IRemoteService {
     public ExtractedRemoteResponse<Tag> editTag(String addressBookName, String oldTagName, Tag newTag)
             throws IOException {
         RemoteResponse remoteResponse = remote.editTag(addressBookName, oldTagName, convertToCloudTag(newTag), null);
-        if (!isValid(remoteResponse)) {
-            return getResponseWithNoData(remoteResponse);
-        }
-        CloudTag returnedTag = getDataFromBody(remoteResponse.getBody(), CloudTag.class);
-        return prepareExtractedResponse(remoteResponse, convertToTag(returnedTag));
+        return extractTagResponse(remoteResponse);
+    }
+
+    /**
+     * Non-blocking variant of editTag, only supported if isAsync()
+     *
+     * @param addressBookName
+     * @param oldTagName
+     * @param newTag
+     * @return future of the wrapped response, completed exceptionally if the content cannot be interpreted
+     */
+    @Override
+    public CompletableFuture<ExtractedRemoteResponse<Tag>> editTagAsync(String addressBookName, String oldTagName,
+                                                                        Tag newTag) {
+        return extractAsync(getAsyncRemote().editTag(addressBookName, oldTagName, convertToCloudTag(newTag), null),
+                            this::extractTagResponse);
     }
 
     /**
@@ -217,6 +303,18 @@ public class RemoteService implements IRemoteService {
         return getResponseWithNoData(remoteResponse);
     }
 
+    /**
+     * Non-blocking variant of deleteTag, only supported if isAsync()
+     *
+     * @param addressBookName
+     * @param tagName
+     * @return future of the wrapped response with no additional data
+     */
+    @Override
+    public CompletableFuture<ExtractedRemoteResponse<Void>> deleteTagAsync(String addressBookName, String tagName) {
+        return getAsyncRemote().deleteTag(addressBookName, tagName).thenApply(this::getResponseWithNoData);
+    }
+
     /**
      * Gets the list of persons at page pageNumber for addressBookName, which have been modified after a certain time,
      * if quota is available.
@@ -231,7 +329,7 @@ public class RemoteService implements IRemoteService {
      * @throws IOException if content cannot be interpreted
      */
     @Override
-    public ExtractedRemoteResponse<List<Person>> getUpdatedPersonsSince(String addressBookName, int pageNumber,
+    public ExtractedRemoteResponse<List<PersonRecord>> getUpdatedPersonsSince(String addressBookName, int pageNumber,
                                                                         LocalDateTime time, String previousETag)
             throws IOException {
         RemoteResponse remoteResponse = remote.getUpdatedPersons(addressBookName, time.toString(), pageNumber,
@@ -262,10 +360,12 @@ public class RemoteService implements IRemoteService {
         }
         HashMap<String, String> bodyHashMap = getHashMapFromBody(remoteResponse.getBody());
         HashMap<String, String> simplifiedHashMap = getHeaderLimitStatus(bodyHashMap);
-        return new ExtractedRemoteResponse<>(remoteResponse.getResponseCode(), getETagFromHeader(headerHashMap),
-                                            getRateLimitFromHeader(headerHashMap),
-                                            getRateRemainingFromHeader(headerHashMap),
-                                            getRateResetFromHeader(headerHashMap), simplifiedHashMap);
+        ExtractedRemoteResponse<HashMap<String, String>> extractedResponse = new ExtractedRemoteResponse<>(
+                remoteResponse.getResponseCode(), getETagFromHeader(headerHashMap),
+                getRateLimitFromHeader(headerHashMap), getRateRemainingFromHeader(headerHashMap),
+                getRateResetFromHeader(headerHashMap), simplifiedHashMap);
+        RemoteCallMetrics.recordQuota(extractedResponse);
+        return extractedResponse;
     }
 
     /**
@@ -284,6 +384,58 @@ public class RemoteService implements IRemoteService {
         return getResponseWithNoData(remoteResponse);
     }
 
+    /**
+     * Non-blocking variant of createAddressBook, only supported if isAsync()
+     *
+     * @param addressBookName
+     * @return future of the wrapped response with no additional data
+     */
+    @Override
+    public CompletableFuture<ExtractedRemoteResponse<Void>> createAddressBookAsync(String addressBookName) {
+        return getAsyncRemote().createAddressBook(addressBookName).thenApply(this::getResponseWithNoData);
+    }
+
+    private IAsyncRemote getAsyncRemote() {
+        return asyncRemote.orElseThrow(() -> new UnsupportedOperationException(
+                "Remote does not support non-blocking requests"));
+    }
+
+    /**
+     * Applies extractor to the response once it arrives, wrapping any IOException in a CompletionException
+     */
+    private <T> CompletableFuture<ExtractedRemoteResponse<T>> extractAsync(
+            CompletableFuture<RemoteResponse> remoteResponse, ResponseExtractor<T> extractor) {
+        return remoteResponse.thenApply(response -> {
+            try {
+                return extractor.extract(response);
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+    private ExtractedRemoteResponse<PersonRecord> extractPersonResponse(RemoteResponse remoteResponse)
+            throws IOException {
+        if (!isValid(remoteResponse)) {
+            return getResponseWithNoData(remoteResponse);
+        }
+        CloudPerson returnedPerson = getDataFromBody(remoteResponse.getBody(), CloudPerson.class);
+        return prepareExtractedResponse(remoteResponse, convertToPerson(returnedPerson));
+    }
+
+    private ExtractedRemoteResponse<Tag> extractTagResponse(RemoteResponse remoteResponse) throws IOException {
+        if (!isValid(remoteResponse)) {
+            return getResponseWithNoData(remoteResponse);
+        }
+        CloudTag returnedTag = getDataFromBody(remoteResponse.getBody(), CloudTag.class);
+        return prepareExtractedResponse(remoteResponse, convertToTag(returnedTag));
+    }
+
+    @FunctionalInterface
+    private interface ResponseExtractor<T> {
+        ExtractedRemoteResponse<T> extract(RemoteResponse remoteResponse) throws IOException;
+    }
+
     private <T> ExtractedRemoteResponse<T> prepareExtractedResponse(RemoteResponse remoteResponse, T data) {
         HashMap<String, String> headerHashMap = remoteResponse.getHeaders();
         ExtractedRemoteResponse<T> extractedResponse = new ExtractedRemoteResponse<>(remoteResponse.getResponseCode(),
@@ -295,6 +447,7 @@ public class RemoteService implements IRemoteService {
         extractedResponse.setPrevPage(remoteResponse.getPreviousPageNo());
         extractedResponse.setFirstPage(remoteResponse.getFirstPageNo());
         extractedResponse.setLastPage(remoteResponse.getLastPageNo());
+        RemoteCallMetrics.recordQuota(extractedResponse);
         return extractedResponse;
     }
 
@@ -311,10 +464,12 @@ public class RemoteService implements IRemoteService {
         if (headerHashMap == null || headerHashMap.size() < 3) {
             return new ExtractedRemoteResponse<>(remoteResponse.getResponseCode());
         }
-        return new ExtractedRemoteResponse<>(remoteResponse.getResponseCode(), getETagFromHeader(headerHashMap),
-                                            getRateLimitFromHeader(headerHashMap),
-                                            getRateRemainingFromHeader(headerHashMap),
-                                            getRateResetFromHeader(headerHashMap), null);
+        ExtractedRemoteResponse<V> extractedResponse = new ExtractedRemoteResponse<>(
+                remoteResponse.getResponseCode(), getETagFromHeader(headerHashMap),
+                getRateLimitFromHeader(headerHashMap), getRateRemainingFromHeader(headerHashMap),
+                getRateResetFromHeader(headerHashMap), null);
+        RemoteCallMetrics.recordQuota(extractedResponse);
+        return extractedResponse;
     }
 
     private BufferedReader getReaderForStream(InputStream stream) {
@@ -385,7 +540,7 @@ public class RemoteService implements IRemoteService {
         return Long.parseLong(header.get("X-RateLimit-Reset"));
     }
 
-    private List<Person> convertToPersonList(List<CloudPerson> cloudPersonList) {
+    private List<PersonRecord> convertToPersonList(List<CloudPerson> cloudPersonList) {
         return cloudPersonList.stream()
                 .map(this::convertToPerson)
                 .collect(Collectors.toCollection(ArrayList::new));
@@ -403,17 +558,12 @@ public class RemoteService implements IRemoteService {
                 .collect(Collectors.toCollection(ArrayList::new));
     }
 
-    private Person convertToPerson(CloudPerson cloudPerson) {
-        // TODO: Copy CloudPerson's ID once person ID is implemented
-        Person person = new Person(cloudPerson.getFirstName(), cloudPerson.getLastName(), cloudPerson.getId());
-        person.setStreet(cloudPerson.getStreet());
-        person.setCity(cloudPerson.getCity());
-        person.setPostalCode(cloudPerson.getPostalCode());
-        person.setGithubUsername(cloudPerson.getGithubUsername());
-        person.setTags(convertToTagList(cloudPerson.getTags()));
-        person.setBirthday(cloudPerson.getBirthday());
-        person.setIsDeleted(cloudPerson.isDeleted());
-        return person;
+    private PersonRecord convertToPerson(CloudPerson cloudPerson) {
+        return new PersonRecord(cloudPerson.getId(), cloudPerson.getFirstName(), cloudPerson.getLastName(),
+                                cloudPerson.getGithubUsername(), cloudPerson.getStreet(), cloudPerson.getPostalCode(),
+                                cloudPerson.getCity(), cloudPerson.getBirthday(),
+                                cloudPerson.getRank() == null ? FractionalRank.UNRANKED : cloudPerson.getRank(),
+                                convertToTagList(cloudPerson.getTags()).toArray(new Tag[0]), cloudPerson.isDeleted());
     }
 
     private CloudPerson convertToCloudPerson(ReadOnlyPerson person) {
@@ -424,6 +574,7 @@ public class RemoteService implements IRemoteService {
         cloudPerson.setGithubUsername(person.getGithubUsername());
         cloudPerson.setTags(convertToCloudTagList(person.getTagList()));
         cloudPerson.setBirthday(person.getBirthday());
+        cloudPerson.setRank(person.getRank());
         cloudPerson.setDeleted(false);
         return cloudPerson;
     }
@@ -9,6 +9,8 @@ import address.sync.task.*;
 import address.util.AppLogger;
 import address.util.Config;
 import address.util.LoggerManager;
+import address.util.concurrent.BackPressurePolicy;
+import address.util.concurrent.ExecutorManager;
 import com.google.common.eventbus.Subscribe;
 
 import java.util.Optional;
@@ -24,7 +26,8 @@ import java.util.function.BiConsumer;
  * Contains event handlers for remote request events. These events should provide a result container
  * for SyncManager to place the result into after finishing the request.
  *
- * All remote requests are run in a separate thread
+ * All remote requests are run in a separate thread, unless the remote supports non-blocking requests, in which case
+ * the requests' futures are composed directly
  */
 public class SyncManager extends ComponentManager {
     private static final AppLogger logger = LoggerManager.getLogger(SyncManager.class);
@@ -39,12 +42,27 @@ public class SyncManager extends ComponentManager {
     /**
      * Constructor for SyncManager
      *
+     * Remote requests run on a bounded pool sized by config. When it is saturated, requests run in the thread raising
+     * them, which throttles the raiser to the pace of the remote.
+     *
      * @param config should have updateInterval (milliseconds) and simulateUnreliableNetwork set
      * @param activeAddressBookName name of active addressbook to start with
      */
     public SyncManager(RemoteManager remoteManager, Config config, String activeAddressBookName) {
-        this(config, remoteManager, Executors.newCachedThreadPool(),
-                Executors.newSingleThreadScheduledExecutor(), activeAddressBookName);
+        this(remoteManager, config, activeAddressBookName, EventManager.getInstance());
+    }
+
+    /**
+     * Constructor for SyncManager raising and handling events on the given eventManager
+     *
+     * @see #SyncManager(RemoteManager, Config, String)
+     */
+    public SyncManager(RemoteManager remoteManager, Config config, String activeAddressBookName,
+                       EventManager eventManager) {
+        this(config, remoteManager,
+                ExecutorManager.newExecutor("Sync Request", config.getSyncRequestThreads(),
+                                            config.getSyncRequestQueueCapacity(), BackPressurePolicy.CALLER_RUNS),
+                Executors.newSingleThreadScheduledExecutor(), activeAddressBookName, eventManager);
     }
 
     /**
@@ -57,7 +75,14 @@ public class SyncManager extends ComponentManager {
      */
     public SyncManager(Config config, RemoteManager remoteManager, ExecutorService executorService,
                        ScheduledExecutorService scheduledExecutorService, String activeAddressBookName) {
-        super();
+        this(config, remoteManager, executorService, scheduledExecutorService, activeAddressBookName,
+             EventManager.getInstance());
+    }
+
+    private SyncManager(Config config, RemoteManager remoteManager, ExecutorService executorService,
+                        ScheduledExecutorService scheduledExecutorService, String activeAddressBookName,
+                        EventManager eventManager) {
+        super(eventManager);
         activeAddressBook = Optional.empty();
         this.config = config;
         this.remoteManager = remoteManager;
@@ -169,7 +194,9 @@ public class SyncManager extends ComponentManager {
     /**
      * Calls taskToCall and completes the eventResultContainer with the task's result
      *
-     * Both the task and the completion of the container run asynchronously using requestExecutor
+     * If the remote manager supports non-blocking requests, the task's future is used directly and no thread is
+     * occupied while waiting for the remote. Otherwise the task runs asynchronously using requestExecutor.
+     * The completion of the container always runs using requestExecutor.
      *
      * @param taskToCall
      * @param eventResultContainer
@@ -177,14 +204,17 @@ public class SyncManager extends ComponentManager {
      */
     private <T> void callTaskAndHandleResult(RemoteTaskWithResult<T> taskToCall,
                                              CompletableFuture<T> eventResultContainer) {
-        CompletableFuture<T> taskResultContainer = executeTaskForCompletableFuture(taskToCall, requestExecutor);
+        CompletableFuture<T> taskResultContainer = remoteManager.isAsync()
+                ? taskToCall.callAsync()
+                : executeTaskForCompletableFuture(taskToCall, requestExecutor);
         taskResultContainer.whenCompleteAsync(fillResultContainer(eventResultContainer), requestExecutor);
     }
 
     private <T> BiConsumer<T, Throwable> fillResultContainer(CompletableFuture<T> resultContainer) {
         return (person, ex) -> {
             if (ex != null) {
-                resultContainer.completeExceptionally(ex);
+                resultContainer.completeExceptionally(ex instanceof CompletionException && ex.getCause() != null
+                                                      ? ex.getCause() : ex);
                 return;
             }
             resultContainer.complete(person);
@@ -0,0 +1,95 @@
+package address.sync.cloud;
+
+import address.sync.cloud.model.CloudPerson;
+import address.sync.cloud.model.CloudTag;
+import address.util.AppLogger;
+import address.util.LoggerManager;
+
+import java.net.HttpURLConnection;
+import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Presents an {@link IAsyncRemote} as an {@link IRemote}, by waiting for each response
+ *
+ * Used for requests that are inherently sequential, such as following the pages of a paged response
+ */
+public class BlockingRemoteAdapter implements IRemote {
+    private static final AppLogger logger = LoggerManager.getLogger(BlockingRemoteAdapter.class);
+
+    private final IAsyncRemote asyncRemote;
+
+    public BlockingRemoteAdapter(IAsyncRemote asyncRemote) {
+        this.asyncRemote = asyncRemote;
+    }
+
+    @Override
+    public RemoteResponse createPerson(String addressBookName, CloudPerson newPerson, String previousETag) {
+        return await(asyncRemote.createPerson(addressBookName, newPerson, previousETag));
+    }
+
+    @Override
+    public RemoteResponse getPersons(String addressBookName, int pageNumber, int resourcesPerPage,
+                                     String previousETag) {
+        return await(asyncRemote.getPersons(addressBookName, pageNumber, resourcesPerPage, previousETag));
+    }
+
+    @Override
+    public RemoteResponse getUpdatedPersons(String addressBookName, String timeString, int pageNumber,
+                                            int resourcesPerPage, String previousETag) {
+        return await(asyncRemote.getUpdatedPersons(addressBookName, timeString, pageNumber, resourcesPerPage,
+                                                   previousETag));
+    }
+
+    @Override
+    public RemoteResponse getTags(String addressBookName, int pageNumber, int resourcesPerPage, String previousETag) {
+        return await(asyncRemote.getTags(addressBookName, pageNumber, resourcesPerPage, previousETag));
+    }
+
+    @Override
+    public RemoteResponse getRateLimitStatus(String previousETag) {
+        return await(asyncRemote.getRateLimitStatus(previousETag));
+    }
+
+    @Override
+    public RemoteResponse updatePerson(String addressBookName, int personId, CloudPerson updatedPerson,
+                                       String previousETag) {
+        return await(asyncRemote.updatePerson(addressBookName, personId, updatedPerson, previousETag));
+    }
+
+    @Override
+    public RemoteResponse deletePerson(String addressBookName, int personId) {
+        return await(asyncRemote.deletePerson(addressBookName, personId));
+    }
+
+    @Override
+    public RemoteResponse createTag(String addressBookName, CloudTag newTag, String previousETag) {
+        return await(asyncRemote.createTag(addressBookName, newTag, previousETag));
+    }
+
+    @Override
+    public RemoteResponse editTag(String addressBookName, String oldTagName, CloudTag updatedTag,
+                                  String previousETag) {
+        return await(asyncRemote.editTag(addressBookName, oldTagName, updatedTag, previousETag));
+    }
+
+    @Override
+    public RemoteResponse deleteTag(String addressBookName, String tagName) {
+        return await(asyncRemote.deleteTag(addressBookName, tagName));
+    }
+
+    @Override
+    public RemoteResponse createAddressBook(String addressBookName) {
+        return await(asyncRemote.createAddressBook(addressBookName));
+    }
+
+    private RemoteResponse await(CompletableFuture<RemoteResponse> responseFuture) {
+        try {
+            return responseFuture.join();
+        } catch (CompletionException e) {
+            logger.warn("Error waiting for remote response: {}", e.getCause());
+            return new RemoteResponse(HttpURLConnection.HTTP_UNAVAILABLE, null, new HashMap<>());
+        }
+    }
+}
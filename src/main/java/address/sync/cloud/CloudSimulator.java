@@ -96,8 +96,10 @@ public class CloudSimulator implements IRemote {
     @Override
     public synchronized RemoteResponse getPersons(String addressBookName, int pageNumber, int resourcesPerPage,
                                      String previousETag) {
-        logger.debug("getPersons called with: addressbook {}, page {}, resourcesperpage {}, prevETag {}",
-                addressBookName, pageNumber, resourcesPerPage, previousETag);
+        if (logger.isDebugEnabled()) {
+            logger.debug("getPersons called with: addressbook {}, page {}, resourcesperpage {}, prevETag {}",
+                    addressBookName, pageNumber, resourcesPerPage, previousETag);
+        }
         if (!hasApiQuotaRemaining()) return RemoteResponse.getForbiddenResponse(cloudRateLimitStatus);
 
         List<CloudPerson> fullPersonList = new ArrayList<>();
@@ -139,8 +141,10 @@ public class CloudSimulator implements IRemote {
      */
     @Override
     public synchronized RemoteResponse getTags(String addressBookName, int pageNumber, int resourcesPerPage, String previousETag) {
-        logger.debug("getTags called with: addressbook {}, page {}, resourcesperpage {}, prevETag {}", addressBookName,
-                pageNumber, resourcesPerPage, previousETag);
+        if (logger.isDebugEnabled()) {
+            logger.debug("getTags called with: addressbook {}, page {}, resourcesperpage {}, prevETag {}",
+                    addressBookName, pageNumber, resourcesPerPage, previousETag);
+        }
         if (!hasApiQuotaRemaining()) return RemoteResponse.getForbiddenResponse(cloudRateLimitStatus);
 
         List<CloudTag> fullTagList = new ArrayList<>();
@@ -195,8 +199,10 @@ public class CloudSimulator implements IRemote {
     public synchronized RemoteResponse updatePerson(String addressBookName, int personId,
                                        CloudPerson updatedPerson, String previousETag) {
 
-        logger.debug("updatePerson called with: addressbook {}, personid {}, person {}, prevETag {}", addressBookName,
-                personId, updatedPerson, previousETag);
+        if (logger.isDebugEnabled()) {
+            logger.debug("updatePerson called with: addressbook {}, personid {}, person {}, prevETag {}",
+                    addressBookName, personId, updatedPerson, previousETag);
+        }
         if (!hasApiQuotaRemaining()) return RemoteResponse.getForbiddenResponse(cloudRateLimitStatus);
         try {
             CloudAddressBook fileData = fileHandler.readCloudAddressBook(addressBookName);
@@ -283,8 +289,10 @@ public class CloudSimulator implements IRemote {
      */
     @Override
     public synchronized RemoteResponse editTag(String addressBookName, String oldTagName, CloudTag updatedTag, String previousETag) {
-        logger.debug("editTag called with: addressbook {}, tagname {}, tag {}, prevETag {}", addressBookName,
-                oldTagName, updatedTag, previousETag);
+        if (logger.isDebugEnabled()) {
+            logger.debug("editTag called with: addressbook {}, tagname {}, tag {}, prevETag {}", addressBookName,
+                    oldTagName, updatedTag, previousETag);
+        }
         if (!hasApiQuotaRemaining()) return RemoteResponse.getForbiddenResponse(cloudRateLimitStatus);
         try {
             CloudAddressBook fileData = fileHandler.readCloudAddressBook(addressBookName);
@@ -370,8 +378,10 @@ public class CloudSimulator implements IRemote {
     @Override
     public synchronized RemoteResponse getUpdatedPersons(String addressBookName, String timeString, int pageNumber,
                                             int resourcesPerPage, String previousETag) {
-        logger.debug("getUpdatedPersons called with: addressbook {}, time {}, pageno {}, resourcesperpage {}, prevETag {}",
-                addressBookName, timeString, pageNumber, resourcesPerPage, previousETag);
+        if (logger.isDebugEnabled()) {
+            logger.debug("getUpdatedPersons called with: addressbook {}, time {}, pageno {}, resourcesperpage {}, "
+                         + "prevETag {}", addressBookName, timeString, pageNumber, resourcesPerPage, previousETag);
+        }
 
         if (!hasApiQuotaRemaining()) return RemoteResponse.getForbiddenResponse(cloudRateLimitStatus);
         List<CloudPerson> fullPersonList = new ArrayList<>();
@@ -450,7 +460,7 @@ public class CloudSimulator implements IRemote {
     }
 
     private boolean hasApiQuotaRemaining() {
-        logger.info("Current quota left: {}", cloudRateLimitStatus.getQuotaRemaining());
+        if (logger.isDebugEnabled()) logger.debug("Current quota left: {}", cloudRateLimitStatus.getQuotaRemaining());
         return cloudRateLimitStatus.getQuotaRemaining() > 0;
     }
 
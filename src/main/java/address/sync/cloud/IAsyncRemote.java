@@ -0,0 +1,26 @@
+package address.sync.cloud;
+
+import address.sync.cloud.model.CloudPerson;
+import address.sync.cloud.model.CloudTag;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking counterpart of {@link IRemote}
+ *
+ * Implementations should not complete the returned futures exceptionally for network failures, but with a response
+ * whose code indicates the failure, as an {@link IRemote} would return
+ */
+public interface IAsyncRemote {
+    CompletableFuture<RemoteResponse> createPerson(String addressBookName, CloudPerson newPerson, String previousETag);
+    CompletableFuture<RemoteResponse> getPersons(String addressBookName, int pageNumber, int resourcesPerPage, String previousETag);
+    CompletableFuture<RemoteResponse> getUpdatedPersons(String addressBookName, String timeString, int pageNumber, int resourcesPerPage, String previousETag);
+    CompletableFuture<RemoteResponse> getTags(String addressBookName, int pageNumber, int resourcesPerPage, String previousETag);
+    CompletableFuture<RemoteResponse> getRateLimitStatus(String previousETag);
+    CompletableFuture<RemoteResponse> updatePerson(String addressBookName, int personId, CloudPerson updatedPerson, String previousETag);
+    CompletableFuture<RemoteResponse> deletePerson(String addressBookName, int personId);
+    CompletableFuture<RemoteResponse> createTag(String addressBookName, CloudTag newTag, String previousETag);
+    CompletableFuture<RemoteResponse> editTag(String addressBookName, String oldTagName, CloudTag updatedTag, String previousETag);
+    CompletableFuture<RemoteResponse> deleteTag(String addressBookName, String tagName);
+    CompletableFuture<RemoteResponse> createAddressBook(String addressBookName);
+}
@@ -50,6 +50,21 @@ public class RemoteResponse {
         this.body = convertToInputStream(body);
     }
 
+    /**
+     * Wraps a response that has already been produced elsewhere, e.g. one received over the network
+     *
+     * Does not use up any quota, since the quota has already been accounted for by whoever produced the response
+     *
+     * @param responseCode
+     * @param body fully-buffered body, or null if there is none
+     * @param headers
+     */
+    public RemoteResponse(int responseCode, InputStream body, HashMap<String, String> headers) {
+        this.responseCode = responseCode;
+        this.body = body;
+        this.headers = headers;
+    }
+
     private RemoteResponse(int responseCode, CloudRateLimitStatus cloudRateLimitStatus) {
         this.responseCode = responseCode;
         this.headers = getRateLimitStatusHeader(cloudRateLimitStatus);
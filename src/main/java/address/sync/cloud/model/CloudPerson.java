@@ -20,6 +20,7 @@ public class CloudPerson {
     private String city;
     private String postalCode;
     private String githubUsername;
+    private String rank;
     private List<CloudTag> tags;
     private boolean isDeleted;
 
@@ -36,6 +37,7 @@ public class CloudPerson {
         this.city = "";
         this.postalCode = "";
         this.githubUsername = "";
+        this.rank = "";
         this.isDeleted = false;
     }
 
@@ -125,6 +127,16 @@ public class CloudPerson {
         setLastUpdatedAt(LocalDateTime.now());
     }
 
+    @XmlElement(name = "rank")
+    public String getRank() {
+        return rank;
+    }
+
+    public void setRank(String rank) {
+        this.rank = rank;
+        setLastUpdatedAt(LocalDateTime.now());
+    }
+
     @XmlElement(name = "tags")
     public List<CloudTag> getTags() {
         return tags;
@@ -173,6 +185,7 @@ public class CloudPerson {
         this.city = updatedPerson.city;
         this.postalCode = updatedPerson.postalCode;
         this.githubUsername = updatedPerson.githubUsername;
+        this.rank = updatedPerson.rank;
         this.tags = updatedPerson.tags;
         this.isDeleted = updatedPerson.isDeleted;
         this.birthday = updatedPerson.birthday;
@@ -197,6 +210,7 @@ public class CloudPerson {
         if (street != null ? !street.equals(that.street) : that.street != null) return false;
         if (city != null ? !city.equals(that.city) : that.city != null) return false;
         if (postalCode != null ? !postalCode.equals(that.postalCode) : that.postalCode != null) return false;
+        if (rank != null ? !rank.equals(that.rank) : that.rank != null) return false;
         if (tags != null ? !tags.equals(that.tags) : that.tags != null) return false;
         return birthday != null ? birthday.equals(that.birthday) : that.birthday == null;
 
@@ -210,6 +224,7 @@ public class CloudPerson {
         result = 31 * result + (street != null ? street.hashCode() : 0);
         result = 31 * result + (city != null ? city.hashCode() : 0);
         result = 31 * result + (postalCode != null ? postalCode.hashCode() : 0);
+        result = 31 * result + (rank != null ? rank.hashCode() : 0);
         result = 31 * result + (tags != null ? tags.hashCode() : 0);
         result = 31 * result + (isDeleted ? 1 : 0);
         result = 31 * result + (birthday != null ? birthday.hashCode() : 0);
@@ -0,0 +1,750 @@
+package address.sync.http;
+
+import address.util.AppLogger;
+import address.util.LoggerManager;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * A small non-blocking HTTP/1.1 client, sufficient for the requests made by {@link AsyncHttpRemote}
+ *
+ * All socket operations happen on a single I/O thread through a {@link Selector}; callers are never blocked.
+ * Connections are pooled and kept alive, bounded both in total and per host. Requests for a host are served
+ * in order of submission using, in order of preference:
+ *   1. an idle connection
+ *   2. a new connection, if neither limit has been reached
+ *   3. an existing connection, by pipelining behind the requests already in flight on it
+ *
+ * Only idempotent requests are pipelined, and nothing is pipelined behind a non-idempotent one. If a connection is
+ * closed with requests still in flight (e.g. the server dropped an idle kept-alive connection, or does not support
+ * pipelining), idempotent requests are retried once on another connection; the others fail.
+ *
+ * Futures are completed on the given completion executor rather than the I/O thread, so that dependent stages do
+ * not hold up other connections.
+ */
+public class AsyncHttpClient implements Closeable {
+    private static final AppLogger logger = LoggerManager.getLogger(AsyncHttpClient.class);
+    public static final int DEFAULT_MAX_CONNECTIONS = 16;
+    public static final int DEFAULT_MAX_CONNECTIONS_PER_HOST = 4;
+    public static final int DEFAULT_MAX_PIPELINED_REQUESTS = 4;
+    public static final int DEFAULT_TIMEOUT_MILLIS = 10000;
+    private static final int BUFFER_SIZE = 8192;
+    private static final int MAX_HEADER_SIZE = 64 * 1024;
+
+    private final int maxConnections;
+    private final int maxConnectionsPerHost;
+    private final int maxPipelinedRequests;
+    private final int timeoutMillis;
+    private final Executor completionExecutor;
+    private final Selector selector;
+    private final Thread ioThread;
+    private final Queue<Exchange> submittedExchanges = new ConcurrentLinkedQueue<>();
+    private final ByteBuffer readBuffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+    // Only accessed from the I/O thread
+    private final Map<InetSocketAddress, Host> hosts = new HashMap<>();
+    private int openConnectionCount;
+
+    private volatile int openConnectionCountSnapshot;
+    private volatile boolean isClosed;
+
+    /**
+     * Creates a client with the default limits, completing futures on the common fork join pool
+     *
+     * @throws IOException if the selector cannot be opened
+     */
+    public AsyncHttpClient() throws IOException {
+        this(DEFAULT_MAX_CONNECTIONS, DEFAULT_MAX_CONNECTIONS_PER_HOST, DEFAULT_MAX_PIPELINED_REQUESTS,
+             DEFAULT_TIMEOUT_MILLIS, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param maxConnections maximum number of open connections across all hosts
+     * @param maxConnectionsPerHost maximum number of open connections to a single host
+     * @param maxPipelinedRequests maximum number of requests in flight on a single connection, 1 to disable pipelining
+     * @param timeoutMillis time allowed for a request, from submission until its response has been received
+     * @param completionExecutor executor used to complete the returned futures
+     * @throws IOException if the selector cannot be opened
+     */
+    public AsyncHttpClient(int maxConnections, int maxConnectionsPerHost, int maxPipelinedRequests,
+                           int timeoutMillis, Executor completionExecutor) throws IOException {
+        if (maxConnections < 1 || maxConnectionsPerHost < 1 || maxPipelinedRequests < 1) {
+            throw new IllegalArgumentException("Connection and pipelining limits must be positive");
+        }
+        this.maxConnections = maxConnections;
+        this.maxConnectionsPerHost = maxConnectionsPerHost;
+        this.maxPipelinedRequests = maxPipelinedRequests;
+        this.timeoutMillis = timeoutMillis;
+        this.completionExecutor = completionExecutor;
+        this.selector = Selector.open();
+        this.ioThread = new Thread(this::runEventLoop, "Async HTTP Client I/O");
+        ioThread.setDaemon(true);
+        ioThread.start();
+    }
+
+    /**
+     * Sends a request without blocking
+     *
+     * @param address address of the server
+     * @param request
+     * @return future completed with the response, or exceptionally with an IOException if the request could not be
+     *         completed within the timeout
+     */
+    public CompletableFuture<Response> send(InetSocketAddress address, Request request) {
+        Exchange exchange = new Exchange(address, request, System.currentTimeMillis() + timeoutMillis);
+        if (isClosed) {
+            exchange.future.completeExceptionally(new IOException("Client has been closed"));
+            return exchange.future;
+        }
+        submittedExchanges.add(exchange);
+        if (isClosed && submittedExchanges.remove(exchange)) { // closed before the I/O thread could pick it up
+            exchange.future.completeExceptionally(new IOException("Client has been closed"));
+        }
+        selector.wakeup();
+        return exchange.future;
+    }
+
+    /**
+     * @return number of currently open connections, as last observed by the I/O thread
+     */
+    public int getOpenConnectionCount() {
+        return openConnectionCountSnapshot;
+    }
+
+    /**
+     * Closes all connections, failing any outstanding requests
+     */
+    @Override
+    public void close() {
+        isClosed = true;
+        selector.wakeup();
+        try {
+            ioThread.join(timeoutMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void runEventLoop() {
+        try {
+            while (!isClosed) {
+                selector.select(getMillisToNextDeadline());
+                acceptSubmittedExchanges();
+                handleSelectedKeys();
+                expireTimedOutExchanges();
+                openConnectionCountSnapshot = openConnectionCount;
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Async HTTP client I/O loop terminated unexpectedly: {}", e);
+            isClosed = true;
+        } finally {
+            shutDown();
+        }
+    }
+
+    private void acceptSubmittedExchanges() {
+        Exchange exchange;
+        while ((exchange = submittedExchanges.poll()) != null) {
+            Host host = hosts.computeIfAbsent(exchange.address, Host::new);
+            host.pendingExchanges.add(exchange);
+            dispatch(host);
+        }
+    }
+
+    private void handleSelectedKeys() {
+        Iterator<SelectionKey> selectedKeys = selector.selectedKeys().iterator();
+        while (selectedKeys.hasNext()) {
+            SelectionKey key = selectedKeys.next();
+            selectedKeys.remove();
+            Connection connection = (Connection) key.attachment();
+            try {
+                if (key.isValid() && key.isConnectable()) connection.finishConnect();
+                if (key.isValid() && key.isWritable()) connection.write();
+                if (key.isValid() && key.isReadable()) connection.read();
+            } catch (IOException e) {
+                closeConnection(connection, e);
+            }
+        }
+    }
+
+    /**
+     * Assigns as many of the host's pending exchanges to connections as the limits allow, preserving their order
+     */
+    private void dispatch(Host host) {
+        while (!host.pendingExchanges.isEmpty()) {
+            Exchange exchange = host.pendingExchanges.peek();
+            Connection connection = findConnection(host, exchange.request.isIdempotent());
+            if (connection == null) {
+                if (host.pendingExchanges.peek() == exchange) return;
+                continue; // the exchange failed, try the next one
+            }
+            host.pendingExchanges.poll();
+            try {
+                connection.enqueue(exchange);
+            } catch (IOException e) {
+                closeConnection(connection, e);
+            }
+        }
+    }
+
+    private void dispatchAll() {
+        new ArrayList<>(hosts.values()).forEach(this::dispatch);
+    }
+
+    private Connection findConnection(Host host, boolean isIdempotent) {
+        for (Connection connection : host.connections) {
+            if (connection.isIdle()) return connection;
+        }
+        if (openConnectionCount < maxConnections && host.connections.size() < maxConnectionsPerHost) {
+            try {
+                return openConnection(host);
+            } catch (IOException e) {
+                failExchange(host.pendingExchanges.poll(), e);
+                return null;
+            }
+        }
+        if (!isIdempotent) return null;
+        Connection leastLoadedConnection = null;
+        for (Connection connection : host.connections) {
+            if (!connection.canPipeline()) continue;
+            if (leastLoadedConnection == null
+                    || connection.inFlightExchanges.size() < leastLoadedConnection.inFlightExchanges.size()) {
+                leastLoadedConnection = connection;
+            }
+        }
+        return leastLoadedConnection;
+    }
+
+    private Connection openConnection(Host host) throws IOException {
+        SocketChannel channel = SocketChannel.open();
+        try {
+            channel.configureBlocking(false);
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true); // requests are written whole
+            boolean isConnected = channel.connect(host.address);
+            Connection connection = new Connection(host, channel);
+            connection.key = channel.register(selector, isConnected ? SelectionKey.OP_READ : SelectionKey.OP_CONNECT,
+                                              connection);
+            connection.isConnected = isConnected;
+            host.connections.add(connection);
+            openConnectionCount++;
+            logger.debug("Opened connection {} of {} to {}", host.connections.size(), maxConnectionsPerHost,
+                         host.address);
+            return connection;
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private void closeConnection(Connection connection, IOException cause) {
+        closeConnection(connection, cause, false);
+    }
+
+    /**
+     * Closes the connection, retrying its unanswered idempotent exchanges once and failing the rest
+     *
+     * @param isAnnounced true if the server announced the close ("Connection: close"), in which case the unanswered
+     *                    exchanges are known not to have been processed and retrying them does not use up their retry
+     */
+    private void closeConnection(Connection connection, IOException cause, boolean isAnnounced) {
+        if (connection.isClosed) return;
+        connection.isClosed = true;
+        connection.key.cancel();
+        try {
+            connection.channel.close();
+        } catch (IOException e) {
+            logger.debug("Error closing connection to {}: {}", connection.host.address, e.getMessage());
+        }
+        openConnectionCount--;
+        connection.host.connections.remove(connection);
+
+        List<Exchange> unanswered = new ArrayList<>(connection.inFlightExchanges);
+        connection.inFlightExchanges.clear();
+        Collections.reverse(unanswered);
+        for (Exchange exchange : unanswered) {
+            boolean canRetry = exchange.request.isIdempotent() && (isAnnounced || !exchange.isRetried);
+            if (canRetry && !isClosed) {
+                if (!isAnnounced) exchange.isRetried = true;
+                connection.host.pendingExchanges.addFirst(exchange);
+            } else {
+                failExchange(exchange, cause);
+            }
+        }
+        if (!isClosed) dispatchAll();
+    }
+
+    private long getMillisToNextDeadline() {
+        long earliestDeadline = Long.MAX_VALUE;
+        for (Host host : hosts.values()) {
+            for (Exchange exchange : host.pendingExchanges) {
+                earliestDeadline = Math.min(earliestDeadline, exchange.deadline);
+            }
+            for (Connection connection : host.connections) {
+                for (Exchange exchange : connection.inFlightExchanges) {
+                    earliestDeadline = Math.min(earliestDeadline, exchange.deadline);
+                }
+            }
+        }
+        if (earliestDeadline == Long.MAX_VALUE) return 0; // no deadline, wait until woken up
+        return Math.max(1, earliestDeadline - System.currentTimeMillis());
+    }
+
+    private void expireTimedOutExchanges() {
+        long now = System.currentTimeMillis();
+        for (Host host : new ArrayList<>(hosts.values())) {
+            Iterator<Exchange> pendingExchanges = host.pendingExchanges.iterator();
+            while (pendingExchanges.hasNext()) {
+                Exchange exchange = pendingExchanges.next();
+                if (exchange.deadline > now) continue;
+                pendingExchanges.remove();
+                failExchange(exchange, new SocketTimeoutException("Timed out waiting for a connection"));
+            }
+            for (Connection connection : new ArrayList<>(host.connections)) {
+                Exchange oldestExchange = connection.inFlightExchanges.peek();
+                if (oldestExchange == null || oldestExchange.deadline > now) continue;
+                // responses arrive in order, so nothing behind the expired exchange can be received either
+                connection.inFlightExchanges.poll();
+                SocketTimeoutException timeout = new SocketTimeoutException("Timed out waiting for a response");
+                failExchange(oldestExchange, timeout);
+                closeConnection(connection, timeout);
+            }
+        }
+    }
+
+    private void shutDown() {
+        IOException cause = new IOException("Client has been closed");
+        for (Host host : hosts.values()) {
+            host.pendingExchanges.forEach(exchange -> failExchange(exchange, cause));
+            host.pendingExchanges.clear();
+            new ArrayList<>(host.connections).forEach(connection -> closeConnection(connection, cause));
+        }
+        Exchange exchange;
+        while ((exchange = submittedExchanges.poll()) != null) {
+            failExchange(exchange, cause);
+        }
+        openConnectionCountSnapshot = openConnectionCount;
+        try {
+            selector.close();
+        } catch (IOException e) {
+            logger.debug("Error closing selector: {}", e.getMessage());
+        }
+    }
+
+    private void completeExchange(Exchange exchange, Response response) {
+        runOnCompletionExecutor(() -> exchange.future.complete(response));
+    }
+
+    private void failExchange(Exchange exchange, IOException cause) {
+        if (exchange == null) return;
+        runOnCompletionExecutor(() -> exchange.future.completeExceptionally(cause));
+    }
+
+    private void runOnCompletionExecutor(Runnable completion) {
+        try {
+            completionExecutor.execute(completion);
+        } catch (RejectedExecutionException e) {
+            completion.run();
+        }
+    }
+
+    /**
+     * An HTTP request. Bodies, if any, must already be serialised.
+     */
+    public static class Request {
+        private final String method;
+        private final String pathAndQuery;
+        private final Map<String, String> headers = new LinkedHashMap<>();
+        private final byte[] body;
+
+        /**
+         * @param method e.g. GET
+         * @param pathAndQuery e.g. /persons?page=1, already url-encoded
+         * @param body may be null
+         */
+        public Request(String method, String pathAndQuery, byte[] body) {
+            this.method = method;
+            this.pathAndQuery = pathAndQuery;
+            this.body = body;
+        }
+
+        public Request setHeader(String name, String value) {
+            headers.put(name, value);
+            return this;
+        }
+
+        /**
+         * @return true if the request may safely be sent more than once
+         */
+        public boolean isIdempotent() {
+            return !"POST".equals(method);
+        }
+
+        private byte[] toBytes(InetSocketAddress address) {
+            StringBuilder head = new StringBuilder();
+            head.append(method).append(' ').append(pathAndQuery).append(" HTTP/1.1\r\n");
+            head.append("Host: ").append(address.getHostString()).append(':').append(address.getPort()).append("\r\n");
+            headers.forEach((name, value) -> head.append(name).append(": ").append(value).append("\r\n"));
+            if (body != null || "POST".equals(method) || "PUT".equals(method)) {
+                head.append("Content-Length: ").append(body == null ? 0 : body.length).append("\r\n");
+            }
+            head.append("\r\n");
+
+            byte[] headBytes = head.toString().getBytes(StandardCharsets.ISO_8859_1);
+            if (body == null) return headBytes;
+            byte[] requestBytes = new byte[headBytes.length + body.length];
+            System.arraycopy(headBytes, 0, requestBytes, 0, headBytes.length);
+            System.arraycopy(body, 0, requestBytes, headBytes.length, body.length);
+            return requestBytes;
+        }
+    }
+
+    /**
+     * An HTTP response, with its body fully received
+     */
+    public static class Response {
+        private final int statusCode;
+        private final Map<String, String> headers;
+        private final byte[] body;
+        private final boolean isConnectionClosing;
+
+        private Response(int statusCode, Map<String, String> headers, byte[] body, boolean isConnectionClosing) {
+            this.statusCode = statusCode;
+            this.headers = headers;
+            this.body = body;
+            this.isConnectionClosing = isConnectionClosing;
+        }
+
+        public int getStatusCode() {
+            return statusCode;
+        }
+
+        /**
+         * @param name case-insensitive
+         * @return the header's value, or null if absent
+         */
+        public String getHeader(String name) {
+            return headers.get(name);
+        }
+
+        /**
+         * @return the body, empty if there was none
+         */
+        public byte[] getBody() {
+            return body;
+        }
+    }
+
+    private static class Exchange {
+        private final InetSocketAddress address;
+        private final Request request;
+        private final long deadline;
+        private final CompletableFuture<Response> future = new CompletableFuture<>();
+        private boolean isRetried;
+
+        private Exchange(InetSocketAddress address, Request request, long deadline) {
+            this.address = address;
+            this.request = request;
+            this.deadline = deadline;
+        }
+    }
+
+    private static class Host {
+        private final InetSocketAddress address;
+        private final ArrayDeque<Exchange> pendingExchanges = new ArrayDeque<>();
+        private final List<Connection> connections = new ArrayList<>();
+
+        private Host(InetSocketAddress address) {
+            this.address = address;
+        }
+    }
+
+    private class Connection {
+        private final Host host;
+        private final SocketChannel channel;
+        private final ArrayDeque<Exchange> inFlightExchanges = new ArrayDeque<>();
+        private final ArrayDeque<ByteBuffer> outgoingData = new ArrayDeque<>();
+        private final ResponseParser parser = new ResponseParser();
+        private SelectionKey key;
+        private boolean isConnected;
+        private boolean isClosed;
+
+        private Connection(Host host, SocketChannel channel) {
+            this.host = host;
+            this.channel = channel;
+        }
+
+        private boolean isIdle() {
+            return inFlightExchanges.isEmpty() && !isClosed;
+        }
+
+        private boolean canPipeline() {
+            if (isClosed || inFlightExchanges.size() >= maxPipelinedRequests) return false;
+            return inFlightExchanges.stream().allMatch(exchange -> exchange.request.isIdempotent());
+        }
+
+        private void enqueue(Exchange exchange) throws IOException {
+            inFlightExchanges.add(exchange);
+            outgoingData.add(ByteBuffer.wrap(exchange.request.toBytes(host.address)));
+            if (isConnected) write();
+        }
+
+        private void finishConnect() throws IOException {
+            channel.finishConnect();
+            isConnected = true;
+            updateInterest();
+        }
+
+        private void write() throws IOException {
+            while (!outgoingData.isEmpty()) {
+                ByteBuffer data = outgoingData.peek();
+                channel.write(data);
+                if (data.hasRemaining()) break;
+                outgoingData.poll();
+            }
+            updateInterest();
+        }
+
+        private void read() throws IOException {
+            readBuffer.clear();
+            int bytesRead = channel.read(readBuffer);
+            if (bytesRead == -1) {
+                Response lastResponse = parser.finishOnEndOfStream();
+                if (lastResponse != null && !inFlightExchanges.isEmpty()) {
+                    completeExchange(inFlightExchanges.poll(), lastResponse);
+                }
+                closeConnection(this, new IOException("Connection closed by server"));
+                return;
+            }
+            readBuffer.flip();
+            parser.feed(readBuffer);
+
+            Response response;
+            while ((response = parser.next()) != null) {
+                Exchange exchange = inFlightExchanges.poll();
+                if (exchange == null) throw new IOException("Received a response without a request");
+                completeExchange(exchange, response);
+                if (response.isConnectionClosing) {
+                    closeConnection(this, new IOException("Connection closed by server"), true);
+                    return;
+                }
+            }
+            dispatch(host);
+        }
+
+        private void updateInterest() {
+            if (isClosed || !isConnected) return;
+            key.interestOps(outgoingData.isEmpty() ? SelectionKey.OP_READ
+                                                   : SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+        }
+    }
+
+    /**
+     * Incrementally parses a stream of HTTP/1.1 responses, as they arrive on a connection
+     */
+    static class ResponseParser {
+        private enum State { HEADERS, FIXED_BODY, CHUNK_SIZE, CHUNK_DATA, CHUNK_DATA_END, CHUNK_TRAILER, BODY_UNTIL_CLOSE }
+
+        private byte[] buffer = new byte[BUFFER_SIZE];
+        private int readPosition;
+        private int writePosition;
+
+        private State state = State.HEADERS;
+        private int statusCode;
+        private Map<String, String> headers;
+        private boolean isConnectionClosing;
+        private ByteArrayOutputStream body;
+        private long bodyBytesRemaining;
+
+        void feed(ByteBuffer data) {
+            if (buffer.length - writePosition < data.remaining()) {
+                int unparsedLength = writePosition - readPosition;
+                byte[] target = buffer;
+                if (buffer.length - unparsedLength < data.remaining()) {
+                    target = new byte[Math.max(buffer.length * 2, unparsedLength + data.remaining())];
+                }
+                System.arraycopy(buffer, readPosition, target, 0, unparsedLength);
+                buffer = target;
+                readPosition = 0;
+                writePosition = unparsedLength;
+            }
+            int length = data.remaining();
+            data.get(buffer, writePosition, length);
+            writePosition += length;
+        }
+
+        /**
+         * @return the next complete response, or null if more data is needed
+         * @throws IOException if the data is not a valid response
+         */
+        Response next() throws IOException {
+            while (true) {
+                switch (state) {
+                    case HEADERS:
+                        int headersEnd = indexOf("\r\n\r\n");
+                        if (headersEnd < 0) {
+                            if (writePosition - readPosition > MAX_HEADER_SIZE) {
+                                throw new IOException("Response headers too large");
+                            }
+                            return null;
+                        }
+                        String head = new String(buffer, readPosition, headersEnd - readPosition,
+                                                 StandardCharsets.ISO_8859_1);
+                        readPosition = headersEnd + 4;
+                        Response headOnlyResponse = parseHead(head);
+                        if (headOnlyResponse != null) return headOnlyResponse;
+                        break;
+                    case FIXED_BODY:
+                    case CHUNK_DATA:
+                        int length = (int) Math.min(writePosition - readPosition, bodyBytesRemaining);
+                        body.write(buffer, readPosition, length);
+                        readPosition += length;
+                        bodyBytesRemaining -= length;
+                        if (bodyBytesRemaining > 0) return null;
+                        if (state == State.FIXED_BODY) return completeResponse();
+                        state = State.CHUNK_DATA_END;
+                        break;
+                    case CHUNK_DATA_END:
+                        String emptyLine = readLine();
+                        if (emptyLine == null) return null;
+                        state = State.CHUNK_SIZE;
+                        break;
+                    case CHUNK_SIZE:
+                        String sizeLine = readLine();
+                        if (sizeLine == null) return null;
+                        int extensionStart = sizeLine.indexOf(';');
+                        String size = (extensionStart < 0 ? sizeLine : sizeLine.substring(0, extensionStart)).trim();
+                        try {
+                            bodyBytesRemaining = Long.parseLong(size, 16);
+                        } catch (NumberFormatException e) {
+                            throw new IOException("Invalid chunk size: " + sizeLine);
+                        }
+                        state = bodyBytesRemaining == 0 ? State.CHUNK_TRAILER : State.CHUNK_DATA;
+                        break;
+                    case CHUNK_TRAILER:
+                        String trailerLine = readLine();
+                        if (trailerLine == null) return null;
+                        if (trailerLine.isEmpty()) return completeResponse();
+                        break;
+                    case BODY_UNTIL_CLOSE:
+                        body.write(buffer, readPosition, writePosition - readPosition);
+                        readPosition = writePosition;
+                        return null;
+                    default:
+                        throw new AssertionError("Unknown parser state " + state);
+                }
+            }
+        }
+
+        /**
+         * @return the response whose body was terminated by the end of the stream, if any
+         */
+        Response finishOnEndOfStream() {
+            if (state != State.BODY_UNTIL_CLOSE) return null;
+            return completeResponse();
+        }
+
+        /**
+         * @return the complete response if it has no body, else null after preparing to read the body
+         */
+        private Response parseHead(String head) throws IOException {
+            String[] lines = head.split("\r\n");
+            String[] statusLine = lines[0].split(" ", 3);
+            if (statusLine.length < 2 || !statusLine[0].startsWith("HTTP/")) {
+                throw new IOException("Invalid status line: " + lines[0]);
+            }
+            try {
+                statusCode = Integer.parseInt(statusLine[1]);
+            } catch (NumberFormatException e) {
+                throw new IOException("Invalid status line: " + lines[0]);
+            }
+            headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            for (int i = 1; i < lines.length; i++) {
+                int separatorIndex = lines[i].indexOf(':');
+                if (separatorIndex <= 0) continue;
+                headers.put(lines[i].substring(0, separatorIndex).trim(), lines[i].substring(separatorIndex + 1).trim());
+            }
+            if (statusCode >= 100 && statusCode < 200) return null; // interim response, the real one follows
+
+            String connectionHeader = headers.getOrDefault("Connection", "");
+            isConnectionClosing = "close".equalsIgnoreCase(connectionHeader)
+                    || "HTTP/1.0".equals(statusLine[0]) && !"keep-alive".equalsIgnoreCase(connectionHeader);
+            body = new ByteArrayOutputStream();
+
+            if (statusCode == 204 || statusCode == 304) return completeResponse();
+            if (headers.getOrDefault("Transfer-Encoding", "").toLowerCase().contains("chunked")) {
+                state = State.CHUNK_SIZE;
+                return null;
+            }
+            String contentLength = headers.get("Content-Length");
+            if (contentLength == null) {
+                isConnectionClosing = true;
+                state = State.BODY_UNTIL_CLOSE;
+                return null;
+            }
+            try {
+                bodyBytesRemaining = Long.parseLong(contentLength.trim());
+            } catch (NumberFormatException e) {
+                throw new IOException("Invalid Content-Length: " + contentLength);
+            }
+            if (bodyBytesRemaining == 0) return completeResponse();
+            state = State.FIXED_BODY;
+            return null;
+        }
+
+        private Response completeResponse() {
+            Response response = new Response(statusCode, headers, body.toByteArray(), isConnectionClosing);
+            state = State.HEADERS;
+            headers = null;
+            body = null;
+            return response;
+        }
+
+        /**
+         * @return the next CRLF-terminated line without its terminator, or null if it has not fully arrived
+         */
+        private String readLine() {
+            int lineEnd = indexOf("\r\n");
+            if (lineEnd < 0) return null;
+            String line = new String(buffer, readPosition, lineEnd - readPosition, StandardCharsets.ISO_8859_1);
+            readPosition = lineEnd + 2;
+            return line;
+        }
+
+        private int indexOf(String delimiter) {
+            byte[] delimiterBytes = delimiter.getBytes(StandardCharsets.ISO_8859_1);
+            outer:
+            for (int i = readPosition; i <= writePosition - delimiterBytes.length; i++) {
+                for (int j = 0; j < delimiterBytes.length; j++) {
+                    if (buffer[i + j] != delimiterBytes[j]) continue outer;
+                }
+                return i;
+            }
+            return -1;
+        }
+    }
+}
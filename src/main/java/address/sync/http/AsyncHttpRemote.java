@@ -0,0 +1,174 @@
+package address.sync.http;
+
+import address.sync.cloud.IAsyncRemote;
+import address.sync.cloud.RemoteResponse;
+import address.sync.cloud.model.CloudPerson;
+import address.sync.cloud.model.CloudTag;
+import address.util.AppLogger;
+import address.util.LoggerManager;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import commons.JsonUtil;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking counterpart of {@link HttpRemote}, sending requests through an {@link AsyncHttpClient}
+ *
+ * Requests are pooled and pipelined by the client, so many requests can be outstanding without tying up a thread
+ * each. As with {@link HttpRemote}, network failures are returned as {@link HttpURLConnection#HTTP_UNAVAILABLE}
+ * responses rather than failed futures.
+ */
+public class AsyncHttpRemote implements IAsyncRemote, Closeable {
+    private static final AppLogger logger = LoggerManager.getLogger(AsyncHttpRemote.class);
+
+    private final AsyncHttpClient client;
+    private final InetSocketAddress address;
+    private final String basePath;
+
+    /**
+     * Creates a remote with its own client using the default connection limits
+     *
+     * @param baseUrl e.g. {@link RemoteHttpServer#getBaseUrl()}, without a trailing slash
+     * @throws IOException if the client cannot be created
+     */
+    public AsyncHttpRemote(String baseUrl) throws IOException {
+        this(baseUrl, new AsyncHttpClient());
+    }
+
+    /**
+     * @param baseUrl e.g. {@link RemoteHttpServer#getBaseUrl()}, without a trailing slash
+     * @param client client to send requests with, which may be shared with other remotes
+     */
+    public AsyncHttpRemote(String baseUrl, AsyncHttpClient client) {
+        URI baseUri = URI.create(baseUrl);
+        if (!"http".equals(baseUri.getScheme())) {
+            throw new IllegalArgumentException("Only http urls are supported: " + baseUrl);
+        }
+        this.client = client;
+        this.address = new InetSocketAddress(baseUri.getHost(), baseUri.getPort() == -1 ? 80 : baseUri.getPort());
+        this.basePath = baseUri.getRawPath() == null ? "" : baseUri.getRawPath();
+    }
+
+    @Override
+    public CompletableFuture<RemoteResponse> createPerson(String addressBookName, CloudPerson newPerson,
+                                                          String previousETag) {
+        return send("POST", HttpRemote.path(addressBookName, "persons"), newPerson, previousETag);
+    }
+
+    @Override
+    public CompletableFuture<RemoteResponse> getPersons(String addressBookName, int pageNumber,
+                                                        int resourcesPerPage, String previousETag) {
+        return send("GET", HttpRemote.path(addressBookName, "persons")
+                           + HttpRemote.pageQuery(pageNumber, resourcesPerPage), null, previousETag);
+    }
+
+    @Override
+    public CompletableFuture<RemoteResponse> getUpdatedPersons(String addressBookName, String timeString,
+                                                               int pageNumber, int resourcesPerPage,
+                                                               String previousETag) {
+        return send("GET", HttpRemote.path(addressBookName, "persons")
+                           + HttpRemote.pageQuery(pageNumber, resourcesPerPage)
+                           + "&since=" + HttpRemote.encode(timeString), null, previousETag);
+    }
+
+    @Override
+    public CompletableFuture<RemoteResponse> getTags(String addressBookName, int pageNumber, int resourcesPerPage,
+                                                     String previousETag) {
+        return send("GET", HttpRemote.path(addressBookName, "tags")
+                           + HttpRemote.pageQuery(pageNumber, resourcesPerPage), null, previousETag);
+    }
+
+    @Override
+    public CompletableFuture<RemoteResponse> getRateLimitStatus(String previousETag) {
+        return send("GET", "/rate_limit", null, previousETag);
+    }
+
+    @Override
+    public CompletableFuture<RemoteResponse> updatePerson(String addressBookName, int personId,
+                                                          CloudPerson updatedPerson, String previousETag) {
+        return send("PUT", HttpRemote.path(addressBookName, "persons", String.valueOf(personId)), updatedPerson,
+                    previousETag);
+    }
+
+    @Override
+    public CompletableFuture<RemoteResponse> deletePerson(String addressBookName, int personId) {
+        return send("DELETE", HttpRemote.path(addressBookName, "persons", String.valueOf(personId)), null, null);
+    }
+
+    @Override
+    public CompletableFuture<RemoteResponse> createTag(String addressBookName, CloudTag newTag, String previousETag) {
+        return send("POST", HttpRemote.path(addressBookName, "tags"), newTag, previousETag);
+    }
+
+    @Override
+    public CompletableFuture<RemoteResponse> editTag(String addressBookName, String oldTagName, CloudTag updatedTag,
+                                                     String previousETag) {
+        return send("PUT", HttpRemote.path(addressBookName, "tags", oldTagName), updatedTag, previousETag);
+    }
+
+    @Override
+    public CompletableFuture<RemoteResponse> deleteTag(String addressBookName, String tagName) {
+        return send("DELETE", HttpRemote.path(addressBookName, "tags", tagName), null, null);
+    }
+
+    @Override
+    public CompletableFuture<RemoteResponse> createAddressBook(String addressBookName) {
+        return send("POST", HttpRemote.path(addressBookName), null, null);
+    }
+
+    /**
+     * Closes the underlying client, which should not be shared with other remotes
+     */
+    @Override
+    public void close() {
+        client.close();
+    }
+
+    private CompletableFuture<RemoteResponse> send(String method, String pathAndQuery, Object requestBody,
+                                                   String previousETag) {
+        AsyncHttpClient.Request request;
+        try {
+            request = new AsyncHttpClient.Request(method, basePath + pathAndQuery, toBytes(requestBody));
+        } catch (JsonProcessingException e) {
+            logger.warn("Error serialising request body for {} {}: {}", method, pathAndQuery, e.getMessage());
+            return CompletableFuture.completedFuture(getUnavailableResponse());
+        }
+        request.setHeader("Accept", "application/json");
+        if (previousETag != null) request.setHeader("If-None-Match", previousETag);
+        if (requestBody != null) request.setHeader("Content-Type", "application/json; charset=utf-8");
+
+        return client.send(address, request).handle((response, exception) -> {
+            if (exception != null) {
+                logger.warn("Error sending {} {}: {}", method, pathAndQuery, exception.getMessage());
+                return getUnavailableResponse();
+            }
+            return toRemoteResponse(response);
+        });
+    }
+
+    private byte[] toBytes(Object requestBody) throws JsonProcessingException {
+        if (requestBody == null) return null;
+        return JsonUtil.toJsonString(requestBody).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private RemoteResponse toRemoteResponse(AsyncHttpClient.Response response) {
+        byte[] body = response.getBody();
+        RemoteResponse remoteResponse = new RemoteResponse(response.getStatusCode(),
+                body.length == 0 ? null : new ByteArrayInputStream(body),
+                HttpRemote.getForwardedHeaders(response::getHeader));
+        PageLinks.applyHeaderValue(response.getHeader(PageLinks.HEADER_NAME), remoteResponse);
+        return remoteResponse;
+    }
+
+    private RemoteResponse getUnavailableResponse() {
+        return new RemoteResponse(HttpURLConnection.HTTP_UNAVAILABLE, null, new HashMap<>());
+    }
+}
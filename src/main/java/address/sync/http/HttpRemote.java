@@ -0,0 +1,232 @@
+package address.sync.http;
+
+import address.sync.cloud.IRemote;
+import address.sync.cloud.RemoteResponse;
+import address.sync.cloud.model.CloudPerson;
+import address.sync.cloud.model.CloudTag;
+import address.util.AppLogger;
+import address.util.LoggerManager;
+import commons.JsonUtil;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.function.Function;
+
+/**
+ * An {@link IRemote} that talks to a {@link RemoteHttpServer} (or anything exposing the same routes) over HTTP.
+ *
+ * Connections are kept alive between requests: every response body is read to the end and closed, which lets
+ * {@link HttpURLConnection} return the socket to the JDK's keep-alive cache so that subsequent requests to the same
+ * server reuse it. The size of that cache is governed by the standard "http.maxConnections" system property.
+ *
+ * Network failures do not throw, but are returned as {@link HttpURLConnection#HTTP_UNAVAILABLE} responses without
+ * rate limit headers, which {@link address.sync.RemoteService} already treats as an invalid response.
+ */
+public class HttpRemote implements IRemote {
+    private static final AppLogger logger = LoggerManager.getLogger(HttpRemote.class);
+    private static final int DEFAULT_TIMEOUT_MILLIS = 10000;
+    private static final String[] FORWARDED_HEADERS = {
+            "ETag", "X-RateLimit-Limit", "X-RateLimit-Remaining", "X-RateLimit-Reset"
+    };
+
+    private final String baseUrl;
+    private final int timeoutMillis;
+
+    /**
+     * @param baseUrl e.g. {@link RemoteHttpServer#getBaseUrl()}, without a trailing slash
+     */
+    public HttpRemote(String baseUrl) {
+        this(baseUrl, DEFAULT_TIMEOUT_MILLIS);
+    }
+
+    public HttpRemote(String baseUrl, int timeoutMillis) {
+        this.baseUrl = baseUrl;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    @Override
+    public RemoteResponse createPerson(String addressBookName, CloudPerson newPerson, String previousETag) {
+        return send("POST", path(addressBookName, "persons"), newPerson, previousETag);
+    }
+
+    @Override
+    public RemoteResponse getPersons(String addressBookName, int pageNumber, int resourcesPerPage,
+                                     String previousETag) {
+        return send("GET", path(addressBookName, "persons") + pageQuery(pageNumber, resourcesPerPage), null,
+                    previousETag);
+    }
+
+    @Override
+    public RemoteResponse getUpdatedPersons(String addressBookName, String timeString, int pageNumber,
+                                            int resourcesPerPage, String previousETag) {
+        return send("GET", path(addressBookName, "persons") + pageQuery(pageNumber, resourcesPerPage)
+                           + "&since=" + encode(timeString), null, previousETag);
+    }
+
+    @Override
+    public RemoteResponse getTags(String addressBookName, int pageNumber, int resourcesPerPage,
+                                  String previousETag) {
+        return send("GET", path(addressBookName, "tags") + pageQuery(pageNumber, resourcesPerPage), null,
+                    previousETag);
+    }
+
+    @Override
+    public RemoteResponse getRateLimitStatus(String previousETag) {
+        return send("GET", "/rate_limit", null, previousETag);
+    }
+
+    @Override
+    public RemoteResponse updatePerson(String addressBookName, int personId, CloudPerson updatedPerson,
+                                       String previousETag) {
+        return send("PUT", path(addressBookName, "persons", String.valueOf(personId)), updatedPerson, previousETag);
+    }
+
+    @Override
+    public RemoteResponse deletePerson(String addressBookName, int personId) {
+        return send("DELETE", path(addressBookName, "persons", String.valueOf(personId)), null, null);
+    }
+
+    @Override
+    public RemoteResponse createTag(String addressBookName, CloudTag newTag, String previousETag) {
+        return send("POST", path(addressBookName, "tags"), newTag, previousETag);
+    }
+
+    @Override
+    public RemoteResponse editTag(String addressBookName, String oldTagName, CloudTag updatedTag,
+                                  String previousETag) {
+        return send("PUT", path(addressBookName, "tags", oldTagName), updatedTag, previousETag);
+    }
+
+    @Override
+    public RemoteResponse deleteTag(String addressBookName, String tagName) {
+        return send("DELETE", path(addressBookName, "tags", tagName), null, null);
+    }
+
+    @Override
+    public RemoteResponse createAddressBook(String addressBookName) {
+        return send("POST", path(addressBookName), null, null);
+    }
+
+    /**
+     * @return path of the form /addressbooks/{addressBookName}/{segments...}, with every segment url-encoded
+     */
+    static String path(String addressBookName, String... segments) {
+        StringBuilder builder = new StringBuilder("/addressbooks/").append(encode(addressBookName));
+        for (String segment : segments) {
+            builder.append('/').append(encode(segment));
+        }
+        return builder.toString();
+    }
+
+    static String pageQuery(int pageNumber, int resourcesPerPage) {
+        return "?page=" + pageNumber + "&per_page=" + resourcesPerPage;
+    }
+
+    static String encode(String value) {
+        try {
+            return URLEncoder.encode(value, "UTF-8").replace("+", "%20");
+        } catch (UnsupportedEncodingException e) {
+            throw new AssertionError("UTF-8 is always supported", e);
+        }
+    }
+
+    /**
+     * Sends the request, retrying once for idempotent methods since a kept-alive connection may have been closed
+     * by the server while it was idle in the cache
+     */
+    private RemoteResponse send(String method, String pathAndQuery, Object requestBody, String previousETag) {
+        try {
+            return sendOnce(method, pathAndQuery, requestBody, previousETag);
+        } catch (IOException e) {
+            if (isIdempotent(method)) {
+                logger.debug("Retrying {} {} after: {}", method, pathAndQuery, e.getMessage());
+                try {
+                    return sendOnce(method, pathAndQuery, requestBody, previousETag);
+                } catch (IOException retryException) {
+                    e = retryException;
+                }
+            }
+            logger.warn("Error sending {} {}: {}", method, pathAndQuery, e.getMessage());
+            return new RemoteResponse(HttpURLConnection.HTTP_UNAVAILABLE, null, new HashMap<>());
+        }
+    }
+
+    private boolean isIdempotent(String method) {
+        return !"POST".equals(method);
+    }
+
+    private RemoteResponse sendOnce(String method, String pathAndQuery, Object requestBody, String previousETag)
+            throws IOException {
+        HttpURLConnection connection = null;
+        try {
+            connection = (HttpURLConnection) new URL(baseUrl + pathAndQuery).openConnection();
+            connection.setRequestMethod(method);
+            connection.setConnectTimeout(timeoutMillis);
+            connection.setReadTimeout(timeoutMillis);
+            connection.setRequestProperty("Accept", "application/json");
+            if (previousETag != null) connection.setRequestProperty("If-None-Match", previousETag);
+            if (requestBody != null) writeRequestBody(connection, requestBody);
+
+            int responseCode = connection.getResponseCode();
+            byte[] responseBody = readResponseBody(connection, responseCode);
+            RemoteResponse response = new RemoteResponse(responseCode,
+                    responseBody.length == 0 ? null : new ByteArrayInputStream(responseBody),
+                    getForwardedHeaders(connection::getHeaderField));
+            PageLinks.applyHeaderValue(connection.getHeaderField(PageLinks.HEADER_NAME), response);
+            return response;
+        } catch (IOException e) {
+            if (connection != null) connection.disconnect();
+            throw e;
+        }
+    }
+
+    private void writeRequestBody(HttpURLConnection connection, Object requestBody) throws IOException {
+        byte[] bodyBytes = JsonUtil.toJsonString(requestBody).getBytes(StandardCharsets.UTF_8);
+        connection.setDoOutput(true);
+        connection.setRequestProperty("Content-Type", "application/json; charset=utf-8");
+        connection.setFixedLengthStreamingMode(bodyBytes.length);
+        try (OutputStream outputStream = connection.getOutputStream()) {
+            outputStream.write(bodyBytes);
+        }
+    }
+
+    /**
+     * Reads the body to the end and closes the stream, so that the connection can be reused
+     */
+    private byte[] readResponseBody(HttpURLConnection connection, int responseCode) throws IOException {
+        InputStream stream = responseCode >= HttpURLConnection.HTTP_BAD_REQUEST ? connection.getErrorStream()
+                                                                                 : connection.getInputStream();
+        if (stream == null) return new byte[0];
+        try (InputStream bodyStream = stream) {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            byte[] chunk = new byte[4096];
+            int read;
+            while ((read = bodyStream.read(chunk)) != -1) {
+                buffer.write(chunk, 0, read);
+            }
+            return buffer.toByteArray();
+        }
+    }
+
+    /**
+     * @param headerLookup returns the value of the named response header, or null if absent
+     * @return the response headers understood by {@link address.sync.RemoteService}
+     */
+    static HashMap<String, String> getForwardedHeaders(Function<String, String> headerLookup) {
+        HashMap<String, String> headers = new HashMap<>();
+        for (String headerName : FORWARDED_HEADERS) {
+            String value = headerLookup.apply(headerName);
+            if (value != null) headers.put(headerName, value);
+        }
+        return headers;
+    }
+}
@@ -0,0 +1,83 @@
+package address.sync.http;
+
+import address.sync.cloud.RemoteResponse;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Converts between the page numbers kept in a {@link RemoteResponse} and a GitHub-style "Link" header, e.g.
+ *
+ * <pre>
+ * Link: &lt;/addressbooks/MyAddressBook/persons?page=2&amp;per_page=100&gt;; rel="next",
+ *       &lt;/addressbooks/MyAddressBook/persons?page=5&amp;per_page=100&gt;; rel="last"
+ * </pre>
+ *
+ * Page numbers of 0 are treated as absent, matching how {@link RemoteResponse} leaves unset pages.
+ */
+final class PageLinks {
+    static final String HEADER_NAME = "Link";
+
+    private static final Pattern LINK_PATTERN = Pattern.compile("<([^>]*)>\\s*;\\s*rel=\"([a-z]+)\"");
+    private static final Pattern PAGE_PARAM_PATTERN = Pattern.compile("[?&]page=(\\d+)");
+
+    private PageLinks() {
+    }
+
+    /**
+     * @param pathWithoutPage request path and query string, excluding any page parameter
+     * @param response response whose page numbers are to be written
+     * @return the header value, or null if the response has no page information
+     */
+    static String toHeaderValue(String pathWithoutPage, RemoteResponse response) {
+        Map<String, Integer> pages = new LinkedHashMap<>();
+        pages.put("next", response.getNextPageNo());
+        pages.put("prev", response.getPreviousPageNo());
+        pages.put("first", response.getFirstPageNo());
+        pages.put("last", response.getLastPageNo());
+
+        String separator = pathWithoutPage.contains("?") ? "&" : "?";
+        StringBuilder builder = new StringBuilder();
+        pages.forEach((rel, page) -> {
+            if (page == 0) return;
+            if (builder.length() > 0) builder.append(", ");
+            builder.append('<').append(pathWithoutPage).append(separator).append("page=").append(page)
+                   .append(">; rel=\"").append(rel).append('"');
+        });
+        return builder.length() == 0 ? null : builder.toString();
+    }
+
+    /**
+     * Fills in the page numbers of response using the given header value
+     *
+     * @param headerValue may be null
+     * @param response
+     */
+    static void applyHeaderValue(String headerValue, RemoteResponse response) {
+        if (headerValue == null) return;
+        Matcher linkMatcher = LINK_PATTERN.matcher(headerValue);
+        while (linkMatcher.find()) {
+            Matcher pageMatcher = PAGE_PARAM_PATTERN.matcher(linkMatcher.group(1));
+            if (!pageMatcher.find()) continue;
+            int page = Integer.parseInt(pageMatcher.group(1));
+            switch (linkMatcher.group(2)) {
+                case "next":
+                    response.setNextPageNo(page);
+                    break;
+                case "prev":
+                    response.setPreviousPageNo(page);
+                    break;
+                case "first":
+                    response.setFirstPageNo(page);
+                    break;
+                case "last":
+                    response.setLastPageNo(page);
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+}
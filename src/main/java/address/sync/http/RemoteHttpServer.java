@@ -0,0 +1,308 @@
+package address.sync.http;
+
+import address.sync.cloud.IRemote;
+import address.sync.cloud.RemoteResponse;
+import address.sync.cloud.model.CloudPerson;
+import address.sync.cloud.model.CloudTag;
+import address.util.AppLogger;
+import address.util.LoggerManager;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import commons.JsonUtil;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Exposes an {@link IRemote} (typically a {@link address.sync.cloud.CloudSimulator}) over HTTP on the loopback
+ * interface, so that the sync components can be exercised with real sockets and serialisation.
+ *
+ * The API loosely follows GitHub's: resources are paged through "page" and "per_page" parameters with a "Link" header
+ * describing neighbouring pages, "If-None-Match" is honoured through the remote's eTag support, and the remote's
+ * rate limit headers are passed through unchanged.
+ *
+ * Routes:
+ * <pre>
+ * GET    /rate_limit
+ * POST   /addressbooks/{addressBook}
+ * GET    /addressbooks/{addressBook}/persons?page=&amp;per_page=[&amp;since=]
+ * POST   /addressbooks/{addressBook}/persons
+ * PUT    /addressbooks/{addressBook}/persons/{personId}
+ * DELETE /addressbooks/{addressBook}/persons/{personId}
+ * GET    /addressbooks/{addressBook}/tags?page=&amp;per_page=
+ * POST   /addressbooks/{addressBook}/tags
+ * PUT    /addressbooks/{addressBook}/tags/{tagName}
+ * DELETE /addressbooks/{addressBook}/tags/{tagName}
+ * </pre>
+ */
+public class RemoteHttpServer {
+    private static final AppLogger logger = LoggerManager.getLogger(RemoteHttpServer.class);
+    private static final int DEFAULT_RESOURCES_PER_PAGE = 100;
+    private static final int NO_BODY = -1;
+    private static final int CHUNKED_BODY = 0;
+
+    private final IRemote remote;
+    private final HttpServer server;
+    private final ExecutorService handlerExecutor;
+
+    /**
+     * @param remote the remote to expose
+     * @param port port to listen on, or 0 to pick any free port
+     * @param handlerThreads number of threads serving requests concurrently
+     * @throws IOException if the server socket cannot be bound
+     */
+    public RemoteHttpServer(IRemote remote, int port, int handlerThreads) throws IOException {
+        // Without this, small responses written in parts are delayed by Nagle's algorithm on every kept-alive
+        // connection. Only takes effect if set before the first server is created.
+        System.getProperties().putIfAbsent("sun.net.httpserver.nodelay", "true");
+        this.remote = remote;
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        this.handlerExecutor = Executors.newFixedThreadPool(handlerThreads, getThreadFactory());
+        server.setExecutor(handlerExecutor);
+        server.createContext("/", this::handle);
+    }
+
+    public void start() {
+        server.start();
+        logger.info("Remote HTTP server listening on port {}", getPort());
+    }
+
+    public void stop() {
+        logger.info("Stopping remote HTTP server.");
+        server.stop(0);
+        handlerExecutor.shutdown();
+        try {
+            handlerExecutor.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * @return base url for clients, without a trailing slash
+     */
+    public String getBaseUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + getPort();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String[] segments = getPathSegments(exchange);
+            Map<String, String> query = getQueryParameters(exchange);
+            Optional<RemoteResponse> response = route(exchange.getRequestMethod(), segments, query,
+                                                      exchange.getRequestHeaders(), exchange.getRequestBody());
+            if (response.isPresent()) {
+                sendResponse(exchange, response.get(), getPathWithoutPage(exchange));
+            } else {
+                sendEmptyResponse(exchange, HttpURLConnection.HTTP_NOT_FOUND);
+            }
+        } catch (IllegalArgumentException | JsonProcessingException e) {
+            logger.debug("Bad request {} {}: {}", exchange.getRequestMethod(), exchange.getRequestURI(), e.getMessage());
+            sendEmptyResponse(exchange, HttpURLConnection.HTTP_BAD_REQUEST);
+        } catch (RuntimeException e) {
+            logger.warn("Error handling {} {}: {}", exchange.getRequestMethod(), exchange.getRequestURI(), e);
+            sendEmptyResponse(exchange, HttpURLConnection.HTTP_INTERNAL_ERROR);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private Optional<RemoteResponse> route(String method, String[] segments, Map<String, String> query,
+                                           Headers headers, InputStream body) throws IOException {
+        String previousETag = headers.getFirst("If-None-Match");
+
+        if (segments.length == 1 && "rate_limit".equals(segments[0]) && "GET".equals(method)) {
+            return Optional.of(remote.getRateLimitStatus(previousETag));
+        }
+        if (segments.length < 2 || !"addressbooks".equals(segments[0])) return Optional.empty();
+
+        String addressBookName = segments[1];
+        if (segments.length == 2) {
+            return "POST".equals(method) ? Optional.of(remote.createAddressBook(addressBookName)) : Optional.empty();
+        }
+
+        String resource = segments[2];
+        if (segments.length == 3) {
+            return routeCollection(method, addressBookName, resource, query, previousETag, body);
+        }
+        if (segments.length == 4) {
+            return routeItem(method, addressBookName, resource, segments[3], previousETag, body);
+        }
+        return Optional.empty();
+    }
+
+    private Optional<RemoteResponse> routeCollection(String method, String addressBookName, String resource,
+                                                     Map<String, String> query, String previousETag,
+                                                     InputStream body) throws IOException {
+        int page = getIntParameter(query, "page", 1);
+        int perPage = getIntParameter(query, "per_page", DEFAULT_RESOURCES_PER_PAGE);
+        switch (resource + " " + method) {
+            case "persons GET":
+                if (query.containsKey("since")) {
+                    return Optional.of(remote.getUpdatedPersons(addressBookName, query.get("since"), page, perPage,
+                                                                previousETag));
+                }
+                return Optional.of(remote.getPersons(addressBookName, page, perPage, previousETag));
+            case "persons POST":
+                return Optional.of(remote.createPerson(addressBookName, readBody(body, CloudPerson.class),
+                                                       previousETag));
+            case "tags GET":
+                return Optional.of(remote.getTags(addressBookName, page, perPage, previousETag));
+            case "tags POST":
+                return Optional.of(remote.createTag(addressBookName, readBody(body, CloudTag.class), previousETag));
+            default:
+                return Optional.empty();
+        }
+    }
+
+    private Optional<RemoteResponse> routeItem(String method, String addressBookName, String resource, String key,
+                                               String previousETag, InputStream body) throws IOException {
+        switch (resource + " " + method) {
+            case "persons PUT":
+                return Optional.of(remote.updatePerson(addressBookName, parseInt(key),
+                                                       readBody(body, CloudPerson.class), previousETag));
+            case "persons DELETE":
+                return Optional.of(remote.deletePerson(addressBookName, parseInt(key)));
+            case "tags PUT":
+                return Optional.of(remote.editTag(addressBookName, key, readBody(body, CloudTag.class),
+                                                  previousETag));
+            case "tags DELETE":
+                return Optional.of(remote.deleteTag(addressBookName, key));
+            default:
+                return Optional.empty();
+        }
+    }
+
+    private void sendResponse(HttpExchange exchange, RemoteResponse response, String pathWithoutPage)
+            throws IOException {
+        Headers responseHeaders = exchange.getResponseHeaders();
+        if (response.getHeaders() != null) {
+            response.getHeaders().forEach((name, value) -> {
+                if (value != null) responseHeaders.set(name, value);
+            });
+        }
+        String links = PageLinks.toHeaderValue(pathWithoutPage, response);
+        if (links != null) responseHeaders.set(PageLinks.HEADER_NAME, links);
+
+        byte[] bodyBytes = response.getBody() == null ? new byte[0] : readFully(response.getBody());
+        if (bodyBytes.length > 0) responseHeaders.set("Content-Type", "application/json; charset=utf-8");
+        if (bodyBytes.length == 0) {
+            sendEmptyResponse(exchange, response.getResponseCode());
+            return;
+        }
+        exchange.sendResponseHeaders(response.getResponseCode(), bodyBytes.length);
+        try (OutputStream responseBody = exchange.getResponseBody()) {
+            responseBody.write(bodyBytes);
+        }
+    }
+
+    /**
+     * Responses that may not have a body (204, 304) are sent with "Connection: close", since the JDK server drops a
+     * reused connection after such a response without telling the client, which would otherwise be caught sending
+     * its next request on a dead connection. Other empty responses are sent as an empty chunked body, which does
+     * not have this problem.
+     */
+    private void sendEmptyResponse(HttpExchange exchange, int responseCode) throws IOException {
+        if (responseCode == HttpURLConnection.HTTP_NO_CONTENT || responseCode == HttpURLConnection.HTTP_NOT_MODIFIED) {
+            exchange.getResponseHeaders().set("Connection", "close");
+            exchange.sendResponseHeaders(responseCode, NO_BODY);
+            return;
+        }
+        exchange.sendResponseHeaders(responseCode, CHUNKED_BODY);
+        exchange.getResponseBody().close();
+    }
+
+    private <T> T readBody(InputStream body, Class<T> type) throws IOException {
+        String json = new String(readFully(body), StandardCharsets.UTF_8);
+        if (json.isEmpty()) throw new IllegalArgumentException("Request body is required");
+        return JsonUtil.fromJsonString(json, type);
+    }
+
+    private String[] getPathSegments(HttpExchange exchange) throws UnsupportedEncodingException {
+        String rawPath = exchange.getRequestURI().getRawPath();
+        String trimmed = rawPath.replaceAll("^/+|/+$", "");
+        if (trimmed.isEmpty()) return new String[0];
+        String[] segments = trimmed.split("/");
+        for (int i = 0; i < segments.length; i++) {
+            segments[i] = URLDecoder.decode(segments[i], "UTF-8");
+        }
+        return segments;
+    }
+
+    private Map<String, String> getQueryParameters(HttpExchange exchange) throws UnsupportedEncodingException {
+        Map<String, String> parameters = new HashMap<>();
+        String rawQuery = exchange.getRequestURI().getRawQuery();
+        if (rawQuery == null) return parameters;
+        for (String pair : rawQuery.split("&")) {
+            int separatorIndex = pair.indexOf('=');
+            if (separatorIndex < 0) continue;
+            parameters.put(URLDecoder.decode(pair.substring(0, separatorIndex), "UTF-8"),
+                           URLDecoder.decode(pair.substring(separatorIndex + 1), "UTF-8"));
+        }
+        return parameters;
+    }
+
+    /**
+     * Request path and query, with any page parameter removed, for use in "Link" headers
+     */
+    private String getPathWithoutPage(HttpExchange exchange) {
+        String rawPath = exchange.getRequestURI().getRawPath();
+        String rawQuery = exchange.getRequestURI().getRawQuery();
+        if (rawQuery == null) return rawPath;
+        String remainingQuery = rawQuery.replaceAll("(^|&)page=[^&]*", "").replaceAll("^&", "");
+        return remainingQuery.isEmpty() ? rawPath : rawPath + "?" + remainingQuery;
+    }
+
+    private int getIntParameter(Map<String, String> query, String name, int defaultValue) {
+        return query.containsKey(name) ? parseInt(query.get(name)) : defaultValue;
+    }
+
+    private int parseInt(String value) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Not a number: " + value);
+        }
+    }
+
+    private static byte[] readFully(InputStream stream) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        byte[] chunk = new byte[4096];
+        int read;
+        while ((read = stream.read(chunk)) != -1) {
+            buffer.write(chunk, 0, read);
+        }
+        return buffer.toByteArray();
+    }
+
+    private static ThreadFactory getThreadFactory() {
+        AtomicInteger threadCount = new AtomicInteger(0);
+        return runnable -> {
+            Thread thread = new Thread(runnable, "Remote HTTP Server-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
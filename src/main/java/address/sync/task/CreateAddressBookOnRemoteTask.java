@@ -4,6 +4,8 @@ import address.sync.RemoteManager;
 import address.util.AppLogger;
 import address.util.LoggerManager;
 
+import java.util.concurrent.CompletableFuture;
+
 public class CreateAddressBookOnRemoteTask extends RemoteTaskWithResult<Boolean> {
     private static final AppLogger logger = LoggerManager.getLogger(CreateAddressBookOnRemoteTask.class);
     private final String addressBookName;
@@ -18,4 +20,10 @@ public class CreateAddressBookOnRemoteTask extends RemoteTaskWithResult<Boolean>
         logger.info("Creating new address book {} on remote", addressBookName);
         return remoteManager.createAddressBook(addressBookName);
     }
+
+    @Override
+    public CompletableFuture<Boolean> callAsync() {
+        logger.info("Creating new address book {} on remote", addressBookName);
+        return remoteManager.createAddressBookAsync(addressBookName);
+    }
 }
@@ -1,7 +1,7 @@
 package address.sync.task;
 
 import address.exceptions.SyncErrorException;
-import address.model.datatypes.person.Person;
+import address.model.datatypes.person.PersonRecord;
 import address.model.datatypes.person.ReadOnlyPerson;
 import address.sync.RemoteManager;
 import address.util.AppLogger;
@@ -9,6 +9,7 @@ import address.util.LoggerManager;
 
 import java.io.IOException;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 public class CreatePersonOnRemoteTask extends RemoteTaskWithResult<ReadOnlyPerson> {
     private static final AppLogger logger = LoggerManager.getLogger(CreatePersonOnRemoteTask.class);
@@ -22,14 +23,21 @@ public class CreatePersonOnRemoteTask extends RemoteTaskWithResult<ReadOnlyPerso
     }
 
     @Override
-    public Person call() throws SyncErrorException {
+    public PersonRecord call() throws SyncErrorException {
         logger.info("Creating {} in {} on remote", person, addressBookName);
         try {
-            Optional<Person> createdPerson = remoteManager.createPerson(addressBookName, person);
+            Optional<PersonRecord> createdPerson = remoteManager.createPerson(addressBookName, person);
             if (!createdPerson.isPresent()) throw new SyncErrorException("Error creating person " + person);
             return createdPerson.get();
         } catch (IOException e) {
             throw new SyncErrorException("Error creating person" + person);
         }
     }
+
+    @Override
+    public CompletableFuture<ReadOnlyPerson> callAsync() {
+        logger.info("Creating {} in {} on remote", person, addressBookName);
+        return presentOrSyncError(remoteManager.createPersonAsync(addressBookName, person),
+                                  "Error creating person " + person);
+    }
 }
@@ -8,6 +8,7 @@ import address.util.LoggerManager;
 
 import java.io.IOException;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 public class CreateTagOnRemoteTask extends RemoteTaskWithResult<Tag> {
     private static final AppLogger logger = LoggerManager.getLogger(CreateTagOnRemoteTask.class);
@@ -31,4 +32,10 @@ public class CreateTagOnRemoteTask extends RemoteTaskWithResult<Tag> {
             throw new SyncErrorException("Error creating tag " + tag);
         }
     }
+
+    @Override
+    public CompletableFuture<Tag> callAsync() {
+        logger.info("Creating {} in {} on remote", tag, addressBookName);
+        return presentOrSyncError(remoteManager.createTagAsync(addressBookName, tag), "Error creating tag " + tag);
+    }
 }
@@ -6,6 +6,7 @@ import address.util.AppLogger;
 import address.util.LoggerManager;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 
 public class DeletePersonOnRemoteTask extends RemoteTaskWithResult<Boolean> {
     private static final AppLogger logger = LoggerManager.getLogger(DeletePersonOnRemoteTask.class);
@@ -28,4 +29,11 @@ public class DeletePersonOnRemoteTask extends RemoteTaskWithResult<Boolean> {
                     + " on remote");
         }
     }
+
+    @Override
+    public CompletableFuture<Boolean> callAsync() {
+        logger.info("Deleting person {} from {} on remote", personId, addressBookName);
+        return orSyncError(remoteManager.deletePersonAsync(addressBookName, personId),
+                           "Error deleting person " + personId + " from " + addressBookName + " on remote");
+    }
 }
@@ -6,6 +6,7 @@ import address.util.AppLogger;
 import address.util.LoggerManager;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 
 public class DeleteTagOnRemoteTask extends RemoteTaskWithResult<Boolean> {
     private static final AppLogger logger = LoggerManager.getLogger(DeleteTagOnRemoteTask.class);
@@ -27,4 +28,11 @@ public class DeleteTagOnRemoteTask extends RemoteTaskWithResult<Boolean> {
             throw new SyncErrorException("Error deleting tag " + tagName + " from " + addressBookName + " on remote");
         }
     }
+
+    @Override
+    public CompletableFuture<Boolean> callAsync() {
+        logger.info("Deleting tag {} from {} on remote", tagName, addressBookName);
+        return orSyncError(remoteManager.deleteTagAsync(addressBookName, tagName),
+                           "Error deleting tag " + tagName + " from " + addressBookName + " on remote");
+    }
 }
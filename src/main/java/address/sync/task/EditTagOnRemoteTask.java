@@ -8,6 +8,7 @@ import address.util.LoggerManager;
 
 import java.io.IOException;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 public class EditTagOnRemoteTask extends RemoteTaskWithResult<Tag> {
     private static final AppLogger logger = LoggerManager.getLogger(EditTagOnRemoteTask.class);
@@ -35,4 +36,11 @@ public class EditTagOnRemoteTask extends RemoteTaskWithResult<Tag> {
                     + this.editedTag);
         }
     }
+
+    @Override
+    public CompletableFuture<Tag> callAsync() {
+        logger.info("Editing tag {} with {} in {} on remote", tagName, editedTag, addressBookName);
+        return presentOrSyncError(remoteManager.editTagAsync(addressBookName, tagName, editedTag),
+                                  "Error editing tag " + tagName + " to " + editedTag);
+    }
 }
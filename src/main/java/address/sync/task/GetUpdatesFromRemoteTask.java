@@ -2,11 +2,12 @@ package address.sync.task;
 
 import address.events.*;
 import address.exceptions.SyncErrorException;
-import address.model.datatypes.person.Person;
+import address.model.datatypes.person.PersonRecord;
 import address.model.datatypes.tag.Tag;
 import address.sync.RemoteManager;
 import address.util.AppLogger;
 import address.util.LoggerManager;
+import commons.MetricsRegistry;
 
 import java.io.IOException;
 import java.util.List;
@@ -16,6 +17,9 @@ import java.util.function.Supplier;
 
 public class GetUpdatesFromRemoteTask implements Runnable {
     private static final AppLogger logger = LoggerManager.getLogger(GetUpdatesFromRemoteTask.class);
+    private static final MetricsRegistry.Timer syncCycleTimer = MetricsRegistry.getInstance().timer("sync.cycle");
+    private static final MetricsRegistry.Counter syncCycleFailures =
+            MetricsRegistry.getInstance().counter("sync.cycle.failed");
     private final Consumer<BaseEvent> eventRaiser;
     private final Supplier<Optional<String>> syncActiveAddressBookNameSupplier;
     private final RemoteManager remoteManager;
@@ -36,18 +40,22 @@ public class GetUpdatesFromRemoteTask implements Runnable {
             eventRaiser.accept(new SyncFailedEvent("No active addressbook sync found."));
             return;
         }
+        long start = System.nanoTime();
         try {
-            List<Person> updatedPersons = getUpdatedPersons(syncActiveAddressBookName.get());
+            List<PersonRecord> updatedPersons = getUpdatedPersons(syncActiveAddressBookName.get());
             logger.debug("Updated persons: {}", updatedPersons);
             Optional<List<Tag>> latestTags = getLatestTags(syncActiveAddressBookName.get());
             logger.debug("Latest tags: {}", latestTags);
 
+            syncCycleTimer.recordSince(start);
             eventRaiser.accept(new SyncCompletedEvent(updatedPersons, latestTags));
         } catch (SyncErrorException e) {
             logger.warn("Error obtaining updates: {}", e);
+            syncCycleFailures.increment();
             eventRaiser.accept(new SyncFailedEvent(e.getMessage()));
         } catch (Exception e) {
             logger.warn("Exception occurred in update task: {}", e);
+            syncCycleFailures.increment();
             eventRaiser.accept(new SyncFailedEvent(e.getMessage()));
         }
     }
@@ -59,9 +67,9 @@ public class GetUpdatesFromRemoteTask implements Runnable {
      * @return
      * @throws SyncErrorException if bad response code, missing data or network error
      */
-    private List<Person> getUpdatedPersons(String addressBookName) throws SyncErrorException {
+    private List<PersonRecord> getUpdatedPersons(String addressBookName) throws SyncErrorException {
         try {
-            Optional<List<Person>> updatedPersons = remoteManager.getUpdatedPersons(addressBookName);
+            Optional<List<PersonRecord>> updatedPersons = remoteManager.getUpdatedPersons(addressBookName);
             if (!updatedPersons.isPresent()) throw new SyncErrorException("getUpdatedPersons failed.");
             return updatedPersons.get();
         } catch (IOException e) {
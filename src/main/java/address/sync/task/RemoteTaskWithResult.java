@@ -1,8 +1,11 @@
 package address.sync.task;
 
+import address.exceptions.SyncErrorException;
 import address.sync.RemoteManager;
 
+import java.util.Optional;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
 
 public abstract class RemoteTaskWithResult<T> implements Callable<T> {
     protected final RemoteManager remoteManager;
@@ -10,4 +13,43 @@ public abstract class RemoteTaskWithResult<T> implements Callable<T> {
     protected RemoteTaskWithResult(RemoteManager remoteManager) {
         this.remoteManager = remoteManager;
     }
+
+    /**
+     * Non-blocking variant of call, only supported if the remote manager isAsync()
+     *
+     * @return future of the same result as call, completed exceptionally with a SyncErrorException in the same cases
+     */
+    public abstract CompletableFuture<T> callAsync();
+
+    /**
+     * @return future of the result, completed exceptionally with a SyncErrorException if the request failed
+     */
+    protected static <R> CompletableFuture<R> orSyncError(CompletableFuture<R> result, String errorMessage) {
+        CompletableFuture<R> resultOrError = new CompletableFuture<>();
+        result.whenComplete((value, ex) -> {
+            if (ex != null) {
+                resultOrError.completeExceptionally(new SyncErrorException(errorMessage));
+                return;
+            }
+            resultOrError.complete(value);
+        });
+        return resultOrError;
+    }
+
+    /**
+     * @return future of the result, completed exceptionally with a SyncErrorException if the request failed or
+     *         there is no result
+     */
+    protected static <R> CompletableFuture<R> presentOrSyncError(
+            CompletableFuture<? extends Optional<? extends R>> result, String errorMessage) {
+        CompletableFuture<R> resultOrError = new CompletableFuture<>();
+        result.whenComplete((value, ex) -> {
+            if (ex != null || !value.isPresent()) {
+                resultOrError.completeExceptionally(new SyncErrorException(errorMessage));
+                return;
+            }
+            resultOrError.complete(value.get());
+        });
+        return resultOrError;
+    }
 }
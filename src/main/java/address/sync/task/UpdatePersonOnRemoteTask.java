@@ -1,7 +1,7 @@
 package address.sync.task;
 
 import address.exceptions.SyncErrorException;
-import address.model.datatypes.person.Person;
+import address.model.datatypes.person.PersonRecord;
 import address.model.datatypes.person.ReadOnlyPerson;
 import address.sync.RemoteManager;
 import address.util.AppLogger;
@@ -9,6 +9,7 @@ import address.util.LoggerManager;
 
 import java.io.IOException;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 public class UpdatePersonOnRemoteTask extends RemoteTaskWithResult<ReadOnlyPerson> {
     private static final AppLogger logger = LoggerManager.getLogger(UpdatePersonOnRemoteTask.class);
@@ -28,11 +29,19 @@ public class UpdatePersonOnRemoteTask extends RemoteTaskWithResult<ReadOnlyPerso
     public ReadOnlyPerson call() throws SyncErrorException {
         logger.info("Updating person id {} with person {} in {} on remote", personId, updatedPerson, addressBookName);
         try {
-            Optional<Person> updatedPerson = remoteManager.updatePerson(addressBookName, personId, this.updatedPerson);
+            Optional<PersonRecord> updatedPerson = remoteManager.updatePerson(addressBookName, personId,
+                                                                              this.updatedPerson);
             if (!updatedPerson.isPresent()) throw new SyncErrorException("Error updating person");
             return updatedPerson.get();
         } catch (IOException e) {
             throw new SyncErrorException("Error updating person");
         }
     }
+
+    @Override
+    public CompletableFuture<ReadOnlyPerson> callAsync() {
+        logger.info("Updating person id {} with person {} in {} on remote", personId, updatedPerson, addressBookName);
+        return presentOrSyncError(remoteManager.updatePersonAsync(addressBookName, personId, updatedPerson),
+                                  "Error updating person");
+    }
 }
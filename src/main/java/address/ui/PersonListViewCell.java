@@ -28,6 +28,8 @@ public class PersonListViewCell extends ListCell<ReadOnlyViewablePerson> {
 
     public static final int SCROLL_AREA = 15;
 
+    private ReadOnlyViewablePerson displayedPerson; // whose visible data is retained for the card of this cell
+
     public PersonListViewCell(ReorderedList<ReadOnlyViewablePerson> reorderedList) {
 
         setOnMouseClicked(event -> {
@@ -36,7 +38,7 @@ public class PersonListViewCell extends ListCell<ReadOnlyViewablePerson> {
             }
         });
         setOnDragDetected(event -> {
-            if (getItem() == null) {
+            if (getItem() == null || getListView().getItems() != reorderedList) { // not in the custom order
                 return;
             }
 
@@ -222,8 +224,20 @@ public class PersonListViewCell extends ListCell<ReadOnlyViewablePerson> {
         if (empty || person == null) {
             setGraphic(null);
             setText(null);
+            setDisplayedPerson(null);
         } else {
+            setDisplayedPerson(person);
             setGraphic(new PersonCardController(person).getLayout());
         }
     }
+
+    /**
+     * Retains the visible data of the person shown by this cell, and releases that of the person shown before, so
+     * that persons scrolled out of view do not keep their visible data
+     */
+    private void setDisplayedPerson(ReadOnlyViewablePerson person) {
+        if (person != null) person.retainVisible(); // before releasing, in case it is the same person
+        if (displayedPerson != null) displayedPerson.releaseVisible();
+        displayedPerson = person;
+    }
 }
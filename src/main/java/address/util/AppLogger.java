@@ -6,7 +6,15 @@ import org.apache.logging.log4j.Logger;
 
 import java.util.Arrays;
 import java.util.List;
-
+import java.util.function.Supplier;
+
+/**
+ * Wrapper around a log4j {@link Logger}
+ *
+ * The varargs methods allocate an array on every call, even when the level is disabled. On hot paths, prefer the
+ * overloads taking up to three parameters, which do not allocate when the level is disabled, the {@link Supplier}
+ * overloads for messages that are expensive to build, or a check of {@link #isDebugEnabled()} around the call.
+ */
 public class AppLogger {
     private Logger logger;
 
@@ -14,17 +22,86 @@ public class AppLogger {
         this.logger = logger;
     }
 
+    public boolean isDebugEnabled() {
+        return logger.isDebugEnabled();
+    }
+
+    public boolean isInfoEnabled() {
+        return logger.isInfoEnabled();
+    }
+
+    public void info(String message) {
+        logger.info(message);
+    }
+
+    public void info(String message, Object param) {
+        logger.info(message, param);
+    }
+
+    public void info(String message, Object param1, Object param2) {
+        logger.info(message, param1, param2);
+    }
+
+    public void info(String message, Object param1, Object param2, Object param3) {
+        logger.info(message, param1, param2, param3);
+    }
+
     public void info(String message, Object... params) {
         logger.info(message, params);
     }
 
+    /**
+     * @param messageSupplier only called if info is enabled
+     */
+    public void info(Supplier<String> messageSupplier) {
+        if (logger.isInfoEnabled()) logger.info(messageSupplier.get());
+    }
+
+    public void debug(String message) {
+        logger.debug(message);
+    }
+
+    public void debug(String message, Object param) {
+        logger.debug(message, param);
+    }
+
+    public void debug(String message, Object param1, Object param2) {
+        logger.debug(message, param1, param2);
+    }
+
+    public void debug(String message, Object param1, Object param2, Object param3) {
+        logger.debug(message, param1, param2, param3);
+    }
+
     public void debug(String message, Object... params) {
         logger.debug(message, params);
     }
 
+    /**
+     * @param messageSupplier only called if debug is enabled
+     */
+    public void debug(Supplier<String> messageSupplier) {
+        if (logger.isDebugEnabled()) logger.debug(messageSupplier.get());
+    }
+
+    public void warn(String message) {
+        logger.warn(message);
+    }
+
+    public void warn(String message, Object param) {
+        logger.warn(message, param);
+    }
+
+    public void warn(String message, Object param1, Object param2) {
+        logger.warn(message, param1, param2);
+    }
+
+    public void warn(String message, Object param1, Object param2, Object param3) {
+        logger.warn(message, param1, param2, param3);
+    }
+
     public void warn(String message, Object... params) {
         logger.warn(message, params);
-
     }
 
     public void fatal(String message, Object... params) {
@@ -39,12 +116,20 @@ public class AppLogger {
         logger.catching(Level.DEBUG, throwable);
     }
 
+    /**
+     * Logs the event, only calling its toString if debug is enabled
+     */
     public <T extends BaseEvent> void debugEvent(T event) {
-        debugEvent("{}: {}", event.getClass().getSimpleName(), event.toString());
+        if (!logger.isDebugEnabled()) return;
+        logger.debug("{}: {}", event.getClass().getSimpleName(), event.toString());
     }
 
+    /**
+     * Logs the event, only calling its toString if info is enabled
+     */
     public void infoEvent(BaseEvent event) {
-        infoEvent("{}: {}", event.getClass().getSimpleName(), event.toString());
+        if (!logger.isInfoEnabled()) return;
+        logger.info("{}: {}", event.getClass().getSimpleName(), event.toString());
     }
 
     /**
@@ -76,14 +161,4 @@ public class AppLogger {
             return String.valueOf(listOfObjects.size());
         }
     }
-
-    // this method is required since debug(message, obj, obj) seems to be problematic
-    private void debugEvent(String message, Object... params) {
-        logger.debug(message, params);
-    }
-
-    // this method is required since info(message, obj, obj) seems to be problematic
-    private void infoEvent(String message, Object... params) {
-        logger.info(message, params);
-    }
 }
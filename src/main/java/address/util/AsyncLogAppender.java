@@ -0,0 +1,145 @@
+package address.util;
+
+import org.apache.logging.log4j.core.Appender;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.appender.AbstractAppender;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An appender that hands log events over to a single writer thread, which passes them on to the wrapped appenders
+ *
+ * Events are queued in a bounded ring buffer, so that threads that must stay responsive (e.g. the FX application
+ * thread) do not wait for disk I/O when logging. What happens to events logged while the buffer is full is decided by
+ * the {@link QueueFullPolicy}. Events still queued when the appender is stopped are written before it stops.
+ */
+public class AsyncLogAppender extends AbstractAppender {
+    private static final int MAX_BATCH_SIZE = 256;
+    private static final long POLL_TIMEOUT_MILLIS = 100;
+    private static final long STOP_TIMEOUT_MILLIS = 5000;
+
+    /**
+     * What happens to an event logged while the queue is full
+     */
+    public enum QueueFullPolicy {
+        /**
+         * Blocks the logging thread until there is space in the queue, so that no events are lost
+         */
+        BLOCK,
+        /**
+         * Drops the event, so that the logging thread never waits. The number of dropped events is logged once the
+         * queue has space again
+         */
+        DROP
+    }
+
+    private final List<Appender> appenders;
+    private final BlockingQueue<LogEvent> queue;
+    private final QueueFullPolicy queueFullPolicy;
+    private final LongAdder droppedCount = new LongAdder();
+    private final Thread writer;
+    private volatile boolean isAcceptingEvents = true;
+    private long reportedDroppedCount;
+
+    /**
+     * @param appenders to write the events to, which should already be started
+     */
+    public AsyncLogAppender(String name, List<Appender> appenders, int queueCapacity,
+                            QueueFullPolicy queueFullPolicy) {
+        super(name, null, null, true);
+        this.appenders = new ArrayList<>(appenders);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.queueFullPolicy = queueFullPolicy;
+        this.writer = new Thread(this::writeEvents, name + " Log Writer");
+        this.writer.setDaemon(true);
+    }
+
+    @Override
+    public void start() {
+        super.start();
+        writer.start();
+    }
+
+    /**
+     * Writes the events still queued, then stops accepting events
+     */
+    @Override
+    public void stop() {
+        isAcceptingEvents = false;
+        try {
+            writer.join(STOP_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        super.stop();
+    }
+
+    @Override
+    public void append(LogEvent event) {
+        // the event and its message may be reused by the logging thread once this returns; the layouts do not print
+        // the caller's location, so it is not captured
+        LogEvent memento = Log4jLogEvent.createMemento(event, false);
+        if (queueFullPolicy == QueueFullPolicy.DROP) {
+            if (!queue.offer(memento)) droppedCount.increment();
+            return;
+        }
+        try {
+            queue.put(memento);
+        } catch (InterruptedException e) {
+            droppedCount.increment();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    private void writeEvents() {
+        List<LogEvent> batch = new ArrayList<>(MAX_BATCH_SIZE);
+        while (isAcceptingEvents || !queue.isEmpty()) {
+            try {
+                LogEvent first = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+                batch.add(first);
+            } catch (InterruptedException e) {
+                continue; // only stops once the queue is drained
+            }
+            queue.drainTo(batch, MAX_BATCH_SIZE - 1);
+            batch.forEach(this::write);
+            batch.clear();
+            reportDroppedEvents();
+        }
+    }
+
+    private void write(LogEvent event) {
+        for (Appender appender : appenders) {
+            try {
+                appender.append(event);
+            } catch (Exception e) {
+                LOGGER.error("Error writing log event to appender {}", appender.getName(), e);
+            }
+        }
+    }
+
+    /**
+     * Only called by the writer thread
+     */
+    private void reportDroppedEvents() {
+        long dropped = droppedCount.sum();
+        if (dropped == reportedDroppedCount) return;
+        LOGGER.warn("{} log events dropped as the queue of appender {} was full", dropped - reportedDroppedCount,
+                    getName());
+        reportedDroppedCount = dropped;
+    }
+}
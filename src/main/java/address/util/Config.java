@@ -20,6 +20,19 @@ public class Config {
     private static final String DEFAULT_LOCAL_DATA_FILE_PATH = "data/addressbook.xml";
     private static final String DEFAULT_CLOUD_DATA_FILE_PATH = null; // For use in CloudManipulator for manual testing
     private static final String DEFAULT_ADDRESS_BOOK_NAME = "MyAddressBook";
+    private static final int DEFAULT_SYNC_REQUEST_THREADS = 4;
+    private static final int DEFAULT_SYNC_REQUEST_QUEUE_CAPACITY = 1000;
+    private static final int DEFAULT_MODEL_COMMAND_THREADS = 32;
+    private static final int DEFAULT_MODEL_COMMAND_QUEUE_CAPACITY = 10000;
+    private static final long DEFAULT_SLOW_EVENT_HANDLER_THRESHOLD = 100;
+    private static final long DEFAULT_EVENT_METRICS_LOG_INTERVAL = 0; // disabled
+    private static final boolean DEFAULT_ASYNC_LOGGING = false;
+    private static final int DEFAULT_ASYNC_LOGGING_QUEUE_CAPACITY = 8192;
+    private static final AsyncLogAppender.QueueFullPolicy DEFAULT_ASYNC_LOGGING_QUEUE_FULL_POLICY =
+            AsyncLogAppender.QueueFullPolicy.BLOCK;
+    private static final long DEFAULT_METRICS_EXPORT_INTERVAL = 0; // disabled
+    private static final String DEFAULT_METRICS_EXPORT_DIRECTORY = "metrics";
+    private static final int DEFAULT_METRICS_HTTP_PORT = -1; // disabled
 
     // Config values
     private String appTitle = "Address App";
@@ -33,6 +46,18 @@ public class Config {
     private String localDataFilePath = DEFAULT_LOCAL_DATA_FILE_PATH;
     private String cloudDataFilePath = DEFAULT_CLOUD_DATA_FILE_PATH;
     private String addressBookName = DEFAULT_ADDRESS_BOOK_NAME;
+    private int syncRequestThreads = DEFAULT_SYNC_REQUEST_THREADS;
+    private int syncRequestQueueCapacity = DEFAULT_SYNC_REQUEST_QUEUE_CAPACITY;
+    private int modelCommandThreads = DEFAULT_MODEL_COMMAND_THREADS;
+    private int modelCommandQueueCapacity = DEFAULT_MODEL_COMMAND_QUEUE_CAPACITY;
+    private long slowEventHandlerThreshold = DEFAULT_SLOW_EVENT_HANDLER_THRESHOLD; // milliseconds
+    private long eventMetricsLogInterval = DEFAULT_EVENT_METRICS_LOG_INTERVAL; // milliseconds, 0 to disable
+    private boolean asyncLogging = DEFAULT_ASYNC_LOGGING;
+    private int asyncLoggingQueueCapacity = DEFAULT_ASYNC_LOGGING_QUEUE_CAPACITY;
+    private AsyncLogAppender.QueueFullPolicy asyncLoggingQueueFullPolicy = DEFAULT_ASYNC_LOGGING_QUEUE_FULL_POLICY;
+    private long metricsExportInterval = DEFAULT_METRICS_EXPORT_INTERVAL; // milliseconds, 0 to disable
+    private String metricsExportDirectory = DEFAULT_METRICS_EXPORT_DIRECTORY;
+    private int metricsHttpPort = DEFAULT_METRICS_HTTP_PORT; // loopback only, 0 for any free port, -1 to disable
 
 
     public Config() {
@@ -118,5 +143,99 @@ public class Config {
         this.addressBookName = addressBookName;
     }
 
+    public int getSyncRequestThreads() {
+        return syncRequestThreads;
+    }
+
+    public void setSyncRequestThreads(int syncRequestThreads) {
+        this.syncRequestThreads = syncRequestThreads;
+    }
+
+    public int getSyncRequestQueueCapacity() {
+        return syncRequestQueueCapacity;
+    }
+
+    public void setSyncRequestQueueCapacity(int syncRequestQueueCapacity) {
+        this.syncRequestQueueCapacity = syncRequestQueueCapacity;
+    }
+
+    public int getModelCommandThreads() {
+        return modelCommandThreads;
+    }
+
+    public void setModelCommandThreads(int modelCommandThreads) {
+        this.modelCommandThreads = modelCommandThreads;
+    }
+
+    public int getModelCommandQueueCapacity() {
+        return modelCommandQueueCapacity;
+    }
+
+    public void setModelCommandQueueCapacity(int modelCommandQueueCapacity) {
+        this.modelCommandQueueCapacity = modelCommandQueueCapacity;
+    }
+
+    public long getSlowEventHandlerThreshold() {
+        return slowEventHandlerThreshold;
+    }
+
+    public void setSlowEventHandlerThreshold(long slowEventHandlerThreshold) {
+        this.slowEventHandlerThreshold = slowEventHandlerThreshold;
+    }
+
+    public long getEventMetricsLogInterval() {
+        return eventMetricsLogInterval;
+    }
+
+    public void setEventMetricsLogInterval(long eventMetricsLogInterval) {
+        this.eventMetricsLogInterval = eventMetricsLogInterval;
+    }
 
+    public boolean isAsyncLogging() {
+        return asyncLogging;
+    }
+
+    public void setAsyncLogging(boolean asyncLogging) {
+        this.asyncLogging = asyncLogging;
+    }
+
+    public int getAsyncLoggingQueueCapacity() {
+        return asyncLoggingQueueCapacity;
+    }
+
+    public void setAsyncLoggingQueueCapacity(int asyncLoggingQueueCapacity) {
+        this.asyncLoggingQueueCapacity = asyncLoggingQueueCapacity;
+    }
+
+    public AsyncLogAppender.QueueFullPolicy getAsyncLoggingQueueFullPolicy() {
+        return asyncLoggingQueueFullPolicy;
+    }
+
+    public void setAsyncLoggingQueueFullPolicy(AsyncLogAppender.QueueFullPolicy asyncLoggingQueueFullPolicy) {
+        this.asyncLoggingQueueFullPolicy = asyncLoggingQueueFullPolicy;
+    }
+
+    public long getMetricsExportInterval() {
+        return metricsExportInterval;
+    }
+
+    public void setMetricsExportInterval(long metricsExportInterval) {
+        this.metricsExportInterval = metricsExportInterval;
+    }
+
+    public String getMetricsExportDirectory() {
+        return metricsExportDirectory;
+    }
+
+    public void setMetricsExportDirectory(String metricsExportDirectory) {
+        this.metricsExportDirectory = metricsExportDirectory;
+    }
+
+    public int getMetricsHttpPort() {
+        return metricsHttpPort;
+    }
+
+    public void setMetricsHttpPort(int metricsHttpPort) {
+        this.metricsHttpPort = metricsHttpPort;
+    }
 }
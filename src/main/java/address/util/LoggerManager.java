@@ -2,16 +2,30 @@ package address.util;
 
 import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.core.Appender;
 import org.apache.logging.log4j.core.LoggerContext;
 import org.apache.logging.log4j.core.config.AbstractConfiguration;
 import org.apache.logging.log4j.core.config.LoggerConfig;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
 
+/**
+ * Creates the {@link AppLogger}s and manages their levels and appenders
+ *
+ * Levels are set directly on each logger, so applying the {@link Config#specialLogLevels} does not need the logger
+ * context to update all its loggers. If asynchronous logging is enabled, the appenders of the root logger are wrapped
+ * in an {@link AsyncLogAppender}, and {@link #shutdown()} should be called before exiting so that no events are lost.
+ */
 public class LoggerManager {
     private static final AppLogger logger = LoggerManager.getLogger(LoggerManager.class);
+    private static final String ASYNC_APPENDER_NAME = "Async";
     private static Level currentLogLevel = Level.INFO;
     private static HashMap<String, Level> specialLogLevels = new HashMap<>();
+    private static Optional<AsyncLogAppender> asyncAppender = Optional.empty();
 
     public static void init(Config config) {
         logger.info("currentLogLevel: {}", config.currentLogLevel);
@@ -20,20 +34,30 @@ public class LoggerManager {
         specialLogLevels = config.specialLogLevels;
 
         LoggerContext loggerContext = getLoggerContext();
-        AbstractConfiguration loggersConfig = getLoggersConfig(loggerContext);
-        updateExistingLoggersLevel(loggersConfig);
-        loggerContext.updateLoggers(loggersConfig);
+        updateExistingLoggersLevel(loggerContext);
+        if (config.isAsyncLogging()) {
+            logger.info("Logging asynchronously with a queue of {} events, {} when full",
+                        config.getAsyncLoggingQueueCapacity(), config.getAsyncLoggingQueueFullPolicy());
+            enableAsyncLogging(getLoggersConfig(loggerContext), config.getAsyncLoggingQueueCapacity(),
+                               config.getAsyncLoggingQueueFullPolicy());
+        }
+    }
+
+    /**
+     * Writes out the events still queued if logging asynchronously. Events logged after this are not written
+     */
+    public static synchronized void shutdown() {
+        asyncAppender.ifPresent(AsyncLogAppender::stop);
     }
 
     public static AppLogger getLogger(String className, Level loggingLevel) {
-        setClassLoggingLevel(className, loggingLevel);
-        return new AppLogger(LogManager.getLogger(className));
+        Logger classLogger = LogManager.getLogger(className);
+        setLoggingLevel(classLogger, loggingLevel);
+        return new AppLogger(classLogger);
     }
 
     public static AppLogger getLogger(String className) {
-        Level loggingLevelToSet = determineLoggingLevelToSet(className);
-        setClassLoggingLevel(className, loggingLevelToSet);
-        return new AppLogger(LogManager.getLogger(className));
+        return getLogger(className, determineLoggingLevelToSet(className));
     }
 
     public static <T> AppLogger getLogger(Class<T> clazz) {
@@ -49,17 +73,38 @@ public class LoggerManager {
         return (AbstractConfiguration) loggerContext.getConfiguration();
     }
 
-    private static void updateExistingLoggersLevel(AbstractConfiguration absConfig) {
-        absConfig.getLoggers().forEach((loggerName, loggerConfig) -> {
-                loggerConfig.setLevel(determineLoggingLevelToSet(loggerName));
+    private static void updateExistingLoggersLevel(LoggerContext loggerContext) {
+        loggerContext.getLoggers().forEach(existingLogger -> {
+                setLoggingLevel(existingLogger, determineLoggingLevelToSet(existingLogger.getName()));
         });
     }
 
-    private static void setClassLoggingLevel(String className, Level loggingLevel) {
-        LoggerContext loggerContext = getLoggerContext();
-        AbstractConfiguration loggersConfig = getLoggersConfig(loggerContext);
-        setLoggingLevel(loggersConfig, className, loggingLevel);
-        loggerContext.updateLoggers(loggersConfig);
+    /**
+     * Replaces the appenders of the root logger by an {@link AsyncLogAppender} wrapping them. As the loggers refer to
+     * the root logger config rather than its appenders, they need not be updated
+     */
+    private static synchronized void enableAsyncLogging(AbstractConfiguration config, int queueCapacity,
+                                                        AsyncLogAppender.QueueFullPolicy queueFullPolicy) {
+        if (asyncAppender.isPresent()) return;
+        LoggerConfig rootConfig = config.getRootLogger();
+        List<Appender> appenders = new ArrayList<>(rootConfig.getAppenders().values());
+        AsyncLogAppender appender = new AsyncLogAppender(ASYNC_APPENDER_NAME, appenders, queueCapacity,
+                                                         queueFullPolicy);
+        appender.start();
+        config.addAppender(appender);
+        rootConfig.addAppender(appender, null, null);
+        appenders.forEach(wrappedAppender -> rootConfig.removeAppender(wrappedAppender.getName()));
+        asyncAppender = Optional.of(appender);
+    }
+
+    /**
+     * Sets the level of the logger itself, without changing the configuration, which would need all loggers of the
+     * context to be updated for the change to take effect
+     */
+    private static void setLoggingLevel(Logger classLogger, Level loggingLevel) {
+        if (classLogger instanceof org.apache.logging.log4j.core.Logger) {
+            ((org.apache.logging.log4j.core.Logger) classLogger).setLevel(loggingLevel);
+        }
     }
 
     private static Level determineLoggingLevelToSet(String className) {
@@ -68,13 +113,4 @@ public class LoggerManager {
         }
         return currentLogLevel;
     }
-
-    private static void setLoggingLevel(AbstractConfiguration config, String className, Level loggingLevel) {
-        if (config.getLogger(className) != null) {
-            config.getLogger(className).setLevel(loggingLevel);
-            return;
-        }
-
-        config.addLogger(className, new LoggerConfig(className, loggingLevel, true));
-    }
 }
@@ -0,0 +1,256 @@
+package address.util;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import commons.MetricsFormatter;
+import commons.MetricsRegistry;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Exports the metrics of a {@link MetricsRegistry} to local files periodically, and optionally over HTTP
+ *
+ * Every export overwrites {@value #PROMETHEUS_FILE_NAME} with the current metrics in the Prometheus text format, so
+ * that it can be picked up by e.g. the textfile collector of the node exporter, and appends them as a line of JSON to
+ * {@value #JSON_FILE_NAME}, which is rotated like the log files. The HTTP endpoint listens on the loopback interface
+ * only and serves the same data at "/metrics" and "/metrics.json".
+ *
+ * The text and byte buffers are reused between exports, so exporting every few seconds does not add GC pressure.
+ */
+public class MetricsExporter {
+    private static final AppLogger logger = LoggerManager.getLogger(MetricsExporter.class);
+    static final String PROMETHEUS_FILE_NAME = "metrics.prom";
+    static final String JSON_FILE_NAME = "metrics.json";
+    static final long MAX_JSON_FILE_SIZE = 5 * 1024 * 1024; // bytes
+    static final int MAX_JSON_BACKUP_FILES = 5;
+    private static final String METRIC_NAME_PREFIX = "addressbook_";
+    private static final String PROMETHEUS_CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+    private static final String JSON_CONTENT_TYPE = "application/json; charset=utf-8";
+    private static final int INITIAL_BUFFER_SIZE = 16 * 1024;
+
+    private final MetricsRegistry metrics;
+    private final MetricsFormatter formatter = new MetricsFormatter(METRIC_NAME_PREFIX);
+    private final Path directory;
+    private final long exportInterval;
+    private final int httpPort;
+    private final StringBuilder text = new StringBuilder(INITIAL_BUFFER_SIZE);
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+    private ByteBuffer bytes = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+    private Optional<ScheduledExecutorService> scheduler = Optional.empty();
+    private Optional<HttpServer> httpServer = Optional.empty();
+    private Optional<ExecutorService> httpExecutor = Optional.empty();
+
+    public MetricsExporter(MetricsRegistry metrics, Config config) {
+        this(metrics, Paths.get(config.getMetricsExportDirectory()), config.getMetricsExportInterval(),
+             config.getMetricsHttpPort());
+    }
+
+    /**
+     * @param exportInterval milliseconds between exports to files, or 0 to not export to files
+     * @param httpPort port of the HTTP endpoint, or -1 to not serve the metrics over HTTP
+     */
+    MetricsExporter(MetricsRegistry metrics, Path directory, long exportInterval, int httpPort) {
+        this.metrics = metrics;
+        this.directory = directory;
+        this.exportInterval = exportInterval;
+        this.httpPort = httpPort;
+    }
+
+    public synchronized void start() {
+        logger.info("metricsExportInterval: {}ms, metricsHttpPort: {}", exportInterval, httpPort);
+        if (exportInterval > 0) startFileExport();
+        if (httpPort >= 0) startHttpEndpoint();
+    }
+
+    /**
+     * Stops exporting, after writing the files one last time if exporting to files
+     */
+    public synchronized void stop() {
+        scheduler.ifPresent(exportScheduler -> {
+            exportScheduler.shutdown();
+            exportToFilesSafely();
+        });
+        scheduler = Optional.empty();
+        httpServer.ifPresent(server -> server.stop(0));
+        httpServer = Optional.empty();
+        httpExecutor.ifPresent(ExecutorService::shutdown);
+        httpExecutor = Optional.empty();
+    }
+
+    /**
+     * @return the port the HTTP endpoint is listening on, if it is running
+     */
+    public synchronized Optional<Integer> getHttpPort() {
+        return httpServer.map(server -> server.getAddress().getPort());
+    }
+
+    /**
+     * Writes the current metrics to the Prometheus file and appends them to the JSON file
+     */
+    public synchronized void exportToFiles() throws IOException {
+        Files.createDirectories(directory);
+
+        text.setLength(0);
+        formatter.appendPrometheus(metrics, text);
+        Path prometheusFile = directory.resolve(PROMETHEUS_FILE_NAME);
+        Path tempFile = directory.resolve(PROMETHEUS_FILE_NAME + ".tmp");
+        write(tempFile, encode(text), StandardOpenOption.TRUNCATE_EXISTING);
+        replace(tempFile, prometheusFile);
+
+        text.setLength(0);
+        formatter.appendJson(metrics, System.currentTimeMillis(), text);
+        text.append(System.lineSeparator());
+        ByteBuffer jsonLine = encode(text);
+        Path jsonFile = directory.resolve(JSON_FILE_NAME);
+        if (Files.exists(jsonFile) && Files.size(jsonFile) + jsonLine.remaining() > MAX_JSON_FILE_SIZE) {
+            rotate(jsonFile);
+        }
+        write(jsonFile, jsonLine, StandardOpenOption.APPEND);
+    }
+
+    private void startFileExport() {
+        ScheduledExecutorService exportScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "Metrics Exporter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        exportScheduler.scheduleAtFixedRate(this::exportToFilesSafely, 0, exportInterval, TimeUnit.MILLISECONDS);
+        scheduler = Optional.of(exportScheduler);
+    }
+
+    private void startHttpEndpoint() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), httpPort), 0);
+            ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "Metrics HTTP Endpoint");
+                thread.setDaemon(true);
+                return thread;
+            });
+            server.setExecutor(executor);
+            server.createContext("/metrics", exchange -> handle(exchange, false));
+            server.createContext("/metrics.json", exchange -> handle(exchange, true));
+            server.start();
+            httpServer = Optional.of(server);
+            httpExecutor = Optional.of(executor);
+            logger.info("Metrics HTTP endpoint listening on port {}", server.getAddress().getPort());
+        } catch (IOException e) {
+            logger.warn("Error starting metrics HTTP endpoint on port {}: {}", httpPort, e);
+        }
+    }
+
+    /**
+     * Keeps the export scheduled even if one export fails, e.g. because the disk is full
+     */
+    private void exportToFilesSafely() {
+        try {
+            exportToFiles();
+        } catch (IOException e) {
+            logger.warn("Error exporting metrics to {}: {}", directory, e);
+        }
+    }
+
+    private void handle(HttpExchange exchange, boolean isJson) throws IOException {
+        try {
+            if (!"GET".equals(exchange.getRequestMethod()) || !isExactPath(exchange, isJson)) {
+                int status = "GET".equals(exchange.getRequestMethod()) ? HttpURLConnection.HTTP_NOT_FOUND
+                                                                       : HttpURLConnection.HTTP_BAD_METHOD;
+                exchange.sendResponseHeaders(status, -1);
+                return;
+            }
+            synchronized (this) {
+                text.setLength(0);
+                if (isJson) {
+                    formatter.appendJson(metrics, System.currentTimeMillis(), text);
+                } else {
+                    formatter.appendPrometheus(metrics, text);
+                }
+                ByteBuffer body = encode(text);
+                exchange.getResponseHeaders().set("Content-Type", isJson ? JSON_CONTENT_TYPE : PROMETHEUS_CONTENT_TYPE);
+                exchange.sendResponseHeaders(HttpURLConnection.HTTP_OK, body.remaining());
+                try (OutputStream responseBody = exchange.getResponseBody()) {
+                    responseBody.write(body.array(), body.position(), body.remaining());
+                }
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Contexts match any path starting with their own
+     */
+    private boolean isExactPath(HttpExchange exchange, boolean isJson) {
+        String path = exchange.getRequestURI().getPath();
+        return path.equals(isJson ? "/metrics.json" : "/metrics");
+    }
+
+    /**
+     * @return the encoded text, valid until the next call
+     */
+    private ByteBuffer encode(CharSequence content) {
+        int maxLength = (int) Math.ceil(content.length() * (double) encoder.maxBytesPerChar());
+        if (bytes.capacity() < maxLength) bytes = ByteBuffer.allocate(Math.max(maxLength, bytes.capacity() * 2));
+        bytes.clear();
+        encoder.reset();
+        encoder.encode(CharBuffer.wrap(content), bytes, true);
+        encoder.flush(bytes);
+        bytes.flip();
+        return bytes;
+    }
+
+    private void write(Path file, ByteBuffer content, StandardOpenOption mode) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                                                    mode)) {
+            while (content.hasRemaining()) {
+                channel.write(content);
+            }
+        }
+    }
+
+    /**
+     * Replaces the target atomically where the file system allows, so that readers never see a partial file
+     */
+    private void replace(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Renames file to file.1, file.1 to file.2 and so on, deleting the oldest backup
+     */
+    private void rotate(Path file) throws IOException {
+        Files.deleteIfExists(getBackupFile(file, MAX_JSON_BACKUP_FILES));
+        for (int i = MAX_JSON_BACKUP_FILES - 1; i >= 1; i--) {
+            Path backup = getBackupFile(file, i);
+            if (Files.exists(backup)) Files.move(backup, getBackupFile(file, i + 1));
+        }
+        Files.move(file, getBackupFile(file, 1));
+    }
+
+    static Path getBackupFile(Path file, int index) {
+        return file.resolveSibling(file.getFileName() + "." + index);
+    }
+}
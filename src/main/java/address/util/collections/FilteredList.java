@@ -96,8 +96,9 @@ public class FilteredList<E> extends TransformationList<E, E> {
      */
     private void fireRemoveChanges(ObservableList<E> removedList, ObservableList<E> originalList) {
         removedList.forEach(e -> {
-            originalList.remove(e);
-            nextRemove(originalList.indexOf(e), e);
+            int index = originalList.indexOf(e);
+            originalList.remove(index);
+            nextRemove(index, e);
         });
     }
 
@@ -110,8 +111,9 @@ public class FilteredList<E> extends TransformationList<E, E> {
                 c.getRemoved().stream()
                         .filter(predicate)
                         .forEach(e -> {
-                            filteredList.remove(e);
-                            nextRemove(filteredList.indexOf(e), e);
+                            int index = filteredList.indexOf(e);
+                            filteredList.remove(index);
+                            nextRemove(index, e);
                         });
 
                 sourceCopy.addAll(c.getAddedSubList());
@@ -121,6 +123,11 @@ public class FilteredList<E> extends TransformationList<E, E> {
                             filteredList.add(e);
                             nextAdd(filteredList.indexOf(e), filteredList.indexOf(e) + 1);
                         });
+            } else if (c.wasUpdated()) {
+                for (int i = c.getFrom(); i < c.getTo(); i++) {
+                    int index = filteredList.indexOf(c.getList().get(i));
+                    if (index >= 0) nextUpdate(index);
+                }
             }
         }
         endChange();
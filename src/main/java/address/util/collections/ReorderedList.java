@@ -2,8 +2,7 @@ package address.util.collections;
 
 import address.util.AppLogger;
 import address.util.LoggerManager;
-import com.sun.javafx.collections.SourceAdapterChange;
-import javafx.collections.FXCollections;
+import commons.FractionalRank;
 import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.TransformationList;
@@ -11,52 +10,266 @@ import javafx.collections.transformation.TransformationList;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.IdentityHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 /**
+ * A view of the source list in a custom order, changed by {@link #moveElements(List, int)}.
  *
+ * The order is given by a {@link FractionalRank} key per element, read from the elements if they carry one. Moving
+ * elements gives new keys to the moved elements only, which are reported to the rank listener so that they can be
+ * persisted. Unranked elements come last in source order, so elements added to the source without a rank are added at
+ * the end of this list, and elements moved among them land right after the last ranked element. Elements updated in
+ * the source with a different rank are moved to their new position.
+ *
+ * The order is kept as a permutation of source indices, with its inverse, so that lookups in either direction take
+ * constant time. Changes rebuild the arrays instead: a batch of k elements added to or removed from the source takes
+ * one O(n + k log k) pass, and a move or a re-ranked element takes O(n). The position of a re-ranked element is found
+ * by binary search on the ranks.
  */
 public class ReorderedList<T> extends TransformationList<T, T> {
-    private ObservableList<T> mappingList;
-
     private static AppLogger logger = LoggerManager.getLogger(ReorderedList.class);
 
+    private final Function<? super T, String> rankGetter;
+    private final BiConsumer<? super T, String> rankListener;
+
+    private int[] sourceIndices; // by index in this list
+    private String[] ranks; // by index in this list, in increasing order
+    private int[] viewIndices; // by index in the source list
+
     /**
-     * Creates a new Transformation list wrapped around the source list.
+     * Creates a new Transformation list wrapped around the source list, in source order.
+     * The ranks are only kept in this list.
      *
      * @param source the wrapped list
      */
     public ReorderedList(ObservableList<T> source) {
+        this(source, null, (element, rank) -> {});
+    }
+
+    /**
+     * Creates a new Transformation list wrapped around the source list, ordered by the ranks of its elements.
+     *
+     * @param source the wrapped list
+     * @param rankGetter the rank of an element, or {@link FractionalRank#UNRANKED}
+     * @param rankListener called with each element given a new rank by a move. If the rank cannot be kept, the
+     *                     listener should replace or update the element in the source, which moves it back to the
+     *                     position of the rank read from it
+     */
+    public ReorderedList(ObservableList<T> source, Function<? super T, String> rankGetter,
+                         BiConsumer<? super T, String> rankListener) {
         super(source);
-        mappingList = FXCollections.observableArrayList(source);
+        this.rankGetter = rankGetter;
+        this.rankListener = rankListener;
+        Integer[] order = new Integer[source.size()];
+        String[] sourceRanks = new String[source.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+            sourceRanks[i] = getRankFromElement(source.get(i));
+        }
+        Arrays.sort(order, (a, b) -> FractionalRank.compare(sourceRanks[a], sourceRanks[b])); // stable
+        sourceIndices = new int[order.length];
+        ranks = new String[order.length];
+        for (int i = 0; i < order.length; i++) {
+            sourceIndices[i] = order[i];
+            ranks[i] = sourceRanks[order[i]];
+        }
+        updateViewIndices();
         logger.debug("Mapping list created.");
     }
 
+    private String getRankFromElement(T element) {
+        return rankGetter == null ? FractionalRank.UNRANKED : rankGetter.apply(element);
+    }
+
     @Override
     protected synchronized void sourceChanged(ListChangeListener.Change<? extends T> c) {
         logger.debug("Source changed detected: Begin changing of mapping list");
         beginChange();
         while (c.next()) {
-            if (c.wasRemoved()) {
-                logger.debug("c.wasRemoved:" + Arrays.toString(c.getRemoved().toArray()));
-                mappingList.removeAll(c.getRemoved());
-            }
-
-            if (c.wasAdded()) {
-                logger.debug("c.wasAdded:" + Arrays.toString(c.getAddedSubList().toArray()));
-                mappingList.addAll(c.getAddedSubList());
+            if (c.wasPermutated()) {
+                permute(c);
+            } else if (c.wasUpdated()) {
+                for (int i = c.getFrom(); i < c.getTo(); i++) {
+                    update(i);
+                }
+            } else {
+                if (c.wasRemoved()) {
+                    logger.debug(() -> "c.wasRemoved:" + Arrays.toString(c.getRemoved().toArray()));
+                    remove(c.getFrom(), c.getRemoved());
+                }
+                if (c.wasAdded()) {
+                    logger.debug(() -> "c.wasAdded:" + Arrays.toString(c.getAddedSubList().toArray()));
+                    add(c.getFrom(), c.getTo());
+                }
             }
         }
         endChange();
         logger.debug("Source changed detected: End changing of mapping list");
-        fireChange(new SourceAdapterChange<>(this, c));
-        logger.debug("Source changed detected: Fire Changes");
+    }
+
+    /**
+     * The order of this list stays the same, only the source indices change
+     */
+    private void permute(ListChangeListener.Change<? extends T> c) {
+        for (int i = 0; i < sourceIndices.length; i++) {
+            int sourceIndex = sourceIndices[i];
+            if (sourceIndex >= c.getFrom() && sourceIndex < c.getTo()) {
+                sourceIndices[i] = c.getPermutation(sourceIndex);
+            }
+        }
+        updateViewIndices();
+    }
+
+    /**
+     * Moves the element to its new position if its rank changed, e.g. by a move elsewhere
+     */
+    private void update(int sourceIndex) {
+        int viewIndex = viewIndices[sourceIndex];
+        T element = getSource().get(sourceIndex);
+        String rank = getRankFromElement(element);
+        if (rankGetter == null || rank.equals(ranks[viewIndex])) {
+            nextUpdate(viewIndex);
+            return;
+        }
+        removeAt(viewIndex);
+        nextRemove(viewIndex, element);
+        int newViewIndex = insert(sourceIndex, rank);
+        nextAdd(newViewIndex, newViewIndex + 1);
+    }
+
+    private void remove(int sourceFrom, List<? extends T> removed) {
+        int sourceTo = sourceFrom + removed.size();
+        int[] removedViewIndices = Arrays.copyOfRange(viewIndices, sourceFrom, sourceTo);
+        Arrays.sort(removedViewIndices);
+        for (int i = removedViewIndices.length - 1; i >= 0; i--) { // from the back, so the other indices stay valid
+            int viewIndex = removedViewIndices[i];
+            nextRemove(viewIndex, removed.get(sourceIndices[viewIndex] - sourceFrom));
+        }
+
+        int[] remainingSourceIndices = new int[sourceIndices.length - removed.size()];
+        String[] remainingRanks = new String[remainingSourceIndices.length];
+        int count = 0;
+        for (int i = 0; i < sourceIndices.length; i++) {
+            int sourceIndex = sourceIndices[i];
+            if (sourceIndex < sourceFrom || sourceIndex >= sourceTo) {
+                remainingSourceIndices[count] = sourceIndex < sourceFrom ? sourceIndex : sourceIndex - removed.size();
+                remainingRanks[count++] = ranks[i];
+            }
+        }
+        sourceIndices = remainingSourceIndices;
+        ranks = remainingRanks;
+        updateViewIndices();
+    }
+
+    /**
+     * Adds the elements added to the source at [sourceFrom, sourceTo), each after the elements of the same rank, by
+     * merging them in rank order into the current order
+     */
+    private void add(int sourceFrom, int sourceTo) {
+        int addedCount = sourceTo - sourceFrom;
+        Integer[] added = new Integer[addedCount]; // source indices, sorted by rank below
+        String[] addedRanks = new String[addedCount]; // by source index - sourceFrom
+        for (int i = 0; i < addedCount; i++) {
+            added[i] = sourceFrom + i;
+            addedRanks[i] = getRankFromElement(getSource().get(sourceFrom + i));
+        }
+        Arrays.sort(added, (a, b) -> FractionalRank.compare(addedRanks[a - sourceFrom], addedRanks[b - sourceFrom]));
+
+        int[] newSourceIndices = new int[sourceIndices.length + addedCount];
+        String[] newRanks = new String[newSourceIndices.length];
+        int[] addedViewIndices = new int[addedCount];
+        int existingCount = 0;
+        int mergedAddedCount = 0;
+        for (int i = 0; i < newSourceIndices.length; i++) {
+            String addedRank = mergedAddedCount < addedCount ? addedRanks[added[mergedAddedCount] - sourceFrom] : null;
+            if (addedRank != null && (existingCount == sourceIndices.length
+                    || FractionalRank.compare(addedRank, ranks[existingCount]) < 0)) {
+                newSourceIndices[i] = added[mergedAddedCount];
+                newRanks[i] = addedRank;
+                addedViewIndices[mergedAddedCount++] = i;
+            } else {
+                int sourceIndex = sourceIndices[existingCount];
+                newSourceIndices[i] = sourceIndex >= sourceFrom ? sourceIndex + addedCount : sourceIndex;
+                newRanks[i] = ranks[existingCount++];
+            }
+        }
+        sourceIndices = newSourceIndices;
+        ranks = newRanks;
+        updateViewIndices();
+        for (int viewIndex : addedViewIndices) { // in increasing order
+            nextAdd(viewIndex, viewIndex + 1);
+        }
+    }
+
+    /**
+     * @return the index in this list the source element was inserted at
+     */
+    private int insert(int sourceIndex, String rank) {
+        int low = 0;
+        int high = ranks.length;
+        while (low < high) { // the first index with a greater rank
+            int middle = (low + high) >>> 1;
+            if (FractionalRank.compare(ranks[middle], rank) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        int[] newSourceIndices = new int[sourceIndices.length + 1];
+        String[] newRanks = new String[ranks.length + 1];
+        System.arraycopy(sourceIndices, 0, newSourceIndices, 0, low);
+        System.arraycopy(ranks, 0, newRanks, 0, low);
+        newSourceIndices[low] = sourceIndex;
+        newRanks[low] = rank;
+        System.arraycopy(sourceIndices, low, newSourceIndices, low + 1, sourceIndices.length - low);
+        System.arraycopy(ranks, low, newRanks, low + 1, ranks.length - low);
+        sourceIndices = newSourceIndices;
+        ranks = newRanks;
+        updateViewIndices();
+        return low;
+    }
+
+    private void removeAt(int viewIndex) {
+        int[] newSourceIndices = new int[sourceIndices.length - 1];
+        String[] newRanks = new String[ranks.length - 1];
+        System.arraycopy(sourceIndices, 0, newSourceIndices, 0, viewIndex);
+        System.arraycopy(ranks, 0, newRanks, 0, viewIndex);
+        System.arraycopy(sourceIndices, viewIndex + 1, newSourceIndices, viewIndex,
+                         newSourceIndices.length - viewIndex);
+        System.arraycopy(ranks, viewIndex + 1, newRanks, viewIndex, newRanks.length - viewIndex);
+        sourceIndices = newSourceIndices;
+        ranks = newRanks;
+        // the inverse is updated by the following insert
+    }
+
+    private void updateViewIndices() {
+        viewIndices = new int[sourceIndices.length];
+        for (int i = 0; i < sourceIndices.length; i++) {
+            viewIndices[sourceIndices[i]] = i;
+        }
     }
 
     @Override
     public synchronized int getSourceIndex(int index) {
-        return this.getSource().indexOf(mappingList.get(index));
+        return sourceIndices[index];
+    }
+
+    /**
+     * @return the index in this list of the element at {@code sourceIndex} in the source list
+     */
+    public synchronized int getViewIndex(int sourceIndex) {
+        return viewIndices[sourceIndex];
+    }
+
+    /**
+     * @return the rank of the element at {@code index} in this list
+     */
+    public synchronized String getRank(int index) {
+        return ranks[index];
     }
 
     @Override
@@ -66,40 +279,131 @@ public class ReorderedList<T> extends TransformationList<T, T> {
 
     @Override
     public synchronized int size() {
-        return this.getSource().size();
+        return sourceIndices.length;
     }
 
     /**
-     * Moves the elements in the list.
+     * Moves the elements in the list, and gives them ranks between those of their new neighbours.
+     * If the ranks are read from the elements, only the moved elements are given ranks: a destination after an
+     * unranked element becomes the first unranked position, and one between elements ranked the same comes after
+     * them. Otherwise the neighbours are ranked as well if needed to keep the order, i.e. unranked elements before
+     * the destination and elements ranked the same as the element before the destination.
      * Precondition: The object at destinationIndex is not in the list of toMove.
-     * @param toMove The list of objects to be moved.
+     * @param toMove The list of objects to be moved. Objects not in this list are ignored.
      * @param destinationIndex The index(before shifting) of the list where elements are to be shifted to.
+     * @return the indices of the moved objects after the move
      */
     public synchronized Collection<Integer> moveElements(List<T> toMove, int destinationIndex) {
+        if (destinationIndex < size() && toMove.contains(get(destinationIndex))) {
+            throw new IllegalArgumentException("The object at destinationIndex is not in the list of toMove");
+        }
 
-        List<Integer> movedIndices = new ArrayList<>();
+        Map<T, Integer> positionsInToMove = new IdentityHashMap<>();
+        for (int i = toMove.size() - 1; i >= 0; i--) {
+            positionsInToMove.put(toMove.get(i), i);
+        }
+        int[] movedSourceIndices = new int[toMove.size()];
+        Arrays.fill(movedSourceIndices, -1);
+        int[] remaining = new int[sourceIndices.length];
+        String[] remainingRanks = new String[sourceIndices.length];
+        int remainingCount = 0;
+        int insertionIndex = -1;
+        for (int i = 0; i < sourceIndices.length; i++) {
+            if (i == destinationIndex) insertionIndex = remainingCount;
+            Integer positionInToMove = positionsInToMove.get(get(i));
+            if (positionInToMove != null && movedSourceIndices[positionInToMove] < 0) {
+                movedSourceIndices[positionInToMove] = sourceIndices[i];
+            } else {
+                remainingRanks[remainingCount] = ranks[i];
+                remaining[remainingCount++] = sourceIndices[i];
+            }
+        }
+        if (insertionIndex < 0) insertionIndex = remainingCount; // at the back of the list
+        if (rankGetter != null) {
+            insertionIndex = getRankableIndex(remainingRanks, remainingCount, insertionIndex);
+        }
 
-        //Insert it at the back of the list.
-        if (destinationIndex == mappingList.size()){
-            mappingList.removeAll(toMove);
-            mappingList.addAll(toMove);
-            movedIndices.addAll(collectMovedIndices(toMove));
-            return movedIndices;
+        int[] newSourceIndices = new int[sourceIndices.length];
+        String[] newRanks = new String[sourceIndices.length];
+        System.arraycopy(remaining, 0, newSourceIndices, 0, insertionIndex);
+        System.arraycopy(remainingRanks, 0, newRanks, 0, insertionIndex);
+        int movedCount = 0;
+        for (int sourceIndex : movedSourceIndices) {
+            if (sourceIndex >= 0) newSourceIndices[insertionIndex + movedCount++] = sourceIndex;
         }
+        System.arraycopy(remaining, insertionIndex, newSourceIndices, insertionIndex + movedCount,
+                         remainingCount - insertionIndex);
+        System.arraycopy(remainingRanks, insertionIndex, newRanks, insertionIndex + movedCount,
+                         remainingCount - insertionIndex);
+        List<Integer> rerankedIndices = rerank(newRanks, insertionIndex, insertionIndex + movedCount);
 
-        if (toMove.contains(mappingList.get(destinationIndex))) {
-            throw new IllegalArgumentException("The object at destinationIndex is not in the list of toMove");
+        int[] oldSourceIndices = sourceIndices;
+        sourceIndices = newSourceIndices;
+        ranks = newRanks;
+        updateViewIndices();
+        int[] permutation = new int[oldSourceIndices.length];
+        for (int i = 0; i < oldSourceIndices.length; i++) {
+            permutation[i] = viewIndices[oldSourceIndices[i]];
+        }
+        beginChange();
+        nextPermutation(0, permutation.length, permutation);
+        endChange();
+        // read before notifying, as a listener that reverts a rank moves the element back
+        List<T> rerankedElements = new ArrayList<>();
+        List<String> newElementRanks = new ArrayList<>();
+        for (int index : rerankedIndices) {
+            rerankedElements.add(get(index));
+            newElementRanks.add(ranks[index]);
+        }
+        for (int i = 0; i < rerankedElements.size(); i++) {
+            rankListener.accept(rerankedElements.get(i), newElementRanks.get(i));
         }
 
-        //Keep an object reference for insertion based on this reference.
-        T destElement = mappingList.get(destinationIndex);
-        mappingList.removeAll(toMove);
-        mappingList.addAll(mappingList.indexOf(destElement), toMove);
-        movedIndices.addAll(collectMovedIndices(toMove));
+        List<Integer> movedIndices = new ArrayList<>();
+        for (int i = 0; i < movedCount; i++) {
+            movedIndices.add(insertionIndex + i);
+        }
         return movedIndices;
     }
 
-    private Collection<Integer> collectMovedIndices(List<T> toMove) {
-        return toMove.stream().map(mappingList::indexOf).collect(Collectors.toCollection(ArrayList::new));
+    /**
+     * @return the index closest to {@code insertionIndex} in the first {@code count} of {@code ranks} where elements
+     *         can be inserted with ranks between those of their neighbours
+     */
+    private static int getRankableIndex(String[] ranks, int count, int insertionIndex) {
+        int index = insertionIndex;
+        while (index > 0 && ranks[index - 1].isEmpty()) { // back to the first unranked element
+            index--;
+        }
+        while (index > 0 && index < count && !ranks[index].isEmpty() && ranks[index].equals(ranks[index - 1])) {
+            index++; // past the elements ranked the same
+        }
+        return index;
+    }
+
+    /**
+     * Gives new ranks to the moved elements at [from, to) of {@code newRanks}, and to the neighbours that would be
+     * out of order otherwise, which is only needed if the ranks are kept in this list.
+     * @return the indices given new ranks
+     */
+    private List<Integer> rerank(String[] newRanks, int from, int to) {
+        if (from == to) return new ArrayList<>(); // nothing moved
+        while (rankGetter == null && from > 0 && newRanks[from - 1].isEmpty()) {
+            from--;
+        }
+        String lower = from > 0 ? newRanks[from - 1] : FractionalRank.UNRANKED;
+        while (to < newRanks.length && !newRanks[to].isEmpty() && !lower.isEmpty()
+                && newRanks[to].compareTo(lower) <= 0) {
+            to++;
+        }
+        String upper = to < newRanks.length ? newRanks[to] : FractionalRank.UNRANKED;
+
+        List<String> generatedRanks = FractionalRank.between(lower, upper, to - from);
+        List<Integer> rerankedIndices = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            newRanks[i] = generatedRanks.get(i - from);
+            rerankedIndices.add(i);
+        }
+        return rerankedIndices;
     }
 }
@@ -0,0 +1,213 @@
+package address.util.collections;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A sorted view of the source list, ordered by a sort key computed once per element.
+ *
+ * Unlike {@link javafx.collections.transformation.SortedList}, which compares the elements themselves, the keys are
+ * only computed when an element is added or updated, so they can be expensive to compute (e.g.
+ * {@link java.text.CollationKey}s) and cheap to compare. The source is sorted once on creation; after that an added,
+ * removed or updated element is located by binary search on the keys and the elements after it are shifted by a
+ * single array copy. Elements with equal keys stay in the order they were added or last moved in: each key is paired
+ * with a sequence number given when its element is added or moved, so that no two elements compare equal and an
+ * element is found in logarithmic time even if most keys are the same, e.g. scores of a search.
+ *
+ * The elements of the source must be distinct objects. {@link #getSourceIndex(int)} takes linear time.
+ *
+ * @param <K> the type of the sort keys
+ */
+public class SortedIndexList<T, K> extends TransformationList<T, T> {
+    private final Function<? super T, ? extends K> keyFactory;
+    private final Comparator<? super K> keyComparator;
+
+    /**
+     * The sort key of an element, with the order it was added in to break ties
+     */
+    private static class SortKey<K> {
+        final K key;
+        final long sequence;
+
+        SortKey(K key, long sequence) {
+            this.key = key;
+            this.sequence = sequence;
+        }
+    }
+
+    private final Map<T, SortKey<K>> keysByElement = new IdentityHashMap<>();
+    private Object[] elements;
+    private Object[] keys; // the sort keys of the elements at the same index, in increasing order
+    private int size;
+    private long nextSequence;
+
+    /**
+     * @param source the wrapped list
+     * @param keyFactory computes the sort key of an element
+     * @param keyComparator the order of the sort keys
+     */
+    public SortedIndexList(ObservableList<T> source, Function<? super T, ? extends K> keyFactory,
+                           Comparator<? super K> keyComparator) {
+        super(source);
+        this.keyFactory = keyFactory;
+        this.keyComparator = keyComparator;
+        size = source.size();
+        elements = source.toArray();
+        keys = new Object[size];
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+            keys[i] = getKey(source.get(i));
+        }
+        Arrays.sort(order, (a, b) -> compareKeys(keys[a], keys[b]));
+        Object[] sortedElements = new Object[size];
+        Object[] sortedKeys = new Object[size];
+        for (int i = 0; i < size; i++) {
+            sortedElements[i] = elements[order[i]];
+            sortedKeys[i] = keys[order[i]];
+        }
+        elements = sortedElements;
+        keys = sortedKeys;
+    }
+
+    private SortKey<K> getKey(T element) {
+        SortKey<K> key = new SortKey<>(keyFactory.apply(element), nextSequence++);
+        keysByElement.put(element, key);
+        return key;
+    }
+
+    @SuppressWarnings("unchecked")
+    private int compareKeys(Object key, Object otherKey) {
+        SortKey<K> sortKey = (SortKey<K>) key;
+        SortKey<K> otherSortKey = (SortKey<K>) otherKey;
+        int comparison = keyComparator.compare(sortKey.key, otherSortKey.key);
+        return comparison != 0 ? comparison : Long.compare(sortKey.sequence, otherSortKey.sequence);
+    }
+
+    @Override
+    protected void sourceChanged(ListChangeListener.Change<? extends T> c) {
+        beginChange();
+        while (c.next()) {
+            if (c.wasPermutated()) {
+                continue; // the order does not depend on the source order
+            }
+            if (c.wasUpdated()) {
+                for (int i = c.getFrom(); i < c.getTo(); i++) {
+                    update(c.getList().get(i));
+                }
+                continue;
+            }
+            for (T removed : c.getRemoved()) {
+                int index = indexOf(keysByElement.remove(removed));
+                removeAt(index);
+                nextRemove(index, removed);
+            }
+            for (T added : c.getAddedSubList()) {
+                int index = insert(added, getKey(added));
+                nextAdd(index, index + 1);
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * Moves the element to the position of its new key, if the key changed its order
+     */
+    private void update(T element) {
+        SortKey<K> oldKey = keysByElement.get(element);
+        int index = indexOf(oldKey);
+        SortKey<K> newKey = new SortKey<>(keyFactory.apply(element), oldKey.sequence); // keeps its place among ties
+        boolean isInOrder = (index == 0 || compareKeys(keys[index - 1], newKey) < 0)
+                && (index == size - 1 || compareKeys(newKey, keys[index + 1]) < 0);
+        if (isInOrder) {
+            keysByElement.put(element, newKey);
+            keys[index] = newKey;
+            nextUpdate(index);
+            return;
+        }
+        removeAt(index);
+        nextRemove(index, element);
+        SortKey<K> movedKey = new SortKey<>(newKey.key, nextSequence++); // after the elements with the same key
+        keysByElement.put(element, movedKey);
+        int newIndex = insert(element, movedKey);
+        nextAdd(newIndex, newIndex + 1);
+    }
+
+    /**
+     * @return the index of the element with the given sort key
+     */
+    private int indexOf(SortKey<K> key) {
+        int index = findIndex(key);
+        assert index < size && keys[index] == key;
+        return index;
+    }
+
+    /**
+     * @return the index of the first sort key not less than the given one
+     */
+    private int findIndex(SortKey<K> key) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (compareKeys(keys[middle], key) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * @return the index the element was inserted at
+     */
+    private int insert(T element, SortKey<K> key) {
+        int index = findIndex(key);
+        if (size == elements.length) {
+            int capacity = Math.max(16, size + (size >> 1));
+            elements = Arrays.copyOf(elements, capacity);
+            keys = Arrays.copyOf(keys, capacity);
+        }
+        System.arraycopy(elements, index, elements, index + 1, size - index);
+        System.arraycopy(keys, index, keys, index + 1, size - index);
+        elements[index] = element;
+        keys[index] = key;
+        size++;
+        return index;
+    }
+
+    private void removeAt(int index) {
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+        size--;
+        elements[size] = null;
+        keys[size] = null;
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        return getSource().indexOf(get(index));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        if (index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return (T) elements[index];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,20 @@
+package address.util.concurrent;
+
+/**
+ * What a {@link InstrumentedExecutor} does with a task submitted while all its threads are busy and its queue is full
+ */
+public enum BackPressurePolicy {
+    /**
+     * Runs the task in the submitting thread, slowing the submitter down to the pool's pace.
+     * Unsuitable for submitters that must stay responsive, e.g. the FX application thread
+     */
+    CALLER_RUNS,
+    /**
+     * Blocks the submitting thread until there is space in the queue
+     */
+    BLOCK,
+    /**
+     * Throws {@link java.util.concurrent.RejectedExecutionException}, leaving the submitter to handle the overload
+     */
+    REJECT
+}
@@ -0,0 +1,54 @@
+package address.util.concurrent;
+
+import address.util.AppLogger;
+import address.util.LoggerManager;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+/**
+ * Creates the app's {@link InstrumentedExecutor}s and keeps track of them until they terminate, so that the metrics
+ * of every pool can be inspected in one place
+ */
+public class ExecutorManager {
+    private static final AppLogger logger = LoggerManager.getLogger(ExecutorManager.class);
+    private static final int DEFAULT_QUEUE_CAPACITY = 1000;
+
+    private static final List<InstrumentedExecutor> executors = new CopyOnWriteArrayList<>();
+
+    /**
+     * Creates and registers a bounded executor
+     *
+     * @param name used for thread names and metrics
+     * @param threads maximum number of threads, or a non-positive value for the number of available processors
+     * @param queueCapacity maximum number of tasks waiting for a thread, or a non-positive value for
+     *                      {@value #DEFAULT_QUEUE_CAPACITY}
+     * @param policy what to do with tasks submitted while the pool is saturated
+     */
+    public static InstrumentedExecutor newExecutor(String name, int threads, int queueCapacity,
+                                                   BackPressurePolicy policy) {
+        int threadsToUse = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        int queueCapacityToUse = queueCapacity > 0 ? queueCapacity : DEFAULT_QUEUE_CAPACITY;
+        logger.debug("Creating executor {} with {} threads, queue capacity {} and policy {}", name, threadsToUse,
+                     queueCapacityToUse, policy);
+        InstrumentedExecutor executor = new InstrumentedExecutor(name, threadsToUse, queueCapacityToUse, policy);
+        executors.add(executor);
+        return executor;
+    }
+
+    /**
+     * @return snapshots of the metrics of all executors that have not terminated, in order of creation
+     */
+    public static List<ExecutorStats> getAllStats() {
+        return executors.stream().map(InstrumentedExecutor::getStats).collect(Collectors.toList());
+    }
+
+    public static void logAllStats() {
+        getAllStats().forEach(stats -> logger.info("Executor stats: {}", stats));
+    }
+
+    static void unregister(InstrumentedExecutor executor) {
+        executors.remove(executor);
+    }
+}
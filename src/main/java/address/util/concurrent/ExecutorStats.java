@@ -0,0 +1,112 @@
+package address.util.concurrent;
+
+/**
+ * Snapshot of the metrics of an {@link InstrumentedExecutor}
+ *
+ * Times are in milliseconds. Queue wait is measured from submission to the start of execution, and run time from the
+ * start to the end of execution.
+ */
+public class ExecutorStats {
+    private final String name;
+    private final int poolSize;
+    private final int maxPoolSize;
+    private final int largestPoolSize;
+    private final int activeThreads;
+    private final int queueDepth;
+    private final int queueCapacity;
+    private final long completedTasks;
+    private final long backPressureEvents;
+    private final double averageQueueWaitMillis;
+    private final long maxQueueWaitMillis;
+    private final double averageRunTimeMillis;
+    private final long maxRunTimeMillis;
+
+    public ExecutorStats(String name, int poolSize, int maxPoolSize, int largestPoolSize, int activeThreads,
+                         int queueDepth, int queueCapacity, long completedTasks, long backPressureEvents,
+                         double averageQueueWaitMillis, long maxQueueWaitMillis, double averageRunTimeMillis,
+                         long maxRunTimeMillis) {
+        this.name = name;
+        this.poolSize = poolSize;
+        this.maxPoolSize = maxPoolSize;
+        this.largestPoolSize = largestPoolSize;
+        this.activeThreads = activeThreads;
+        this.queueDepth = queueDepth;
+        this.queueCapacity = queueCapacity;
+        this.completedTasks = completedTasks;
+        this.backPressureEvents = backPressureEvents;
+        this.averageQueueWaitMillis = averageQueueWaitMillis;
+        this.maxQueueWaitMillis = maxQueueWaitMillis;
+        this.averageRunTimeMillis = averageRunTimeMillis;
+        this.maxRunTimeMillis = maxRunTimeMillis;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return number of threads currently alive in the pool
+     */
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    public int getMaxPoolSize() {
+        return maxPoolSize;
+    }
+
+    /**
+     * @return the highest number of threads that have ever been alive in the pool at the same time
+     */
+    public int getLargestPoolSize() {
+        return largestPoolSize;
+    }
+
+    public int getActiveThreads() {
+        return activeThreads;
+    }
+
+    public int getQueueDepth() {
+        return queueDepth;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public long getCompletedTasks() {
+        return completedTasks;
+    }
+
+    /**
+     * @return number of submissions that found the pool saturated and were handled by its {@link BackPressurePolicy}
+     */
+    public long getBackPressureEvents() {
+        return backPressureEvents;
+    }
+
+    public double getAverageQueueWaitMillis() {
+        return averageQueueWaitMillis;
+    }
+
+    public long getMaxQueueWaitMillis() {
+        return maxQueueWaitMillis;
+    }
+
+    public double getAverageRunTimeMillis() {
+        return averageRunTimeMillis;
+    }
+
+    public long getMaxRunTimeMillis() {
+        return maxRunTimeMillis;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: threads %d/%d (largest %d, active %d), queue %d/%d, completed %d, "
+                                     + "back-pressured %d, queue wait avg %.1fms max %dms, run time avg %.1fms max %dms",
+                             name, poolSize, maxPoolSize, largestPoolSize, activeThreads, queueDepth, queueCapacity,
+                             completedTasks, backPressureEvents, averageQueueWaitMillis, maxQueueWaitMillis,
+                             averageRunTimeMillis, maxRunTimeMillis);
+    }
+}
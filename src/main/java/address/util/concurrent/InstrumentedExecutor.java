@@ -0,0 +1,172 @@
+package address.util.concurrent;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A fixed-size thread pool with a bounded queue, which records its queue depth, active threads and task latencies
+ *
+ * Threads are daemon threads named "{name}-{n}". They are created on demand up to the pool size and retired after
+ * being idle for {@link #KEEP_ALIVE_SECONDS}, so an idle pool holds no threads. Once all threads are busy and the
+ * queue is full, further submissions are handled according to the pool's {@link BackPressurePolicy}.
+ *
+ * Use {@link ExecutorManager#newExecutor} to create instances, so that they are included in
+ * {@link ExecutorManager#getAllStats()}.
+ */
+public class InstrumentedExecutor extends ThreadPoolExecutor {
+    public static final long KEEP_ALIVE_SECONDS = 60;
+    private static final long BLOCK_RECHECK_MILLIS = 100;
+
+    private final String name;
+    private final int queueCapacity;
+    private final BackPressurePolicy policy;
+
+    private final LongAdder timedTasks = new LongAdder();
+    private final LongAdder backPressureEvents = new LongAdder();
+    private final LongAdder totalQueueWaitNanos = new LongAdder();
+    private final LongAdder totalRunTimeNanos = new LongAdder();
+    private final AtomicLong maxQueueWaitNanos = new AtomicLong();
+    private final AtomicLong maxRunTimeNanos = new AtomicLong();
+
+    /**
+     * @param name used for thread names and metrics
+     * @param threads maximum number of threads, positive
+     * @param queueCapacity maximum number of tasks waiting for a thread, positive
+     * @param policy what to do with tasks submitted while the pool is saturated
+     */
+    public InstrumentedExecutor(String name, int threads, int queueCapacity, BackPressurePolicy policy) {
+        super(threads, threads, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new ArrayBlockingQueue<>(queueCapacity),
+              new NamedDaemonThreadFactory(name));
+        this.name = name;
+        this.queueCapacity = queueCapacity;
+        this.policy = policy;
+        allowCoreThreadTimeOut(true);
+        setRejectedExecutionHandler(this::handleSaturation);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public BackPressurePolicy getPolicy() {
+        return policy;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        if (command == null) throw new NullPointerException();
+        super.execute(new TimedTask(command));
+    }
+
+    public ExecutorStats getStats() {
+        long tasks = timedTasks.sum();
+        return new ExecutorStats(name, getPoolSize(), getMaximumPoolSize(), getLargestPoolSize(), getActiveCount(),
+                                 getQueue().size(), queueCapacity, tasks, backPressureEvents.sum(),
+                                 averageMillis(totalQueueWaitNanos.sum(), tasks), toMillis(maxQueueWaitNanos.get()),
+                                 averageMillis(totalRunTimeNanos.sum(), tasks), toMillis(maxRunTimeNanos.get()));
+    }
+
+    @Override
+    protected void terminated() {
+        super.terminated();
+        ExecutorManager.unregister(this);
+    }
+
+    @Override
+    public String toString() {
+        return getStats().toString();
+    }
+
+    private void handleSaturation(Runnable task, ThreadPoolExecutor executor) {
+        if (isShutdown()) {
+            throw new RejectedExecutionException(name + " has been shut down");
+        }
+        backPressureEvents.increment();
+        switch (policy) {
+            case CALLER_RUNS:
+                task.run();
+                break;
+            case BLOCK:
+                waitForQueueSpace(task);
+                break;
+            case REJECT:
+            default:
+                throw new RejectedExecutionException(name + " is saturated: " + getMaximumPoolSize()
+                                                             + " threads busy and " + queueCapacity + " tasks queued");
+        }
+    }
+
+    private void waitForQueueSpace(Runnable task) {
+        try {
+            while (!getQueue().offer(task, BLOCK_RECHECK_MILLIS, TimeUnit.MILLISECONDS)) {
+                if (isShutdown()) throw new RejectedExecutionException(name + " has been shut down");
+            }
+            // the queue is only full when every thread is busy, but ensure the task cannot be stranded
+            prestartCoreThread();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted while waiting for space in " + name, e);
+        }
+    }
+
+    private void recordTask(long queueWaitNanos, long runTimeNanos) {
+        timedTasks.increment();
+        totalQueueWaitNanos.add(queueWaitNanos);
+        totalRunTimeNanos.add(runTimeNanos);
+        maxQueueWaitNanos.accumulateAndGet(queueWaitNanos, Math::max);
+        maxRunTimeNanos.accumulateAndGet(runTimeNanos, Math::max);
+    }
+
+    private static double averageMillis(long totalNanos, long count) {
+        return count == 0 ? 0 : totalNanos / (count * 1e6);
+    }
+
+    private static long toMillis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    /**
+     * Records how long the wrapped task waited for a thread and how long it ran for
+     */
+    private class TimedTask implements Runnable {
+        private final Runnable task;
+        private final long submittedAt = System.nanoTime();
+
+        TimedTask(Runnable task) {
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            long startedAt = System.nanoTime();
+            try {
+                task.run();
+            } finally {
+                recordTask(startedAt - submittedAt, System.nanoTime() - startedAt);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return task.toString();
+        }
+    }
+
+    private static class NamedDaemonThreadFactory implements ThreadFactory {
+        private final String name;
+        private final AtomicInteger threadCount = new AtomicInteger(0);
+
+        NamedDaemonThreadFactory(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, name + "-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
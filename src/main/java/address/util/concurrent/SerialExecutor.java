@@ -0,0 +1,65 @@
+package address.util.concurrent;
+
+import address.util.AppLogger;
+import address.util.LoggerManager;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Runs tasks one at a time, in submission order, on an underlying (possibly multi-threaded) executor
+ *
+ * At most one task of this executor is scheduled on the underlying executor at any time, and it drains all tasks
+ * submitted in the meantime. Many serial executors can therefore share a pool without any of them reordering its own
+ * tasks. Exceptions thrown by tasks are logged and do not stop later tasks.
+ */
+public class SerialExecutor implements Executor {
+    private static final AppLogger logger = LoggerManager.getLogger(SerialExecutor.class);
+
+    private final Executor executor;
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean isScheduled = new AtomicBoolean(false);
+
+    public SerialExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        tasks.add(task);
+        if (isScheduled.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                tasks.remove(task);
+                isScheduled.set(false);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * @return number of tasks waiting to run
+     */
+    public int getQueueDepth() {
+        return tasks.size();
+    }
+
+    private void drain() {
+        do {
+            Runnable task;
+            while ((task = tasks.poll()) != null) {
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    logger.warn("Exception thrown by serially executed task {}: {}", task, e);
+                }
+            }
+            isScheduled.set(false);
+            // a task may have been added after the queue was found empty, but before the flag was cleared
+        } while (!tasks.isEmpty() && isScheduled.compareAndSet(false, true));
+    }
+}
@@ -0,0 +1,82 @@
+package commons;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * A BK-tree of strings under the Levenshtein distance, see {@link StringUtil#editDistance}, for finding the strings
+ * close to a query without comparing the query with every string.
+ *
+ * Each node keeps its children by their distance to it. By the triangle inequality, the strings within
+ * {@code maxDistance} of the query can only be under the children whose distance to the node is within
+ * {@code maxDistance} of the query's own distance to the node, so a search with a small maximum distance only visits a
+ * small part of the tree. Strings cannot be removed; build a new tree instead. Not thread-safe.
+ */
+public class BkTree {
+    private static final Node[] NO_CHILDREN = new Node[0];
+
+    private static class Node {
+        final String term;
+        Node[] children = NO_CHILDREN; // indexed by the distance to this node's term, 0 unused
+
+        Node(String term) {
+            this.term = term;
+        }
+    }
+
+    private Node root;
+    private int size;
+
+    /**
+     * @return false if the tree already had the string
+     */
+    public boolean add(String term) {
+        if (root == null) {
+            root = new Node(term);
+            size++;
+            return true;
+        }
+        Node node = root;
+        while (true) {
+            int distance = StringUtil.editDistance(term, node.term, Math.max(term.length(), node.term.length()));
+            if (distance == 0) return false;
+            if (distance >= node.children.length) {
+                node.children = Arrays.copyOf(node.children, distance + 1);
+            }
+            if (node.children[distance] == null) {
+                node.children[distance] = new Node(term);
+                size++;
+                return true;
+            }
+            node = node.children[distance];
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Passes each string within the given distance of the query to the consumer, with its distance to the query
+     */
+    public void search(String query, int maxDistance, ObjIntConsumer<String> consumer) {
+        if (root == null) return;
+        Deque<Node> pending = new ArrayDeque<>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            // beyond this limit neither the node nor any of its children can match
+            int limit = Math.max(maxDistance, node.children.length - 1 + maxDistance);
+            int distance = StringUtil.editDistance(query, node.term, limit);
+            if (distance <= maxDistance) {
+                consumer.accept(node.term, distance);
+            }
+            int last = Math.min(node.children.length - 1, distance + maxDistance);
+            for (int i = Math.max(1, distance - maxDistance); i <= last; i++) {
+                if (node.children[i] != null) pending.push(node.children[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package commons;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Batches UI updates published from any thread, applying them on the FX thread once per pulse (frame).
+ *
+ * Updates are keyed: publishing an update for a key that has not been applied yet replaces the pending one, so only
+ * the latest update per key is applied in each pulse. Publishing never blocks, and costs no FX thread round trip.
+ * The underlying {@link AnimationTimer} only runs while there are pending updates.
+ */
+public class CoalescingFxUpdater {
+    private final Map<Object, Runnable> pendingUpdates = new ConcurrentHashMap<>();
+    private final AtomicBoolean isTimerRunning = new AtomicBoolean(false);
+    private AnimationTimer timer; // only accessed on the FX thread
+
+    /**
+     * Queues {@code update} to run on the FX thread in the next pulse, replacing any pending update for {@code key}
+     *
+     * @param key compared with equals(); should identify the state being updated, e.g. the property being set
+     */
+    public void publish(Object key, Runnable update) {
+        pendingUpdates.put(key, update);
+        if (isTimerRunning.compareAndSet(false, true)) {
+            Platform.runLater(this::startTimer);
+        }
+    }
+
+    /**
+     * @return number of updates waiting for the next pulse
+     */
+    public int getPendingUpdateCount() {
+        return pendingUpdates.size();
+    }
+
+    /**
+     * Applies all pending updates. Must be called on the FX thread.
+     *
+     * @return number of updates applied
+     */
+    int applyPendingUpdates() {
+        int applied = 0;
+        Iterator<Map.Entry<Object, Runnable>> iterator = pendingUpdates.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Object, Runnable> entry = iterator.next();
+            // only remove the update we are about to run, a newer one may have been published concurrently
+            if (pendingUpdates.remove(entry.getKey(), entry.getValue())) {
+                entry.getValue().run();
+                applied++;
+            }
+        }
+        return applied;
+    }
+
+    private void startTimer() {
+        if (timer == null) {
+            timer = new AnimationTimer() {
+                @Override
+                public void handle(long now) {
+                    onPulse();
+                }
+            };
+        }
+        timer.start();
+    }
+
+    private void onPulse() {
+        applyPendingUpdates();
+        if (!pendingUpdates.isEmpty()) return;
+
+        timer.stop();
+        isTimerRunning.set(false);
+        // an update may have been published after the check above, but before the flag was cleared
+        if (!pendingUpdates.isEmpty() && isTimerRunning.compareAndSet(false, true)) {
+            timer.start();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package commons;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Helper functions for fractional rank keys, in the style of LexoRank: strings that order items by plain string
+ * comparison and that always leave room for new keys between any two of them, so that moving items only changes the
+ * keys of the moved items.
+ *
+ * A key is a base-36 fraction (digits 0-9 then a-z) without the leading "0." and without trailing zeros.
+ * The empty string is not a key; it stands for an unranked item and is ordered after all keys by {@link #compare}.
+ */
+public class FractionalRank {
+    private static final int RADIX = Character.MAX_RADIX;
+    public static final String UNRANKED = "";
+
+    /**
+     * Orders keys by string comparison, with unranked items last
+     */
+    public static int compare(String rank, String otherRank) {
+        if (rank.isEmpty() || otherRank.isEmpty()) {
+            return Boolean.compare(rank.isEmpty(), otherRank.isEmpty());
+        }
+        return rank.compareTo(otherRank);
+    }
+
+    public static boolean isValid(String rank) {
+        return rank.matches("[0-9a-z]*[1-9a-z]");
+    }
+
+    /**
+     * Generates keys spread evenly between the given bounds, as short as possible while still leaving room for about
+     * as many keys again.
+     *
+     * @param lower the key the generated keys come after, or {@link #UNRANKED} to start from the lowest key
+     * @param upper the key the generated keys come before, or {@link #UNRANKED} to have no upper bound
+     * @param count the number of keys to generate
+     * @return {@code count} keys in increasing order
+     * @throws IllegalArgumentException if {@code upper} is a key not after {@code lower}
+     */
+    public static List<String> between(String lower, String upper, int count) {
+        if (!upper.isEmpty() && !lower.isEmpty() && upper.compareTo(lower) <= 0) {
+            throw new IllegalArgumentException("Rank " + upper + " is not after rank " + lower);
+        }
+        for (int length = 1; ; length++) {
+            // the keys of this length are the integers in [first, last] divided by RADIX^length
+            BigInteger first = toDigits(lower, length).add(BigInteger.ONE);
+            BigInteger last = upper.isEmpty() ? BigInteger.valueOf(RADIX).pow(length).subtract(BigInteger.ONE)
+                                              : toDigits(upper, length);
+            if (!upper.isEmpty() && upper.length() <= length) {
+                last = last.subtract(BigInteger.ONE); // upper itself is of this length
+            }
+            BigInteger available = last.subtract(first).add(BigInteger.ONE);
+            if (available.compareTo(BigInteger.valueOf(2L * count)) >= 0) {
+                return spread(first, available, count, length);
+            }
+        }
+    }
+
+    private static List<String> spread(BigInteger first, BigInteger available, int count, int length) {
+        List<String> keys = new ArrayList<>(count);
+        BigInteger step = available.add(BigInteger.ONE);
+        for (int i = 1; i <= count; i++) {
+            BigInteger offset = step.multiply(BigInteger.valueOf(i)).divide(BigInteger.valueOf(count + 1));
+            keys.add(toKey(first.add(offset).subtract(BigInteger.ONE), length));
+        }
+        return keys;
+    }
+
+    /**
+     * @return the first {@code length} digits of the key, padded with zeros, as an integer
+     */
+    private static BigInteger toDigits(String key, int length) {
+        StringBuilder digits = new StringBuilder(key.length() > length ? key.substring(0, length) : key);
+        while (digits.length() < length) {
+            digits.append('0');
+        }
+        return new BigInteger(digits.toString(), RADIX);
+    }
+
+    private static String toKey(BigInteger digits, int length) {
+        StringBuilder key = new StringBuilder(digits.toString(RADIX));
+        while (key.length() < length) {
+            key.insert(0, '0');
+        }
+        int end = key.length();
+        while (key.charAt(end - 1) == '0') {
+            end--;
+        }
+        return key.substring(0, end);
+    }
+}
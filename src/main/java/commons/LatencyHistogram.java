@@ -0,0 +1,143 @@
+package commons;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A thread-safe histogram of durations in nanoseconds, with a relative error of at most about 3%
+ *
+ * Uses log-linear buckets in the style of HdrHistogram: each power of two range is split into
+ * {@value #SUB_BUCKET_COUNT} equal sub-buckets. Recording a value is allocation-free and lock-free, so it can be
+ * done on hot paths. Values from {@link #MAX_TRACKABLE_NANOS} up are counted as that value.
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_MAGNITUDE = 40;
+    public static final long MAX_TRACKABLE_NANOS = (1L << (MAX_MAGNITUDE + 1)) - 1; // about 36 minutes
+
+    private final AtomicLongArray counts = new AtomicLongArray(getBucketIndex(MAX_TRACKABLE_NANOS) + 1);
+    private final AtomicLong totalCount = new AtomicLong();
+    private final AtomicLong totalNanos = new AtomicLong();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    public void record(long nanos) {
+        long value = Math.max(0, Math.min(nanos, MAX_TRACKABLE_NANOS));
+        counts.incrementAndGet(getBucketIndex(value));
+        totalCount.incrementAndGet();
+        totalNanos.addAndGet(value);
+        maxNanos.accumulateAndGet(value, Math::max);
+    }
+
+    public long getCount() {
+        return totalCount.get();
+    }
+
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    public long getTotalNanos() {
+        return totalNanos.get();
+    }
+
+    public double getMeanNanos() {
+        long count = totalCount.get();
+        return count == 0 ? 0 : (double) totalNanos.get() / count;
+    }
+
+    /**
+     * @param percentile between 0 and 100
+     * @return the highest value of the bucket containing the given percentile, capped at the maximum recorded value,
+     *         or 0 if nothing was recorded
+     */
+    public long getValueAtPercentile(double percentile) {
+        long count = totalCount.get();
+        if (count == 0) return 0;
+        long targetRank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long rank = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            rank += counts.get(i);
+            if (rank >= targetRank) return Math.min(getBucketHighestValue(i), maxNanos.get());
+        }
+        return maxNanos.get(); // counts recorded concurrently with this iteration
+    }
+
+    public double getValueAtPercentileMillis(double percentile) {
+        return getValueAtPercentile(percentile) / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    public Summary getSummary() {
+        return new Summary(getCount(), getMeanNanos() / TimeUnit.MILLISECONDS.toNanos(1),
+                           getValueAtPercentileMillis(50), getValueAtPercentileMillis(90),
+                           getValueAtPercentileMillis(99), getMaxNanos() / (double) TimeUnit.MILLISECONDS.toNanos(1));
+    }
+
+    static int getBucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) return (int) value;
+        int magnitude = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (magnitude - SUB_BUCKET_BITS)) - SUB_BUCKET_COUNT;
+        return SUB_BUCKET_COUNT + (magnitude - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    static long getBucketHighestValue(int index) {
+        if (index < SUB_BUCKET_COUNT) return index;
+        int magnitude = (index - SUB_BUCKET_COUNT) / SUB_BUCKET_COUNT + SUB_BUCKET_BITS;
+        int subBucket = (index - SUB_BUCKET_COUNT) % SUB_BUCKET_COUNT;
+        long bucketWidth = 1L << (magnitude - SUB_BUCKET_BITS);
+        return ((SUB_BUCKET_COUNT + subBucket) * bucketWidth) + bucketWidth - 1;
+    }
+
+    /**
+     * Snapshot of the main statistics of a histogram, in milliseconds
+     */
+    public static class Summary {
+        private final long count;
+        private final double meanMillis;
+        private final double p50Millis;
+        private final double p90Millis;
+        private final double p99Millis;
+        private final double maxMillis;
+
+        public Summary(long count, double meanMillis, double p50Millis, double p90Millis, double p99Millis,
+                       double maxMillis) {
+            this.count = count;
+            this.meanMillis = meanMillis;
+            this.p50Millis = p50Millis;
+            this.p90Millis = p90Millis;
+            this.p99Millis = p99Millis;
+            this.maxMillis = maxMillis;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public double getMeanMillis() {
+            return meanMillis;
+        }
+
+        public double getP50Millis() {
+            return p50Millis;
+        }
+
+        public double getP90Millis() {
+            return p90Millis;
+        }
+
+        public double getP99Millis() {
+            return p99Millis;
+        }
+
+        public double getMaxMillis() {
+            return maxMillis;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("mean %.3fms, p50 %.3fms, p90 %.3fms, p99 %.3fms, max %.3fms", meanMillis, p50Millis,
+                                 p90Millis, p99Millis, maxMillis);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package commons;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes the metrics of a {@link MetricsRegistry} in the Prometheus text exposition format or as a single line of JSON
+ *
+ * Metrics are read in place and written into a caller-supplied builder, so a caller that reuses its builder can
+ * format the metrics every few seconds without producing garbage beyond a few lambdas. Timers are written in seconds,
+ * with their 50th, 90th and 99th percentiles and their maximum.
+ */
+public class MetricsFormatter {
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final double[] PERCENTILES = {50, 90, 99};
+    private static final String[] QUANTILE_LABELS = {"0.5", "0.9", "0.99"};
+    private static final String[] JSON_PERCENTILE_KEYS = {"p50", "p90", "p99"};
+
+    private final String namePrefix;
+
+    /**
+     * @param namePrefix prepended to the Prometheus metric names, e.g. "addressbook_"
+     */
+    public MetricsFormatter(String namePrefix) {
+        this.namePrefix = namePrefix;
+    }
+
+    /**
+     * Appends the metrics in the Prometheus text exposition format. Dots and other characters not allowed in
+     * Prometheus names are replaced by underscores, e.g. timer "storage.save" becomes summary "storage_save_seconds".
+     */
+    public void appendPrometheus(MetricsRegistry metrics, StringBuilder out) {
+        metrics.forEachCounter((name, count) -> {
+            appendPrometheusType(out, name, "_total", "counter");
+            appendPrometheusName(out, name, "_total").append(' ').append(count).append('\n');
+        });
+        metrics.forEachGauge((name, value) -> {
+            appendPrometheusType(out, name, "", "gauge");
+            appendPrometheusValue(appendPrometheusName(out, name, "").append(' '), value).append('\n');
+        });
+        metrics.forEachTimer((name, timer) -> appendPrometheusTimer(out, name, timer.getHistogram()));
+    }
+
+    /**
+     * Appends the metrics as a JSON object on a single line, without a line terminator:
+     * <pre>
+     * {"timestamp":...,"counters":{name:count,...},"gauges":{name:value,...},
+     *  "timers":{name:{"count":...,"sum":...,"p50":...,"p90":...,"p99":...,"max":...},...}}
+     * </pre>
+     * Timer durations are in seconds. Names are kept as registered.
+     *
+     * @param timestampMillis time the metrics were read, in milliseconds since the epoch
+     */
+    public void appendJson(MetricsRegistry metrics, long timestampMillis, StringBuilder out) {
+        out.append("{\"timestamp\":").append(timestampMillis).append(",\"counters\":{");
+        int countersStart = out.length();
+        metrics.forEachCounter((name, count) -> appendJsonKey(out, countersStart, name).append(count));
+        out.append("},\"gauges\":{");
+        int gaugesStart = out.length();
+        metrics.forEachGauge((name, value) -> appendJsonValue(appendJsonKey(out, gaugesStart, name), value));
+        out.append("},\"timers\":{");
+        int timersStart = out.length();
+        metrics.forEachTimer((name, timer) -> appendJsonTimer(appendJsonKey(out, timersStart, name),
+                                                              timer.getHistogram()));
+        out.append("}}");
+    }
+
+    private void appendPrometheusTimer(StringBuilder out, String name, LatencyHistogram histogram) {
+        appendPrometheusType(out, name, "_seconds", "summary");
+        for (int i = 0; i < PERCENTILES.length; i++) {
+            appendPrometheusName(out, name, "_seconds").append("{quantile=\"").append(QUANTILE_LABELS[i]).append("\"} ")
+                    .append(histogram.getValueAtPercentile(PERCENTILES[i]) / NANOS_PER_SECOND).append('\n');
+        }
+        appendPrometheusName(out, name, "_seconds_sum").append(' ')
+                .append(histogram.getTotalNanos() / NANOS_PER_SECOND).append('\n');
+        appendPrometheusName(out, name, "_seconds_count").append(' ').append(histogram.getCount()).append('\n');
+        appendPrometheusType(out, name, "_seconds_max", "gauge");
+        appendPrometheusName(out, name, "_seconds_max").append(' ')
+                .append(histogram.getMaxNanos() / NANOS_PER_SECOND).append('\n');
+    }
+
+    private void appendPrometheusType(StringBuilder out, String name, String suffix, String type) {
+        appendPrometheusName(out.append("# TYPE "), name, suffix).append(' ').append(type).append('\n');
+    }
+
+    private StringBuilder appendPrometheusName(StringBuilder out, String name, String suffix) {
+        out.append(namePrefix);
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            boolean isAllowed = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                                || c == '_' || c == ':';
+            out.append(isAllowed ? c : '_');
+        }
+        return out.append(suffix);
+    }
+
+    private StringBuilder appendPrometheusValue(StringBuilder out, double value) {
+        if (value == Double.POSITIVE_INFINITY) return out.append("+Inf");
+        if (value == Double.NEGATIVE_INFINITY) return out.append("-Inf");
+        return out.append(value); // NaN is written as "NaN", as Prometheus expects
+    }
+
+    private void appendJsonTimer(StringBuilder out, LatencyHistogram histogram) {
+        out.append("{\"count\":").append(histogram.getCount())
+                .append(",\"sum\":").append(histogram.getTotalNanos() / NANOS_PER_SECOND);
+        for (int i = 0; i < PERCENTILES.length; i++) {
+            out.append(",\"").append(JSON_PERCENTILE_KEYS[i]).append("\":")
+                    .append(histogram.getValueAtPercentile(PERCENTILES[i]) / NANOS_PER_SECOND);
+        }
+        out.append(",\"max\":").append(histogram.getMaxNanos() / NANOS_PER_SECOND).append('}');
+    }
+
+    /**
+     * Appends the key of an object member, preceded by a comma unless it is the first member of the object
+     *
+     * @param objectStart length of the builder just after the opening brace of the object
+     */
+    private StringBuilder appendJsonKey(StringBuilder out, int objectStart, String key) {
+        if (out.length() > objectStart) out.append(',');
+        out.append('"');
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            if (c == '"' || c == '\\') {
+                out.append('\\').append(c);
+            } else if (c < 0x20) {
+                out.append("\\u00").append(Character.forDigit(c >> 4, 16)).append(Character.forDigit(c & 0xF, 16));
+            } else {
+                out.append(c);
+            }
+        }
+        return out.append("\":");
+    }
+
+    private StringBuilder appendJsonValue(StringBuilder out, double value) {
+        // JSON has no representation of NaN and infinities
+        return Double.isNaN(value) || Double.isInfinite(value) ? out.append("null") : out.append(value);
+    }
+}
@@ -0,0 +1,191 @@
+package commons;
+
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.DoubleSupplier;
+import java.util.function.Function;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.Supplier;
+
+/**
+ * An in-process registry of named counters, gauges and timers
+ *
+ * Metrics are created on first use and live as long as the registry, so callers can look them up by name on every
+ * use or keep a reference. Updating a metric is lock-free and allocation-free, so it can be done on hot paths.
+ * Names are dot-separated, starting with the component, e.g. "storage.save".
+ */
+public class MetricsRegistry {
+    private static final MetricsRegistry instance = new MetricsRegistry();
+
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private final Map<String, DoubleSupplier> gauges = new ConcurrentHashMap<>();
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    public static MetricsRegistry getInstance() {
+        return instance;
+    }
+
+    public Counter counter(String name) {
+        return counters.computeIfAbsent(name, n -> new Counter());
+    }
+
+    /**
+     * @throws IllegalArgumentException if a gauge with this name was registered with {@link #registerGauge}
+     */
+    public Gauge gauge(String name) {
+        DoubleSupplier gauge = gauges.computeIfAbsent(name, n -> new Gauge());
+        if (!(gauge instanceof Gauge)) throw new IllegalArgumentException("Gauge " + name + " is not settable");
+        return (Gauge) gauge;
+    }
+
+    /**
+     * Registers a gauge whose value is read from valueSupplier whenever the metrics are read, replacing any gauge
+     * with the same name
+     */
+    public void registerGauge(String name, DoubleSupplier valueSupplier) {
+        gauges.put(name, valueSupplier);
+    }
+
+    public Timer timer(String name) {
+        return timers.computeIfAbsent(name, n -> new Timer());
+    }
+
+    public SortedMap<String, Long> getCounterValues() {
+        return snapshot(counters, Counter::getCount);
+    }
+
+    public SortedMap<String, Double> getGaugeValues() {
+        return snapshot(gauges, DoubleSupplier::getAsDouble);
+    }
+
+    public SortedMap<String, LatencyHistogram.Summary> getTimerSummaries() {
+        return snapshot(timers, Timer::getSummary);
+    }
+
+    /**
+     * Reads the counters without copying them, in no particular order
+     */
+    public void forEachCounter(ObjLongConsumer<String> action) {
+        counters.forEach((name, counter) -> action.accept(name, counter.getCount()));
+    }
+
+    /**
+     * Reads the gauges without copying them, in no particular order
+     */
+    public void forEachGauge(ObjDoubleConsumer<String> action) {
+        gauges.forEach((name, gauge) -> action.accept(name, gauge.getAsDouble()));
+    }
+
+    /**
+     * Reads the timers without copying them, in no particular order
+     */
+    public void forEachTimer(BiConsumer<String, Timer> action) {
+        timers.forEach(action);
+    }
+
+    /**
+     * Removes all metrics. References to removed metrics stay usable, but are no longer reported
+     */
+    public void clear() {
+        counters.clear();
+        gauges.clear();
+        timers.clear();
+    }
+
+    private static <M, V> SortedMap<String, V> snapshot(Map<String, M> metrics, Function<M, V> reader) {
+        SortedMap<String, V> values = new TreeMap<>();
+        metrics.forEach((name, metric) -> values.put(name, reader.apply(metric)));
+        return values;
+    }
+
+    /**
+     * A count of occurrences, e.g. of failures
+     */
+    public static class Counter {
+        private final LongAdder count = new LongAdder();
+
+        public void increment() {
+            count.increment();
+        }
+
+        public void add(long amount) {
+            count.add(amount);
+        }
+
+        public long getCount() {
+            return count.sum();
+        }
+    }
+
+    /**
+     * The latest value of a quantity, e.g. of the remaining API quota
+     */
+    public static class Gauge implements DoubleSupplier {
+        private volatile double value;
+
+        public void set(double value) {
+            this.value = value;
+        }
+
+        @Override
+        public double getAsDouble() {
+            return value;
+        }
+    }
+
+    /**
+     * The distribution of the durations of an operation
+     */
+    public static class Timer {
+        private final LatencyHistogram histogram = new LatencyHistogram();
+
+        public void record(long nanos) {
+            histogram.record(nanos);
+        }
+
+        /**
+         * @param startNanos {@link System#nanoTime()} when the operation started
+         */
+        public void recordSince(long startNanos) {
+            histogram.record(System.nanoTime() - startNanos);
+        }
+
+        public void time(Runnable operation) {
+            long start = System.nanoTime();
+            try {
+                operation.run();
+            } finally {
+                recordSince(start);
+            }
+        }
+
+        public <T> T time(Supplier<T> operation) {
+            long start = System.nanoTime();
+            try {
+                return operation.get();
+            } finally {
+                recordSince(start);
+            }
+        }
+
+        public long getCount() {
+            return histogram.getCount();
+        }
+
+        public LatencyHistogram.Summary getSummary() {
+            return histogram.getSummary();
+        }
+
+        /**
+         * @return the recorded durations, for reading them without creating a summary
+         */
+        public LatencyHistogram getHistogram() {
+            return histogram;
+        }
+    }
+}
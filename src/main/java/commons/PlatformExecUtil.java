@@ -12,11 +12,21 @@ import java.util.function.Supplier;
 public final class PlatformExecUtil {
 
     private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor();
+    private static final CoalescingFxUpdater COALESCING_UPDATER = new CoalescingFxUpdater();
 
     public static void runLater(Runnable action) {
         Platform.runLater(action);
     }
 
+    /**
+     * Runs action on the FX thread in the next pulse, unless replaced by a later action with an equal key before then.
+     * Suitable for frequent updates of the same state from many threads, e.g. countdowns.
+     * @see CoalescingFxUpdater#publish(Object, Runnable)
+     */
+    public static void runLaterCoalesced(Object key, Runnable action) {
+        COALESCING_UPDATER.publish(key, action);
+    }
+
     /**
      * If called from FX thread, will run immediately and return completed future.
      * If called outside FX thread, returns immediately, callback is queued and run asynchronously on FX thread.
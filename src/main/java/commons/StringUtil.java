@@ -1,10 +1,85 @@
 package commons;
 
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
 /**
  * Helper functions for handling strings.
  */
 public class StringUtil {
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    /**
+     * Compares in place, without creating lower case copies of the strings
+     */
     public static boolean containsIgnoreCase(String source, String query) {
-        return source.toLowerCase().contains(query.toLowerCase());
+        for (int i = 0; i <= source.length() - query.length(); i++) {
+            if (source.regionMatches(true, i, query, 0, query.length())) return true;
+        }
+        return false;
+    }
+
+    /**
+     * @return the string in lower case and without accents, for case and accent insensitive matching
+     * @see SubstringMatcher
+     */
+    public static String fold(String source) {
+        String lowerCase = source.toLowerCase(Locale.ROOT);
+        for (int i = 0; i < lowerCase.length(); i++) {
+            if (lowerCase.charAt(i) >= 0x80) {
+                return COMBINING_MARKS.matcher(Normalizer.normalize(lowerCase, Normalizer.Form.NFD)).replaceAll("");
+            }
+        }
+        return lowerCase;
+    }
+
+    /**
+     * Splits the text into its words, at every character that is not a letter or a digit
+     */
+    public static void forEachWord(String text, Consumer<String> wordConsumer) {
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean isWordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (isWordChar && start < 0) {
+                start = i;
+            } else if (!isWordChar && start >= 0) {
+                wordConsumer.accept(text.substring(start, i));
+                start = -1;
+            }
+        }
+    }
+
+    /**
+     * Computes the Levenshtein distance: the fewest insertions, deletions and substitutions of single characters that
+     * turn one string into the other. Only the rows of the distance table are kept, and the computation stops as soon
+     * as the distance is known to exceed the limit.
+     *
+     * @param limit the largest distance of interest, less than {@code Integer.MAX_VALUE}
+     * @return the distance, or {@code limit + 1} if it is larger than {@code limit}
+     */
+    public static int editDistance(String source, String target, int limit) {
+        if (Math.abs(source.length() - target.length()) > limit) return limit + 1;
+        int[] previous = new int[target.length() + 1];
+        int[] current = new int[target.length() + 1];
+        for (int j = 0; j <= target.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= source.length(); i++) {
+            char sourceChar = source.charAt(i - 1);
+            current[0] = i;
+            int rowMinimum = i;
+            for (int j = 1; j <= target.length(); j++) {
+                int substitution = previous[j - 1] + (sourceChar == target.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+                rowMinimum = Math.min(rowMinimum, current[j]);
+            }
+            if (rowMinimum > limit) return limit + 1; // the distances only grow from row to row
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return Math.min(previous[target.length()], limit + 1);
     }
 }
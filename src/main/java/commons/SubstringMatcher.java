@@ -0,0 +1,44 @@
+package commons;
+
+import java.util.Arrays;
+
+/**
+ * Finds a fixed pattern in texts with the Boyer-Moore-Horspool algorithm, without allocating: the pattern is compared
+ * from its end, and on a mismatch the search skips ahead by how far the text character at the end of the pattern is
+ * from the end of the pattern. Create one per query and reuse it for all the texts searched.
+ *
+ * Matches exactly; to ignore case and accents, create it with a pattern {@link StringUtil#fold folded} once and
+ * search texts folded in advance.
+ */
+public class SubstringMatcher {
+    private static final int SHIFT_TABLE_MASK = 0xFF; // characters share the entries of their low byte
+
+    private final String pattern;
+    private final int[] shifts = new int[SHIFT_TABLE_MASK + 1];
+
+    public SubstringMatcher(String pattern) {
+        this.pattern = pattern;
+        int lastIndex = pattern.length() - 1;
+        Arrays.fill(shifts, pattern.length());
+        for (int i = 0; i < lastIndex; i++) {
+            // the last occurrence gives the smallest shift, which is safe for all characters sharing the entry
+            shifts[pattern.charAt(i) & SHIFT_TABLE_MASK] = lastIndex - i;
+        }
+    }
+
+    public String getPattern() {
+        return pattern;
+    }
+
+    public boolean isFoundIn(String text) {
+        int lastIndex = pattern.length() - 1;
+        for (int end = lastIndex; end < text.length(); end += shifts[text.charAt(end) & SHIFT_TABLE_MASK]) {
+            int matched = 0;
+            while (matched <= lastIndex && text.charAt(end - matched) == pattern.charAt(lastIndex - matched)) {
+                matched++;
+            }
+            if (matched > lastIndex) return true;
+        }
+        return pattern.isEmpty();
+    }
+}
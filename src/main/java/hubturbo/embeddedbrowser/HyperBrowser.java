@@ -5,6 +5,7 @@ import hubturbo.embeddedbrowser.page.Page;
 import address.util.AppLogger;
 import commons.FxViewUtil;
 import address.util.LoggerManager;
+import commons.MetricsRegistry;
 import commons.UrlUtil;
 import javafx.scene.Node;
 import javafx.scene.layout.AnchorPane;
@@ -21,6 +22,7 @@ import java.util.stream.Collectors;
  */
 public class HyperBrowser {
     private static AppLogger logger = LoggerManager.getLogger(HyperBrowser.class);
+    private static final MetricsRegistry metrics = MetricsRegistry.getInstance();
 
     public static final int RECOMMENDED_NUMBER_OF_PAGES = 3;
 
@@ -155,6 +157,7 @@ public class HyperBrowser {
                     + "The HyperBrowser is configured to load a maximum of " + noOfPages +  "URLs.");
         }
 
+        long start = System.nanoTime();
         clearPagesNotRequired(getListOfUrlToBeLoaded(url, futureUrls));
         Page page = loadPage(url);
         replaceBrowserView(page.getBrowser().getBrowserView());
@@ -164,6 +167,7 @@ public class HyperBrowser {
         pages.add(page);
         futureUrls.forEach(p -> pages.add(this.loadPage(p)));
 
+        metrics.timer("browser.loadUrls").recordSince(start);
         return pages;
     }
 
@@ -189,8 +193,10 @@ public class HyperBrowser {
         }).findAny();
 
         if (foundPage.isPresent()) {
+            metrics.counter("browser.page.cached").increment();
             return foundPage.get();
         }
+        metrics.counter("browser.page.loaded").increment();
         assert !inActiveBrowserStack.isEmpty();
         EmbeddedBrowser browser = inActiveBrowserStack.pop();
 
@@ -5,18 +5,24 @@ import hubturbo.embeddedbrowser.EbAttachListener;
 import hubturbo.embeddedbrowser.EbEditorCommand;
 import hubturbo.embeddedbrowser.EbElement;
 import hubturbo.embeddedbrowser.EbLoadListener;
+import commons.MetricsRegistry;
 
 import java.util.Arrays;
 import java.util.Optional;
 
 /**
  * An abstract web page of an embedded browser.
+ *
+ * The time from the creation of the page to the first frame finishing loading is recorded in the
+ * "browser.page.loadTime" timer, if a page load finish listener is set before that.
  */
 public class Page implements PageInterface{
 
     public static int SCROLL_TO_END = EbEditorCommand.SCROLL_TO_END_OF_DOCUMENT;
 
     private EmbeddedBrowser browser;
+    private final long createdAt = System.nanoTime();
+    private boolean isLoadTimeRecorded = false;
 
     public Page(EmbeddedBrowser browser) {
         this.browser = browser;
@@ -108,7 +114,16 @@ public class Page implements PageInterface{
 
     @Override
     public void setPageLoadFinishListener(EbLoadListener listener){
-        this.browser.setLoadListener(listener);
+        this.browser.setLoadListener(isSuccessful -> {
+            recordLoadTime();
+            listener.onFinishLoadingFrame(isSuccessful);
+        });
+    }
+
+    private synchronized void recordLoadTime() {
+        if (isLoadTimeRecorded) return;
+        isLoadTimeRecorded = true;
+        MetricsRegistry.getInstance().timer("browser.page.loadTime").recordSince(createdAt);
     }
 
     @Override
@@ -0,0 +1,123 @@
+package address.events;
+
+import com.google.common.eventbus.Subscribe;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures event throughput and handler latency (from post to the start of handling) of the {@link EventManager}
+ * for inline and background handlers. Not a test, run with: {@code gradle benchmarkEvents} or from the IDE.
+ *
+ * Background handlers are measured with several subscribers, each receiving every event in order on a shared pool.
+ */
+public class EventManagerBenchmark {
+    private static final int WARMUP_EVENTS = 50000;
+    private static final int MEASURED_EVENTS = 200000;
+    private static final int BACKGROUND_SUBSCRIBERS = 4;
+
+    private static class TimedEvent extends BaseEvent {
+        final long postedAt = System.nanoTime();
+
+        @Override
+        public String toString() {
+            return "timed event";
+        }
+    }
+
+    private static class LatencyRecorder {
+        private final long[] latencies;
+        private final CountDownLatch done;
+        private int count;
+
+        LatencyRecorder(int events) {
+            latencies = new long[events];
+            done = new CountDownLatch(1);
+        }
+
+        /**
+         * Only called serially for each recorder, as each recorder belongs to one subscriber
+         */
+        void record(TimedEvent event) {
+            latencies[count++] = System.nanoTime() - event.postedAt;
+            if (count == latencies.length) done.countDown();
+        }
+
+        void await() throws InterruptedException {
+            done.await(1, TimeUnit.MINUTES);
+        }
+
+        long percentileMicros(double percentile) {
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            return TimeUnit.NANOSECONDS.toMicros(sorted[(int) Math.min(sorted.length - 1,
+                                                                       Math.ceil(percentile * sorted.length) - 1)]);
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        runInline(WARMUP_EVENTS, false);
+        runInline(MEASURED_EVENTS, true);
+        runBackground(WARMUP_EVENTS, false);
+        runBackground(MEASURED_EVENTS, true);
+        EventManager.clearSubscribers();
+    }
+
+    private static void runInline(int events, boolean isReported) throws InterruptedException {
+        EventManager.clearSubscribers();
+        EventManager eventManager = EventManager.getInstance();
+        LatencyRecorder recorder = new LatencyRecorder(events);
+        eventManager.registerHandler(new Object() {
+            @Subscribe
+            public void handle(TimedEvent event) {
+                recorder.record(event);
+            }
+        });
+
+        long start = System.nanoTime();
+        for (int i = 0; i < events; i++) {
+            eventManager.postPotentialEvent(new TimedEvent());
+        }
+        recorder.await();
+        if (isReported) report("inline", events, System.nanoTime() - start, recorder);
+    }
+
+    private static void runBackground(int events, boolean isReported) throws InterruptedException {
+        EventManager.clearSubscribers();
+        EventManager eventManager = EventManager.getInstance();
+        LatencyRecorder[] recorders = new LatencyRecorder[BACKGROUND_SUBSCRIBERS];
+        for (int i = 0; i < BACKGROUND_SUBSCRIBERS; i++) {
+            LatencyRecorder recorder = new LatencyRecorder(events);
+            recorders[i] = recorder;
+            eventManager.registerHandler(new Object() {
+                @Subscribe
+                @HandleOn(value = ExecutionMode.BACKGROUND, executor = "Benchmark")
+                public void handle(TimedEvent event) {
+                    recorder.record(event);
+                }
+            });
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < events; i++) {
+            eventManager.postPotentialEvent(new TimedEvent());
+        }
+        long postingNanos = System.nanoTime() - start;
+        for (LatencyRecorder recorder : recorders) {
+            recorder.await();
+        }
+        if (isReported) {
+            System.out.printf("background: posting took %d ms%n", TimeUnit.NANOSECONDS.toMillis(postingNanos));
+            report("background x" + BACKGROUND_SUBSCRIBERS, events, System.nanoTime() - start, recorders[0]);
+        }
+    }
+
+    private static void report(String name, int events, long elapsedNanos, LatencyRecorder recorder) {
+        System.out.printf("%s: %d events in %d ms (%.0f events/s), handler latency p50 %d us, p99 %d us, "
+                                  + "max %d us%n",
+                          name, events, TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                          events / (elapsedNanos / 1e9), recorder.percentileMicros(0.5),
+                          recorder.percentileMicros(0.99), recorder.percentileMicros(1));
+    }
+}
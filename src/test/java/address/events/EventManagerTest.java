@@ -0,0 +1,257 @@
+package address.events;
+
+import address.testutil.TestUtil;
+import address.util.Config;
+import com.google.common.eventbus.Subscribe;
+import commons.PlatformExecUtil;
+import org.junit.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.Assert.*;
+
+public class EventManagerTest {
+
+    private static class NumberedEvent extends BaseEvent {
+        final int number;
+
+        NumberedEvent(int number) {
+            this.number = number;
+        }
+
+        @Override
+        public String toString() {
+            return "event " + number;
+        }
+    }
+
+    private static class SpecialNumberedEvent extends NumberedEvent {
+        SpecialNumberedEvent(int number) {
+            super(number);
+        }
+    }
+
+    private EventManager eventManager;
+
+    @BeforeClass
+    public static void beforeSetup() throws TimeoutException {
+        TestUtil.initRuntime();
+    }
+
+    @AfterClass
+    public static void teardown() throws Exception {
+        TestUtil.tearDownRuntime();
+    }
+
+    @Before
+    public void setup() {
+        EventManager.clearSubscribers();
+        eventManager = EventManager.getInstance();
+    }
+
+    @After
+    public void tearDown() {
+        EventManager.clearSubscribers();
+    }
+
+    @Test
+    public void post_inlineHandler_handledInPostingThreadBeforeReturning() {
+        final List<Thread> handlingThreads = new ArrayList<>();
+        eventManager.registerHandler(new Object() {
+            @Subscribe
+            private void handle(NumberedEvent event) {
+                handlingThreads.add(Thread.currentThread());
+            }
+        });
+
+        eventManager.post(new NumberedEvent(1));
+
+        assertEquals(1, handlingThreads.size());
+        assertEquals(Thread.currentThread(), handlingThreads.get(0));
+    }
+
+    @Test
+    public void post_subclassEvent_receivedBySuperclassHandler() {
+        final List<BaseEvent> received = new ArrayList<>();
+        eventManager.registerHandler(new Object() {
+            @Subscribe
+            public void handle(BaseEvent event) {
+                received.add(event);
+            }
+        });
+
+        eventManager.post(new SpecialNumberedEvent(1));
+
+        assertEquals(1, received.size());
+    }
+
+    @Test
+    public void post_backgroundHandler_postingThreadNotBlockedAndOrderPreserved() throws InterruptedException {
+        final int events = 1000;
+        final List<Integer> received = new CopyOnWriteArrayList<>();
+        final List<String> handlingThreadNames = new CopyOnWriteArrayList<>();
+        final CountDownLatch firstEventHandled = new CountDownLatch(1);
+        final CountDownLatch allEventsHandled = new CountDownLatch(events);
+        eventManager.registerHandler(new Object() {
+            @Subscribe
+            @HandleOn(value = ExecutionMode.BACKGROUND, executor = "Test Background")
+            public void handle(NumberedEvent event) throws InterruptedException {
+                if (event.number == 0) firstEventHandled.await(); // hold up the handler until all are posted
+                received.add(event.number);
+                handlingThreadNames.add(Thread.currentThread().getName());
+                allEventsHandled.countDown();
+            }
+        });
+
+        for (int i = 0; i < events; i++) {
+            eventManager.post(new NumberedEvent(i));
+        }
+        firstEventHandled.countDown();
+
+        assertTrue(allEventsHandled.await(10, TimeUnit.SECONDS));
+        for (int i = 0; i < events; i++) {
+            assertEquals(i, (int) received.get(i));
+        }
+        assertTrue(handlingThreadNames.stream().allMatch(name -> name.startsWith("Test Background")));
+    }
+
+    @Test
+    public void post_fxThreadHandler_handledOnFxThread() throws InterruptedException {
+        final List<Boolean> handledOnFxThread = new CopyOnWriteArrayList<>();
+        final CountDownLatch handled = new CountDownLatch(1);
+        eventManager.registerHandler(new Object() {
+            @Subscribe
+            @HandleOn(ExecutionMode.FX_THREAD)
+            public void handle(NumberedEvent event) {
+                handledOnFxThread.add(PlatformExecUtil.isFxThread());
+                handled.countDown();
+            }
+        });
+
+        eventManager.post(new NumberedEvent(1));
+
+        assertTrue(handled.await(10, TimeUnit.SECONDS));
+        assertTrue(handledOnFxThread.get(0));
+    }
+
+    @Test
+    public void post_fromInlineHandler_dispatchedAfterCurrentEvent() {
+        final List<String> handled = new ArrayList<>();
+        eventManager.registerHandler(new Object() {
+            @Subscribe
+            public void handleFirst(NumberedEvent event) {
+                handled.add("first " + event.number);
+                if (event.number == 1) eventManager.post(new NumberedEvent(2));
+            }
+        });
+        eventManager.registerHandler(new Object() {
+            @Subscribe
+            public void handleSecond(NumberedEvent event) {
+                handled.add("second " + event.number);
+            }
+        });
+
+        eventManager.post(new NumberedEvent(1));
+
+        assertEquals(4, handled.size());
+        assertTrue(handled.indexOf("second 1") < handled.indexOf("first 2"));
+    }
+
+    @Test
+    public void post_handlerThrows_otherHandlersStillRun() {
+        final List<Integer> received = new ArrayList<>();
+        eventManager.registerHandler(new Object() {
+            @Subscribe
+            public void handle(NumberedEvent event) {
+                throw new IllegalStateException("handler failure");
+            }
+        });
+        eventManager.registerHandler(new Object() {
+            @Subscribe
+            public void handle(NumberedEvent event) {
+                received.add(event.number);
+            }
+        });
+
+        eventManager.post(new NumberedEvent(1));
+
+        assertEquals(1, received.size());
+    }
+
+    @Test
+    public void getStats_eventsPosted_postCountsAndHandledCountsRecorded() {
+        eventManager.registerHandler(new Object() {
+            @Subscribe
+            public void handle(NumberedEvent event) {
+            }
+        });
+
+        eventManager.post(new NumberedEvent(1));
+        eventManager.post(new NumberedEvent(2));
+        eventManager.post(new SpecialNumberedEvent(3));
+
+        EventBusStats stats = eventManager.getStats();
+        assertEquals(2, stats.getEventTypeStats().size());
+        EventTypeStats numberedEventStats = stats.getEventTypeStats().get(0);
+        assertEquals("NumberedEvent", numberedEventStats.getEventType());
+        assertEquals(2, numberedEventStats.getPostCount());
+        assertEquals(1, stats.getEventTypeStats().get(1).getPostCount());
+
+        assertEquals(1, stats.getHandlerStats().size());
+        EventHandlerStats handlerStats = stats.getHandlerStats().get(0);
+        assertEquals(3, handlerStats.getHandledCount());
+        assertEquals(0, handlerStats.getQueueDepth());
+        assertEquals(0, handlerStats.getSlowCount());
+    }
+
+    @Test
+    public void getStats_backgroundHandlerBlocked_queueDepthRecorded() throws InterruptedException {
+        final CountDownLatch unblock = new CountDownLatch(1);
+        final CountDownLatch allHandled = new CountDownLatch(3);
+        eventManager.registerHandler(new Object() {
+            @Subscribe
+            @HandleOn(ExecutionMode.BACKGROUND)
+            public void handle(NumberedEvent event) throws InterruptedException {
+                unblock.await();
+                allHandled.countDown();
+            }
+        });
+
+        eventManager.post(new NumberedEvent(1));
+        eventManager.post(new NumberedEvent(2));
+        eventManager.post(new NumberedEvent(3));
+
+        assertEquals(3, eventManager.getStats().getHandlerStats().get(0).getQueueDepth());
+        unblock.countDown();
+        assertTrue(allHandled.await(5, TimeUnit.SECONDS));
+        Thread.sleep(100); // the run time is recorded just after the handler returns
+        EventHandlerStats handlerStats = eventManager.getStats().getHandlerStats().get(0);
+        assertEquals(0, handlerStats.getQueueDepth());
+        assertEquals(3, handlerStats.getHandledCount());
+    }
+
+    @Test
+    public void post_handlerSlowerThanThreshold_countedAsSlow() throws InterruptedException {
+        Config config = new Config();
+        config.setSlowEventHandlerThreshold(10);
+        eventManager.initMetrics(config);
+        eventManager.registerHandler(new Object() {
+            @Subscribe
+            public void handle(NumberedEvent event) throws InterruptedException {
+                if (event.number == 1) Thread.sleep(50);
+            }
+        });
+
+        eventManager.post(new NumberedEvent(1));
+        eventManager.post(new NumberedEvent(2));
+
+        EventHandlerStats handlerStats = eventManager.getStats().getHandlerStats().get(0);
+        assertEquals(1, handlerStats.getSlowCount());
+        assertTrue(handlerStats.getRunTime().getMaxMillis() >= 50);
+    }
+}
@@ -9,12 +9,16 @@ import address.util.Config;
 import address.testutil.TestUtil;
 import com.google.common.eventbus.EventBus;
 import com.google.common.eventbus.Subscribe;
+import javafx.collections.ListChangeListener;
 import org.junit.*;
 import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Supplier;
@@ -143,6 +147,23 @@ public class AddPersonCommandTest {
         assertFinalStatesCorrectForSuccessfulAdd(apc, modelManagerSpy, inputData);
     }
 
+    @Test
+    public void successfulAdd_backingChangesReportedAsUpdates() {
+        final ReadOnlyPerson inputData = TestUtil.generateSamplePersonWithAllData(0);
+        final AddPersonCommand apc = new AddPersonCommand(0, inputRetrieverWrapper(inputData), 0, events::post, modelManagerSpy, ADDRESSBOOK_NAME);
+        apc.run();
+
+        final List<Integer> updatedIndices = new ArrayList<>();
+        modelManagerSpy.visibleModel().getPersons().addListener((ListChangeListener<ViewablePerson>) change -> {
+            while (change.next()) {
+                if (change.wasUpdated()) updatedIndices.add(change.getFrom());
+            }
+        });
+        apc.getViewableToAdd().getBacking().setRank("5");
+
+        assertEquals(Arrays.asList(0), updatedIndices); // seen by views ordered by rank
+    }
+
 
     private void assertFinalStatesCorrectForSuccessfulAdd(AddPersonCommand command, ModelManager model, ReadOnlyPerson resultData) {
         assertEquals(command.getState(), State.SUCCESSFUL);
@@ -0,0 +1,174 @@
+package address.model;
+
+import address.model.ChangeObjectInModelCommand.State;
+import address.util.concurrent.BackPressurePolicy;
+import address.util.concurrent.ExecutorManager;
+import address.util.concurrent.InstrumentedExecutor;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.Assert.*;
+
+public class ChangeObjectInModelCommandTest {
+
+    private InstrumentedExecutor commandExecutor;
+    private InstrumentedExecutor continuationExecutor;
+
+    /**
+     * Minimal command that always succeeds, recording its grace period countdown
+     */
+    private static class CountdownCommand extends ChangeObjectInModelCommand {
+        final List<Integer> secondsLeftUpdates = new CopyOnWriteArrayList<>();
+        int rejectionCount;
+
+        CountdownCommand(int commandId, int gracePeriodDurationInSeconds) {
+            super(commandId, gracePeriodDurationInSeconds);
+        }
+
+        @Override
+        protected void before() {}
+
+        @Override
+        protected void after() {}
+
+        @Override
+        protected void finishWithCancel() {}
+
+        @Override
+        protected void finishWithSuccess() {}
+
+        @Override
+        protected boolean retrieveValidInput() {
+            return true;
+        }
+
+        @Override
+        protected void simulateResult() {}
+
+        @Override
+        protected void handleChangeToSecondsLeftInGracePeriod(int secondsLeft) {
+            secondsLeftUpdates.add(secondsLeft);
+        }
+
+        @Override
+        protected boolean checkForRemoteConflict() {
+            return false;
+        }
+
+        @Override
+        protected void handleRemoteConflict() {}
+
+        @Override
+        protected boolean requestRemoteChange() {
+            return true;
+        }
+
+        @Override
+        protected void handleRequestFailed() {}
+
+        @Override
+        protected void handleRejection() {
+            rejectionCount++;
+        }
+    }
+
+    @Before
+    public void setup() {
+        commandExecutor = ExecutorManager.newExecutor("Test Command", 2, 5000, BackPressurePolicy.REJECT);
+        continuationExecutor = ExecutorManager.newExecutor("Test Continuation", 2, 5000, BackPressurePolicy.REJECT);
+    }
+
+    @After
+    public void tearDown() {
+        commandExecutor.shutdownNow();
+        continuationExecutor.shutdownNow();
+    }
+
+    private CountdownCommand startCommand(int gracePeriodDurationInSeconds) {
+        final CountdownCommand command = new CountdownCommand(0, gracePeriodDurationInSeconds);
+        command.setContinuationExecutor(continuationExecutor);
+        commandExecutor.execute(command);
+        return command;
+    }
+
+    @Test
+    public void zeroGracePeriod_completesWithinRun() {
+        final CountdownCommand command = new CountdownCommand(0, 0);
+
+        command.run();
+
+        assertEquals(State.SUCCESSFUL, command.getState());
+        assertEquals(0, (int) command.secondsLeftUpdates.get(0));
+    }
+
+    @Test
+    public void reject_cancelledWithoutRunning() throws InterruptedException {
+        final CountdownCommand command = new CountdownCommand(0, 60);
+
+        command.reject();
+        command.waitForCompletion();
+
+        assertEquals(State.CANCELLED, command.getState());
+        assertEquals(1, command.rejectionCount);
+        assertTrue(command.secondsLeftUpdates.isEmpty());
+    }
+
+    @Test
+    public void gracePeriod_countsDownThenSucceeds() throws InterruptedException {
+        final CountdownCommand command = startCommand(2);
+
+        command.waitForCompletion();
+
+        assertEquals(State.SUCCESSFUL, command.getState());
+        assertEquals("[2, 1, 0]", command.secondsLeftUpdates.toString());
+    }
+
+    @Test
+    public void cancelDuringGracePeriod_cancelledWithoutWaitingForCountdown() throws InterruptedException {
+        final CountdownCommand command = startCommand(60);
+        while (command.getState() != State.GRACE_PERIOD) Thread.sleep(5);
+
+        command.cancelCommand();
+        command.waitForCompletion();
+
+        assertEquals(State.CANCELLED, command.getState());
+        assertEquals(0, (int) command.secondsLeftUpdates.get(command.secondsLeftUpdates.size() - 1));
+    }
+
+    @Test
+    public void pauseAndResume_countdownRestarted() throws InterruptedException {
+        final CountdownCommand command = startCommand(2);
+        while (command.getState() != State.GRACE_PERIOD) Thread.sleep(5);
+
+        command.pauseGracePeriod();
+        Thread.sleep(1500);
+        assertEquals(State.GRACE_PERIOD, command.getState());
+        command.resumeGracePeriod();
+        command.waitForCompletion();
+
+        assertEquals(State.SUCCESSFUL, command.getState());
+        assertEquals("[2, 2, 1, 0]", command.secondsLeftUpdates.toString());
+    }
+
+    @Test
+    public void manyCommandsInGracePeriod_threadsNotHeld() throws InterruptedException {
+        final List<CountdownCommand> commands = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            commands.add(startCommand(1));
+        }
+
+        for (CountdownCommand command : commands) {
+            command.waitForCompletion();
+            assertEquals(State.SUCCESSFUL, command.getState());
+        }
+        assertEquals(0, commandExecutor.getStats().getBackPressureEvents());
+        assertTrue(commandExecutor.getStats().getLargestPoolSize() <= 2);
+        assertTrue(continuationExecutor.getStats().getLargestPoolSize() <= 2);
+        assertTrue(commandExecutor.getStats().getMaxQueueWaitMillis() < 1000); // not queued behind grace periods
+    }
+}
@@ -0,0 +1,135 @@
+package address.model.datatypes;
+
+import address.model.datatypes.person.Person;
+import address.model.datatypes.person.ReadOnlyPerson;
+import address.model.datatypes.tag.Tag;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+public class AddressBookTest {
+    private AddressBook addressBook;
+    private Person alice;
+    private Person bob;
+    private Tag friends;
+
+    @Before
+    public void setup() {
+        addressBook = new AddressBook();
+        friends = new Tag("friends");
+        addressBook.setTags(Arrays.asList(friends));
+        addressBook.setPersons(Arrays.asList(new Person("Alice", "Tan", 1), new Person("Bob", "Lee", 2)));
+        alice = addressBook.getPersons().get(0);
+        bob = addressBook.getPersons().get(1);
+    }
+
+    @Test
+    public void snapshot_noChanges_sameSnapshot() {
+        assertSame(addressBook.snapshot(), addressBook.snapshot());
+    }
+
+    @Test
+    public void snapshot_personChanged_previousSnapshotUnchanged() {
+        AddressBookSnapshot before = addressBook.snapshot();
+        alice.setCity("Singapore");
+        alice.setTags(Arrays.asList(friends));
+        AddressBookSnapshot after = addressBook.snapshot();
+
+        assertEquals("", before.getPersonList().get(0).getCity());
+        assertTrue(before.getPersonList().get(0).getTagList().isEmpty());
+        assertEquals("Singapore", after.getPersonList().get(0).getCity());
+        assertEquals(Arrays.asList(friends), after.getPersonList().get(0).getTagList());
+        assertSame(before.getPersonList().get(1), after.getPersonList().get(1));
+    }
+
+    @Test
+    public void snapshot_personsAddedAndRemoved_previousSnapshotUnchanged() {
+        AddressBookSnapshot before = addressBook.snapshot();
+        addressBook.removePerson(bob);
+        addressBook.addPerson(new Person("Carol", "Lim", 3));
+        AddressBookSnapshot after = addressBook.snapshot();
+
+        assertEquals(Arrays.asList(1, 2), before.getPersonList().stream().map(ReadOnlyPerson::getId)
+                .collect(Collectors.toList()));
+        assertEquals(Arrays.asList(1, 3), after.getPersonList().stream().map(ReadOnlyPerson::getId)
+                .collect(Collectors.toList()));
+
+        bob.setCity("Singapore"); // no longer in the address book
+        assertSame(after, addressBook.snapshot());
+    }
+
+    @Test
+    public void snapshot_tagRenamed_previousSnapshotUnchanged() {
+        AddressBookSnapshot before = addressBook.snapshot();
+        friends.setName("colleagues");
+
+        assertEquals("friends", before.getTagList().get(0).getName());
+        assertEquals("colleagues", addressBook.snapshot().getTagList().get(0).getName());
+    }
+
+    @Test
+    public void snapshot_sharedTagRenamed_previousSnapshotPersonsUnchanged() {
+        Person carol = new Person("Carol", "Lim", 3);
+        carol.setTags(Arrays.asList(new Tag("friends")));
+        addressBook.addPerson(carol);
+        AddressBookSnapshot before = addressBook.snapshot();
+
+        friends.setName("colleagues"); // renames the tag of every person sharing it, without changing their tag lists
+        AddressBookSnapshot after = addressBook.snapshot();
+
+        assertEquals("colleagues", carol.getTagList().get(0).getName());
+        assertEquals("friends", before.getPersonList().get(2).getTagList().get(0).getName());
+        assertEquals("colleagues", after.getPersonList().get(2).getTagList().get(0).getName());
+        assertSame(after.getTagList().get(0), after.getPersonList().get(2).getTagList().get(0));
+        assertSame(before.getPersonList().get(0), after.getPersonList().get(0)); // without the tag, not copied again
+    }
+
+    @Test
+    public void resetData_repeatedValues_sharedByPersons() {
+        Person carol = new Person("Carol", "Lim", 3);
+        carol.setCity(new String("Singapore"));
+        carol.setTags(Arrays.asList(new Tag("friends")));
+        Person dave = new Person("Dave", "Ng", 4);
+        dave.setCity(new String("Singapore"));
+        dave.setTags(Arrays.asList(new Tag("friends")));
+
+        addressBook.resetData(Arrays.asList(carol, dave), Arrays.asList(friends));
+
+        ReadOnlyPerson newCarol = addressBook.getPersonList().get(0);
+        ReadOnlyPerson newDave = addressBook.getPersonList().get(1);
+        assertSame(newCarol.getCity(), newDave.getCity());
+        assertSame(friends, newCarol.getTagList().get(0));
+        assertSame(friends, newDave.getTagList().get(0));
+    }
+
+    @Test
+    public void resetData_sharedTagRenamed_renamedForAllPersons() {
+        Person carol = new Person("Carol", "Lim", 3);
+        carol.setTags(Arrays.asList(new Tag("friends")));
+        Person dave = new Person("Dave", "Ng", 4);
+        dave.setTags(Arrays.asList(new Tag("friends")));
+        addressBook.resetData(Arrays.asList(carol, dave), Arrays.asList(friends));
+
+        friends.setName("family"); // no change to the persons' tag lists, only to the shared tag
+
+        assertEquals("family", addressBook.getPersonList().get(0).getTagList().get(0).getName());
+        assertEquals("family", addressBook.getPersonList().get(1).getTagList().get(0).getName());
+        assertEquals(2, addressBook.getTagIndex().getPersonsWithTag("family"::equals).cardinality());
+        assertTrue(addressBook.getTagIndex().getPersonsWithTag("friends"::equals).isEmpty());
+    }
+
+    @Test
+    public void addPerson_tagRenamed_sharesRenamedTag() {
+        friends.setName("colleagues");
+        Person carol = new Person("Carol", "Lim", 3);
+        carol.setTags(Arrays.asList(new Tag("colleagues")));
+
+        addressBook.addPerson(carol);
+
+        assertSame(friends, carol.getTagList().get(0));
+    }
+}
@@ -0,0 +1,90 @@
+package address.model.datatypes;
+
+import address.model.datatypes.person.Person;
+import address.model.datatypes.tag.Tag;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+import static org.junit.Assert.*;
+
+public class FuzzyIndexTest {
+    private Person alice;
+    private Person bob;
+    private Tag friends;
+    private ObservableList<Person> persons;
+    private TagIndex tagIndex;
+    private FuzzyIndex fuzzyIndex;
+
+    @Before
+    public void setup() {
+        friends = new Tag("friends");
+        alice = new Person("Alice", "Johnson", 1);
+        alice.setCity("Berlin");
+        bob = new Person("Bob", "Jonson", 2);
+        bob.setCity("Bern");
+        bob.setTags(Arrays.asList(friends));
+        persons = FXCollections.observableArrayList(alice, bob);
+        tagIndex = new TagIndex(persons);
+        fuzzyIndex = new FuzzyIndex(persons, tagIndex);
+    }
+
+    @Test
+    public void search_misspeltWord_personsByDistance() {
+        BitSet[] personsByDistance = fuzzyIndex.search("Jonsson");
+
+        assertEquals(3, personsByDistance.length);
+        assertTrue(personsByDistance[0].isEmpty());
+        assertEquals(ordinals(bob), personsByDistance[1]);
+        assertEquals(ordinals(alice), personsByDistance[2]);
+    }
+
+    @Test
+    public void search_closerWordInOtherField_closestDistanceOnly() {
+        BitSet[] personsByDistance = fuzzyIndex.search("bern");
+
+        assertEquals(ordinals(bob), personsByDistance[0]);
+        assertTrue(personsByDistance[1].isEmpty());
+    }
+
+    @Test
+    public void search_misspeltTag_personsWithTag() {
+        assertEquals(ordinals(bob), fuzzyIndex.search("freinds")[2]);
+
+        friends.setName("family");
+        assertTrue(fuzzyIndex.search("freinds")[2].isEmpty());
+    }
+
+    @Test
+    public void search_personsChanged_updated() {
+        int version = fuzzyIndex.getVersion();
+        alice.setLastName("Smith");
+
+        assertNotEquals(version, fuzzyIndex.getVersion());
+        assertTrue(fuzzyIndex.search("Jonsson")[2].isEmpty());
+        assertEquals(ordinals(alice), fuzzyIndex.search("smyth")[1]);
+
+        persons.remove(bob);
+        assertTrue(fuzzyIndex.search("Jonsson")[1].isEmpty());
+        Person carol = new Person("Carol", "Jonssen", 3);
+        persons.add(carol);
+        assertEquals(ordinals(carol), fuzzyIndex.search("Jonsson")[1]);
+    }
+
+    @Test
+    public void getDistance_notIndexed_sameAsSearch() {
+        assertEquals(1, FuzzyIndex.getDistance("jonsson", 2, bob));
+        assertEquals(2, FuzzyIndex.getDistance("jonsson", 2, alice));
+        assertEquals(3, FuzzyIndex.getDistance("smyth", 2, alice));
+    }
+
+    private BitSet ordinals(Person... persons) {
+        BitSet ordinals = new BitSet();
+        Arrays.stream(persons).forEach(person -> ordinals.set(fuzzyIndex.getOrdinal(person)));
+        return ordinals;
+    }
+}
@@ -0,0 +1,96 @@
+package address.model.datatypes;
+
+import address.model.datatypes.person.Person;
+import address.model.datatypes.tag.Tag;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+
+public class TagIndexTest {
+    private Tag friends;
+    private Tag colleagues;
+    private Person alice;
+    private Person bob;
+    private ObservableList<Person> persons;
+    private TagIndex tagIndex;
+
+    @Before
+    public void setup() {
+        friends = new Tag("friends");
+        colleagues = new Tag("colleagues");
+        alice = new Person("Alice", "Tan", 1);
+        alice.setTags(Arrays.asList(friends, colleagues));
+        bob = new Person("Bob", "Lee", 2);
+        bob.setTags(Arrays.asList(friends));
+        persons = FXCollections.observableArrayList(alice, bob);
+        tagIndex = new TagIndex(persons);
+    }
+
+    @Test
+    public void getPersonsWithTag_matchingName_personsWithTag() {
+        assertEquals(ordinals(alice, bob), tagIndex.getPersonsWithTag("friends"::equals));
+        assertEquals(ordinals(alice), tagIndex.getPersonsWithTag("colleagues"::equals));
+        assertTrue(tagIndex.getPersonsWithTag("family"::equals).isEmpty());
+    }
+
+    @Test
+    public void getPersonsWithTag_tagsChanged_updated() {
+        int version = tagIndex.getVersion();
+        bob.setTags(Arrays.asList(colleagues));
+
+        assertNotEquals(version, tagIndex.getVersion());
+        assertEquals(ordinals(alice), tagIndex.getPersonsWithTag("friends"::equals));
+        assertEquals(ordinals(alice, bob), tagIndex.getPersonsWithTag("colleagues"::equals));
+    }
+
+    @Test
+    public void getPersonsWithTag_personRemovedAndAdded_ordinalReused() {
+        persons.remove(alice);
+        assertEquals(-1, tagIndex.getOrdinal(alice));
+        assertTrue(tagIndex.getPersonsWithTag("colleagues"::equals).isEmpty());
+
+        Person carol = new Person("Carol", "Lim", 3);
+        carol.setTags(Arrays.asList(colleagues));
+        persons.add(carol);
+        assertEquals(0, tagIndex.getOrdinal(carol));
+        assertEquals(ordinals(carol), tagIndex.getPersonsWithTag("colleagues"::equals));
+    }
+
+    @Test
+    public void getPersonsWithTag_tagRenamed_matchesNewName() {
+        int version = tagIndex.getVersion();
+        tagIndex.getPersonsWithTag("friends"::equals);
+        friends.setName("family");
+
+        assertNotEquals(version, tagIndex.getVersion());
+        assertEquals(ordinals(alice, bob), tagIndex.getPersonsWithTag("family"::equals));
+    }
+
+    @Test
+    public void getCommonTags_indexedAndNotIndexedPersons_tagsOfAllPersons() {
+        assertEquals(Arrays.asList(friends), tagIndex.getCommonTags(Arrays.asList(alice, bob)));
+
+        Person notIndexed = new Person("Carol", "Lim", 3);
+        notIndexed.setTags(Arrays.asList(new Tag("colleagues")));
+        assertEquals(Arrays.asList(colleagues), tagIndex.getCommonTags(Arrays.asList(alice, notIndexed)));
+        assertEquals(Collections.emptyList(), tagIndex.getCommonTags(Arrays.asList(bob, notIndexed)));
+    }
+
+    @Test
+    public void getCommonTags_noPersons_noTags() {
+        assertEquals(Collections.emptyList(), tagIndex.getCommonTags(Collections.emptyList()));
+    }
+
+    private BitSet ordinals(Person... indexedPersons) {
+        BitSet ordinals = new BitSet();
+        Arrays.stream(indexedPersons).forEach(person -> ordinals.set(tagIndex.getOrdinal(person)));
+        return ordinals;
+    }
+}
@@ -0,0 +1,103 @@
+package address.model.datatypes;
+
+import address.model.datatypes.person.Person;
+import address.model.datatypes.tag.Tag;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class TextIndexTest {
+    private Person alice;
+    private Person bob;
+    private Person carol;
+    private Tag friends;
+    private ObservableList<Person> persons;
+    private TextIndex textIndex;
+
+    @Before
+    public void setup() {
+        friends = new Tag("friends");
+        alice = new Person("Alice", "Tan", 1);
+        alice.setCity("Singapore");
+        bob = new Person("Bob", "Tan", 2);
+        bob.setCity("Kuala Lumpur");
+        bob.setTags(Arrays.asList(friends));
+        carol = new Person("Carol", "Lim", 3);
+        carol.setStreet("Tan Tan Road");
+        carol.setCity("Singapore");
+        persons = FXCollections.observableArrayList(alice, bob, carol);
+        textIndex = new TextIndex(persons, new TagIndex(persons));
+    }
+
+    @Test
+    public void search_severalTerms_personsHavingAllTerms() {
+        assertEquals(Arrays.asList(alice), search("tan alice SINGAPORE", 10));
+        assertEquals(Arrays.asList(bob), search("lumpur friends", 10));
+        assertTrue(search("tan penang", 10).isEmpty());
+    }
+
+    @Test
+    public void search_termRepeatedInShorterOrLongerPersons_rankedByBm25() {
+        // carol has the term twice; alice has fewer other terms than bob
+        assertEquals(Arrays.asList(carol, alice, bob), search("tan", 10));
+        assertEquals(Arrays.asList(carol, alice), search("tan", 2));
+
+        TextIndex.Results results = textIndex.search(TextIndex.toTerms("tan"), 10);
+        assertTrue(results.getScore(0) > results.getScore(1));
+        assertTrue(results.getScore(1) > results.getScore(2));
+    }
+
+    @Test
+    public void search_moreMatchesThanLimit_allMatchesKept() {
+        TextIndex.Results results = textIndex.search(TextIndex.toTerms("tan"), 1);
+
+        assertEquals(1, results.size());
+        assertEquals(3, results.getMatchCount());
+        assertTrue(results.isMatch(textIndex.getOrdinal(bob))); // matched, though not among the best
+        assertFalse(textIndex.search(TextIndex.toTerms("tan road"), 1).isMatch(textIndex.getOrdinal(alice)));
+    }
+
+    @Test
+    public void search_personsChanged_updated() {
+        int version = textIndex.getVersion();
+        alice.setCity("Penang");
+
+        assertNotEquals(version, textIndex.getVersion());
+        assertEquals(Arrays.asList(carol), search("singapore", 10));
+        assertEquals(Arrays.asList(alice), search("penang", 10));
+
+        friends.setName("family");
+        assertTrue(search("friends", 10).isEmpty());
+        assertEquals(Arrays.asList(bob), search("family", 10));
+
+        persons.remove(bob);
+        assertEquals(Arrays.asList(carol, alice), search("tan", 10));
+        Person dave = new Person("Dave", "Tan", 4);
+        persons.add(dave);
+        assertEquals(3, search("tan", 10).size());
+        assertEquals(Arrays.asList(dave), search("dave tan", 10));
+    }
+
+    @Test
+    public void hasAllTerms_notIndexed_sameAsSearch() {
+        assertTrue(TextIndex.hasAllTerms(carol, TextIndex.toTerms("road lim")));
+        assertFalse(TextIndex.hasAllTerms(carol, TextIndex.toTerms("road lim alice")));
+    }
+
+    private List<Person> search(String text, int limit) {
+        TextIndex.Results results = textIndex.search(TextIndex.toTerms(text), limit);
+        List<Person> found = new ArrayList<>();
+        for (int rank = 0; rank < results.size(); rank++) {
+            int ordinal = results.getOrdinal(rank);
+            persons.stream().filter(person -> textIndex.getOrdinal(person) == ordinal).forEach(found::add);
+        }
+        return found;
+    }
+}
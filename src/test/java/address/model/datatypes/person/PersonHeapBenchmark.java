@@ -0,0 +1,59 @@
+package address.model.datatypes.person;
+
+import address.testutil.SyntheticDataGenerator;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Measures the heap retained per person by each form of person data. Not a test, run with:
+ * {@code gradle benchmarkPersonHeap} or from the IDE, optionally with the number of persons as argument.
+ *
+ * The field strings and tags are shared with the generated persons, so the results are the cost of each form on top
+ * of its data, which is the same for all of them.
+ */
+public class PersonHeapBenchmark {
+    private static final int DEFAULT_PERSON_COUNT = 100000;
+
+    private static final MemoryMXBean memoryBean = ManagementFactory.getMemoryMXBean();
+
+    public static void main(String[] args) throws InterruptedException {
+        int personCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PERSON_COUNT;
+        List<ReadOnlyPerson> persons = new SyntheticDataGenerator(1).withPersonCount(personCount).generatePersons()
+                .collect(Collectors.toList());
+
+        run("PersonRecord", persons, PersonRecord::new);
+        run("Person", persons, Person::new);
+        run("ViewablePerson not displayed, with its backing Person", persons,
+            person -> ViewablePerson.fromBacking(new Person(person)));
+        run("ViewablePerson displayed, with its visible and backing Person", persons, person -> {
+            ViewablePerson viewablePerson = ViewablePerson.fromBacking(new Person(person));
+            viewablePerson.getVisible();
+            return viewablePerson;
+        });
+    }
+
+    private static void run(String name, List<ReadOnlyPerson> persons, Function<ReadOnlyPerson, Object> factory)
+            throws InterruptedException {
+        long usedBefore = getUsedHeapAfterGc();
+        Object[] retained = new Object[persons.size()];
+        for (int i = 0; i < retained.length; i++) {
+            retained[i] = factory.apply(persons.get(i));
+        }
+        long usedBytes = getUsedHeapAfterGc() - usedBefore;
+        System.out.printf("%s: %.0f bytes/person, %.1f MB per %d persons%n", name,
+                          (double) usedBytes / retained.length, usedBytes / (1024.0 * 1024.0), retained.length);
+        retained[0] = null; // keeps the array reachable until measured
+    }
+
+    private static long getUsedHeapAfterGc() throws InterruptedException {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        return memoryBean.getHeapMemoryUsage().getUsed();
+    }
+}
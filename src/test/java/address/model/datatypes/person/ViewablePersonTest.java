@@ -0,0 +1,100 @@
+package address.model.datatypes.person;
+
+import javafx.beans.property.ReadOnlyStringProperty;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class ViewablePersonTest {
+    private Person backing;
+    private ViewablePerson viewable;
+
+    @Before
+    public void setup() {
+        backing = new Person("Alice", "Tan", 1);
+        viewable = ViewablePerson.fromBacking(backing);
+    }
+
+    @Test
+    public void fromBacking_notDisplayed_showsBackingData() {
+        backing.setCity("Singapore");
+
+        assertEquals("Singapore", viewable.getCity());
+        assertSame(backing, viewable.getBackingIfInSync().get());
+        assertEquals(ReadOnlyViewablePerson.ChangeInProgress.NONE, viewable.getChangeInProgress());
+        assertEquals(-1, viewable.getSecondsLeftInPendingState());
+    }
+
+    @Test
+    public void propertyAccessed_backingChanged_propertyFollowsBacking() {
+        assertEquals("Alice", viewable.firstNameProperty().get());
+        backing.setFirstName("Alicia");
+
+        assertEquals("Alicia", viewable.firstNameProperty().get());
+        assertEquals("Alicia", viewable.getFirstName());
+    }
+
+    @Test
+    public void simulateUpdate_notSyncing_backingUnchanged() {
+        viewable.stopSyncingWithBackingObject();
+        Person update = new Person(backing);
+        update.setCity("Jakarta");
+        viewable.simulateUpdate(update);
+        backing.setFirstName("Alicia");
+
+        assertEquals("Jakarta", viewable.getCity());
+        assertEquals("Alice", viewable.getFirstName());
+        assertEquals("", backing.getCity());
+        assertFalse(viewable.getBackingIfInSync().isPresent());
+
+        viewable.continueSyncingWithBackingObject();
+        viewable.forceSyncFromBacking();
+        assertEquals("Alicia", viewable.getFirstName());
+        assertEquals("", viewable.getCity());
+    }
+
+    @Test
+    public void releaseVisible_lastViewReleased_visiblePersonDropped() {
+        viewable.retainVisible();
+        viewable.retainVisible();
+        ReadOnlyStringProperty shownFirstName = viewable.firstNameProperty();
+
+        viewable.releaseVisible();
+        assertSame(shownFirstName, viewable.firstNameProperty());
+
+        viewable.releaseVisible();
+        backing.setFirstName("Alicia");
+        assertEquals("Alice", shownFirstName.get()); // no longer bound to the backing person
+        assertEquals("Alicia", viewable.getFirstName());
+        assertNotSame(shownFirstName, viewable.firstNameProperty());
+        assertEquals("Alicia", viewable.firstNameProperty().get());
+    }
+
+    @Test
+    public void releaseVisible_changeSimulated_visiblePersonKept() {
+        viewable.retainVisible();
+        viewable.stopSyncingWithBackingObject();
+        Person update = new Person(backing);
+        update.setCity("Jakarta");
+        viewable.simulateUpdate(update);
+
+        viewable.releaseVisible();
+
+        assertEquals("Jakarta", viewable.getCity());
+        assertEquals("", backing.getCity());
+    }
+
+    @Test
+    public void getSearchKey_backingChanged_foldedNewValue() {
+        assertEquals("alice", viewable.getSearchKey(SearchField.FIRST_NAME));
+        backing.setFirstName("\u00c0lice");
+        backing.setCity("Paris");
+        assertEquals("alice", viewable.getSearchKey(SearchField.FIRST_NAME));
+        assertEquals("paris", viewable.getSearchKey(SearchField.CITY));
+
+        viewable.firstNameProperty(); // from the visible person from now on
+        backing.setFirstName("Bob");
+        assertEquals("bob", viewable.getSearchKey(SearchField.FIRST_NAME));
+    }
+}
@@ -1,16 +1,20 @@
 package address.parser;
 
 import address.model.datatypes.person.ReadOnlyViewablePerson;
+import address.model.datatypes.person.SearchField;
 import address.model.datatypes.tag.Tag;
 import address.parser.ParseException;
 import address.parser.Parser;
 import address.parser.expr.Expr;
+import address.parser.qualifier.RankingQualifier;
+import commons.StringUtil;
 import org.junit.Before;
 import org.junit.Test;
 
 import java.util.ArrayList;
 import java.util.List;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
@@ -86,6 +90,61 @@ public class ParserTest {
         assertTrue(expr.satisfies(personFive));
     }
 
+    @Test
+    public void parser_differentCaseAndAccents_matched() throws ParseException {
+        Expr expr = parser.parse("city:zurich tag:FRIEND");
+
+        assertTrue(expr.satisfies(getRovPersonMock(1, "John", "Tan", "", "Z\u00fcrich", "Friends")));
+        assertFalse(expr.satisfies(getRovPersonMock(2, "John", "Tan", "", "Zug", "Friends")));
+    }
+
+    @Test
+    public void parser_accentedInput_parsedAndMatched() throws ParseException {
+        Expr expr = parser.parse("city:z\u00fcrich !name:J\u00f6rgen");
+        assertTrue(expr.satisfies(getRovPersonMock(1, "John", "Tan", "", "Zurich", "friends")));
+        assertFalse(expr.satisfies(getRovPersonMock(2, "Jorgen", "Tan", "", "Zurich", "friends")));
+
+        Expr fuzzyExpr = parser.parse("fuzzy:M\u00fcller");
+        assertTrue(fuzzyExpr.satisfies(getRovPersonMock(3, "John", "Muler", "", "Singapore", "friends")));
+
+        Expr textExpr = parser.parse("Fran\u00e7ois S\u00e3o");
+        assertTrue(textExpr.satisfies(getRovPersonMock(4, "Francois", "Tan", "", "Sao Paulo", "friends")));
+        assertFalse(textExpr.satisfies(getRovPersonMock(5, "Francois", "Tan", "", "Singapore", "friends")));
+    }
+
+    @Test
+    public void parser_fuzzyQualifier_closeWordsMatchedAndRanked() throws ParseException {
+        Expr expr = parser.parse("fuzzy:Muller");
+        ReadOnlyViewablePerson exact = getRovPersonMock(1, "John", "Muller", "", "Singapore", "friends");
+        ReadOnlyViewablePerson accented = getRovPersonMock(2, "John", "M\u00fcller", "", "Singapore", "friends");
+        ReadOnlyViewablePerson oneEdit = getRovPersonMock(3, "Muler", "Tan", "", "Singapore", "friends");
+        ReadOnlyViewablePerson twoEdits = getRovPersonMock(4, "John", "Mollery", "", "Singapore", "friends");
+
+        assertTrue(expr.satisfies(exact));
+        assertTrue(expr.satisfies(accented));
+        assertTrue(expr.satisfies(oneEdit));
+        assertTrue(expr.satisfies(twoEdits));
+        assertFalse(expr.satisfies(getRovPersonMock(5, "John", "Tan", "", "Singapore", "friends")));
+
+        RankingQualifier ranking = expr.getRankingQualifier().get();
+        assertEquals(ranking.getScore(exact), ranking.getScore(accented), 0);
+        assertTrue(ranking.getScore(exact) > ranking.getScore(oneEdit));
+        assertTrue(ranking.getScore(oneEdit) > ranking.getScore(twoEdits));
+    }
+
+    @Test
+    public void parser_bareWords_allWordsSearchedInAnyField() throws ParseException {
+        Expr expr = parser.parse("john VICTORIA !tag:colleagues");
+
+        assertTrue(expr.satisfies(getRovPersonMock(1, "John", "Tan", "Victoria Street", "Singapore", "friends")));
+        assertTrue(expr.satisfies(getRovPersonMock(2, "Victoria", "Lee", "", "Johor", "John")));
+        assertFalse(expr.satisfies(getRovPersonMock(3, "John", "Tan", "Orchard Road", "Singapore", "friends")));
+        assertFalse(expr.satisfies(getRovPersonMock(4, "Johnny", "Victoria", "", "Singapore", "friends")));
+        assertFalse(expr.satisfies(getRovPersonMock(5, "John", "Tan", "Victoria Street", "Singapore",
+                                                    "colleagues")));
+        assertTrue(expr.getRankingQualifier().isPresent());
+    }
+
     @Test
     public void parser_invalidFilterString_parseExceptionThrown() {
         // tag should not have s
@@ -96,11 +155,14 @@ public class ParserTest {
         String filterStringThree = "firstName:John lastName:Mueller & tags:friends city: street:Victoria id:5";
         // space after city colon
         String filterStringFour = "firstName:John lastName:Mueller tags:friends city: Singapore street:Victoria id:5";
+        // qualifier without value after a bare word
+        String filterStringFive = "John city:";
 
         assertTrue(isParseExceptionThrown(filterString));
         assertTrue(isParseExceptionThrown(filterStringTwo));
         assertTrue(isParseExceptionThrown(filterStringThree));
         assertTrue(isParseExceptionThrown(filterStringFour));
+        assertTrue(isParseExceptionThrown(filterStringFive));
     }
 
     @Test
@@ -131,7 +193,14 @@ public class ParserTest {
         when(readOnlyViewablePersonMock.getLastName()).thenReturn(lastName);
         when(readOnlyViewablePersonMock.getStreet()).thenReturn(street);
         when(readOnlyViewablePersonMock.getCity()).thenReturn(city);
+        when(readOnlyViewablePersonMock.getGithubUsername()).thenReturn("");
+        when(readOnlyViewablePersonMock.getPostalCode()).thenReturn("");
+        when(readOnlyViewablePersonMock.birthdayString()).thenReturn("");
         when(readOnlyViewablePersonMock.getTagList()).thenReturn(tagList);
+        for (SearchField field : SearchField.values()) {
+            String searchKey = StringUtil.fold(field.getValue(readOnlyViewablePersonMock));
+            when(readOnlyViewablePersonMock.getSearchKey(field)).thenReturn(searchKey);
+        }
         return readOnlyViewablePersonMock;
     }
 }
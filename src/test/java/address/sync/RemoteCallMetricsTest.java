@@ -0,0 +1,69 @@
+package address.sync;
+
+import address.sync.cloud.IAsyncRemote;
+import address.sync.cloud.IRemote;
+import address.sync.cloud.RemoteResponse;
+import commons.MetricsRegistry;
+import org.junit.After;
+import org.junit.Test;
+
+import java.net.HttpURLConnection;
+import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class RemoteCallMetricsTest {
+    private final MetricsRegistry metrics = MetricsRegistry.getInstance();
+
+    @After
+    public void tearDown() {
+        metrics.clear();
+    }
+
+    @Test
+    public void instrument_blockingCall_delegatedAndTimed() {
+        IRemote remote = mock(IRemote.class);
+        RemoteResponse response = new RemoteResponse(HttpURLConnection.HTTP_NO_CONTENT, null, new HashMap<>());
+        when(remote.deletePerson("Test", 1)).thenReturn(response);
+
+        assertSame(response, RemoteCallMetrics.instrument(remote).deletePerson("Test", 1));
+
+        verify(remote).deletePerson("Test", 1);
+        assertEquals(1, metrics.getTimerSummaries().get("remote.deletePerson").getCount());
+    }
+
+    @Test
+    public void instrument_nonBlockingCall_timedOnceResponseArrives() {
+        IAsyncRemote asyncRemote = mock(IAsyncRemote.class);
+        CompletableFuture<RemoteResponse> pendingResponse = new CompletableFuture<>();
+        when(asyncRemote.deleteTag("Test", "tag")).thenReturn(pendingResponse);
+
+        RemoteCallMetrics.instrument(asyncRemote).deleteTag("Test", "tag");
+        assertEquals(0, metrics.getTimerSummaries().get("remote.deleteTag").getCount());
+        pendingResponse.complete(new RemoteResponse(HttpURLConnection.HTTP_NO_CONTENT, null, new HashMap<>()));
+
+        assertEquals(1, metrics.getTimerSummaries().get("remote.deleteTag").getCount());
+    }
+
+    @Test
+    public void recordQuota_responseWithQuota_gaugesSet() {
+        RemoteCallMetrics.recordQuota(new ExtractedRemoteResponse<>(HttpURLConnection.HTTP_OK, "etag", 100, 40, 0L));
+
+        assertEquals(100, metrics.getGaugeValues().get("remote.quota.limit"), 0);
+        assertEquals(40, metrics.getGaugeValues().get("remote.quota.remaining"), 0);
+        assertEquals(60, metrics.getGaugeValues().get("remote.quota.used"), 0);
+    }
+
+    @Test
+    public void recordQuota_responseWithoutQuota_gaugesNotSet() {
+        RemoteCallMetrics.recordQuota(new ExtractedRemoteResponse<>(HttpURLConnection.HTTP_UNAVAILABLE));
+
+        assertFalse(metrics.getGaugeValues().containsKey("remote.quota.limit"));
+    }
+}
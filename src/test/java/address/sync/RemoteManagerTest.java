@@ -1,6 +1,7 @@
 package address.sync;
 
 import address.model.datatypes.person.Person;
+import address.model.datatypes.person.PersonRecord;
 import address.model.datatypes.tag.Tag;
 import org.junit.Before;
 import org.junit.Test;
@@ -46,9 +47,9 @@ public class RemoteManagerTest {
         int quotaLimit = 10;
         int quotaRemaining = 0;
         int noOfPersons = 1000;
-        List<Person> personsToReturn = new ArrayList<>();
+        List<PersonRecord> personsToReturn = new ArrayList<>();
         for (int i = 0; i < noOfPersons; i++) {
-            personsToReturn.add(new Person("firstName" + i, "lastName" + i, i));
+            personsToReturn.add(new PersonRecord(new Person("firstName" + i, "lastName" + i, i)));
         }
 
         when(remoteService.getPersons(anyString(), anyInt())).thenAnswer((invocation) -> {
@@ -60,8 +61,9 @@ public class RemoteManagerTest {
             int startIndex = (pageNumber - 1) * resourcesPerPage;
             int endIndex = pageNumber * resourcesPerPage;
 
-            ExtractedRemoteResponse<List<Person>> remoteResponse = new ExtractedRemoteResponse<>(HttpURLConnection.HTTP_OK,
-                    "eTag", quotaLimit, quotaRemaining, getResetTime(), personsToReturn.subList(startIndex, endIndex));
+            ExtractedRemoteResponse<List<PersonRecord>> remoteResponse = new ExtractedRemoteResponse<>(
+                    HttpURLConnection.HTTP_OK, "eTag", quotaLimit, quotaRemaining, getResetTime(),
+                    personsToReturn.subList(startIndex, endIndex));
 
             pageNumber = pageNumber < 1 ? 1 : pageNumber;
             int lastPage = (int) Math.ceil(noOfPersons/RESOURCES_PER_PAGE);
@@ -78,7 +80,7 @@ public class RemoteManagerTest {
         });
 
 
-        Optional<List<Person>> result = remoteManager.getUpdatedPersons("Test");
+        Optional<List<PersonRecord>> result = remoteManager.getUpdatedPersons("Test");
 
         // should return the full list of persons
         assertTrue(result.isPresent());
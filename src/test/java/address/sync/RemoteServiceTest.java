@@ -1,6 +1,7 @@
 package address.sync;
 
 import address.model.datatypes.person.Person;
+import address.model.datatypes.person.PersonRecord;
 import address.model.datatypes.tag.Tag;
 import address.sync.cloud.CloudRateLimitStatus;
 import address.sync.cloud.RemoteResponse;
@@ -63,7 +64,7 @@ public class RemoteServiceTest {
         RemoteResponse remoteResponse = new RemoteResponse(HttpURLConnection.HTTP_OK, personsToReturn, cloudRateLimitStatus, null);
         when(cloudSimulator.getPersons("Test", 1, RESOURCES_PER_PAGE, null)).thenReturn(remoteResponse);
 
-        ExtractedRemoteResponse<List<Person>> serviceResponse = remoteService.getPersons("Test", 1);
+        ExtractedRemoteResponse<List<PersonRecord>> serviceResponse = remoteService.getPersons("Test", 1);
         assertTrue(serviceResponse.getData().isPresent());
         assertEquals(1, serviceResponse.getData().get().size());
         assertEquals("firstName", serviceResponse.getData().get().get(0).getFirstName());
@@ -79,7 +80,7 @@ public class RemoteServiceTest {
         RemoteResponse remoteResponse = new RemoteResponse(HttpURLConnection.HTTP_INTERNAL_ERROR, null, cloudRateLimitStatus, null);
         when(cloudSimulator.getPersons("Test", 1, RESOURCES_PER_PAGE, null)).thenReturn(remoteResponse);
 
-        ExtractedRemoteResponse<List<Person>> serviceResponse = remoteService.getPersons("Test", 1);
+        ExtractedRemoteResponse<List<PersonRecord>> serviceResponse = remoteService.getPersons("Test", 1);
         assertEquals(HttpURLConnection.HTTP_INTERNAL_ERROR, serviceResponse.getResponseCode());
         assertFalse(serviceResponse.getData().isPresent());
         assertEquals(quotaLimit, serviceResponse.getQuotaLimit());
@@ -102,10 +103,11 @@ public class RemoteServiceTest {
 
         Person person = new Person("unknownName", "unknownName", 0);
 
-        ExtractedRemoteResponse<Person> serviceResponse = remoteService.createPerson("Test", person);
+        ExtractedRemoteResponse<PersonRecord> serviceResponse = remoteService.createPerson("Test", person);
         assertEquals(HttpURLConnection.HTTP_CREATED, serviceResponse.getResponseCode());
         assertTrue(serviceResponse.getData().isPresent());
-        assertEquals(person, serviceResponse.getData().get());
+        assertEquals(person.getId(), serviceResponse.getData().get().getId());
+        assertEquals(person.fullName(), serviceResponse.getData().get().fullName());
         assertEquals(quotaRemaining - 1, serviceResponse.getQuotaRemaining());
     }
 
@@ -119,7 +121,7 @@ public class RemoteServiceTest {
 
         Person person = new Person("unknownName", "unknownName", 0);
 
-        ExtractedRemoteResponse<Person> serviceResponse = remoteService.createPerson("Test", person);
+        ExtractedRemoteResponse<PersonRecord> serviceResponse = remoteService.createPerson("Test", person);
         assertEquals(HttpURLConnection.HTTP_INTERNAL_ERROR, serviceResponse.getResponseCode());
         assertFalse(serviceResponse.getData().isPresent());
         assertEquals(quotaLimit, serviceResponse.getQuotaLimit());
@@ -144,13 +146,14 @@ public class RemoteServiceTest {
         personTags.add(new Tag("New Tag"));
         person.setTags(personTags);
 
-        ExtractedRemoteResponse<Person> serviceResponse = remoteService.createPerson("Test", person);
+        ExtractedRemoteResponse<PersonRecord> serviceResponse = remoteService.createPerson("Test", person);
         assertEquals(HttpURLConnection.HTTP_CREATED, serviceResponse.getResponseCode());
         assertTrue(serviceResponse.getData().isPresent());
-        // this only checks for name equality
-        assertEquals(person, serviceResponse.getData().get());
-        assertEquals(person.getTagList().size(), serviceResponse.getData().get().getObservableTagList().size());
-        assertEquals(person.getTagList().get(0).getName(), serviceResponse.getData().get().getObservableTagList().get(0).getName());
+        assertEquals(person.getId(), serviceResponse.getData().get().getId());
+        assertEquals(person.fullName(), serviceResponse.getData().get().fullName());
+        assertEquals(person.getTagList().size(), serviceResponse.getData().get().getTagList().size());
+        assertEquals(person.getTagList().get(0).getName(),
+                     serviceResponse.getData().get().getTagList().get(0).getName());
         assertEquals(quotaRemaining - 1, serviceResponse.getQuotaRemaining());
     }
 
@@ -224,7 +227,7 @@ public class RemoteServiceTest {
         when(cloudSimulator.updatePerson(anyString(), anyInt(), any(CloudPerson.class), isNull(String.class))).thenReturn(remoteResponse);
 
         Person updatedPerson = new Person("newFirstName", "newLastName", 1);
-        ExtractedRemoteResponse<Person> serviceResponse = remoteService.updatePerson("Test", 1, updatedPerson);
+        ExtractedRemoteResponse<PersonRecord> serviceResponse = remoteService.updatePerson("Test", 1, updatedPerson);
 
         assertEquals(HttpURLConnection.HTTP_OK, serviceResponse.getResponseCode());
         assertTrue(serviceResponse.getData().isPresent());
@@ -242,7 +245,7 @@ public class RemoteServiceTest {
         when(cloudSimulator.updatePerson(anyString(), anyInt(), any(CloudPerson.class), isNull(String.class))).thenReturn(remoteResponse);
 
         Person updatedPerson = new Person("newFirstName", "newLastName", 1);
-        ExtractedRemoteResponse<Person> serviceResponse = remoteService.updatePerson("Test", 1, updatedPerson);
+        ExtractedRemoteResponse<PersonRecord> serviceResponse = remoteService.updatePerson("Test", 1, updatedPerson);
 
         assertEquals(HttpURLConnection.HTTP_INTERNAL_ERROR, serviceResponse.getResponseCode());
         assertFalse(serviceResponse.getData().isPresent());
@@ -379,7 +382,8 @@ public class RemoteServiceTest {
         RemoteResponse remoteResponse = new RemoteResponse(HttpURLConnection.HTTP_OK, remotePersons, cloudRateLimitStatus, null);
         when(cloudSimulator.getUpdatedPersons(anyString(), anyString(), anyInt(), anyInt(), anyString())).thenReturn(remoteResponse);
 
-        ExtractedRemoteResponse<List<Person>> serviceResponse = remoteService.getUpdatedPersonsSince("Test", 1, cutOffTime, null);
+        ExtractedRemoteResponse<List<PersonRecord>> serviceResponse =
+                remoteService.getUpdatedPersonsSince("Test", 1, cutOffTime, null);
 
         assertEquals(HttpURLConnection.HTTP_OK, serviceResponse.getResponseCode());
         assertTrue(serviceResponse.getData().isPresent());
@@ -389,6 +393,27 @@ public class RemoteServiceTest {
         assertEquals(quotaRemaining - 1, serviceResponse.getQuotaRemaining());
     }
 
+    @Test
+    public void getUpdatedPersonsSince_deletedPerson_markedDeleted() throws IOException {
+        LocalDateTime cutOffTime = LocalDateTime.now();
+        CloudPerson deletedPerson = new CloudPerson("firstName", "lastName");
+        deletedPerson.setDeleted(true);
+        List<CloudPerson> remotePersons = new ArrayList<>();
+        remotePersons.add(deletedPerson);
+        remotePersons.add(new CloudPerson("otherFirstName", "otherLastName"));
+
+        CloudRateLimitStatus cloudRateLimitStatus = getCloudRateLimitStatus(10, 1);
+        RemoteResponse remoteResponse = new RemoteResponse(HttpURLConnection.HTTP_OK, remotePersons, cloudRateLimitStatus, null);
+        when(cloudSimulator.getUpdatedPersons(anyString(), anyString(), anyInt(), anyInt(), anyString())).thenReturn(remoteResponse);
+
+        ExtractedRemoteResponse<List<PersonRecord>> serviceResponse =
+                remoteService.getUpdatedPersonsSince("Test", 1, cutOffTime, null);
+
+        assertTrue(serviceResponse.getData().isPresent());
+        assertTrue(serviceResponse.getData().get().get(0).isDeleted());
+        assertFalse(serviceResponse.getData().get().get(1).isDeleted());
+    }
+
     @Test
     public void getUpdatedPersonsSince_errorCloudResponse_returnEmptyResponse() throws IOException {
         int quotaLimit = 10;
@@ -399,7 +424,8 @@ public class RemoteServiceTest {
         RemoteResponse remoteResponse = new RemoteResponse(HttpURLConnection.HTTP_INTERNAL_ERROR, null, cloudRateLimitStatus, null);
         when(cloudSimulator.getUpdatedPersons(anyString(), anyString(), anyInt(), anyInt(), anyString())).thenReturn(remoteResponse);
 
-        ExtractedRemoteResponse<List<Person>> serviceResponse = remoteService.getUpdatedPersonsSince("Test", 1, cutOffTime, null);
+        ExtractedRemoteResponse<List<PersonRecord>> serviceResponse =
+                remoteService.getUpdatedPersonsSince("Test", 1, cutOffTime, null);
 
         assertEquals(HttpURLConnection.HTTP_INTERNAL_ERROR, serviceResponse.getResponseCode());
         assertFalse(serviceResponse.getData().isPresent());
@@ -0,0 +1,210 @@
+package address.sync;
+
+import address.events.CommandFinishedEvent;
+import address.events.EventManager;
+import address.events.SyncCompletedEvent;
+import address.model.AddPersonCommand;
+import address.model.DeletePersonCommand;
+import address.model.EditPersonCommand;
+import address.model.ModelManager;
+import address.model.SingleTargetCommandResult;
+import address.model.datatypes.AddressBook;
+import address.model.datatypes.person.Person;
+import address.model.datatypes.person.ReadOnlyPerson;
+import address.model.datatypes.person.ReadOnlyViewablePerson;
+import address.sync.SyncLoadTestStats.Operation;
+import address.sync.cloud.IRemote;
+import address.testutil.SyntheticDataGenerator;
+import address.util.Config;
+import com.google.common.eventbus.Subscribe;
+import commons.PlatformExecUtil;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * A client of the {@link SyncLoadTestHarness}: a model and a sync manager sharing their own event manager, as in a
+ * separate instance of the app without its UI and storage, changed by a random sequence of creates, updates and
+ * deletes through the same commands as the UI
+ *
+ * The model's lists belong to the FX application thread, so they are only read on it.
+ */
+class SimulatedClient {
+    private final int id;
+    private final SyncLoadTestStats stats;
+    private final SyntheticDataGenerator generator;
+    private final Random random;
+    private final int createPercentage;
+    private final int updatePercentage;
+    private final EventManager eventManager;
+    private final ModelManager model;
+    private final SyncManager syncManager;
+    private final CountDownLatch firstSync = new CountDownLatch(1);
+    private final Map<ReadOnlyViewablePerson, Long> changesInProgressSince = new IdentityHashMap<>(); // FX thread only
+    private int nextGeneratedPerson;
+
+    /**
+     * @param createPercentage percentage of the operations creating persons
+     * @param updatePercentage percentage of the operations updating persons, the others delete persons
+     */
+    SimulatedClient(int id, IRemote remote, Config config, SyncLoadTestStats stats, long seed,
+                    int createPercentage, int updatePercentage) {
+        this.id = id;
+        this.stats = stats;
+        this.generator = new SyntheticDataGenerator(seed).withPersonCount(Integer.MAX_VALUE);
+        this.random = new Random(seed);
+        this.createPercentage = createPercentage;
+        this.updatePercentage = updatePercentage;
+        eventManager = EventManager.createSeparateInstance();
+        model = new ModelManager(new AddressBook(), config, eventManager);
+        syncManager = new SyncManager(new RemoteManager(remote), config, config.getAddressBookName(), eventManager);
+        eventManager.registerHandler(this);
+    }
+
+    int getId() {
+        return id;
+    }
+
+    void start() {
+        syncManager.start();
+    }
+
+    void stop() {
+        syncManager.stop();
+        eventManager.shutdown();
+    }
+
+    /**
+     * @return true if the first sync completed within the timeout
+     */
+    boolean awaitFirstSync(long timeout, TimeUnit unit) throws InterruptedException {
+        return firstSync.await(timeout, unit);
+    }
+
+    /**
+     * Starts a random operation. Updates and deletes target a random person without a change in progress, and
+     * operations fall back to creates while there is none.
+     */
+    void runNextOperation() {
+        int roll = random.nextInt(100);
+        Optional<ReadOnlyViewablePerson> target = roll < createPercentage ? Optional.empty()
+                : PlatformExecUtil.callAndWait(this::pickSettledPerson, Optional.empty());
+        if (!target.isPresent()) {
+            ReadOnlyPerson newPerson = generator.generatePerson(nextGeneratedPerson++);
+            stats.recordIssued(id, Operation.CREATE, 0);
+            model.createPersonThroughUI(() -> Optional.of(newPerson));
+        } else if (roll < createPercentage + updatePercentage) {
+            Person updatedPerson = new Person(target.get());
+            ReadOnlyPerson newDetails = generator.generatePerson(nextGeneratedPerson++);
+            updatedPerson.setStreet(newDetails.getStreet());
+            updatedPerson.setCity(newDetails.getCity());
+            stats.recordIssued(id, Operation.UPDATE, target.get().getId());
+            model.editPersonThroughUI(target.get(), () -> Optional.of(updatedPerson));
+        } else {
+            stats.recordIssued(id, Operation.DELETE, target.get().getId());
+            model.deletePersonThroughUI(target.get());
+        }
+    }
+
+    /**
+     * Cancels the commands that have been in progress for longer than the timeout. Commands whose remote request
+     * failed, e.g. for lack of quota or because the person was deleted by another client, wait for the user to cancel
+     * them.
+     */
+    void cancelStuckCommands(long timeout, TimeUnit unit) {
+        long now = System.nanoTime();
+        List<ReadOnlyViewablePerson> stuck = PlatformExecUtil.callAndWait(() -> {
+            List<ReadOnlyViewablePerson> inProgress = getPersonsWithChangeInProgress();
+            changesInProgressSince.keySet().retainAll(inProgress);
+            inProgress.forEach(person -> changesInProgressSince.putIfAbsent(person, now));
+            return inProgress.stream()
+                    .filter(person -> now - changesInProgressSince.get(person) > unit.toNanos(timeout))
+                    .collect(Collectors.toList());
+        }, new ArrayList<>());
+        stuck.forEach(person -> {
+            stats.recordStuckCommand();
+            model.cancelPersonChangeCommand(person);
+        });
+    }
+
+    boolean hasChangesInProgress() {
+        return PlatformExecUtil.callAndWait(() -> !getPersonsWithChangeInProgress().isEmpty(), true);
+    }
+
+    /**
+     * @return descriptions of the persons in the model, by id
+     */
+    Map<Integer, String> describePersons() {
+        return PlatformExecUtil.callAndWait(() -> {
+            Map<Integer, String> descriptions = new HashMap<>();
+            model.getPersonList().forEach(person -> descriptions.put(person.getId(), describe(person)));
+            return descriptions;
+        }, new HashMap<>());
+    }
+
+    static String describe(ReadOnlyPerson person) {
+        return describeFields(person.getFirstName(), person.getLastName(), person.getStreet(), person.getCity(),
+                              person.getPostalCode(), person.getGithubUsername(), person.getBirthday());
+    }
+
+    /**
+     * @return the fields of a person in the same order as {@link #describe(ReadOnlyPerson)}, to compare persons of
+     *         other types with it
+     */
+    static String describeFields(Object... fields) {
+        return Arrays.stream(fields).map(String::valueOf).collect(Collectors.joining("|"));
+    }
+
+    @Subscribe
+    public void handleSyncCompletedEvent(SyncCompletedEvent event) {
+        event.getUpdatedPersons().forEach(person -> stats.recordSynced(id, person.getId()));
+        firstSync.countDown();
+    }
+
+    @Subscribe
+    public void handleCommandFinishedEvent(CommandFinishedEvent event) {
+        SingleTargetCommandResult result = event.result;
+        Operation operation = getOperation(result.commandTypeString);
+        if (result.status == SingleTargetCommandResult.CommandStatus.SUCCESSFUL) {
+            stats.recordSucceeded(id, operation, Integer.parseInt(result.targetIdString.substring(1))); // "#<id>"
+        } else {
+            stats.recordCancelled(operation);
+        }
+    }
+
+    private Optional<ReadOnlyViewablePerson> pickSettledPerson() {
+        List<ReadOnlyViewablePerson> settled = model.getAllViewablePersonsReadOnly().stream()
+                .filter(person -> person.getChangeInProgress() == ReadOnlyViewablePerson.ChangeInProgress.NONE
+                                  && person.hasConfirmedRemoteID())
+                .collect(Collectors.toList());
+        return settled.isEmpty() ? Optional.empty() : Optional.of(settled.get(random.nextInt(settled.size())));
+    }
+
+    private List<ReadOnlyViewablePerson> getPersonsWithChangeInProgress() {
+        return model.getAllViewablePersonsReadOnly().stream()
+                .filter(person -> person.getChangeInProgress() != ReadOnlyViewablePerson.ChangeInProgress.NONE)
+                .collect(Collectors.toList());
+    }
+
+    private Operation getOperation(String commandType) {
+        switch (commandType) {
+            case AddPersonCommand.COMMAND_TYPE:
+                return Operation.CREATE;
+            case EditPersonCommand.COMMAND_TYPE:
+                return Operation.UPDATE;
+            case DeletePersonCommand.COMMAND_TYPE:
+                return Operation.DELETE;
+            default:
+                throw new IllegalArgumentException("Unknown command type: " + commandType);
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package address.sync;
+
+import address.exceptions.DataConversionException;
+import address.sync.SyncLoadTestStats.Operation;
+import address.sync.cloud.CloudFileHandler;
+import address.sync.cloud.CloudRateLimitStatus;
+import address.sync.cloud.CloudSimulator;
+import address.sync.cloud.model.CloudPerson;
+import address.testutil.SyntheticDataGenerator;
+import address.util.Config;
+import commons.LatencyHistogram;
+import commons.MetricsRegistry;
+import org.testfx.api.FxToolkit;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+/**
+ * Measures how the sync of several clients of one remote behaves under load. Not a test, run with
+ * {@code gradle loadTestSync -PloadTestArgs="<arguments>"} or from the IDE.
+ *
+ * Each {@link SimulatedClient} has its own model, sync manager and event manager, all syncing the same address book of
+ * a shared {@link CloudSimulator} and changing it with random creates, updates and deletes at a fixed rate. After the
+ * workload, the commands still in progress are left to finish, and the clients to sync until their models match the
+ * remote. The report gives:
+ * <ul>
+ *     <li>throughput: the changes confirmed by the remote per second of workload</li>
+ *     <li>conflict rate: the fraction of updates and deletes made on a person that another client had changed since
+ *         this client last synced it</li>
+ *     <li>convergence: the time for a confirmed change to be synced by all the other clients, and the time for all
+ *         the clients to match the remote after the workload</li>
+ *     <li>quota consumption, and the durations of the remote calls and sync cycles from the {@link MetricsRegistry}</li>
+ * </ul>
+ *
+ * Arguments, all optional: [clients] [workload seconds] [operations per second per client] [sync interval ms]
+ * [initial persons] [API quota] [seed]
+ *
+ * The model commands need the JavaFX toolkit, which is started headless through Monocle, so no display is needed.
+ * All the clients share its application thread, which limits how many clients one process can simulate faithfully.
+ */
+public class SyncLoadTestHarness {
+    private static final String ADDRESS_BOOK_NAME = "SyncLoadTest";
+    private static final int DEFAULT_CLIENTS = 4;
+    private static final int DEFAULT_WORKLOAD_SECONDS = 60;
+    private static final double DEFAULT_OPERATIONS_PER_SECOND = 1;
+    private static final long DEFAULT_SYNC_INTERVAL = 2000; // milliseconds
+    private static final int DEFAULT_INITIAL_PERSONS = 100;
+    private static final int DEFAULT_API_QUOTA = 5000; // per hour, as in the CloudSimulator
+    private static final long DEFAULT_SEED = 1;
+    private static final int CREATE_PERCENTAGE = 40;
+    private static final int UPDATE_PERCENTAGE = 40;
+    private static final long STUCK_COMMAND_TIMEOUT = 15; // seconds, including the grace period
+    private static final long SETTLE_TIMEOUT = 60; // seconds
+    private static final long POLL_INTERVAL = 200; // milliseconds
+
+    public static void main(String[] args) throws Exception {
+        int clientCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_CLIENTS;
+        int workloadSeconds = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_WORKLOAD_SECONDS;
+        double operationsPerSecond = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_OPERATIONS_PER_SECOND;
+        long syncInterval = args.length > 3 ? Long.parseLong(args[3]) : DEFAULT_SYNC_INTERVAL;
+        int initialPersons = args.length > 4 ? Integer.parseInt(args[4]) : DEFAULT_INITIAL_PERSONS;
+        int apiQuota = args.length > 5 ? Integer.parseInt(args[5]) : DEFAULT_API_QUOTA;
+        long seed = args.length > 6 ? Long.parseLong(args[6]) : DEFAULT_SEED;
+
+        startHeadlessFxToolkit();
+        CloudFileHandler fileHandler = new CloudFileHandler();
+        initializeCloud(fileHandler, initialPersons, seed);
+        // no quota timer, so that the quota consumed by the whole run can be read at the end
+        CloudRateLimitStatus rateLimitStatus = new CloudRateLimitStatus(apiQuota);
+        CloudSimulator cloud = new CloudSimulator(fileHandler, rateLimitStatus) {};
+
+        Config config = new Config();
+        config.setAddressBookName(ADDRESS_BOOK_NAME);
+        config.setUpdateInterval(syncInterval);
+        SyncLoadTestStats stats = new SyncLoadTestStats(clientCount);
+        List<SimulatedClient> clients = new ArrayList<>();
+        for (int i = 0; i < clientCount; i++) {
+            clients.add(new SimulatedClient(i, cloud, config, stats, seed + 1 + i, CREATE_PERCENTAGE,
+                                            UPDATE_PERCENTAGE));
+        }
+        System.out.printf("%d clients, %d s workload at %.1f operations/s each, sync every %d ms, %d initial persons,"
+                                  + " quota %d%n",
+                          clientCount, workloadSeconds, operationsPerSecond, syncInterval, initialPersons, apiQuota);
+
+        clients.forEach(SimulatedClient::start);
+        for (SimulatedClient client : clients) {
+            if (!client.awaitFirstSync(SETTLE_TIMEOUT, TimeUnit.SECONDS)) {
+                throw new TimeoutException("Client " + client.getId() + " did not complete its first sync");
+            }
+        }
+        int quotaRemainingAtStart = rateLimitStatus.getQuotaRemaining();
+
+        ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(clientCount + 1);
+        long operationInterval = (long) (TimeUnit.SECONDS.toNanos(1) / operationsPerSecond);
+        for (SimulatedClient client : clients) {
+            scheduler.scheduleAtFixedRate(() -> runSafely(client::runNextOperation), 0, operationInterval,
+                                          TimeUnit.NANOSECONDS);
+        }
+        scheduler.scheduleWithFixedDelay(() -> runSafely(() -> clients.forEach(
+                client -> client.cancelStuckCommands(STUCK_COMMAND_TIMEOUT, TimeUnit.SECONDS))),
+                1, 1, TimeUnit.SECONDS);
+        long workloadStart = System.nanoTime();
+        TimeUnit.SECONDS.sleep(workloadSeconds);
+
+        scheduler.shutdown(); // stops the workload and the cancelling of stuck commands
+        scheduler.awaitTermination(SETTLE_TIMEOUT, TimeUnit.SECONDS);
+        long workloadNanos = System.nanoTime() - workloadStart;
+        int quotaUsedByWorkload = quotaRemainingAtStart - rateLimitStatus.getQuotaRemaining();
+        long settleStart = System.nanoTime();
+        while (clients.stream().anyMatch(SimulatedClient::hasChangesInProgress)
+                && System.nanoTime() - settleStart < TimeUnit.SECONDS.toNanos(SETTLE_TIMEOUT)) {
+            clients.forEach(client -> client.cancelStuckCommands(STUCK_COMMAND_TIMEOUT, TimeUnit.SECONDS));
+            TimeUnit.MILLISECONDS.sleep(POLL_INTERVAL);
+        }
+        long convergenceStart = System.nanoTime();
+        int divergingClients = countDivergingClients(clients, fileHandler);
+        while (divergingClients > 0
+                && System.nanoTime() - convergenceStart < TimeUnit.SECONDS.toNanos(SETTLE_TIMEOUT)) {
+            TimeUnit.MILLISECONDS.sleep(POLL_INTERVAL);
+            divergingClients = countDivergingClients(clients, fileHandler);
+        }
+        long convergenceNanos = System.nanoTime() - convergenceStart;
+
+        report(stats, workloadNanos, divergingClients, convergenceNanos, rateLimitStatus, quotaUsedByWorkload,
+               clientCount);
+        clients.forEach(SimulatedClient::stop);
+        System.exit(0); // the FX toolkit keeps running otherwise
+    }
+
+    /**
+     * Uses the same properties as the headless test tasks, unless already set
+     */
+    private static void startHeadlessFxToolkit() throws TimeoutException {
+        setPropertyIfAbsent("testfx.headless", "true");
+        setPropertyIfAbsent("testfx.robot", "glass");
+        setPropertyIfAbsent("prism.order", "sw");
+        setPropertyIfAbsent("prism.text", "t2k");
+        setPropertyIfAbsent("java.awt.headless", "true");
+        FxToolkit.registerPrimaryStage();
+    }
+
+    private static void setPropertyIfAbsent(String key, String value) {
+        if (System.getProperty(key) == null) System.setProperty(key, value);
+    }
+
+    /**
+     * Replaces the address book on the cloud by one with the initial persons and the generator's tags
+     */
+    private static void initializeCloud(CloudFileHandler fileHandler, int initialPersons, long seed)
+            throws IOException, DataConversionException {
+        File initialData = File.createTempFile(ADDRESS_BOOK_NAME, ".xml");
+        try {
+            new SyntheticDataGenerator(seed).withPersonCount(initialPersons)
+                    .writeCloudXml(initialData, ADDRESS_BOOK_NAME);
+            fileHandler.initializeAddressBook(ADDRESS_BOOK_NAME);
+            fileHandler.writeCloudAddressBook(fileHandler.readCloudAddressBookFromExternalFile(initialData.getPath()));
+        } finally {
+            initialData.delete();
+        }
+    }
+
+    /**
+     * Exceptions would cancel the scheduled task
+     */
+    private static void runSafely(Runnable task) {
+        try {
+            task.run();
+        } catch (RuntimeException e) {
+            System.err.println("Error in load test task: " + e);
+        }
+    }
+
+    private static int countDivergingClients(List<SimulatedClient> clients, CloudFileHandler fileHandler)
+            throws IOException, DataConversionException {
+        Map<Integer, String> remotePersons = fileHandler.readCloudAddressBook(ADDRESS_BOOK_NAME).getAllPersons()
+                .stream()
+                .filter(person -> !person.isDeleted())
+                .collect(Collectors.toMap(CloudPerson::getId, person -> SimulatedClient.describeFields(
+                        person.getFirstName(), person.getLastName(), person.getStreet(), person.getCity(),
+                        person.getPostalCode(), person.getGithubUsername(), person.getBirthday())));
+        return (int) clients.stream().filter(client -> !client.describePersons().equals(remotePersons)).count();
+    }
+
+    private static void report(SyncLoadTestStats stats, long workloadNanos, int divergingClients,
+                               long convergenceNanos, CloudRateLimitStatus rateLimitStatus, int quotaUsedByWorkload,
+                               int clientCount) {
+        double workloadSeconds = workloadNanos / 1e9;
+        for (Operation operation : Operation.values()) {
+            System.out.printf("%s: %d issued, %d succeeded, %d cancelled%n", operation, stats.getIssued(operation),
+                              stats.getSucceeded(operation), stats.getCancelled(operation));
+        }
+        System.out.printf("throughput: %.2f confirmed changes/s (%d stuck commands cancelled)%n",
+                          stats.getTotalSucceeded() / workloadSeconds, stats.getStuckCommands());
+        long updatesAndDeletes = stats.getIssued(Operation.UPDATE) + stats.getIssued(Operation.DELETE);
+        System.out.printf("conflict rate: %.1f%% (%d of %d updates and deletes made on stale data)%n",
+                          updatesAndDeletes == 0 ? 0 : 100.0 * stats.getConflicts() / updatesAndDeletes,
+                          stats.getConflicts(), updatesAndDeletes);
+        LatencyHistogram propagation = stats.getPropagationLatency();
+        System.out.printf("propagation to all other clients: %s%n", propagation.getSummary());
+        if (divergingClients == 0) {
+            System.out.printf("converged %d ms after the last commands finished%n",
+                              TimeUnit.NANOSECONDS.toMillis(convergenceNanos));
+        } else {
+            System.out.printf("NOT converged: %d of %d clients differ from the remote after %d ms%n",
+                              divergingClients, clientCount, TimeUnit.NANOSECONDS.toMillis(convergenceNanos));
+        }
+        int quotaUsed = rateLimitStatus.getQuotaLimit() - rateLimitStatus.getQuotaRemaining();
+        System.out.printf("quota: %d of %d used, %d during the workload (%.0f requests/hour per client)%n",
+                          quotaUsed, rateLimitStatus.getQuotaLimit(), quotaUsedByWorkload,
+                          quotaUsedByWorkload / (double) clientCount / workloadSeconds * TimeUnit.HOURS.toSeconds(1));
+        MetricsRegistry.getInstance().getTimerSummaries().forEach((name, summary) ->
+                System.out.printf("%s: %s%n", name, summary));
+    }
+}
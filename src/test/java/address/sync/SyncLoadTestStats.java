@@ -0,0 +1,121 @@
+package address.sync;
+
+import commons.LatencyHistogram;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The statistics shared by the clients of a {@link SyncLoadTestHarness}, safe to update from any thread
+ *
+ * Keeps the latest confirmed write of each person, and which clients have received it through sync since. This gives
+ * the time for a write to reach all the other clients, and detects conflicts: a client updating or deleting a person
+ * that another client has changed since this client last synced it.
+ */
+class SyncLoadTestStats {
+    enum Operation {
+        CREATE, UPDATE, DELETE
+    }
+
+    /**
+     * A write confirmed by the remote, and the clients other than the writer that have synced it since
+     */
+    private static class Write {
+        final int writerId;
+        final long confirmedAt = System.nanoTime();
+        final Set<Integer> syncedBy = ConcurrentHashMap.newKeySet();
+
+        Write(int writerId) {
+            this.writerId = writerId;
+        }
+    }
+
+    private final int clientCount;
+    private final Map<Operation, AtomicLong> issued = new EnumMap<>(Operation.class);
+    private final Map<Operation, AtomicLong> succeeded = new EnumMap<>(Operation.class);
+    private final Map<Operation, AtomicLong> cancelled = new EnumMap<>(Operation.class);
+    private final AtomicLong conflicts = new AtomicLong();
+    private final AtomicLong stuckCommands = new AtomicLong();
+    private final Map<Integer, Write> latestWrites = new ConcurrentHashMap<>();
+    private final LatencyHistogram propagationLatency = new LatencyHistogram();
+
+    SyncLoadTestStats(int clientCount) {
+        this.clientCount = clientCount;
+        for (Operation operation : Operation.values()) {
+            issued.put(operation, new AtomicLong());
+            succeeded.put(operation, new AtomicLong());
+            cancelled.put(operation, new AtomicLong());
+        }
+    }
+
+    /**
+     * @param personId id of the target person, ignored for creates
+     */
+    void recordIssued(int clientId, Operation operation, int personId) {
+        issued.get(operation).incrementAndGet();
+        if (operation == Operation.CREATE) return;
+        Write latestWrite = latestWrites.get(personId);
+        if (latestWrite != null && latestWrite.writerId != clientId && !latestWrite.syncedBy.contains(clientId)) {
+            conflicts.incrementAndGet();
+        }
+    }
+
+    void recordSucceeded(int clientId, Operation operation, int personId) {
+        succeeded.get(operation).incrementAndGet();
+        latestWrites.put(personId, new Write(clientId));
+    }
+
+    void recordCancelled(Operation operation) {
+        cancelled.get(operation).incrementAndGet();
+    }
+
+    void recordStuckCommand() {
+        stuckCommands.incrementAndGet();
+    }
+
+    /**
+     * Records that a client received a person in a sync, completing the propagation of its latest write if the
+     * client is the last one to receive it
+     */
+    void recordSynced(int clientId, int personId) {
+        Write latestWrite = latestWrites.get(personId);
+        if (latestWrite == null || latestWrite.writerId == clientId || !latestWrite.syncedBy.add(clientId)) return;
+        if (latestWrite.syncedBy.size() == clientCount - 1) {
+            propagationLatency.record(System.nanoTime() - latestWrite.confirmedAt);
+        }
+    }
+
+    long getIssued(Operation operation) {
+        return issued.get(operation).get();
+    }
+
+    long getSucceeded(Operation operation) {
+        return succeeded.get(operation).get();
+    }
+
+    long getCancelled(Operation operation) {
+        return cancelled.get(operation).get();
+    }
+
+    long getTotalSucceeded() {
+        return succeeded.values().stream().mapToLong(AtomicLong::get).sum();
+    }
+
+    long getConflicts() {
+        return conflicts.get();
+    }
+
+    long getStuckCommands() {
+        return stuckCommands.get();
+    }
+
+    /**
+     * @return durations from the confirmation of writes to their receipt by all the other clients
+     */
+    LatencyHistogram getPropagationLatency() {
+        return propagationLatency;
+    }
+}
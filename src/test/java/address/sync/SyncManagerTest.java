@@ -71,6 +71,23 @@ public class SyncManagerTest {
         assertEquals(createdPerson, resultContainer.get());
     }
 
+    @Test
+    public void createPerson_asyncRemote_taskFutureUsed() throws Exception {
+        Person createdPerson = new Person("firstName", "lastName", 1);
+        when(remoteManager.isAsync()).thenReturn(true);
+
+        CreatePersonOnRemoteTask createPersonOnRemoteTask = mock(CreatePersonOnRemoteTask.class);
+        whenNew(CreatePersonOnRemoteTask.class).withArguments(any(), any(), any()).thenReturn(createPersonOnRemoteTask);
+        doReturn(CompletableFuture.completedFuture(createdPerson)).when(createPersonOnRemoteTask).callAsync();
+        CompletableFuture<ReadOnlyPerson> resultContainer = new CompletableFuture<>();
+        EventManager.getInstance().post(new CreatePersonOnRemoteRequestEvent(resultContainer, "addressBook", createdPerson));
+
+        sleep(1000);
+        assertTrue(resultContainer.isDone());
+        assertEquals(createdPerson, resultContainer.get());
+        verify(createPersonOnRemoteTask, never()).call();
+    }
+
     @Test
     public void getUpdates_noActiveAddressBook_syncFailed() {
         when(scheduledExecutorService.scheduleWithFixedDelay(any(Runnable.class), anyLong(), anyLong(), any(TimeUnit.class))).thenAnswer(invocation -> {
@@ -0,0 +1,121 @@
+package address.sync.http;
+
+import address.sync.cloud.CloudRateLimitStatus;
+import address.sync.cloud.IRemote;
+import address.sync.cloud.RemoteResponse;
+import address.sync.cloud.model.CloudPerson;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class AsyncHttpRemoteTest {
+    private static final int QUOTA_LIMIT = 1000;
+    private static final int MAX_CONNECTIONS_PER_HOST = 2;
+
+    private IRemote remote;
+    private CloudRateLimitStatus cloudRateLimitStatus;
+    private RemoteHttpServer server;
+    private AsyncHttpClient client;
+    private AsyncHttpRemote asyncRemote;
+
+    @Before
+    public void setup() throws IOException {
+        remote = mock(IRemote.class);
+        cloudRateLimitStatus = new CloudRateLimitStatus(QUOTA_LIMIT, System.currentTimeMillis() / 1000 + 3600);
+        server = new RemoteHttpServer(remote, 0, 4);
+        server.start();
+        client = new AsyncHttpClient(8, MAX_CONNECTIONS_PER_HOST, 4, 5000, ForkJoinPool.commonPool());
+        asyncRemote = new AsyncHttpRemote(server.getBaseUrl(), client);
+    }
+
+    @After
+    public void tearDown() {
+        asyncRemote.close();
+        server.stop();
+    }
+
+    @Test
+    public void getPersons_manyConcurrentRequests_allCompletedWithinConnectionLimit() {
+        int noOfRequests = 20;
+        when(remote.getPersons(eq("Test"), anyInt(), anyInt(), any())).thenAnswer(invocation -> {
+            int pageNumber = (int) invocation.getArguments()[1];
+            List<CloudPerson> page = Collections.singletonList(new CloudPerson("firstName", "lastName", pageNumber));
+            RemoteResponse remoteResponse = new RemoteResponse(HttpURLConnection.HTTP_OK, page, cloudRateLimitStatus,
+                                                               null);
+            remoteResponse.setNextPageNo(pageNumber + 1);
+            return remoteResponse;
+        });
+
+        List<CompletableFuture<RemoteResponse>> responses = new ArrayList<>();
+        for (int i = 1; i <= noOfRequests; i++) {
+            responses.add(asyncRemote.getPersons("Test", i, 1, null));
+        }
+
+        for (int i = 1; i <= noOfRequests; i++) {
+            RemoteResponse receivedResponse = responses.get(i - 1).join();
+            assertEquals(HttpURLConnection.HTTP_OK, receivedResponse.getResponseCode());
+            assertEquals(i + 1, receivedResponse.getNextPageNo());
+        }
+        assertTrue(client.getOpenConnectionCount() <= MAX_CONNECTIONS_PER_HOST);
+    }
+
+    @Test
+    public void createAndDeletePersons_interleaved_allSucceed() {
+        when(remote.createPerson(eq("Test"), any(CloudPerson.class), any()))
+                .thenReturn(new RemoteResponse(HttpURLConnection.HTTP_CREATED, new CloudPerson("a", "b", 1),
+                                               cloudRateLimitStatus, null));
+        when(remote.deletePerson(eq("Test"), anyInt()))
+                .thenReturn(new RemoteResponse(HttpURLConnection.HTTP_NO_CONTENT, null, cloudRateLimitStatus, null));
+
+        List<CompletableFuture<RemoteResponse>> creations = new ArrayList<>();
+        List<CompletableFuture<RemoteResponse>> deletions = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            creations.add(asyncRemote.createPerson("Test", new CloudPerson("a", "b"), null));
+            deletions.add(asyncRemote.deletePerson("Test", i));
+        }
+
+        creations.forEach(response -> assertEquals(HttpURLConnection.HTTP_CREATED, response.join().getResponseCode()));
+        deletions.forEach(response -> assertEquals(HttpURLConnection.HTTP_NO_CONTENT,
+                                                   response.join().getResponseCode()));
+    }
+
+    @Test
+    public void deleteTag_namesWithReservedCharacters_decodedForRemote() {
+        when(remote.deleteTag("Test/Book", "old & name"))
+                .thenReturn(new RemoteResponse(HttpURLConnection.HTTP_NO_CONTENT, null, cloudRateLimitStatus, null));
+
+        assertEquals(HttpURLConnection.HTTP_NO_CONTENT,
+                     asyncRemote.deleteTag("Test/Book", "old & name").join().getResponseCode());
+    }
+
+    @Test
+    public void noServerListening_unavailableResponse() throws IOException {
+        try (AsyncHttpRemote unconnectedRemote = new AsyncHttpRemote("http://localhost:1")) {
+            assertEquals(HttpURLConnection.HTTP_UNAVAILABLE,
+                         unconnectedRemote.deletePerson("Test", 1).join().getResponseCode());
+        }
+    }
+
+    @Test
+    public void clientClosed_unavailableResponse() {
+        asyncRemote.close();
+
+        assertEquals(HttpURLConnection.HTTP_UNAVAILABLE, asyncRemote.getRateLimitStatus(null).join().getResponseCode());
+    }
+}
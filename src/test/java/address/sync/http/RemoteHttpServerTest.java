@@ -0,0 +1,125 @@
+package address.sync.http;
+
+import address.sync.cloud.CloudRateLimitStatus;
+import address.sync.cloud.IRemote;
+import address.sync.cloud.RemoteResponse;
+import address.sync.cloud.model.CloudPerson;
+import address.sync.cloud.model.CloudTag;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class RemoteHttpServerTest {
+    private static final int QUOTA_LIMIT = 10;
+
+    private IRemote remote;
+    private CloudRateLimitStatus cloudRateLimitStatus;
+    private RemoteHttpServer server;
+    private HttpRemote client;
+
+    @Before
+    public void setup() throws IOException {
+        remote = mock(IRemote.class);
+        cloudRateLimitStatus = new CloudRateLimitStatus(QUOTA_LIMIT, System.currentTimeMillis() / 1000 + 3600);
+        server = new RemoteHttpServer(remote, 0, 2);
+        server.start();
+        client = new HttpRemote(server.getBaseUrl());
+    }
+
+    @After
+    public void tearDown() {
+        server.stop();
+    }
+
+    @Test
+    public void getPersons_pagedResponse_headersAndPagesForwarded() throws IOException {
+        List<CloudPerson> persons = new ArrayList<>();
+        persons.add(new CloudPerson("firstName", "lastName", 1));
+        RemoteResponse remoteResponse = new RemoteResponse(HttpURLConnection.HTTP_OK, persons, cloudRateLimitStatus,
+                                                           null);
+        remoteResponse.setFirstPageNo(1);
+        remoteResponse.setNextPageNo(3);
+        remoteResponse.setPreviousPageNo(1);
+        remoteResponse.setLastPageNo(4);
+        when(remote.getPersons("My AddressBook", 2, 50, null)).thenReturn(remoteResponse);
+
+        RemoteResponse receivedResponse = client.getPersons("My AddressBook", 2, 50, null);
+
+        assertEquals(HttpURLConnection.HTTP_OK, receivedResponse.getResponseCode());
+        assertEquals(remoteResponse.getHeaders().get("ETag"), receivedResponse.getHeaders().get("ETag"));
+        assertEquals(String.valueOf(QUOTA_LIMIT - 1), receivedResponse.getHeaders().get("X-RateLimit-Remaining"));
+        assertEquals(1, receivedResponse.getFirstPageNo());
+        assertEquals(1, receivedResponse.getPreviousPageNo());
+        assertEquals(3, receivedResponse.getNextPageNo());
+        assertEquals(4, receivedResponse.getLastPageNo());
+        assertNotNull(receivedResponse.getBody());
+    }
+
+    @Test
+    public void getPersons_previousETagProvided_passedToRemote() {
+        RemoteResponse notModifiedResponse = new RemoteResponse(HttpURLConnection.HTTP_OK, "content",
+                                                                cloudRateLimitStatus, null);
+        String eTag = notModifiedResponse.getHeaders().get("ETag");
+        when(remote.getPersons("Test", 1, 100, eTag))
+                .thenReturn(new RemoteResponse(HttpURLConnection.HTTP_OK, "content", cloudRateLimitStatus, eTag));
+
+        RemoteResponse receivedResponse = client.getPersons("Test", 1, 100, eTag);
+
+        assertEquals(HttpURLConnection.HTTP_NOT_MODIFIED, receivedResponse.getResponseCode());
+        assertNull(receivedResponse.getBody());
+    }
+
+    @Test
+    public void editTag_namesWithReservedCharacters_decodedForRemote() {
+        CloudTag updatedTag = new CloudTag("new name");
+        when(remote.editTag(eq("Test/Book"), eq("old & name"), any(CloudTag.class), eq(null)))
+                .thenReturn(new RemoteResponse(HttpURLConnection.HTTP_OK, updatedTag, cloudRateLimitStatus, null));
+
+        RemoteResponse receivedResponse = client.editTag("Test/Book", "old & name", updatedTag, null);
+
+        assertEquals(HttpURLConnection.HTTP_OK, receivedResponse.getResponseCode());
+    }
+
+    @Test
+    public void deletePerson_thenUpdatePerson_connectionReused() {
+        when(remote.deletePerson("Test", 1)).thenReturn(new RemoteResponse(HttpURLConnection.HTTP_NO_CONTENT, null,
+                                                                           cloudRateLimitStatus, null));
+        when(remote.updatePerson(eq("Test"), eq(2), any(CloudPerson.class), eq(null)))
+                .thenReturn(new RemoteResponse(HttpURLConnection.HTTP_OK, new CloudPerson("a", "b", 2),
+                                               cloudRateLimitStatus, null));
+
+        assertEquals(HttpURLConnection.HTTP_NO_CONTENT, client.deletePerson("Test", 1).getResponseCode());
+        assertEquals(HttpURLConnection.HTTP_OK,
+                     client.updatePerson("Test", 2, new CloudPerson("a", "b"), null).getResponseCode());
+        verify(remote).updatePerson(eq("Test"), eq(2), any(CloudPerson.class), eq(null));
+    }
+
+    @Test
+    public void unknownRoute_notFound() throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL(server.getBaseUrl() + "/unknown").openConnection();
+
+        assertEquals(HttpURLConnection.HTTP_NOT_FOUND, connection.getResponseCode());
+    }
+
+    @Test
+    public void noServerListening_unavailableResponse() {
+        HttpRemote unconnectedClient = new HttpRemote("http://localhost:1", 1000);
+
+        assertEquals(HttpURLConnection.HTTP_UNAVAILABLE, unconnectedClient.deletePerson("Test", 1).getResponseCode());
+    }
+}
@@ -0,0 +1,594 @@
+package address.testutil;
+
+import address.exceptions.DataConversionException;
+import address.model.datatypes.AddressBook;
+import address.model.datatypes.person.Person;
+import address.model.datatypes.person.ReadOnlyPerson;
+import address.model.datatypes.tag.Tag;
+import address.storage.StorageAddressBook;
+import address.storage.StoragePerson;
+import address.sync.cloud.model.CloudAddressBook;
+import address.sync.cloud.model.CloudPerson;
+import address.sync.cloud.model.CloudTag;
+import commons.FractionalRank;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBElement;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.namespace.QName;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Generates address book data of any size for tests, benchmarks and load tests, using a fluent interface to set its
+ * shape.
+ *
+ * The same seed and settings always give the same data, regardless of the number of threads: each person is generated
+ * from its own random sequence, derived from the seed and its index. Tags are picked following a Zipfian distribution,
+ * so that a few tags are on most persons as in real address books. Names and streets can mix in non-ASCII scripts,
+ * including characters outside the Basic Multilingual Plane.
+ *
+ * The write methods generate and serialise the persons in chunks on several threads, and write the chunks in order as
+ * they are ready, so that only a few chunks are held in memory at a time. This makes fixtures of millions of persons
+ * feasible in any of these formats:
+ * <ul>
+ *     <li>local XML, as read by {@link address.storage.XmlFileStorage}</li>
+ *     <li>cloud XML, as read by {@link address.sync.cloud.CloudFileHandler}</li>
+ *     <li>binary, a compact format read back by {@link #readBinary}</li>
+ * </ul>
+ */
+public class SyntheticDataGenerator {
+    private static final int CHUNK_SIZE = 10000;
+    private static final int BINARY_MAGIC = 0x41424B31; // "ABK1"
+    private static final long NO_BIRTHDAY = Long.MIN_VALUE;
+    private static final int CITY_COUNT = 1000;
+    private static final LocalDate EARLIEST_BIRTHDAY = LocalDate.of(1940, 1, 1);
+    private static final int BIRTHDAY_RANGE_DAYS = 70 * 365;
+    private static final String CONSONANTS = "bcdfghjklmnprstvwz";
+    private static final String VOWELS = "aeiou";
+    private static final int[][] UNICODE_RANGES = {
+        {0x00C0, 0x00FF}, // Latin-1 letters
+        {0x03B1, 0x03C9}, // Greek
+        {0x0430, 0x044F}, // Cyrillic
+        {0x4E00, 0x9FA5}, // CJK ideographs
+        {0x1F600, 0x1F64F} // emoticons, encoded as surrogate pairs
+    };
+
+    private final long seed;
+    private int personCount = 1000;
+    private int tagCount = 10;
+    private int maxTagsPerPerson = 3;
+    private double tagSkew = 1.0;
+    private int minFieldLength = 3;
+    private int maxFieldLength = 10;
+    private double unicodeRatio = 0;
+    private int threads = Runtime.getRuntime().availableProcessors();
+
+    private volatile List<Tag> tags;
+    private volatile double[] tagDistribution;
+
+    /**
+     * A person as generated, which can be converted into any of the model, storage and cloud classes
+     */
+    private static class GeneratedPerson implements ReadOnlyPerson {
+        private final int id;
+        private final String firstName;
+        private final String lastName;
+        private final String githubUsername;
+        private final String street;
+        private final String postalCode;
+        private final String city;
+        private final LocalDate birthday;
+        private final int[] tagIndices;
+        private final List<Tag> tags;
+
+        /**
+         * @param tagIndices indices of the tags of the person in allTags
+         */
+        GeneratedPerson(int id, String firstName, String lastName, String githubUsername, String street,
+                        String postalCode, String city, LocalDate birthday, int[] tagIndices, List<Tag> allTags) {
+            this.id = id;
+            this.firstName = firstName;
+            this.lastName = lastName;
+            this.githubUsername = githubUsername;
+            this.street = street;
+            this.postalCode = postalCode;
+            this.city = city;
+            this.birthday = birthday;
+            this.tagIndices = tagIndices;
+            this.tags = Collections.unmodifiableList(Arrays.stream(tagIndices)
+                                                             .mapToObj(allTags::get)
+                                                             .collect(Collectors.toList()));
+        }
+
+        @Override
+        public int getId() {
+            return id;
+        }
+
+        @Override
+        public String getFirstName() {
+            return firstName;
+        }
+
+        @Override
+        public String getLastName() {
+            return lastName;
+        }
+
+        @Override
+        public String getGithubUsername() {
+            return githubUsername;
+        }
+
+        @Override
+        public String getStreet() {
+            return street;
+        }
+
+        @Override
+        public String getPostalCode() {
+            return postalCode;
+        }
+
+        @Override
+        public String getCity() {
+            return city;
+        }
+
+        @Override
+        public LocalDate getBirthday() {
+            return birthday;
+        }
+
+        @Override
+        public String getRank() {
+            return FractionalRank.UNRANKED;
+        }
+
+        @Override
+        public List<Tag> getTagList() {
+            return tags;
+        }
+    }
+
+    @FunctionalInterface
+    private interface SectionWriter {
+        void write(OutputStream out) throws IOException, JAXBException;
+    }
+
+    @FunctionalInterface
+    private interface ChunkWriter {
+        void write(int fromIndex, int toIndex, OutputStream out) throws IOException, JAXBException;
+    }
+
+    public SyntheticDataGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    public SyntheticDataGenerator withPersonCount(int personCount) {
+        this.personCount = personCount;
+        return this;
+    }
+
+    public SyntheticDataGenerator withTagCount(int tagCount) {
+        this.tagCount = tagCount;
+        return invalidateTags();
+    }
+
+    public SyntheticDataGenerator withMaxTagsPerPerson(int maxTagsPerPerson) {
+        this.maxTagsPerPerson = maxTagsPerPerson;
+        return this;
+    }
+
+    /**
+     * @param tagSkew exponent of the Zipfian distribution of tags: 0 picks all tags equally often, and the higher it
+     *                is, the more often the first tags are picked. The i-th tag is picked with a probability
+     *                proportional to 1 / i^tagSkew.
+     */
+    public SyntheticDataGenerator withTagSkew(double tagSkew) {
+        this.tagSkew = tagSkew;
+        return invalidateTags();
+    }
+
+    /**
+     * @param minLength minimum number of characters (code points) in names and street names
+     * @param maxLength maximum number of characters (code points) in names and street names
+     */
+    public SyntheticDataGenerator withFieldLength(int minLength, int maxLength) {
+        assert minLength > 0 && minLength <= maxLength;
+        this.minFieldLength = minLength;
+        this.maxFieldLength = maxLength;
+        return this;
+    }
+
+    /**
+     * @param unicodeRatio fraction of the names and street names written in a non-ASCII script, between 0 and 1
+     */
+    public SyntheticDataGenerator withUnicodeRatio(double unicodeRatio) {
+        this.unicodeRatio = unicodeRatio;
+        return this;
+    }
+
+    /**
+     * @param threads number of threads generating the data in the write methods
+     */
+    public SyntheticDataGenerator withThreads(int threads) {
+        this.threads = threads;
+        return this;
+    }
+
+    public int getPersonCount() {
+        return personCount;
+    }
+
+    /**
+     * @return the tags, named "tag0", "tag1" and so on, from the most to the least frequent
+     */
+    public List<Tag> getTags() {
+        if (tags == null) createTags();
+        return tags;
+    }
+
+    /**
+     * @param index between 0 and the person count, exclusive
+     * @return the person at index, with id index + 1
+     */
+    public ReadOnlyPerson generatePerson(int index) {
+        return createPerson(index);
+    }
+
+    private GeneratedPerson createPerson(int index) {
+        List<Tag> allTags = getTags();
+        SplittableRandom random = new SplittableRandom(seed ^ (index * 0x9E3779B97F4A7C15L));
+        int id = index + 1;
+        String firstName = generateWord(random);
+        String lastName = generateWord(random);
+        String street = (1 + random.nextInt(999)) + " " + generateWord(random) + " Street";
+        String postalCode = String.valueOf(100000 + random.nextInt(900000));
+        String city = "City" + random.nextInt(CITY_COUNT);
+        LocalDate birthday = EARLIEST_BIRTHDAY.plusDays(random.nextInt(BIRTHDAY_RANGE_DAYS));
+        return new GeneratedPerson(id, firstName, lastName, "user" + id, street, postalCode, city, birthday,
+                                   pickTags(random), allTags);
+    }
+
+    /**
+     * @return all the persons, generated lazily, so that they are not all held in memory unless collected
+     */
+    public Stream<ReadOnlyPerson> generatePersons() {
+        return IntStream.range(0, personCount).mapToObj(this::generatePerson);
+    }
+
+    /**
+     * Holds all the persons in memory, so is only meant for smaller data sets
+     */
+    public AddressBook generateAddressBook() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setTags(getTags());
+        addressBook.setPersons(generatePersons().map(Person::new).collect(Collectors.toList()));
+        return addressBook;
+    }
+
+    /**
+     * Writes the data in the format of the local data file
+     */
+    public void writeLocalXml(File file) throws IOException, DataConversionException {
+        JAXBContext context = createContext(StorageAddressBook.class);
+        QName personElement = new QName("persons");
+        QName tagElement = new QName("tags");
+        writeInChunks(file,
+            out -> out.write(getXmlHeaderBytes("<addressbook>")),
+            (fromIndex, toIndex, out) -> {
+                Marshaller marshaller = createFragmentMarshaller(context);
+                for (int i = fromIndex; i < toIndex; i++) {
+                    StoragePerson person = new StoragePerson(generatePerson(i));
+                    marshaller.marshal(new JAXBElement<>(personElement, StoragePerson.class, person), out);
+                }
+            },
+            out -> {
+                Marshaller marshaller = createFragmentMarshaller(context);
+                for (Tag tag : getTags()) {
+                    marshaller.marshal(new JAXBElement<>(tagElement, Tag.class, tag), out);
+                }
+                out.write("\n</addressbook>\n".getBytes(StandardCharsets.UTF_8));
+            });
+    }
+
+    /**
+     * Writes the data in the format of the cloud files of the {@link address.sync.cloud.CloudSimulator}
+     */
+    public void writeCloudXml(File file, String addressBookName) throws IOException, DataConversionException {
+        JAXBContext context = createContext(CloudAddressBook.class);
+        QName personElement = new QName("cloudpersons");
+        QName tagElement = new QName("cloudtags");
+        List<CloudTag> cloudTags = getTags().stream()
+                .map(tag -> new CloudTag(tag.getName()))
+                .collect(Collectors.toList());
+        writeInChunks(file,
+            out -> out.write(getXmlHeaderBytes("<cloudaddressbook>\n    <name>" + escapeXml(addressBookName)
+                                               + "</name>")),
+            (fromIndex, toIndex, out) -> {
+                Marshaller marshaller = createFragmentMarshaller(context);
+                for (int i = fromIndex; i < toIndex; i++) {
+                    CloudPerson person = toCloudPerson(createPerson(i), cloudTags);
+                    marshaller.marshal(new JAXBElement<>(personElement, CloudPerson.class, person), out);
+                }
+            },
+            out -> {
+                Marshaller marshaller = createFragmentMarshaller(context);
+                for (CloudTag tag : cloudTags) {
+                    marshaller.marshal(new JAXBElement<>(tagElement, CloudTag.class, tag), out);
+                }
+                out.write("\n</cloudaddressbook>\n".getBytes(StandardCharsets.UTF_8));
+            });
+    }
+
+    /**
+     * Writes the data in a compact binary format:
+     * <pre>
+     * int magic number 0x41424B31, int tag count, UTF tag names,
+     * int person count, for each person:
+     *     int id, UTF first name, last name, github username, street, postal code and city,
+     *     long epoch day of the birthday (Long.MIN_VALUE if none),
+     *     byte tag count, int index of each tag
+     * </pre>
+     * with ints, longs and UTF strings as written by {@link DataOutputStream}.
+     */
+    public void writeBinary(File file) throws IOException, DataConversionException {
+        writeInChunks(file,
+            out -> {
+                DataOutputStream data = new DataOutputStream(out);
+                data.writeInt(BINARY_MAGIC);
+                data.writeInt(getTags().size());
+                for (Tag tag : getTags()) {
+                    data.writeUTF(tag.getName());
+                }
+                data.writeInt(personCount);
+                data.flush();
+            },
+            (fromIndex, toIndex, out) -> {
+                DataOutputStream data = new DataOutputStream(out);
+                for (int i = fromIndex; i < toIndex; i++) {
+                    writeBinaryPerson(createPerson(i), data);
+                }
+                data.flush();
+            },
+            out -> {});
+    }
+
+    /**
+     * Reads a file written by {@link #writeBinary}, passing each person to personConsumer without keeping them
+     *
+     * @return the tags of the file, which are shared by the persons
+     */
+    public static List<Tag> readBinary(File file, Consumer<ReadOnlyPerson> personConsumer) throws IOException {
+        try (DataInputStream data = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (data.readInt() != BINARY_MAGIC) throw new IOException("Not a synthetic data file: " + file);
+            List<Tag> tags = new ArrayList<>();
+            int tagCount = data.readInt();
+            for (int i = 0; i < tagCount; i++) {
+                tags.add(new Tag(data.readUTF()));
+            }
+            int personCount = data.readInt();
+            for (int i = 0; i < personCount; i++) {
+                personConsumer.accept(readBinaryPerson(data, tags));
+            }
+            return tags;
+        }
+    }
+
+    private synchronized SyntheticDataGenerator invalidateTags() {
+        tags = null;
+        return this;
+    }
+
+    /**
+     * The distribution is set first, so that it is ready once the tags are visible to other threads
+     */
+    private synchronized void createTags() {
+        if (tags != null) return;
+        tagDistribution = createTagDistribution();
+        tags = Collections.unmodifiableList(IntStream.range(0, tagCount)
+                                                    .mapToObj(i -> new Tag("tag" + i))
+                                                    .collect(Collectors.toList()));
+    }
+
+    /**
+     * @return the cumulative probabilities of picking each tag
+     */
+    private double[] createTagDistribution() {
+        double[] cumulative = new double[tagCount];
+        double total = 0;
+        for (int i = 0; i < tagCount; i++) {
+            total += 1 / Math.pow(i + 1, tagSkew);
+            cumulative[i] = total;
+        }
+        for (int i = 0; i < tagCount; i++) {
+            cumulative[i] /= total;
+        }
+        return cumulative;
+    }
+
+    /**
+     * @return indices of distinct tags, as many as drawn uniformly between 0 and the maximum per person
+     */
+    private int[] pickTags(SplittableRandom random) {
+        int count = Math.min(random.nextInt(maxTagsPerPerson + 1), tagCount);
+        int[] picked = new int[count];
+        int pickedCount = 0;
+        int attempts = 0;
+        while (pickedCount < count && attempts++ < count * 20) { // very skewed distributions repeat the first tags
+            int index = Arrays.binarySearch(tagDistribution, random.nextDouble());
+            int tag = Math.min(index >= 0 ? index : -index - 1, tagCount - 1);
+            if (!contains(picked, pickedCount, tag)) picked[pickedCount++] = tag;
+        }
+        return Arrays.copyOf(picked, pickedCount);
+    }
+
+    private static boolean contains(int[] values, int length, int value) {
+        for (int i = 0; i < length; i++) {
+            if (values[i] == value) return true;
+        }
+        return false;
+    }
+
+    private String generateWord(SplittableRandom random) {
+        int length = minFieldLength + random.nextInt(maxFieldLength - minFieldLength + 1);
+        StringBuilder word = new StringBuilder(length * 2);
+        if (random.nextDouble() < unicodeRatio) {
+            int[] range = UNICODE_RANGES[random.nextInt(UNICODE_RANGES.length)];
+            for (int i = 0; i < length; i++) {
+                word.appendCodePoint(range[0] + random.nextInt(range[1] - range[0] + 1));
+            }
+            return word.toString();
+        }
+        for (int i = 0; i < length; i++) {
+            String letters = i % 2 == 0 ? CONSONANTS : VOWELS;
+            word.append(letters.charAt(random.nextInt(letters.length())));
+        }
+        word.setCharAt(0, Character.toUpperCase(word.charAt(0)));
+        return word.toString();
+    }
+
+    private CloudPerson toCloudPerson(GeneratedPerson person, List<CloudTag> cloudTags) {
+        CloudPerson cloudPerson = new CloudPerson(person.getFirstName(), person.getLastName(), person.getId());
+        cloudPerson.setGithubUsername(person.getGithubUsername());
+        cloudPerson.setStreet(person.getStreet());
+        cloudPerson.setPostalCode(person.getPostalCode());
+        cloudPerson.setCity(person.getCity());
+        cloudPerson.setBirthday(person.getBirthday());
+        cloudPerson.setTags(Arrays.stream(person.tagIndices).mapToObj(cloudTags::get).collect(Collectors.toList()));
+        return cloudPerson;
+    }
+
+    private void writeBinaryPerson(GeneratedPerson person, DataOutputStream data) throws IOException {
+        data.writeInt(person.getId());
+        data.writeUTF(person.getFirstName());
+        data.writeUTF(person.getLastName());
+        data.writeUTF(person.getGithubUsername());
+        data.writeUTF(person.getStreet());
+        data.writeUTF(person.getPostalCode());
+        data.writeUTF(person.getCity());
+        data.writeLong(person.getBirthday() == null ? NO_BIRTHDAY : person.getBirthday().toEpochDay());
+        data.writeByte(person.tagIndices.length);
+        for (int tagIndex : person.tagIndices) {
+            data.writeInt(tagIndex);
+        }
+    }
+
+    private static ReadOnlyPerson readBinaryPerson(DataInputStream data, List<Tag> tags) throws IOException {
+        int id = data.readInt();
+        String firstName = data.readUTF();
+        String lastName = data.readUTF();
+        String githubUsername = data.readUTF();
+        String street = data.readUTF();
+        String postalCode = data.readUTF();
+        String city = data.readUTF();
+        long birthdayEpochDay = data.readLong();
+        LocalDate birthday = birthdayEpochDay == NO_BIRTHDAY ? null : LocalDate.ofEpochDay(birthdayEpochDay);
+        int[] tagIndices = new int[data.readUnsignedByte()];
+        for (int i = 0; i < tagIndices.length; i++) {
+            tagIndices[i] = data.readInt();
+        }
+        return new GeneratedPerson(id, firstName, lastName, githubUsername, street, postalCode, city, birthday,
+                                   tagIndices, tags);
+    }
+
+    /**
+     * Writes the header, then the persons in chunks generated in parallel, then the footer
+     */
+    private void writeInChunks(File file, SectionWriter header, ChunkWriter chunkWriter, SectionWriter footer)
+            throws IOException, DataConversionException {
+        getTags();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try (OutputStream out = new BufferedOutputStream(new FileOutputStream(file), 1 << 16)) {
+            header.write(out);
+            Deque<Future<byte[]>> pendingChunks = new ArrayDeque<>();
+            int chunkCount = (personCount + CHUNK_SIZE - 1) / CHUNK_SIZE;
+            int nextChunk = 0;
+            while (nextChunk < chunkCount || !pendingChunks.isEmpty()) {
+                while (nextChunk < chunkCount && pendingChunks.size() < threads * 2) {
+                    int fromIndex = nextChunk * CHUNK_SIZE;
+                    int toIndex = Math.min(personCount, fromIndex + CHUNK_SIZE);
+                    pendingChunks.add(executor.submit(() -> {
+                        ByteArrayOutputStream chunk = new ByteArrayOutputStream();
+                        chunkWriter.write(fromIndex, toIndex, chunk);
+                        return chunk.toByteArray();
+                    }));
+                    nextChunk++;
+                }
+                out.write(getChunk(pendingChunks.removeFirst()));
+            }
+            footer.write(out);
+        } catch (JAXBException e) {
+            throw new DataConversionException(e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private byte[] getChunk(Future<byte[]> pendingChunk) throws IOException, DataConversionException {
+        try {
+            return pendingChunk.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while generating data", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) throw (IOException) cause;
+            if (cause instanceof JAXBException) throw new DataConversionException((JAXBException) cause);
+            if (cause instanceof Error) throw (Error) cause;
+            throw (RuntimeException) cause;
+        }
+    }
+
+    private JAXBContext createContext(Class<?> rootClass) throws DataConversionException {
+        try {
+            return JAXBContext.newInstance(rootClass);
+        } catch (JAXBException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    private Marshaller createFragmentMarshaller(JAXBContext context) throws JAXBException {
+        Marshaller marshaller = context.createMarshaller();
+        marshaller.setProperty(Marshaller.JAXB_FRAGMENT, true);
+        marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+        return marshaller;
+    }
+
+    private byte[] getXmlHeaderBytes(String rootStart) {
+        return ("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n" + rootStart)
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    private String escapeXml(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+}
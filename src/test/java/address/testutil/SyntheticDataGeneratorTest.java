@@ -0,0 +1,115 @@
+package address.testutil;
+
+import address.model.datatypes.person.ReadOnlyPerson;
+import address.model.datatypes.tag.Tag;
+import address.storage.StorageAddressBook;
+import address.storage.XmlFileStorage;
+import address.sync.cloud.CloudFileHandler;
+import address.sync.cloud.model.CloudAddressBook;
+import address.sync.cloud.model.CloudPerson;
+import address.sync.cloud.model.CloudTag;
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class SyntheticDataGeneratorTest {
+    private static final File BINARY_FILE = new File(TestUtil.appendToSandboxPath("SyntheticDataGeneratorTest.bin"));
+    private static final File LOCAL_XML_FILE = new File(TestUtil.appendToSandboxPath("SyntheticDataGeneratorTest.xml"));
+    private static final File CLOUD_XML_FILE = new File(
+            TestUtil.appendToSandboxPath("SyntheticDataGeneratorTestCloud.xml"));
+    private static final int PERSON_COUNT = 25000; // more than one chunk
+
+    @After
+    public void tearDown() {
+        BINARY_FILE.delete();
+        LOCAL_XML_FILE.delete();
+        CLOUD_XML_FILE.delete();
+    }
+
+    @Test
+    public void generatePersons_sameSeed_samePersons() {
+        assertEquals(describe(new SyntheticDataGenerator(7).withPersonCount(100).generatePersons()
+                                      .collect(Collectors.toList())),
+                     describe(new SyntheticDataGenerator(7).withPersonCount(100).generatePersons()
+                                      .collect(Collectors.toList())));
+    }
+
+    @Test
+    public void generatePersons_tagSkew_firstTagMostFrequent() {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(7).withPersonCount(1000).withTagCount(10)
+                .withTagSkew(1.5);
+        List<Tag> tags = generator.getTags();
+        long firstTagCount = generator.generatePersons().filter(p -> p.getTagList().contains(tags.get(0))).count();
+        long lastTagCount = generator.generatePersons().filter(p -> p.getTagList().contains(tags.get(9))).count();
+        assertTrue(firstTagCount > lastTagCount * 5);
+    }
+
+    @Test
+    public void writeBinary_anyNumberOfThreads_readsBackSamePersons() throws Exception {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(7).withPersonCount(PERSON_COUNT)
+                .withUnicodeRatio(0.5);
+        List<String> expected = describe(generator.generatePersons().collect(Collectors.toList()));
+
+        for (int threads : new int[] {1, 4}) {
+            generator.withThreads(threads).writeBinary(BINARY_FILE);
+            List<ReadOnlyPerson> persons = new ArrayList<>();
+            List<Tag> tags = SyntheticDataGenerator.readBinary(BINARY_FILE, persons::add);
+            assertEquals(generator.getTags(), tags);
+            assertEquals(expected, describe(persons));
+        }
+    }
+
+    @Test
+    public void writeLocalXml_severalChunks_loadedBackByXmlFileStorage() throws Exception {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(7).withPersonCount(PERSON_COUNT)
+                .withUnicodeRatio(0.5).withThreads(4);
+
+        generator.writeLocalXml(LOCAL_XML_FILE);
+
+        StorageAddressBook addressBook = XmlFileStorage.loadDataFromSaveFile(LOCAL_XML_FILE);
+        assertEquals(generator.getTags(), addressBook.getTagList());
+        assertEquals(describe(generator.generatePersons().collect(Collectors.toList())),
+                     describe(addressBook.getPersonList()));
+    }
+
+    @Test
+    public void writeCloudXml_severalChunks_loadedBackByCloudFileHandler() throws Exception {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(7).withPersonCount(PERSON_COUNT)
+                .withUnicodeRatio(0.5).withThreads(4);
+
+        generator.writeCloudXml(CLOUD_XML_FILE, "Synthetic <book>");
+
+        CloudAddressBook addressBook = new CloudFileHandler()
+                .readCloudAddressBookFromExternalFile(CLOUD_XML_FILE.getPath());
+        assertEquals("Synthetic <book>", addressBook.getName());
+        assertEquals(generator.getTags().stream().map(Tag::getName).collect(Collectors.toList()),
+                     addressBook.getAllTags().stream().map(CloudTag::getName).collect(Collectors.toList()));
+        assertEquals(describe(generator.generatePersons().collect(Collectors.toList())),
+                     describeCloudPersons(addressBook.getAllPersons()));
+    }
+
+    private List<String> describe(List<? extends ReadOnlyPerson> persons) {
+        return persons.stream()
+                .map(p -> p.getId() + "|" + p.getFirstName() + "|" + p.getLastName() + "|" + p.getGithubUsername()
+                          + "|" + p.getStreet() + "|" + p.getPostalCode() + "|" + p.getCity() + "|"
+                          + p.getBirthday() + "|" + p.getTagList().stream().map(Tag::getName)
+                                                           .collect(Collectors.toList()))
+                .collect(Collectors.toList());
+    }
+
+    private List<String> describeCloudPersons(List<CloudPerson> persons) {
+        return persons.stream()
+                .map(p -> p.getId() + "|" + p.getFirstName() + "|" + p.getLastName() + "|" + p.getGithubUsername()
+                          + "|" + p.getStreet() + "|" + p.getPostalCode() + "|" + p.getCity() + "|"
+                          + p.getBirthday() + "|" + p.getTags().stream().map(CloudTag::getName)
+                                                           .collect(Collectors.toList()))
+                .collect(Collectors.toList());
+    }
+}
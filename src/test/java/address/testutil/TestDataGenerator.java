@@ -1,68 +1,50 @@
 package address.testutil;
 
 import address.exceptions.DataConversionException;
-import address.model.datatypes.AddressBook;
-import address.model.datatypes.person.Person;
-import address.model.datatypes.tag.Tag;
-import address.storage.StorageManager;
 
 import java.io.File;
 import java.io.IOException;
-import java.time.LocalDate;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Random;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 /**
  * A utility class to generate data for testing.
+ *
+ * Arguments, all optional: [number of persons] [local|cloud|binary] [file] [seed] [threads]
+ * e.g. "10000000 binary persons.bin" writes a fixture of 10 million persons.
+ * Cloud files are named after their address book, so the file name is used as the address book name.
  */
 public class TestDataGenerator {
 
-    private static String DATA_FILE_NAME = "scalabilitydata.xml";
-    private static int NO_OF_PERSONS = 1000;
-    private static List<Tag> allTags = generateTagList();
-
-    private static List<Tag> generateTagList() {
-        List<Tag> tags = new ArrayList<>();
-        tags.add(new Tag("friends"));
-        tags.add(new Tag("colleagues"));
-        tags.add(new Tag("relatives"));
-        return tags;
-    }
+    private static final String DEFAULT_DATA_FILE_NAME = "scalabilitydata.xml";
+    private static final int DEFAULT_NO_OF_PERSONS = 1000;
+    private static final String DEFAULT_FORMAT = "local";
+    private static final long DEFAULT_SEED = 1;
 
     public static void main(String[] args) throws IOException, DataConversionException {
-        StorageManager.saveAddressBook(new File(DATA_FILE_NAME), generateData());
-    }
-
-    private static AddressBook generateData() {
-        AddressBook ab = new AddressBook();
-        ab.setTags(allTags);
-
-        IntStream.range(0, NO_OF_PERSONS)
-                .forEach(i -> ab.addPerson(generatePerson(i)));
-
-        return ab;
-    }
-
-    private static Person generatePerson(int i) {
-        Person p = new Person("FirstName" + i, "LastName" + i, i);
-        p.setCity("City " + i);
-        p.setGithubUsername("dummy");
-        p.setPostalCode("123456");
-        p.setBirthday(LocalDate.now().minusDays(i));
-        p.setTags(getRandomListOfTags());
-        return p;
-    }
-
-    /**
-     * Returns a random subset of the sample tags.
-     */
-    private static List<Tag> getRandomListOfTags() {
-        return allTags.stream()
-                .filter(t -> new Random().nextBoolean())
-                .collect(Collectors.toList());
+        int noOfPersons = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_NO_OF_PERSONS;
+        String format = args.length > 1 ? args[1] : DEFAULT_FORMAT;
+        File file = new File(args.length > 2 ? args[2] : DEFAULT_DATA_FILE_NAME);
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : DEFAULT_SEED;
+        int threads = args.length > 4 ? Integer.parseInt(args[4]) : Runtime.getRuntime().availableProcessors();
+
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(seed)
+                .withPersonCount(noOfPersons)
+                .withThreads(threads);
+        long start = System.nanoTime();
+        switch (format) {
+            case "local":
+                generator.writeLocalXml(file);
+                break;
+            case "cloud":
+                generator.writeCloudXml(file, file.getName());
+                break;
+            case "binary":
+                generator.writeBinary(file);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown format: " + format);
+        }
+        System.out.printf("Wrote %d persons to %s in %d ms%n", noOfPersons, file,
+                          (System.nanoTime() - start) / 1000000);
     }
 
 }
@@ -0,0 +1,74 @@
+package address.util;
+
+import address.events.BaseEvent;
+import org.apache.logging.log4j.Level;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.IntConsumer;
+
+/**
+ * Measures the bytes allocated and the time taken per {@link AppLogger} call when the level is disabled, for the
+ * different styles of logging calls. Not a test, run with: {@code gradle benchmarkLogging} or from the IDE.
+ *
+ * Allocations are read from the HotSpot per-thread allocation counter, so this needs a HotSpot-based JVM. When the
+ * whole call gets inlined, escape analysis can remove some of these allocations; run with
+ * {@code -XX:-DoEscapeAnalysis} to see the allocations made where the logger call is not inlined.
+ */
+public class AppLoggerBenchmark {
+    private static final int WARMUP_CALLS = 200000;
+    private static final int MEASURED_CALLS = 1000000;
+
+    private static final AppLogger logger = LoggerManager.getLogger(AppLoggerBenchmark.class.getSimpleName(),
+                                                                    Level.WARN);
+    private static final com.sun.management.ThreadMXBean threadBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private static class SampleEvent extends BaseEvent {
+        final int number;
+
+        SampleEvent(int number) {
+            this.number = number;
+        }
+
+        @Override
+        public String toString() {
+            return "sample event " + number;
+        }
+    }
+
+    public static void main(String[] args) {
+        String first = "first";
+        String second = "second";
+        String third = "third";
+        String fourth = "fourth";
+        SampleEvent event = new SampleEvent(1);
+
+        run("varargs, 4 params", i -> logger.debug("{} {} {} {}", first, second, third, fourth));
+        run("guarded varargs, 4 params", i -> {
+            if (logger.isDebugEnabled()) logger.debug("{} {} {} {}", first, second, third, fourth);
+        });
+        run("fixed arity, 3 params", i -> logger.debug("{} {} {}", first, second, third));
+        run("fixed arity, boxed int", i -> logger.debug("{} {}", first, i));
+        run("eager concatenation", i -> logger.debug("value " + i));
+        run("supplier", i -> logger.debug(() -> "value " + i));
+        run("infoEvent", i -> logger.infoEvent(event));
+    }
+
+    private static void run(String name, IntConsumer call) {
+        measure(call, WARMUP_CALLS);
+        long threadId = Thread.currentThread().getId();
+        long allocatedBefore = threadBean.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        measure(call, MEASURED_CALLS);
+        long elapsedNanos = System.nanoTime() - start;
+        long allocatedBytes = threadBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        System.out.printf("%s: %.1f bytes/call, %.1f ns/call%n", name, (double) allocatedBytes / MEASURED_CALLS,
+                          (double) elapsedNanos / MEASURED_CALLS);
+    }
+
+    private static void measure(IntConsumer call, int calls) {
+        for (int i = 0; i < calls; i++) {
+            call.accept(i + 1000); // outside the Integer cache, so boxing allocates
+        }
+    }
+}
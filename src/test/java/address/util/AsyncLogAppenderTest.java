@@ -0,0 +1,124 @@
+package address.util;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.appender.AbstractAppender;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+public class AsyncLogAppenderTest {
+
+    private static class RecordingAppender extends AbstractAppender {
+        final List<String> messages = new CopyOnWriteArrayList<>();
+        final List<Thread> writingThreads = new CopyOnWriteArrayList<>();
+        final CountDownLatch firstEventWritten = new CountDownLatch(1);
+        final CountDownLatch unblock;
+
+        RecordingAppender(CountDownLatch unblock) {
+            super("Recording", null, null, true);
+            this.unblock = unblock;
+        }
+
+        @Override
+        public void append(LogEvent event) {
+            firstEventWritten.countDown();
+            try {
+                unblock.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            messages.add(event.getMessage().getFormattedMessage());
+            writingThreads.add(Thread.currentThread());
+        }
+    }
+
+    private AsyncLogAppender appender;
+
+    @After
+    public void tearDown() {
+        if (appender != null) appender.stop();
+    }
+
+    @Test
+    public void append_manyEvents_writtenInOrderByWriterThread() {
+        RecordingAppender recordingAppender = new RecordingAppender(new CountDownLatch(0));
+        appender = startAppender(recordingAppender, 16, AsyncLogAppender.QueueFullPolicy.BLOCK);
+
+        for (int i = 0; i < 1000; i++) {
+            appender.append(createEvent("message " + i));
+        }
+        appender.stop();
+
+        assertEquals(1000, recordingAppender.messages.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals("message " + i, recordingAppender.messages.get(i));
+        }
+        assertNotEquals(Thread.currentThread(), recordingAppender.writingThreads.get(0));
+        assertEquals(0, appender.getDroppedCount());
+    }
+
+    @Test
+    public void append_queueFullWithDropPolicy_eventsDroppedWithoutBlocking() throws InterruptedException {
+        CountDownLatch unblock = new CountDownLatch(1);
+        RecordingAppender recordingAppender = new RecordingAppender(unblock);
+        appender = startAppender(recordingAppender, 2, AsyncLogAppender.QueueFullPolicy.DROP);
+
+        appender.append(createEvent("being written"));
+        assertTrue(recordingAppender.firstEventWritten.await(5, TimeUnit.SECONDS));
+        appender.append(createEvent("queued 1"));
+        appender.append(createEvent("queued 2"));
+        appender.append(createEvent("dropped"));
+        unblock.countDown();
+        appender.stop();
+
+        assertEquals(1, appender.getDroppedCount());
+        assertEquals(3, recordingAppender.messages.size());
+        assertEquals("queued 2", recordingAppender.messages.get(2));
+    }
+
+    @Test
+    public void stop_eventsQueued_writtenBeforeStopping() throws InterruptedException {
+        CountDownLatch unblock = new CountDownLatch(1);
+        RecordingAppender recordingAppender = new RecordingAppender(unblock);
+        appender = startAppender(recordingAppender, 10, AsyncLogAppender.QueueFullPolicy.BLOCK);
+
+        for (int i = 0; i < 5; i++) {
+            appender.append(createEvent("message " + i));
+        }
+        assertTrue(recordingAppender.firstEventWritten.await(5, TimeUnit.SECONDS));
+        unblock.countDown();
+        appender.stop();
+
+        assertEquals(5, recordingAppender.messages.size());
+        assertEquals(0, appender.getQueueSize());
+    }
+
+    private AsyncLogAppender startAppender(RecordingAppender recordingAppender, int queueCapacity,
+                                           AsyncLogAppender.QueueFullPolicy queueFullPolicy) {
+        recordingAppender.start();
+        AsyncLogAppender asyncAppender = new AsyncLogAppender("Test", Collections.singletonList(recordingAppender),
+                                                              queueCapacity, queueFullPolicy);
+        asyncAppender.start();
+        return asyncAppender;
+    }
+
+    private LogEvent createEvent(String message) {
+        return Log4jLogEvent.newBuilder()
+                .setLoggerName(AsyncLogAppenderTest.class.getSimpleName())
+                .setLevel(Level.INFO)
+                .setMessage(new SimpleMessage(message))
+                .build();
+    }
+}
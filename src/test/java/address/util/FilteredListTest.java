@@ -96,11 +96,14 @@ public class FilteredListTest {
         // a change has been added
         assertEquals(1, changeList.size());
         ListChangeListener.Change firstChange = changeList.get(0);
-        assertTrue(firstChange.next());
-        // inspect removal of 7 items
-        assertEquals(7, firstChange.getRemovedSize());
-        assertEquals(0, firstChange.getAddedSize());
-        assertFalse(firstChange.next());
+        // inspect removal of 7 items, at the indices they had, so not necessarily in one contiguous range
+        int removedCount = 0;
+        while (firstChange.next()) {
+            assertTrue(firstChange.getFrom() >= 0);
+            assertEquals(0, firstChange.getAddedSize());
+            removedCount += firstChange.getRemovedSize();
+        }
+        assertEquals(7, removedCount);
 
         filteredList.setPredicate(person -> person.getLastName().contains("z"));
 
@@ -111,14 +114,14 @@ public class FilteredListTest {
         // a change has been added
         assertEquals(2, changeList.size());
         ListChangeListener.Change secondChange = changeList.get(1);
-        assertTrue(secondChange.next());
-        // inspect removal of 2 items
-        assertEquals(2, secondChange.getRemovedSize());
-        assertEquals(0, secondChange.getAddedSize());
-        assertTrue(secondChange.next());
-        // inspect addition of 2 items
-        assertEquals(0, secondChange.getRemovedSize());
-        assertEquals(2, secondChange.getAddedSize());
-        assertFalse(secondChange.next());
+        // inspect removal of 2 items and addition of 2 items
+        removedCount = 0;
+        int addedCount = 0;
+        while (secondChange.next()) {
+            removedCount += secondChange.getRemovedSize();
+            addedCount += secondChange.getAddedSize();
+        }
+        assertEquals(2, removedCount);
+        assertEquals(2, addedCount);
     }
 }
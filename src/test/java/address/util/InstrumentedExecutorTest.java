@@ -0,0 +1,145 @@
+package address.util;
+
+import address.util.concurrent.BackPressurePolicy;
+import address.util.concurrent.ExecutorManager;
+import address.util.concurrent.ExecutorStats;
+import address.util.concurrent.InstrumentedExecutor;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class InstrumentedExecutorTest {
+    private final List<InstrumentedExecutor> executors = new ArrayList<>();
+
+    @After
+    public void tearDown() {
+        executors.forEach(ExecutorService::shutdownNow);
+    }
+
+    private InstrumentedExecutor newExecutor(String name, int threads, int queueCapacity, BackPressurePolicy policy) {
+        InstrumentedExecutor executor = ExecutorManager.newExecutor(name, threads, queueCapacity, policy);
+        executors.add(executor);
+        return executor;
+    }
+
+    @Test
+    public void bulkSubmission_threadCountStaysBounded() throws InterruptedException {
+        final int threads = 4;
+        final int tasks = 5000;
+        InstrumentedExecutor executor = newExecutor("Bulk", threads, 100, BackPressurePolicy.BLOCK);
+        AtomicInteger running = new AtomicInteger(0);
+        AtomicInteger maxRunning = new AtomicInteger(0);
+        AtomicInteger maxPoolThreads = new AtomicInteger(0);
+        CountDownLatch done = new CountDownLatch(tasks);
+
+        for (int i = 0; i < tasks; i++) {
+            executor.execute(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                maxPoolThreads.accumulateAndGet(countThreadsNamed("Bulk-"), Math::max);
+                running.decrementAndGet();
+                done.countDown();
+            });
+        }
+
+        assertTrue(done.await(30, TimeUnit.SECONDS));
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        assertTrue(maxRunning.get() <= threads);
+        assertTrue(maxPoolThreads.get() <= threads);
+        ExecutorStats stats = executor.getStats();
+        assertTrue(stats.getLargestPoolSize() <= threads);
+        assertEquals(tasks, stats.getCompletedTasks());
+        assertTrue(stats.getQueueCapacity() == 100 && stats.getQueueDepth() == 0);
+    }
+
+    @Test(expected = RejectedExecutionException.class)
+    public void execute_saturatedRejectPolicy_rejected() throws InterruptedException {
+        InstrumentedExecutor executor = newExecutor("Reject", 1, 1, BackPressurePolicy.REJECT);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        executor.execute(() -> awaitQuietly(started, release));
+        started.await();
+        executor.execute(() -> awaitQuietly(new CountDownLatch(1), release));
+
+        try {
+            executor.execute(() -> {});
+        } finally {
+            assertEquals(1, executor.getStats().getBackPressureEvents());
+            release.countDown();
+        }
+    }
+
+    @Test
+    public void execute_saturatedCallerRunsPolicy_runsInCaller() throws InterruptedException {
+        InstrumentedExecutor executor = newExecutor("Caller Runs", 1, 1, BackPressurePolicy.CALLER_RUNS);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        executor.execute(() -> awaitQuietly(started, release));
+        started.await();
+        executor.execute(() -> awaitQuietly(new CountDownLatch(1), release));
+
+        List<Thread> runningThread = new ArrayList<>();
+        executor.execute(() -> runningThread.add(Thread.currentThread()));
+        release.countDown();
+
+        assertEquals(Thread.currentThread(), runningThread.get(0));
+        assertEquals(1, executor.getStats().getBackPressureEvents());
+    }
+
+    @Test
+    public void submit_tasksWaitForThread_latenciesRecorded() throws Exception {
+        InstrumentedExecutor executor = newExecutor("Latency", 1, 10, BackPressurePolicy.REJECT);
+        Future<?> first = executor.submit(() -> sleepQuietly(50));
+        Future<String> second = executor.submit(() -> "done");
+
+        first.get(5, TimeUnit.SECONDS);
+        assertEquals("done", second.get(5, TimeUnit.SECONDS));
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+
+        ExecutorStats stats = executor.getStats();
+        assertEquals(2, stats.getCompletedTasks());
+        assertTrue(stats.getMaxRunTimeMillis() >= 50);
+        assertTrue(stats.getMaxQueueWaitMillis() >= 40);
+    }
+
+    @Test
+    public void shutdown_terminated_unregistered() throws InterruptedException {
+        InstrumentedExecutor executor = newExecutor("Unregistered", 1, 1, BackPressurePolicy.REJECT);
+        assertTrue(ExecutorManager.getAllStats().stream().anyMatch(s -> s.getName().equals("Unregistered")));
+
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+
+        assertFalse(ExecutorManager.getAllStats().stream().anyMatch(s -> s.getName().equals("Unregistered")));
+    }
+
+    private static int countThreadsNamed(String prefix) {
+        return (int) Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread.getName().startsWith(prefix))
+                .count();
+    }
+
+    private static void awaitQuietly(CountDownLatch started, CountDownLatch release) {
+        started.countDown();
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package address.util;
+
+import address.testutil.TestUtil;
+import commons.FileUtil;
+import commons.MetricsRegistry;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class MetricsExporterTest {
+    private static final Path EXPORT_DIRECTORY = Paths.get(TestUtil.appendToSandboxPath("MetricsExporterTest"));
+
+    private final MetricsRegistry metrics = MetricsRegistry.getInstance();
+    private MetricsExporter exporter;
+
+    @Before
+    public void setUp() throws IOException {
+        deleteExportDirectory();
+        metrics.counter("test.count").add(2);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        if (exporter != null) exporter.stop();
+        metrics.clear();
+        deleteExportDirectory();
+    }
+
+    @Test
+    public void exportToFiles_twice_prometheusFileReplacedAndJsonLinesAppended() throws IOException {
+        exporter = new MetricsExporter(metrics, EXPORT_DIRECTORY, 0, -1);
+
+        exporter.exportToFiles();
+        metrics.counter("test.count").increment();
+        exporter.exportToFiles();
+
+        String prometheus = new String(Files.readAllBytes(EXPORT_DIRECTORY.resolve(
+                MetricsExporter.PROMETHEUS_FILE_NAME)), "UTF-8");
+        assertTrue(prometheus.contains("addressbook_test_count_total 3\n"));
+        assertFalse(prometheus.contains("addressbook_test_count_total 2\n"));
+        List<String> jsonLines = Files.readAllLines(EXPORT_DIRECTORY.resolve(MetricsExporter.JSON_FILE_NAME));
+        assertEquals(2, jsonLines.size());
+        assertTrue(jsonLines.get(0).contains("\"test.count\":2"));
+        assertTrue(jsonLines.get(1).contains("\"test.count\":3"));
+    }
+
+    @Test
+    public void exportToFiles_jsonFileFull_rotated() throws IOException {
+        exporter = new MetricsExporter(metrics, EXPORT_DIRECTORY, 0, -1);
+        Path jsonFile = EXPORT_DIRECTORY.resolve(MetricsExporter.JSON_FILE_NAME);
+        Files.createDirectories(EXPORT_DIRECTORY);
+        try (RandomAccessFile fullFile = new RandomAccessFile(jsonFile.toFile(), "rw")) {
+            fullFile.setLength(MetricsExporter.MAX_JSON_FILE_SIZE);
+        }
+
+        exporter.exportToFiles();
+
+        assertEquals(MetricsExporter.MAX_JSON_FILE_SIZE,
+                     Files.size(MetricsExporter.getBackupFile(jsonFile, 1)));
+        assertEquals(1, Files.readAllLines(jsonFile).size());
+    }
+
+    @Test
+    public void start_httpPortConfigured_servesMetricsOnLoopback() throws IOException {
+        exporter = new MetricsExporter(metrics, EXPORT_DIRECTORY, 0, 0);
+        exporter.start();
+        int port = exporter.getHttpPort().get();
+
+        HttpURLConnection prometheus = (HttpURLConnection) new URL("http://127.0.0.1:" + port + "/metrics")
+                .openConnection();
+        assertEquals(HttpURLConnection.HTTP_OK, prometheus.getResponseCode());
+        assertTrue(prometheus.getContentType().startsWith("text/plain"));
+        assertTrue(FileUtil.readFromInputStream(prometheus.getInputStream())
+                           .contains("addressbook_test_count_total 2"));
+
+        HttpURLConnection json = (HttpURLConnection) new URL("http://127.0.0.1:" + port + "/metrics.json")
+                .openConnection();
+        assertEquals(HttpURLConnection.HTTP_OK, json.getResponseCode());
+        assertTrue(FileUtil.readFromInputStream(json.getInputStream()).contains("\"test.count\":2"));
+
+        HttpURLConnection unknown = (HttpURLConnection) new URL("http://127.0.0.1:" + port + "/metrics/other")
+                .openConnection();
+        assertEquals(HttpURLConnection.HTTP_NOT_FOUND, unknown.getResponseCode());
+    }
+
+    @Test
+    public void stop_exportingToFiles_filesWrittenAndEndpointClosed() throws IOException {
+        exporter = new MetricsExporter(metrics, EXPORT_DIRECTORY, 60000, -1);
+        exporter.start();
+
+        exporter.stop();
+
+        assertTrue(Files.exists(EXPORT_DIRECTORY.resolve(MetricsExporter.PROMETHEUS_FILE_NAME)));
+        assertFalse(exporter.getHttpPort().isPresent());
+    }
+
+    private void deleteExportDirectory() throws IOException {
+        if (!Files.exists(EXPORT_DIRECTORY)) return;
+        for (File file : FileUtil.listFilesInDir(EXPORT_DIRECTORY)) {
+            FileUtil.deleteFile(file);
+        }
+        Files.delete(EXPORT_DIRECTORY);
+    }
+}
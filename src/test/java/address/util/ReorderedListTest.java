@@ -0,0 +1,234 @@
+package address.util;
+
+import address.model.datatypes.person.Person;
+import address.util.collections.FilteredList;
+import address.util.collections.ReorderedList;
+import javafx.beans.Observable;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ReorderedListTest {
+    private ObservableList<String> source;
+    private ReorderedList<String> reorderedList;
+    private List<String> mirror; // kept up to date from the changes fired by the reordered list
+
+    @Before
+    public void setup() {
+        source = FXCollections.observableArrayList("A", "B", "C", "D", "E");
+        reorderedList = new ReorderedList<>(source);
+        mirror = new ArrayList<>(reorderedList);
+        reorderedList.addListener((ListChangeListener<String>) change -> {
+            while (change.next()) {
+                if (change.wasPermutated()) {
+                    List<String> permuted = new ArrayList<>(mirror);
+                    for (int i = change.getFrom(); i < change.getTo(); i++) {
+                        permuted.set(change.getPermutation(i), mirror.get(i));
+                    }
+                    mirror = permuted;
+                } else if (!change.wasUpdated()) {
+                    mirror.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()).clear();
+                    mirror.addAll(change.getFrom(), change.getAddedSubList());
+                }
+            }
+        });
+    }
+
+    @Test
+    public void moveElements_toMiddle_movedBeforeDestination() {
+        List<Integer> movedIndices = new ArrayList<>(reorderedList.moveElements(Arrays.asList("E", "A"), 2));
+
+        assertEquals(Arrays.asList("B", "E", "A", "C", "D"), reorderedList);
+        assertEquals(Arrays.asList(1, 2), movedIndices);
+        assertEquals(reorderedList, mirror);
+        assertEquals(2, reorderedList.getViewIndex(source.indexOf("A")));
+    }
+
+    @Test
+    public void moveElements_toBack_movedToBack() {
+        List<Integer> movedIndices = new ArrayList<>(reorderedList.moveElements(Arrays.asList("B", "C"), 5));
+
+        assertEquals(Arrays.asList("A", "D", "E", "B", "C"), reorderedList);
+        assertEquals(Arrays.asList(3, 4), movedIndices);
+        assertEquals(reorderedList, mirror);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void moveElements_destinationMoved_exception() {
+        reorderedList.moveElements(Arrays.asList("B", "C"), 1);
+    }
+
+    @Test
+    public void sourceChanged_afterMove_orderKept() {
+        reorderedList.moveElements(Arrays.asList("E"), 0); // E A B C D
+
+        source.remove("B");
+        assertEquals(Arrays.asList("E", "A", "C", "D"), reorderedList);
+        assertEquals(reorderedList, mirror);
+
+        source.add(1, "F");
+        assertEquals(Arrays.asList("E", "A", "C", "D", "F"), reorderedList);
+        assertEquals(reorderedList, mirror);
+
+        source.removeAll("A", "E");
+        assertEquals(Arrays.asList("C", "D", "F"), reorderedList);
+        assertEquals(reorderedList, mirror);
+
+        FXCollections.sort(source);
+        assertEquals(Arrays.asList("C", "D", "F"), reorderedList);
+        assertEquals(reorderedList, mirror);
+    }
+
+    @Test
+    public void sourceChanged_filterChanged_orderKept() {
+        FilteredList<String> filteredList = new FilteredList<>(source);
+        ReorderedList<String> filteredReorderedList = new ReorderedList<>(filteredList);
+        filteredReorderedList.moveElements(Arrays.asList("D"), 0);
+
+        filteredList.setPredicate(string -> !string.equals("B"));
+        assertEquals(Arrays.asList("D", "A", "C", "E"), filteredReorderedList);
+
+        source.remove("A");
+        assertEquals(Arrays.asList("D", "C", "E"), filteredReorderedList);
+    }
+
+    @Test
+    public void constructor_rankedSource_orderedByRankUnrankedLast() {
+        ObservableList<Person> persons = createPersons("8", "", "2", "4");
+
+        assertEquals(Arrays.asList("3", "4", "1", "2"), getIds(new ReorderedList<>(persons, Person::getRank,
+                                                                                   Person::setRank)));
+    }
+
+    @Test
+    public void moveElements_rankedSource_onlyMovedPersonReranked() {
+        ObservableList<Person> persons = createPersons("2", "4", "6", "8");
+        ReorderedList<Person> rankedList = new ReorderedList<>(persons, Person::getRank, Person::setRank);
+        List<String> rerankedIds = new ArrayList<>();
+        ReorderedList<Person> listeningList = new ReorderedList<>(persons, Person::getRank, (person, rank) -> {
+            rerankedIds.add(String.valueOf(person.getId()));
+            person.setRank(rank);
+        });
+
+        listeningList.moveElements(Arrays.asList(persons.get(3)), 1);
+
+        assertEquals(Arrays.asList("4"), rerankedIds);
+        assertTrue(persons.get(3).getRank().compareTo("2") > 0 && persons.get(3).getRank().compareTo("4") < 0);
+        assertEquals(Arrays.asList("1", "4", "2", "3"), getIds(listeningList));
+        assertEquals(getIds(listeningList), getIds(rankedList)); // moved by the rank update
+    }
+
+    @Test
+    public void moveElements_unrankedSource_onlyMovedPersonsRanked() {
+        ObservableList<Person> persons = createPersons("", "", "", "");
+        List<String> rerankedIds = new ArrayList<>();
+        ReorderedList<Person> rankedList = new ReorderedList<>(persons, Person::getRank, (person, rank) -> {
+            rerankedIds.add(String.valueOf(person.getId()));
+            person.setRank(rank);
+        });
+
+        rankedList.moveElements(Arrays.asList(persons.get(2), persons.get(3)), 1);
+
+        assertEquals(Arrays.asList("3", "4"), rerankedIds);
+        assertEquals(Arrays.asList("3", "4", "1", "2"), getIds(rankedList)); // before the first unranked person
+        assertEquals("", persons.get(0).getRank());
+        assertEquals("", persons.get(1).getRank());
+        assertTrue(persons.get(2).getRank().compareTo(persons.get(3).getRank()) < 0);
+    }
+
+    @Test
+    public void moveElements_amongSameRanks_onlyMovedPersonRanked() {
+        ObservableList<Person> persons = createPersons("2", "2", "4", "6");
+        List<String> rerankedIds = new ArrayList<>();
+        ReorderedList<Person> rankedList = new ReorderedList<>(persons, Person::getRank, (person, rank) -> {
+            rerankedIds.add(String.valueOf(person.getId()));
+            person.setRank(rank);
+        });
+
+        rankedList.moveElements(Arrays.asList(persons.get(3)), 1);
+
+        assertEquals(Arrays.asList("4"), rerankedIds);
+        assertEquals(Arrays.asList("1", "2", "4", "3"), getIds(rankedList)); // after the persons ranked the same
+        assertEquals("2", persons.get(1).getRank());
+    }
+
+    @Test
+    public void moveElements_rankRejectedByListener_movedBack() {
+        ObservableList<Person> persons = createPersons("2", "4", "6", "8");
+        List<String> rerankedIds = new ArrayList<>();
+        ReorderedList<Person> rankedList = new ReorderedList<>(persons, Person::getRank, (person, rank) -> {
+            rerankedIds.add(String.valueOf(person.getId()));
+            if (person.getId() == 3) {
+                persons.set(persons.indexOf(person), person); // rejected, keeps its rank
+            } else {
+                person.setRank(rank);
+            }
+        });
+
+        rankedList.moveElements(Arrays.asList(persons.get(2), persons.get(3)), 0);
+
+        assertEquals(Arrays.asList("3", "4"), rerankedIds);
+        assertEquals("6", persons.get(2).getRank());
+        assertEquals(Arrays.asList("4", "1", "2", "3"), getIds(rankedList));
+    }
+
+    @Test
+    public void sourceChanged_rankedPersonAdded_insertedByRank() {
+        ObservableList<Person> persons = createPersons("2", "4", "");
+        ReorderedList<Person> rankedList = new ReorderedList<>(persons, Person::getRank, Person::setRank);
+
+        Person added = new Person("4", "", 4);
+        added.setRank("3");
+        persons.add(added);
+
+        assertEquals(Arrays.asList("1", "4", "2", "3"), getIds(rankedList));
+    }
+
+    @Test
+    public void sourceChanged_personsAddedTogether_mergedByRank() {
+        ObservableList<Person> persons = createPersons("2", "6", "");
+        ReorderedList<Person> rankedList = new ReorderedList<>(persons, Person::getRank, Person::setRank);
+        List<String> addedIds = new ArrayList<>();
+        rankedList.addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                change.getAddedSubList().forEach(person -> addedIds.add(String.valueOf(person.getId())));
+            }
+        });
+
+        List<Person> added = new ArrayList<>();
+        for (String rank : new String[] {"", "8", "6", "1"}) {
+            Person person = new Person(String.valueOf(added.size() + 4), "", added.size() + 4);
+            person.setRank(rank);
+            added.add(person);
+        }
+        persons.addAll(1, added);
+
+        assertEquals(Arrays.asList("7", "1", "2", "6", "5", "3", "4"), getIds(rankedList));
+        assertEquals(Arrays.asList("7", "6", "5", "4"), addedIds);
+        assertEquals(3, rankedList.getViewIndex(persons.indexOf(added.get(2))));
+    }
+
+    private ObservableList<Person> createPersons(String... ranks) {
+        ObservableList<Person> persons = FXCollections.observableArrayList(p -> new Observable[] {p.rankProperty()});
+        for (int i = 0; i < ranks.length; i++) {
+            Person person = new Person(String.valueOf(i + 1), "", i + 1);
+            person.setRank(ranks[i]);
+            persons.add(person);
+        }
+        return persons;
+    }
+
+    private List<String> getIds(List<Person> persons) {
+        return persons.stream().map(p -> String.valueOf(p.getId())).collect(Collectors.toList());
+    }
+}
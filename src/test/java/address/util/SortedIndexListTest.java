@@ -0,0 +1,107 @@
+package address.util;
+
+import address.model.datatypes.person.Person;
+import address.model.datatypes.person.PersonSortOrder;
+import address.util.collections.SortedIndexList;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+
+public class SortedIndexListTest {
+    private ObservableList<Person> persons;
+    private SortedIndexList<Person, PersonSortOrder.Key> sortedList;
+    private List<Person> mirror; // kept up to date from the changes fired by the sorted list
+
+    @Before
+    public void setup() {
+        persons = FXCollections.observableArrayList(Person::extractObservables);
+        persons.addAll(createPerson(1, "\u00c9mile", "Zurich"), createPerson(2, "adams", "Berlin"),
+                       createPerson(3, "Baker", "Athens"), createPerson(4, "Adams", "Athens"));
+        sortedList = new SortedIndexList<>(persons, new PersonSortOrder(PersonSortOrder.Field.LAST_NAME,
+                                                                        PersonSortOrder.Field.CITY)::createKey,
+                                           Comparator.naturalOrder());
+        mirror = new ArrayList<>(sortedList);
+        sortedList.addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                if (!change.wasUpdated()) {
+                    mirror.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()).clear();
+                    mirror.addAll(change.getFrom(), change.getAddedSubList());
+                }
+            }
+        });
+    }
+
+    @Test
+    public void constructor_unsortedSource_sortedByCollatedFields() {
+        assertEquals(Arrays.asList(4, 2, 3, 1), getIds(sortedList));
+    }
+
+    @Test
+    public void sourceChanged_personUpdated_movedToNewPosition() {
+        persons.get(0).setLastName("Aaron");
+        assertEquals(Arrays.asList(1, 4, 2, 3), getIds(sortedList));
+        assertEquals(sortedList, mirror);
+
+        persons.get(3).setCity("Cairo"); // ordered by city after the other Adams
+        assertEquals(Arrays.asList(1, 2, 4, 3), getIds(sortedList));
+        assertEquals(sortedList, mirror);
+    }
+
+    @Test
+    public void sourceChanged_personsAddedAndRemoved_orderKept() {
+        persons.remove(1);
+        persons.add(createPerson(5, "Able", "Rome"));
+        assertEquals(Arrays.asList(5, 4, 3, 1), getIds(sortedList));
+        assertEquals(sortedList, mirror);
+
+        FXCollections.sort(persons, Comparator.comparing(Person::getId).reversed());
+        assertEquals(Arrays.asList(5, 4, 3, 1), getIds(sortedList));
+    }
+
+    @Test
+    public void constructor_birthdayOrder_missingBirthdaysLast() {
+        persons.get(1).setBirthday(LocalDate.of(1990, 1, 1));
+        persons.get(3).setBirthday(LocalDate.of(1980, 1, 1));
+
+        SortedIndexList<Person, PersonSortOrder.Key> birthdayList = new SortedIndexList<>(
+                persons, PersonSortOrder.PRESETS.get(2)::createKey, Comparator.naturalOrder());
+        assertEquals(Arrays.asList(4, 2, 3, 1), getIds(birthdayList));
+    }
+
+    @Test
+    public void sourceChanged_equalKeys_updatedAndRemovedInPlace() {
+        SortedIndexList<Person, String> cityList = new SortedIndexList<>(persons, Person::getCity,
+                                                                          Comparator.naturalOrder());
+        assertEquals(Arrays.asList(3, 4, 2, 1), getIds(cityList)); // persons with equal cities in source order
+
+        persons.get(3).setLastName("Renamed"); // same city, so same place among the equal keys
+        persons.remove(2);
+        assertEquals(Arrays.asList(4, 2, 1), getIds(cityList));
+
+        persons.get(1).setCity("Athens"); // moved after the persons of the same city
+        assertEquals(Arrays.asList(4, 2, 1), getIds(cityList));
+        persons.add(createPerson(5, "Able", "Athens"));
+        assertEquals(Arrays.asList(4, 2, 5, 1), getIds(cityList));
+    }
+
+    private Person createPerson(int id, String lastName, String city) {
+        Person person = new Person("First", lastName, id);
+        person.setCity(city);
+        return person;
+    }
+
+    private List<Integer> getIds(List<Person> list) {
+        return list.stream().map(Person::getId).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,57 @@
+package commons;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class BkTreeTest {
+
+    @Test
+    public void editDistance_variousEdits_levenshteinDistance() {
+        assertEquals(0, StringUtil.editDistance("john", "john", 2));
+        assertEquals(1, StringUtil.editDistance("jon", "john", 2));
+        assertEquals(2, StringUtil.editDistance("jhon", "john", 2));
+        assertEquals(3, StringUtil.editDistance("kitten", "sitting", 5));
+        assertEquals(3, StringUtil.editDistance("", "abc", 5));
+        assertEquals(3, StringUtil.editDistance("kitten", "sitting", 2)); // limit + 1
+        assertEquals(2, StringUtil.editDistance("a", "abcdef", 1));
+    }
+
+    @Test
+    public void add_duplicateString_notAdded() {
+        BkTree tree = new BkTree();
+
+        assertTrue(tree.add("anna"));
+        assertTrue(tree.add("anne"));
+        assertFalse(tree.add("anna"));
+        assertEquals(2, tree.size());
+    }
+
+    @Test
+    public void search_manyStrings_sameAsScan() {
+        String[] terms = {"john", "joan", "jon", "johnson", "jonas", "mary", "marie", "maria", "mario", "marius",
+                          "berlin", "bern", "bergen", "zurich", "zug", "", "a", "ab"};
+        BkTree tree = new BkTree();
+        Arrays.stream(terms).forEach(tree::add);
+
+        for (String query : new String[] {"jhon", "mari", "bern", "x", ""}) {
+            for (int maxDistance = 0; maxDistance <= 3; maxDistance++) {
+                Map<String, Integer> expected = new HashMap<>();
+                for (String term : terms) {
+                    int distance = StringUtil.editDistance(query, term, maxDistance);
+                    if (distance <= maxDistance) expected.put(term, distance);
+                }
+                Map<String, Integer> found = new HashMap<>();
+                tree.search(query, maxDistance, found::put);
+
+                assertEquals(query + " within " + maxDistance, expected, found);
+            }
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package commons;
+
+import address.testutil.TestUtil;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class CoalescingFxUpdaterTest {
+
+    @BeforeClass
+    public static void beforeSetup() throws TimeoutException {
+        TestUtil.initRuntime();
+    }
+
+    @AfterClass
+    public static void teardown() throws Exception {
+        TestUtil.tearDownRuntime();
+    }
+
+    private static void waitForPendingUpdates(CoalescingFxUpdater updater) throws InterruptedException {
+        while (updater.getPendingUpdateCount() > 0) {
+            Thread.sleep(10);
+        }
+        PlatformExecUtil.waitOnFxThread();
+    }
+
+    @Test
+    public void publish_sameKeyBeforePulse_onlyLatestApplied() throws InterruptedException {
+        final CoalescingFxUpdater updater = new CoalescingFxUpdater();
+        final IntegerProperty countdown = new SimpleIntegerProperty(-1);
+        final AtomicInteger applications = new AtomicInteger(0);
+
+        PlatformExecUtil.runAndWait(() -> { // the pulse cannot run while the FX thread is busy here
+            for (int i = 3; i >= 0; i--) {
+                final int secondsLeft = i;
+                updater.publish(countdown, () -> {
+                    applications.incrementAndGet();
+                    countdown.set(secondsLeft);
+                });
+            }
+            assertEquals(1, updater.getPendingUpdateCount());
+        });
+        waitForPendingUpdates(updater);
+
+        assertEquals(0, countdown.get());
+        assertEquals(1, applications.get());
+    }
+
+    @Test
+    public void publish_manyKeysFromManyThreads_allAppliedOnFxThread() throws InterruptedException {
+        final CoalescingFxUpdater updater = new CoalescingFxUpdater();
+        final List<IntegerProperty> countdowns = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            countdowns.add(new SimpleIntegerProperty(-1));
+        }
+        final AtomicInteger offFxThreadApplications = new AtomicInteger(0);
+        final ExecutorService publishers = Executors.newFixedThreadPool(4);
+
+        for (IntegerProperty countdown : countdowns) {
+            publishers.execute(() -> {
+                for (int secondsLeft = 3; secondsLeft >= 0; secondsLeft--) {
+                    final int value = secondsLeft;
+                    updater.publish(countdown, () -> {
+                        if (!PlatformExecUtil.isFxThread()) offFxThreadApplications.incrementAndGet();
+                        countdown.set(value);
+                    });
+                }
+            });
+        }
+        publishers.shutdown();
+        assertTrue(publishers.awaitTermination(10, TimeUnit.SECONDS));
+        waitForPendingUpdates(updater);
+
+        countdowns.forEach(countdown -> assertEquals(0, countdown.get()));
+        assertEquals(0, offFxThreadApplications.get());
+    }
+
+    @Test
+    public void publish_afterTimerStopped_timerRestarted() throws InterruptedException {
+        final CoalescingFxUpdater updater = new CoalescingFxUpdater();
+        final IntegerProperty countdown = new SimpleIntegerProperty(-1);
+
+        updater.publish(countdown, () -> countdown.set(1));
+        waitForPendingUpdates(updater);
+        Thread.sleep(100); // let the timer stop after an idle pulse
+        updater.publish(countdown, () -> countdown.set(0));
+        waitForPendingUpdates(updater);
+
+        assertEquals(0, countdown.get());
+    }
+}
@@ -0,0 +1,63 @@
+package commons;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class FractionalRankTest {
+
+    @Test
+    public void between_bounds_keysInOrderBetweenBounds() {
+        List<String> keys = FractionalRank.between("a", "b", 3);
+
+        assertEquals(3, keys.size());
+        assertTrue("a".compareTo(keys.get(0)) < 0);
+        assertTrue(keys.get(0).compareTo(keys.get(1)) < 0);
+        assertTrue(keys.get(1).compareTo(keys.get(2)) < 0);
+        assertTrue(keys.get(2).compareTo("b") < 0);
+        keys.forEach(key -> assertTrue(key, FractionalRank.isValid(key)));
+    }
+
+    @Test
+    public void between_adjacentKeys_longerKey() {
+        String key = FractionalRank.between("a", "a1", 1).get(0);
+
+        assertTrue("a".compareTo(key) < 0 && key.compareTo("a1") < 0);
+        assertTrue(FractionalRank.isValid(key));
+    }
+
+    @Test
+    public void between_repeatedRandomInserts_orderKept() {
+        Random random = new Random(1);
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            int position = random.nextInt(keys.size() + 1);
+            String lower = position == 0 ? FractionalRank.UNRANKED : keys.get(position - 1);
+            String upper = position == keys.size() ? FractionalRank.UNRANKED : keys.get(position);
+            keys.add(position, FractionalRank.between(lower, upper, 1).get(0));
+        }
+
+        List<String> sortedKeys = new ArrayList<>(keys);
+        Collections.sort(sortedKeys);
+        assertEquals(sortedKeys, keys);
+        assertTrue(keys.stream().allMatch(FractionalRank::isValid));
+    }
+
+    @Test
+    public void compare_unranked_orderedLast() {
+        assertTrue(FractionalRank.compare(FractionalRank.UNRANKED, "z") > 0);
+        assertTrue(FractionalRank.compare("z", FractionalRank.UNRANKED) < 0);
+        assertEquals(0, FractionalRank.compare(FractionalRank.UNRANKED, FractionalRank.UNRANKED));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void between_boundsReversed_exception() {
+        FractionalRank.between("b", "a", 1);
+    }
+}
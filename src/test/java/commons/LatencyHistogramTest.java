@@ -0,0 +1,53 @@
+package commons;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void getBucketHighestValue_anyValue_withinThreePercent() {
+        for (long value = 1; value < LatencyHistogram.MAX_TRACKABLE_NANOS; value = value * 3 / 2 + 1) {
+            long highestValue = LatencyHistogram.getBucketHighestValue(LatencyHistogram.getBucketIndex(value));
+            assertTrue(highestValue >= value);
+            assertTrue("value " + value + " reported as " + highestValue, highestValue <= value * 1.03 + 1);
+        }
+    }
+
+    @Test
+    public void getValueAtPercentile_uniformValues_percentilesApproximated() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(TimeUnit.MICROSECONDS.toNanos(i));
+        }
+
+        assertEquals(1000, histogram.getCount());
+        assertEquals(0.5, histogram.getValueAtPercentileMillis(50), 0.5 * 0.03);
+        assertEquals(0.99, histogram.getValueAtPercentileMillis(99), 0.99 * 0.03);
+        assertEquals(1.0, histogram.getValueAtPercentileMillis(100), 0);
+        assertEquals(0.5005, histogram.getSummary().getMeanMillis(), 0.0001);
+    }
+
+    @Test
+    public void record_valueBeyondMaximum_cappedAtMaximum() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(Long.MAX_VALUE);
+        histogram.record(-1);
+
+        assertEquals(LatencyHistogram.MAX_TRACKABLE_NANOS, histogram.getMaxNanos());
+        assertEquals(LatencyHistogram.MAX_TRACKABLE_NANOS, histogram.getValueAtPercentile(100));
+        assertEquals(0, histogram.getValueAtPercentile(50));
+    }
+
+    @Test
+    public void getSummary_nothingRecorded_zeros() {
+        LatencyHistogram.Summary summary = new LatencyHistogram().getSummary();
+
+        assertEquals(0, summary.getCount());
+        assertEquals(0, summary.getP99Millis(), 0);
+    }
+}
@@ -0,0 +1,78 @@
+package commons;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class MetricsFormatterTest {
+    private final MetricsRegistry metrics = MetricsRegistry.getInstance();
+    private final MetricsFormatter formatter = new MetricsFormatter("test_");
+
+    @After
+    public void tearDown() {
+        metrics.clear();
+    }
+
+    @Test
+    public void appendPrometheus_allMetricTypes_writtenInExpositionFormat() {
+        metrics.counter("storage.save.failed").add(3);
+        metrics.gauge("remote.quota-remaining").set(40);
+        metrics.timer("storage.save").record(TimeUnit.MILLISECONDS.toNanos(2));
+
+        StringBuilder out = new StringBuilder();
+        formatter.appendPrometheus(metrics, out);
+        String text = out.toString();
+
+        assertTrue(text.contains("# TYPE test_storage_save_failed_total counter\ntest_storage_save_failed_total 3\n"));
+        assertTrue(text.contains("# TYPE test_remote_quota_remaining gauge\ntest_remote_quota_remaining 40.0\n"));
+        assertTrue(text.contains("# TYPE test_storage_save_seconds summary\n"));
+        assertTrue(text.contains("test_storage_save_seconds{quantile=\"0.5\"} 0.002\n"));
+        assertTrue(text.contains("test_storage_save_seconds{quantile=\"0.99\"} 0.002\n"));
+        assertTrue(text.contains("test_storage_save_seconds_sum 0.002\n"));
+        assertTrue(text.contains("test_storage_save_seconds_count 1\n"));
+        assertTrue(text.contains("test_storage_save_seconds_max 0.002\n"));
+    }
+
+    @Test
+    public void appendPrometheus_infiniteGauge_writtenAsInf() {
+        metrics.gauge("test.gauge").set(Double.POSITIVE_INFINITY);
+
+        StringBuilder out = new StringBuilder();
+        formatter.appendPrometheus(metrics, out);
+
+        assertTrue(out.toString().contains("test_test_gauge +Inf\n"));
+    }
+
+    @Test
+    public void appendJson_allMetricTypes_writtenOnOneLine() {
+        metrics.counter("storage.save.failed").add(3);
+        metrics.gauge("remote.quota.remaining").set(Double.NaN);
+        metrics.timer("storage.save").record(TimeUnit.MILLISECONDS.toNanos(2));
+
+        StringBuilder out = new StringBuilder();
+        formatter.appendJson(metrics, 1234, out);
+
+        assertEquals("{\"timestamp\":1234,\"counters\":{\"storage.save.failed\":3},"
+                     + "\"gauges\":{\"remote.quota.remaining\":null},"
+                     + "\"timers\":{\"storage.save\":{\"count\":1,\"sum\":0.002,\"p50\":0.002,\"p90\":0.002,"
+                     + "\"p99\":0.002,\"max\":0.002}}}", out.toString());
+    }
+
+    @Test
+    public void appendJson_severalMetricsAndSpecialCharacters_separatedAndEscaped() {
+        metrics.counter("a").increment();
+        metrics.counter("b\"c").increment();
+
+        StringBuilder out = new StringBuilder();
+        formatter.appendJson(metrics, 0, out);
+        String json = out.toString();
+
+        assertTrue(json.contains("\"counters\":{\"a\":1,\"b\\\"c\":1}")
+                   || json.contains("\"counters\":{\"b\\\"c\":1,\"a\":1}"));
+        assertTrue(json.endsWith("\"gauges\":{},\"timers\":{}}"));
+    }
+}
@@ -0,0 +1,70 @@
+package commons;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class MetricsRegistryTest {
+    private final MetricsRegistry metrics = MetricsRegistry.getInstance();
+
+    @After
+    public void tearDown() {
+        metrics.clear();
+    }
+
+    @Test
+    public void counter_sameName_sameCounter() {
+        metrics.counter("test.count").increment();
+        metrics.counter("test.count").add(2);
+
+        assertSame(metrics.counter("test.count"), metrics.counter("test.count"));
+        assertEquals(Long.valueOf(3), metrics.getCounterValues().get("test.count"));
+    }
+
+    @Test
+    public void gauge_setAndRegistered_latestValuesReported() {
+        metrics.gauge("test.settable").set(1);
+        metrics.gauge("test.settable").set(5);
+        int[] source = {7};
+        metrics.registerGauge("test.registered", () -> source[0]);
+        source[0] = 9;
+
+        assertEquals(5, metrics.getGaugeValues().get("test.settable"), 0);
+        assertEquals(9, metrics.getGaugeValues().get("test.registered"), 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void gauge_nameOfRegisteredGauge_exceptionThrown() {
+        metrics.registerGauge("test.registered", () -> 1);
+
+        metrics.gauge("test.registered");
+    }
+
+    @Test
+    public void timer_operationsTimed_summaryRecorded() {
+        MetricsRegistry.Timer timer = metrics.timer("test.timer");
+        timer.record(TimeUnit.MILLISECONDS.toNanos(10));
+        String result = timer.time(() -> "done");
+        timer.time(() -> { });
+
+        assertEquals("done", result);
+        LatencyHistogram.Summary summary = metrics.getTimerSummaries().get("test.timer");
+        assertEquals(3, summary.getCount());
+        assertEquals(10, summary.getMaxMillis(), 0.5);
+    }
+
+    @Test
+    public void getCounterValues_severalCounters_sortedByName() {
+        metrics.counter("b").increment();
+        metrics.counter("a").increment();
+        metrics.counter("c").increment();
+
+        assertEquals("[a, b, c]", metrics.getCounterValues().keySet().toString());
+        assertTrue(metrics.getTimerSummaries().isEmpty());
+    }
+}
@@ -0,0 +1,38 @@
+package commons;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class SubstringMatcherTest {
+
+    @Test
+    public void isFoundIn_patternInText_found() {
+        SubstringMatcher matcher = new SubstringMatcher("berry");
+
+        assertTrue(matcher.isFoundIn("strawberry"));
+        assertTrue(matcher.isFoundIn("berry"));
+        assertTrue(matcher.isFoundIn("berryblue"));
+        assertFalse(matcher.isFoundIn("berr"));
+        assertFalse(matcher.isFoundIn("bery berrx"));
+        assertTrue(new SubstringMatcher("").isFoundIn(""));
+    }
+
+    @Test
+    public void isFoundIn_charactersSharingShiftEntry_found() {
+        // s with caron and 'a' have the same low byte
+        SubstringMatcher matcher = new SubstringMatcher("a\u0161b");
+
+        assertTrue(matcher.isFoundIn("xxa\u0161b"));
+        assertFalse(matcher.isFoundIn("xxaab"));
+    }
+
+    @Test
+    public void fold_caseAndAccents_removed() {
+        assertEquals("zurich emile", StringUtil.fold("Z\u00fcrich \u00c9mile"));
+        assertEquals("plain", StringUtil.fold("plain"));
+        assertTrue(new SubstringMatcher(StringUtil.fold("MULLER")).isFoundIn(StringUtil.fold("M\u00fcller")));
+    }
+}